@@ -0,0 +1,94 @@
+package com.backend.naildp.common;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Base64;
+import java.util.UUID;
+
+import com.backend.naildp.exception.CustomException;
+import com.backend.naildp.exception.ErrorCode;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+/**
+ * (정렬 키, id) 복합 커서
+ * 클라이언트에는 인코딩한 문자열로 내려주고 다음 요청에서 그대로 돌려받아,
+ * 커서 행을 다시 조회하지 않고 "정렬 키 < key or (정렬 키 = key and id < id)" 범위로 조회한다.
+ */
+@Getter
+@EqualsAndHashCode
+public class KeysetCursor {
+
+	private static final String DELIMITER = "_";
+	private static final long MICROS_PER_SECOND = 1_000_000L;
+
+	private final long key;
+	private final String id;
+
+	private KeysetCursor(long key, String id) {
+		this.key = key;
+		this.id = id;
+	}
+
+	public static KeysetCursor of(long key, Long id) {
+		return new KeysetCursor(key, String.valueOf(id));
+	}
+
+	public static KeysetCursor of(long key, String id) {
+		return new KeysetCursor(key, id);
+	}
+
+	// 시각은 DB 컬럼 정밀도인 마이크로초 단위로 저장한다.
+	public static KeysetCursor of(LocalDateTime key, UUID id) {
+		return of(key, id.toString());
+	}
+
+	public static KeysetCursor of(LocalDateTime key, String id) {
+		long micros = key.toEpochSecond(ZoneOffset.UTC) * MICROS_PER_SECOND + key.getNano() / 1_000;
+		return new KeysetCursor(micros, id);
+	}
+
+	public static KeysetCursor decode(String cursor) {
+		try {
+			String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+			int delimiterIndex = decoded.indexOf(DELIMITER);
+			if (delimiterIndex <= 0 || delimiterIndex == decoded.length() - 1) {
+				throw new IllegalArgumentException(decoded);
+			}
+			return new KeysetCursor(Long.parseLong(decoded.substring(0, delimiterIndex)),
+				decoded.substring(delimiterIndex + 1));
+		} catch (IllegalArgumentException e) {
+			throw new CustomException("잘못된 커서입니다.", ErrorCode.INVALID_FORM);
+		}
+	}
+
+	public String encode() {
+		return Base64.getUrlEncoder()
+			.withoutPadding()
+			.encodeToString((key + DELIMITER + id).getBytes(StandardCharsets.UTF_8));
+	}
+
+	public LocalDateTime getKeyAsDateTime() {
+		long seconds = Math.floorDiv(key, MICROS_PER_SECOND);
+		int nanos = (int)Math.floorMod(key, MICROS_PER_SECOND) * 1_000;
+		return LocalDateTime.ofEpochSecond(seconds, nanos, ZoneOffset.UTC);
+	}
+
+	public Long getIdAsLong() {
+		try {
+			return Long.parseLong(id);
+		} catch (NumberFormatException e) {
+			throw new CustomException("잘못된 커서입니다.", ErrorCode.INVALID_FORM);
+		}
+	}
+
+	public UUID getIdAsUuid() {
+		try {
+			return UUID.fromString(id);
+		} catch (IllegalArgumentException e) {
+			throw new CustomException("잘못된 커서입니다.", ErrorCode.INVALID_FORM);
+		}
+	}
+}
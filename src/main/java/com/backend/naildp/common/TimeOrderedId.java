@@ -0,0 +1,18 @@
+package com.backend.naildp.common;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+/**
+ * insert 전에 애플리케이션에서 시간순 id 를 할당한다.
+ * IDENTITY 와 달리 insert 마다 생성된 키를 받아올 필요가 없어 hibernate batch insert 가 동작한다.
+ */
+@IdGeneratorType(TimeOrderedIdGenerator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface TimeOrderedId {
+}
@@ -0,0 +1,124 @@
+package com.backend.naildp.common;
+
+import java.util.EnumSet;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.EventTypeSets;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 시간순으로 증가하는 53bit Long id 생성기
+ * [2024-01-01 부터의 초 31bit][노드 8bit][초당 순번 14bit] 로 구성해 JavaScript number 로도 정확히 표현된다.
+ * 노드 번호는 ID_NODE 환경 변수로 지정하고, 없으면 애플리케이션 시작 시 TimeOrderedIdNodeLease 가 Redis 에서 임대해 정한다.
+ * 같은 노드 번호로 재시작해도 이전 프로세스와 겹치지 않도록, 노드 번호를 정한 다음 초부터 id 를 생성한다.
+ * 임대한 노드 번호는 마지막으로 연장에 성공한 임대 만료 시각이 지나면 다른 서버가 가져갈 수 있으므로 id 를 생성하지 않는다.
+ */
+@Slf4j
+public class TimeOrderedIdGenerator implements BeforeExecutionGenerator {
+
+	static final int NODE_BITS = 8;
+	static final int SEQUENCE_BITS = 14;
+
+	private static final long EPOCH_SECONDS = 1_704_067_200L;
+	private static final long MAX_NODE = (1L << NODE_BITS) - 1;
+	private static final long MAX_SEQUENCE = (1L << SEQUENCE_BITS) - 1;
+	private static final Long CONFIGURED_NODE = resolveConfiguredNode();
+
+	private static long node = CONFIGURED_NODE == null ? -1L : CONFIGURED_NODE;
+	private static long lastSecond = currentSecond();
+	private static long sequence = MAX_SEQUENCE;
+	// 노드 번호 임대 만료 시각 (epoch millis), 환경 변수로 지정한 노드 번호는 만료되지 않는다.
+	private static volatile long leaseExpiresAt = Long.MAX_VALUE;
+
+	public static boolean hasConfiguredNode() {
+		return CONFIGURED_NODE != null;
+	}
+
+	// 임대한 노드 번호로 변경, 현재 초의 순번은 모두 쓴 것으로 보고 다음 초부터 생성한다.
+	static synchronized void assignNode(long assignedNode, long expiresAt) {
+		validateNode(assignedNode);
+		node = assignedNode;
+		lastSecond = Math.max(currentSecond(), lastSecond);
+		sequence = MAX_SEQUENCE;
+		leaseExpiresAt = expiresAt;
+	}
+
+	static void extendLease(long expiresAt) {
+		leaseExpiresAt = expiresAt;
+	}
+
+	public static synchronized long nextId() {
+		if (node < 0) {
+			node = randomNode();
+		}
+		if (System.currentTimeMillis() >= leaseExpiresAt) {
+			throw new IllegalStateException("id 노드 번호 " + node + " 임대가 만료되어 id 를 생성할 수 없습니다.");
+		}
+
+		// 시계가 뒤로 가면 마지막 시각을 계속 사용한다.
+		long second = Math.max(currentSecond(), lastSecond);
+		if (second == lastSecond) {
+			sequence++;
+			if (sequence > MAX_SEQUENCE) {
+				second = waitNextSecond(lastSecond);
+				sequence = 0L;
+			}
+		} else {
+			sequence = 0L;
+		}
+		lastSecond = second;
+
+		return ((second - EPOCH_SECONDS) << (NODE_BITS + SEQUENCE_BITS)) | (node << SEQUENCE_BITS) | sequence;
+	}
+
+	@Override
+	public Object generate(SharedSessionContractImplementor session, Object owner, Object currentValue,
+		EventType eventType) {
+		return nextId();
+	}
+
+	@Override
+	public EnumSet<EventType> getEventTypes() {
+		return EventTypeSets.INSERT_ONLY;
+	}
+
+	private static long currentSecond() {
+		return System.currentTimeMillis() / 1000;
+	}
+
+	private static long waitNextSecond(long second) {
+		long current = currentSecond();
+		while (current <= second) {
+			Thread.onSpinWait();
+			current = currentSecond();
+		}
+		return current;
+	}
+
+	private static Long resolveConfiguredNode() {
+		String configured = System.getenv("ID_NODE");
+		if (configured == null || configured.isBlank()) {
+			return null;
+		}
+		long parsed = Long.parseLong(configured.trim());
+		validateNode(parsed);
+		return parsed;
+	}
+
+	private static void validateNode(long candidate) {
+		if (candidate < 0 || candidate > MAX_NODE) {
+			throw new IllegalStateException("ID_NODE 는 0 ~ " + MAX_NODE + " 사이여야 합니다 : " + candidate);
+		}
+	}
+
+	// 애플리케이션 없이 생성기만 쓰는 테스트용, 애플리케이션은 시작 시 노드 번호를 임대하지 못하면 뜨지 않는다.
+	private static long randomNode() {
+		long random = ThreadLocalRandom.current().nextLong(MAX_NODE + 1);
+		log.warn("노드 번호를 임대하지 않아 임의의 노드 번호를 사용합니다 : {}", random);
+		return random;
+	}
+}
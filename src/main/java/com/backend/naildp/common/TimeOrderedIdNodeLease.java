@@ -0,0 +1,123 @@
+package com.backend.naildp.common;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * TimeOrderedIdGenerator 노드 번호 임대
+ * ID_NODE 를 지정하지 않은 서버는 시작 시 Redis 에서 비어 있는 노드 번호를 SET NX EX 로 임대하고 주기적으로 연장한다.
+ * 임대할 번호가 없거나 Redis 에 연결할 수 없으면 서버가 시작되지 않는다.
+ * 다른 스케줄 작업이 밀려도 연장이 늦어지지 않도록 전용 스레드에서 연장하고,
+ * 연장에 실패한 채 임대가 만료되면 TimeOrderedIdGenerator 가 id 생성을 멈춘다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TimeOrderedIdNodeLease {
+
+	static final String NODE_KEY = "id_node:";
+	static final String COUNTER_KEY = "id_node_counter";
+	static final Duration LEASE_TTL = Duration.ofSeconds(60);
+	static final Duration RENEW_INTERVAL = Duration.ofSeconds(20);
+
+	private static final long NODE_COUNT = 1L << TimeOrderedIdGenerator.NODE_BITS;
+	private static final RedisScript<Long> RENEW_SCRIPT = new DefaultRedisScript<>(
+		"if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('PEXPIRE', KEYS[1], ARGV[2]) end "
+			+ "return 0", Long.class);
+	private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+		"if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) end "
+			+ "return 0", Long.class);
+
+	private final RedisTemplate<String, String> redisTemplate;
+	private final String token = UUID.randomUUID().toString();
+	private final ScheduledExecutorService renewScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+		Thread thread = new Thread(runnable, "id-node-lease");
+		thread.setDaemon(true);
+		return thread;
+	});
+	private volatile Long leasedNode;
+
+	@PostConstruct
+	void lease() {
+		if (TimeOrderedIdGenerator.hasConfiguredNode()) {
+			return;
+		}
+		long requestedAt = System.currentTimeMillis();
+		assign(acquire(), requestedAt);
+		renewScheduler.scheduleWithFixedDelay(this::renewSafely, RENEW_INTERVAL.toMillis(),
+			RENEW_INTERVAL.toMillis(), TimeUnit.MILLISECONDS);
+	}
+
+	// 만료 전에 연장하고, 연장하지 못한 사이 다른 서버가 번호를 가져갔으면 새 번호를 임대한다.
+	// 만료 시각은 Redis 요청 전 시각부터 계산해 실제 키 만료보다 늦어지지 않게 한다.
+	void renew() {
+		Long node = leasedNode;
+		if (node == null) {
+			return;
+		}
+
+		long requestedAt = System.currentTimeMillis();
+		Long renewed = redisTemplate.execute(RENEW_SCRIPT, List.of(NODE_KEY + node), token,
+			String.valueOf(LEASE_TTL.toMillis()));
+		if (renewed != null && renewed == 1) {
+			TimeOrderedIdGenerator.extendLease(requestedAt + LEASE_TTL.toMillis());
+			return;
+		}
+		if (Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(NODE_KEY + node, token, LEASE_TTL))) {
+			TimeOrderedIdGenerator.extendLease(requestedAt + LEASE_TTL.toMillis());
+			return;
+		}
+		log.warn("id 노드 번호 {} 임대가 만료되어 새 번호를 임대합니다.", node);
+		assign(acquire(), requestedAt);
+	}
+
+	// 예외로 반복 연장이 멈추지 않도록 다음 주기에 다시 시도한다.
+	private void renewSafely() {
+		try {
+			renew();
+		} catch (RuntimeException e) {
+			log.error("id 노드 번호 임대 연장 실패 : {}", e.getMessage());
+		}
+	}
+
+	@PreDestroy
+	void release() {
+		renewScheduler.shutdownNow();
+		Long node = leasedNode;
+		if (node != null) {
+			redisTemplate.execute(RELEASE_SCRIPT, List.of(NODE_KEY + node), token);
+		}
+	}
+
+	// 서버마다 다른 번호부터 찾도록 카운터 값에서 시작해 비어 있는 번호를 찾는다.
+	private long acquire() {
+		Long start = redisTemplate.opsForValue().increment(COUNTER_KEY);
+		for (long i = 0; i < NODE_COUNT; i++) {
+			long candidate = Math.floorMod(start + i, NODE_COUNT);
+			if (Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(NODE_KEY + candidate, token, LEASE_TTL))) {
+				return candidate;
+			}
+		}
+		throw new IllegalStateException("임대할 수 있는 id 노드 번호가 없습니다.");
+	}
+
+	private void assign(long node, long requestedAt) {
+		TimeOrderedIdGenerator.assignNode(node, requestedAt + LEASE_TTL.toMillis());
+		leasedNode = node;
+		log.info("id 노드 번호 {} 임대", node);
+	}
+}
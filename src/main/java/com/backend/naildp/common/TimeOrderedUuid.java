@@ -0,0 +1,18 @@
+package com.backend.naildp.common;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+/**
+ * insert 전에 시간순으로 정렬되는 UUID(v7) 를 할당한다.
+ * MySQL 에서는 binary(16) 으로 저장되어 새 행이 클러스터드 인덱스의 끝에 추가된다.
+ */
+@IdGeneratorType(TimeOrderedUuidGenerator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface TimeOrderedUuid {
+}
@@ -0,0 +1,61 @@
+package com.backend.naildp.common;
+
+import java.util.EnumSet;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.EventTypeSets;
+
+/**
+ * UUID version 7 생성기
+ * [unix 밀리초 48bit][버전 4bit][밀리초 내 순번 12bit][variant 2bit][난수 62bit] 로 구성해
+ * 바이트 순서가 생성 순서와 같다. 같은 밀리초에 순번을 모두 쓰면 다음 밀리초 값을 미리 사용한다.
+ */
+public class TimeOrderedUuidGenerator implements BeforeExecutionGenerator {
+
+	private static final long VERSION = 7L;
+	private static final long MAX_SEQUENCE = 0xFFFL;
+	private static final long VARIANT = 0x8000_0000_0000_0000L;
+	private static final long RANDOM_MASK = 0x3FFF_FFFF_FFFF_FFFFL;
+
+	private static long lastMillis = -1L;
+	private static long sequence = 0L;
+
+	public static UUID nextUuid() {
+		long millis;
+		long currentSequence;
+		synchronized (TimeOrderedUuidGenerator.class) {
+			// 시계가 뒤로 가면 마지막 시각을 계속 사용한다.
+			millis = Math.max(System.currentTimeMillis(), lastMillis);
+			if (millis == lastMillis) {
+				sequence++;
+				if (sequence > MAX_SEQUENCE) {
+					millis++;
+					sequence = 0L;
+				}
+			} else {
+				sequence = 0L;
+			}
+			lastMillis = millis;
+			currentSequence = sequence;
+		}
+
+		long mostSigBits = (millis << 16) | (VERSION << 12) | currentSequence;
+		long leastSigBits = VARIANT | (ThreadLocalRandom.current().nextLong() & RANDOM_MASK);
+		return new UUID(mostSigBits, leastSigBits);
+	}
+
+	@Override
+	public Object generate(SharedSessionContractImplementor session, Object owner, Object currentValue,
+		EventType eventType) {
+		return nextUuid();
+	}
+
+	@Override
+	public EnumSet<EventType> getEventTypes() {
+		return EventTypeSets.INSERT_ONLY;
+	}
+}
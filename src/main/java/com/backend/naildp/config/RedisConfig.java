@@ -15,6 +15,7 @@ import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
+import com.backend.naildp.dto.home.ViewerSnapshot;
 import com.backend.naildp.dto.notification.PushNotificationDto;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
@@ -73,6 +74,17 @@ public class RedisConfig {
 		return eventRedisTemplate;
 	}
 
+	@Bean
+	public RedisTemplate<String, ViewerSnapshot> viewerSnapshotRedisTemplate(
+		RedisConnectionFactory redisConnectionFactory) {
+		RedisTemplate<String, ViewerSnapshot> viewerSnapshotRedisTemplate = new RedisTemplate<>();
+		viewerSnapshotRedisTemplate.setConnectionFactory(redisConnectionFactory);
+		viewerSnapshotRedisTemplate.setKeySerializer(RedisSerializer.string());
+		viewerSnapshotRedisTemplate.setValueSerializer(
+			new Jackson2JsonRedisSerializer<>(new ObjectMapper(), ViewerSnapshot.class));
+		return viewerSnapshotRedisTemplate;
+	}
+
 	@Bean
 	public RedisMessageListenerContainer redisMessageListenerContainer() {
 		RedisMessageListenerContainer redisMessageListenerContainer = new RedisMessageListenerContainer();
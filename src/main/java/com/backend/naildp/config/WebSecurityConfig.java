@@ -26,12 +26,12 @@ import com.backend.naildp.oauth2.handler.CustomAuthenticationEntryPoint;
 import com.backend.naildp.oauth2.handler.OAuth2AuthenticationFailureHandler;
 import com.backend.naildp.oauth2.handler.OAuth2AuthenticationSuccessHandler;
 import com.backend.naildp.oauth2.impl.UserDetailsServiceImpl;
+import com.backend.naildp.oauth2.impl.UserPrincipalCache;
 import com.backend.naildp.oauth2.jwt.ExceptionHandlerFilter;
 import com.backend.naildp.oauth2.jwt.JwtAuthenticationFilter;
 import com.backend.naildp.oauth2.jwt.JwtAuthorizationFilter;
 import com.backend.naildp.oauth2.jwt.JwtUtil;
-import com.backend.naildp.oauth2.jwt.RedisUtil;
-import com.backend.naildp.repository.UserRepository;
+import com.backend.naildp.oauth2.jwt.TokenRefreshCoordinator;
 
 import lombok.extern.slf4j.Slf4j;
 
@@ -44,8 +44,8 @@ public class WebSecurityConfig {
 
 	private final JwtUtil jwtUtil;
 	private final UserDetailsServiceImpl userDetailsService;
-	private final RedisUtil redisUtil;
-	private final UserRepository userRepository;
+	private final UserPrincipalCache userPrincipalCache;
+	private final TokenRefreshCoordinator tokenRefreshCoordinator;
 	private final AuthenticationConfiguration authenticationConfiguration;
 
 	private final ExceptionHandlerFilter exceptionHandlerFilter;
@@ -59,15 +59,16 @@ public class WebSecurityConfig {
 	@Value("${spring.server.domain}")
 	private String domain;
 
-	public WebSecurityConfig(JwtUtil jwtUtil, UserDetailsServiceImpl userDetailsService, RedisUtil redisUtil,
-		UserRepository userRepository, AuthenticationConfiguration authenticationConfiguration,
+	public WebSecurityConfig(JwtUtil jwtUtil, UserDetailsServiceImpl userDetailsService,
+		UserPrincipalCache userPrincipalCache, TokenRefreshCoordinator tokenRefreshCoordinator,
+		AuthenticationConfiguration authenticationConfiguration,
 		ExceptionHandlerFilter exceptionHandlerFilter, CustomOAuth2UserService customOAuth2UserService,
 		OAuth2AuthenticationSuccessHandler oAuth2AuthenticationSuccessHandler,
 		OAuth2AuthenticationFailureHandler oAuth2AuthenticationFailureHandler, CookieUtil cookieutil) {
 		this.jwtUtil = jwtUtil;
 		this.userDetailsService = userDetailsService;
-		this.redisUtil = redisUtil;
-		this.userRepository = userRepository;
+		this.userPrincipalCache = userPrincipalCache;
+		this.tokenRefreshCoordinator = tokenRefreshCoordinator;
 		this.authenticationConfiguration = authenticationConfiguration;
 		this.exceptionHandlerFilter = exceptionHandlerFilter;
 		this.customOAuth2UserService = customOAuth2UserService;
@@ -90,7 +91,7 @@ public class WebSecurityConfig {
 
 	@Bean
 	public JwtAuthorizationFilter jwtAuthorizationFilter() {
-		return new JwtAuthorizationFilter(jwtUtil, userDetailsService, redisUtil, userRepository);
+		return new JwtAuthorizationFilter(jwtUtil, userDetailsService, userPrincipalCache, tokenRefreshCoordinator);
 	}
 
 	@Bean
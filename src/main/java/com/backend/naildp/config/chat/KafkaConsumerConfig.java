@@ -15,7 +15,7 @@ import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
 import org.springframework.kafka.support.serializer.JsonDeserializer;
 
 import com.backend.naildp.dto.chat.ChatMessageDto;
-import com.backend.naildp.dto.chat.ChatUpdateDto;
+import com.backend.naildp.dto.chat.ChatUpdateBatchDto;
 import com.backend.naildp.dto.chat.TempRoomSwitchDto;
 
 @EnableKafka
@@ -27,6 +27,16 @@ public class KafkaConsumerConfig {
 	@Value("${KAFKA_GROUP_ID:default-group}")
 	private String groupId;
 
+	// 토픽 파티션 수와 맞춘 리스너 스레드 수 (파티션마다 한 스레드가 순서대로 처리)
+	@Value("${chat.kafka.chatting.partitions:3}")
+	private int chattingConcurrency;
+
+	@Value("${chat.kafka.chat-update.partitions:3}")
+	private int chatUpdateConcurrency;
+
+	@Value("${chat.kafka.chat-room-switch.partitions:1}")
+	private int chatRoomSwitchConcurrency;
+
 	@Bean
 	public ConsumerFactory<String, ChatMessageDto> consumerFactory() {
 		return new DefaultKafkaConsumerFactory<>(consumerConfigurations(), new StringDeserializer(),
@@ -49,19 +59,21 @@ public class KafkaConsumerConfig {
 	public ConcurrentKafkaListenerContainerFactory<String, ChatMessageDto> kafkaListenerContainerFactory() {
 		ConcurrentKafkaListenerContainerFactory<String, ChatMessageDto> factory = new ConcurrentKafkaListenerContainerFactory<>();
 		factory.setConsumerFactory(consumerFactory());
+		factory.setConcurrency(chattingConcurrency);
 		return factory;
 	}
 
 	@Bean
-	public ConsumerFactory<String, ChatUpdateDto> chatUpdateConsumerFactory() {
+	public ConsumerFactory<String, ChatUpdateBatchDto> chatUpdateConsumerFactory() {
 		return new DefaultKafkaConsumerFactory<>(consumerConfigurations(), new StringDeserializer(),
-			new JsonDeserializer<>(ChatUpdateDto.class));
+			new JsonDeserializer<>(ChatUpdateBatchDto.class));
 	}
 
 	@Bean
-	public ConcurrentKafkaListenerContainerFactory<String, ChatUpdateDto> chatUpdateKafkaListenerContainerFactory() {
-		ConcurrentKafkaListenerContainerFactory<String, ChatUpdateDto> factory = new ConcurrentKafkaListenerContainerFactory<>();
+	public ConcurrentKafkaListenerContainerFactory<String, ChatUpdateBatchDto> chatUpdateKafkaListenerContainerFactory() {
+		ConcurrentKafkaListenerContainerFactory<String, ChatUpdateBatchDto> factory = new ConcurrentKafkaListenerContainerFactory<>();
 		factory.setConsumerFactory(chatUpdateConsumerFactory());
+		factory.setConcurrency(chatUpdateConcurrency);
 		return factory;
 	}
 
@@ -75,6 +87,7 @@ public class KafkaConsumerConfig {
 	public ConcurrentKafkaListenerContainerFactory<String, TempRoomSwitchDto> chatRoomSwitchKafkaListenerContainerFactory() {
 		ConcurrentKafkaListenerContainerFactory<String, TempRoomSwitchDto> factory = new ConcurrentKafkaListenerContainerFactory<>();
 		factory.setConsumerFactory(chatRoomSwitchConsumerFactory());
+		factory.setConcurrency(chatRoomSwitchConcurrency);
 		return factory;
 	}
 }
\ No newline at end of file
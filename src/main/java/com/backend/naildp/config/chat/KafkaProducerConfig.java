@@ -15,7 +15,7 @@ import org.springframework.kafka.core.ProducerFactory;
 import org.springframework.kafka.support.serializer.JsonSerializer;
 
 import com.backend.naildp.dto.chat.ChatMessageDto;
-import com.backend.naildp.dto.chat.ChatUpdateDto;
+import com.backend.naildp.dto.chat.ChatUpdateBatchDto;
 import com.backend.naildp.dto.chat.TempRoomSwitchDto;
 
 @EnableKafka
@@ -35,6 +35,9 @@ public class KafkaProducerConfig {
 		configurations.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapAddress);
 		configurations.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
 		configurations.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, JsonSerializer.class);
+		// 재전송 시에도 같은 채팅방 메시지 순서가 바뀌지 않도록 멱등 프로듀서 사용
+		configurations.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
+		configurations.put(ProducerConfig.ACKS_CONFIG, "all");
 		return configurations;
 	}
 
@@ -44,12 +47,12 @@ public class KafkaProducerConfig {
 	}
 
 	@Bean
-	public ProducerFactory<String, ChatUpdateDto> chatUpdateProducerFactory() {
+	public ProducerFactory<String, ChatUpdateBatchDto> chatUpdateProducerFactory() {
 		return new DefaultKafkaProducerFactory<>(producerConfigurations());
 	}
 
 	@Bean
-	public KafkaTemplate<String, ChatUpdateDto> chatUpdateKafkaTemplate() {
+	public KafkaTemplate<String, ChatUpdateBatchDto> chatUpdateKafkaTemplate() {
 		return new KafkaTemplate<>(chatUpdateProducerFactory());
 	}
 
@@ -15,6 +15,16 @@ public class KafkaTopicConfig {
 	@Value("${spring.kafka.bootstrap-servers}")
 	private String bootstrapAddress;
 
+	// 같은 채팅방 메시지는 같은 파티션으로 가므로 파티션 수만큼 컨슈머 스레드를 늘릴 수 있다.
+	@Value("${chat.kafka.chatting.partitions:3}")
+	private int chattingPartitions;
+
+	@Value("${chat.kafka.chat-update.partitions:3}")
+	private int chatUpdatePartitions;
+
+	@Value("${chat.kafka.chat-room-switch.partitions:1}")
+	private int chatRoomSwitchPartitions;
+
 	@Bean
 	public KafkaAdmin kafkaAdmin() {
 		Map<String, Object> configurations = new HashMap<>();
@@ -24,16 +34,16 @@ public class KafkaTopicConfig {
 
 	@Bean
 	public NewTopic topic() {
-		return new NewTopic("chatting", 1, (short)1);
+		return new NewTopic("chatting", chattingPartitions, (short)1);
 	}
 
 	@Bean
 	public NewTopic chatUpdateTopic() {
-		return new NewTopic("chatUpdates", 1, (short)1);
+		return new NewTopic("chatUpdateBatches", chatUpdatePartitions, (short)1);
 	}
 
 	@Bean
 	public NewTopic chatRoomSwitchTopic() {
-		return new NewTopic("chatRoomSwitch", 1, (short)1);
+		return new NewTopic("chatRoomSwitch", chatRoomSwitchPartitions, (short)1);
 	}
 }
\ No newline at end of file
@@ -11,6 +11,7 @@ import org.springframework.stereotype.Component;
 import com.backend.naildp.oauth2.jwt.JwtUtil;
 import com.backend.naildp.repository.UserRepository;
 import com.backend.naildp.service.chat.ChatRoomStatusService;
+import com.backend.naildp.service.chat.ChatSubscriptionRegistry;
 import com.backend.naildp.service.chat.MessageStatusService;
 import com.backend.naildp.service.chat.SessionService;
 
@@ -26,6 +27,7 @@ public class StompHandler implements ChannelInterceptor {
 	private final SessionService sessionService;
 	private final ChatRoomStatusService chatRoomStatusService;
 	private final MessageStatusService messageStatusService;
+	private final ChatSubscriptionRegistry chatSubscriptionRegistry;
 
 	@Override
 	public Message<?> preSend(Message<?> message, MessageChannel channel) {
@@ -54,11 +56,17 @@ public class StompHandler implements ChannelInterceptor {
 						sessionService.saveSession(headerAccessor.getSessionId(), username);
 						handleChatRoomSubscription(headerAccessor);
 					}
+					// 구독 처리가 모두 성공한 뒤에 이 노드가 목적지 메시지를 받도록 구독 등록
+					chatSubscriptionRegistry.subscribe(headerAccessor.getSessionId(),
+						headerAccessor.getSubscriptionId(), destination);
 					break;
 				case UNSUBSCRIBE:
+					chatSubscriptionRegistry.unsubscribe(headerAccessor.getSessionId(),
+						headerAccessor.getSubscriptionId());
 					handleExit(headerAccessor);
 					break;
 				case DISCONNECT:
+					chatSubscriptionRegistry.disconnect(headerAccessor.getSessionId());
 					sessionService.deleteSession(headerAccessor.getSessionId());
 					log.info(headerAccessor.getSessionId());
 					break;
@@ -79,7 +87,7 @@ public class StompHandler implements ChannelInterceptor {
 		log.info("사용자 {} 가 채팅방 {} 에 입장함", userId, roomId);
 
 		chatRoomStatusService.resetUnreadCount(roomId, userId);
-		messageStatusService.resetFirstUnreadMessageId(roomId, userId);
+		messageStatusService.markAllRead(roomId, userId);
 
 	}
 
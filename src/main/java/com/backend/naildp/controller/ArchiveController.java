@@ -111,10 +111,11 @@ public class ArchiveController {
 	ResponseEntity<ApiResponse<?>> getArchivePosts(@AuthenticationPrincipal UserDetailsImpl userDetails,
 		@PathVariable("archiveId") Long archiveId,
 		@RequestParam(required = false, defaultValue = "20", value = "size") int size,
-		@RequestParam(required = false, defaultValue = "-1", value = "cursorId") long cursorId) {
+		@RequestParam(required = false, defaultValue = "-1", value = "cursorId") long cursorId,
+		@RequestParam(required = false, value = "cursor") String cursor) {
 
 		ArchivePostSummaryResponse archivePostSummaryResponse = archiveService.getArchivePosts(
-			userDetails.getUser().getNickname(), archiveId, size, cursorId);
+			userDetails.getUser().getNickname(), archiveId, size, cursorId, cursor);
 
 		return ResponseEntity.ok(ApiResponse.successResponse(archivePostSummaryResponse, "특정 아카이브 내 게시물 조회 성공", 2000));
 	}
@@ -123,10 +124,11 @@ public class ArchiveController {
 	ResponseEntity<ApiResponse<?>> getLikedArchivePosts(@AuthenticationPrincipal UserDetailsImpl userDetails,
 		@PathVariable("archiveId") Long archiveId,
 		@RequestParam(required = false, defaultValue = "20", value = "size") int size,
-		@RequestParam(required = false, defaultValue = "-1", value = "cursorId") long cursorId) {
+		@RequestParam(required = false, defaultValue = "-1", value = "cursorId") long cursorId,
+		@RequestParam(required = false, value = "cursor") String cursor) {
 
 		PostSummaryResponse postSummaryResponse = archiveService.getLikedArchivePosts(
-			userDetails.getUser().getNickname(), archiveId, size, cursorId);
+			userDetails.getUser().getNickname(), archiveId, size, cursorId, cursor);
 
 		return ResponseEntity.ok(ApiResponse.successResponse(postSummaryResponse, "특정 아카이브 내 게시물 좋아요 조회 성공", 2000));
 	}
@@ -57,8 +57,9 @@ public class CommentController {
 	ResponseEntity<?> findComments(@PathVariable("postId") Long postId,
 		@RequestParam(required = false, defaultValue = "20", value = "size") int size,
 		@RequestParam(required = false, defaultValue = "-1", value = "cursorId") long cursorId,
+		@RequestParam(required = false, value = "cursorLikeCount") Long cursorLikeCount,
 		@AuthenticationPrincipal UserDetails userDetails) {
-		CommentSummaryResponse response = commentService.findComments(postId, size, cursorId,
+		CommentSummaryResponse response = commentService.findComments(postId, size, cursorId, cursorLikeCount,
 			userDetails.getUsername());
 		return ResponseEntity.ok(ApiResponse.successResponse(response, "댓글 조회 성공", 2000));
 	}
@@ -39,9 +39,10 @@ public class SearchController {
 		@PageableDefault(size = 50) Pageable pageable,
 		@RequestParam(name = "keyword", defaultValue = "") List<String> keywords,
 		@RequestParam(name = "cursorId", required = false) Long cursorId,
+		@RequestParam(name = "cursor", required = false) String cursor,
 		@AuthenticationPrincipal UserDetails userDetails) {
 		PostSummaryResponse response = searchService.searchPosts(pageable, keywords,
-			userDetails.getUsername(), cursorId);
+			userDetails.getUsername(), cursorId, cursor);
 		return ResponseEntity.ok(ApiResponse.successResponse(response, "게시물 검색 성공", 2000));
 	}
 
@@ -20,6 +20,7 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.backend.naildp.dto.chat.ChatListSummaryResponse;
+import com.backend.naildp.dto.chat.ChatRecommendSummaryResponse;
 import com.backend.naildp.dto.chat.ChatRoomRequestDto;
 import com.backend.naildp.dto.chat.RenameChatRoomRequestDto;
 import com.backend.naildp.dto.search.SearchUserResponse;
@@ -50,10 +51,10 @@ public class ChatRoomController {
 	public ResponseEntity<ApiResponse<?>> getChatList(@AuthenticationPrincipal UserDetailsImpl userDetails,
 		@RequestParam(required = false, defaultValue = "all", value = "category") String category,
 		@RequestParam(required = false, defaultValue = "20", value = "size") int size,
-		@RequestParam(required = false, value = "cursorId") UUID cursorId) {
+		@RequestParam(required = false, value = "cursorId") UUID cursorId,
+		@RequestParam(required = false, value = "cursor") String cursor) {
 		ChatListSummaryResponse response = chatRoomService.getChatList(userDetails.getUser().getNickname(), category,
-			size,
-			cursorId);
+			size, cursorId, cursor);
 		return ResponseEntity.ok(ApiResponse.successResponse(response, "채팅방 목록 조회 성공", 2000));
 	}
 
@@ -103,8 +104,12 @@ public class ChatRoomController {
 	}
 
 	@GetMapping("chat/recommend")
-	public ResponseEntity<ApiResponse<?>> getRecommendUsers(@AuthenticationPrincipal UserDetailsImpl userDetails) {
-		List<SearchUserResponse> response = chatRoomService.getRecommendUsers(userDetails.getUser().getNickname());
+	public ResponseEntity<ApiResponse<?>> getRecommendUsers(@AuthenticationPrincipal UserDetailsImpl userDetails,
+		@RequestParam(required = false, defaultValue = "20", value = "size") int size,
+		@RequestParam(name = "cursorId", required = false) String cursorNickname,
+		@RequestParam(required = false, value = "cursor") String cursor) {
+		ChatRecommendSummaryResponse response = chatRoomService.getRecommendUsers(
+			userDetails.getUser().getNickname(), cursorNickname, cursor, size);
 		return ResponseEntity.ok(ApiResponse.successResponse(response, "추천 사용자 조회 성공", 2000));
 
 	}
@@ -119,9 +124,10 @@ public class ChatRoomController {
 	public ResponseEntity<ApiResponse<?>> searchChatRoomsByName(@AuthenticationPrincipal UserDetailsImpl userDetails,
 		@RequestParam("keyword") String keyword,
 		@PageableDefault(size = 20) Pageable pageable,
-		@RequestParam(name = "cursorId", required = false) UUID cursorId) {
+		@RequestParam(name = "cursorId", required = false) UUID cursorId,
+		@RequestParam(name = "cursor", required = false) String cursor) {
 		ChatListSummaryResponse response = chatRoomService.searchChatRoomsByName(userDetails.getUser().getNickname(),
-			keyword, pageable, cursorId);
+			keyword, pageable, cursorId, cursor);
 		return ResponseEntity.ok(ApiResponse.successResponse(response, "채팅방 이름 검색 성공", 2000));
 	}
 
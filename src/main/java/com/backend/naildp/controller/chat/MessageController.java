@@ -11,6 +11,7 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RequestPart;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
@@ -75,9 +76,11 @@ public class MessageController {
 
 	@GetMapping("/chat/{chatRoomId}")
 	public ResponseEntity<ApiResponse<?>> getMessagesByRoomId(@PathVariable("chatRoomId") UUID chatRoomId,
-		@AuthenticationPrincipal UserDetailsImpl userDetails) {
+		@AuthenticationPrincipal UserDetailsImpl userDetails,
+		@RequestParam(required = false, defaultValue = "50", value = "size") int size,
+		@RequestParam(required = false, value = "cursor") String cursor) {
 		MessageSummaryResponse messageResponseDto = messageService.getMessagesByRoomId(chatRoomId,
-			userDetails.getUser().getNickname());
+			userDetails.getUser().getNickname(), size, cursor);
 		return ResponseEntity.ok(ApiResponse.successResponse(messageResponseDto, "특정 메시지 조회 성공", 2000));
 	}
 
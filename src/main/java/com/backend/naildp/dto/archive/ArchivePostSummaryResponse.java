@@ -1,13 +1,12 @@
 package com.backend.naildp.dto.archive;
 
 import java.util.ArrayList;
-import java.util.List;
 
 import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.SliceImpl;
 
+import com.backend.naildp.common.KeysetCursor;
 import com.backend.naildp.dto.home.HomePostResponse;
-import com.backend.naildp.entity.Post;
 
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -18,18 +17,19 @@ import lombok.NoArgsConstructor;
 @AllArgsConstructor
 public class ArchivePostSummaryResponse {
 	private Long cursorId;
+	// 아카이브에 저장한 순서(id) 와 게시물 id 로 만든 다음 페이지 요청용 복합 커서
+	private String cursor;
 	private String archiveName;
 	private String nickname;
 	private Slice<?> postSummaryList;
 
-	public static ArchivePostSummaryResponse of(Slice<Post> latestPosts, List<Post> savedPosts,
-		List<Post> likedPosts, String archiveName, String nickname) {
-		Long cursorId = latestPosts.getContent().get(latestPosts.getNumberOfElements() - 1).getId();
-		return new ArchivePostSummaryResponse(cursorId, archiveName, nickname,
-			latestPosts.map(post -> new HomePostResponse(post, savedPosts, likedPosts)));
+	public static ArchivePostSummaryResponse of(Slice<HomePostResponse> postCards, String archiveName,
+		String nickname, KeysetCursor cursor) {
+		Long cursorId = postCards.getContent().get(postCards.getNumberOfElements() - 1).getPostId();
+		return new ArchivePostSummaryResponse(cursorId, cursor.encode(), archiveName, nickname, postCards);
 	}
 
 	public static ArchivePostSummaryResponse createEmptyResponse(String archiveName, String nickname) {
-		return new ArchivePostSummaryResponse(-1L, archiveName, nickname, new SliceImpl<>(new ArrayList<>()));
+		return new ArchivePostSummaryResponse(-1L, null, archiveName, nickname, new SliceImpl<>(new ArrayList<>()));
 	}
 }
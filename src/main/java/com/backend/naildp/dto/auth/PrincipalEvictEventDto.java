@@ -0,0 +1,13 @@
+package com.backend.naildp.dto.auth;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class PrincipalEvictEventDto {
+
+	private String nickname;
+}
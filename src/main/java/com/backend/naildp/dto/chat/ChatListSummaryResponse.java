@@ -6,6 +6,8 @@ import java.util.UUID;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.SliceImpl;
 
+import com.backend.naildp.common.KeysetCursor;
+
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -15,15 +17,18 @@ import lombok.NoArgsConstructor;
 @AllArgsConstructor
 public class ChatListSummaryResponse {
 	private UUID cursorId;
+	// 다음 페이지 요청용 (마지막 수정 시각, 채팅방 id) 복합 커서
+	private String cursor;
 	private Slice<ChatListResponse> contents;
 
 	public static ChatListSummaryResponse of(Slice<ChatListResponse> contents) {
-		UUID cursorId = contents.getContent().get(contents.getNumberOfElements() - 1).getRoomId();
-		return new ChatListSummaryResponse(cursorId, contents);
+		ChatListResponse last = contents.getContent().get(contents.getNumberOfElements() - 1);
+		String cursor = KeysetCursor.of(last.getModifiedAt(), last.getRoomId()).encode();
+		return new ChatListSummaryResponse(last.getRoomId(), cursor, contents);
 
 	}
 
 	public static ChatListSummaryResponse createEmptyResponse() {
-		return new ChatListSummaryResponse(null, new SliceImpl<>(new ArrayList<>()));
+		return new ChatListSummaryResponse(null, null, new SliceImpl<>(new ArrayList<>()));
 	}
 }
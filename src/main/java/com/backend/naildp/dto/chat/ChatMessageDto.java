@@ -22,6 +22,7 @@ public class ChatMessageDto {
 	private String messageType;
 	private String chatRoomId;
 	private List<String> media;
+	private Long seq;
 
 	public static ChatMessageDto of(ChatMessage chatMessage) {
 		return ChatMessageDto.builder()
@@ -31,6 +32,7 @@ public class ChatMessageDto {
 			.content(chatMessage.getContent())
 			.media(chatMessage.getMedia())
 			.mention(chatMessage.getMention())
+			.seq(chatMessage.getSeq())
 			.build();
 	}
 }
\ No newline at end of file
@@ -0,0 +1,24 @@
+package com.backend.naildp.dto.chat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.backend.naildp.dto.search.SearchUserResponse;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChatRecommendSummaryResponse {
+	private String cursorId;
+	// 다음 페이지 요청용 (추천 점수, 닉네임) 복합 커서
+	private String cursor;
+	private List<SearchUserResponse> contents;
+
+	public static ChatRecommendSummaryResponse createEmptyResponse() {
+		return new ChatRecommendSummaryResponse(null, null, new ArrayList<>());
+	}
+}
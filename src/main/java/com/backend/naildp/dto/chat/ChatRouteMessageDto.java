@@ -0,0 +1,19 @@
+package com.backend.naildp.dto.chat;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 다른 노드로 전달하는 STOMP 메시지, 받은 노드는 destination 으로 payload 를 그대로 브로드캐스트한다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChatRouteMessageDto {
+
+	private String destination;
+	private JsonNode payload;
+}
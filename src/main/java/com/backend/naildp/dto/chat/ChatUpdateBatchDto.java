@@ -0,0 +1,38 @@
+package com.backend.naildp.dto.chat;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 메시지 한 건에 대한 채팅 목록 업데이트, 받는 사람 목록을 한 레코드에 담아 전송한다.
+ */
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class ChatUpdateBatchDto {
+	private UUID chatRoomId;
+	private String lastMessage;
+	private LocalDateTime modifiedAt;
+	private String sender;
+	private List<Receiver> receivers;
+
+	public List<ChatUpdateDto> toChatUpdates() {
+		return receivers.stream()
+			.map(receiver -> new ChatUpdateDto(chatRoomId, receiver.getUnreadMessageCount(), lastMessage, modifiedAt,
+				sender, receiver.getNickname()))
+			.toList();
+	}
+
+	@Getter
+	@AllArgsConstructor
+	@NoArgsConstructor
+	public static class Receiver {
+		private String nickname;
+		private int unreadMessageCount;
+	}
+}
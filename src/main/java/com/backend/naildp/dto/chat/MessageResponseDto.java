@@ -23,6 +23,7 @@ public class MessageResponseDto {
 	private List<String> media;
 	private LocalDateTime modifiedAt;
 	private String profileUrl;
+	private Long seq;
 
 	public static MessageResponseDto of(ChatMessage chatMessage, Long unreadUserCount) {
 		return MessageResponseDto.builder()
@@ -34,6 +35,7 @@ public class MessageResponseDto {
 			.media(chatMessage.getMedia())
 			.modifiedAt(chatMessage.getCreatedAt())
 			.profileUrl(chatMessage.getProfileUrl())
+			.seq(chatMessage.getSeq())
 			.build();
 	}
 }
\ No newline at end of file
@@ -13,6 +13,8 @@ public class MessageSummaryResponse {
 	private List<MessageResponseDto> contents;
 	private String firstUnreadMessageId;
 	private List<ChatUserInfoResponse> chatUserInfo;
+	// 이전 메시지 조회용 커서, 더 없으면 null
+	private String cursor;
 
 	@Getter
 	@AllArgsConstructor
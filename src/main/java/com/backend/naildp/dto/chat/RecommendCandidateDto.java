@@ -0,0 +1,14 @@
+package com.backend.naildp.dto.chat;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class RecommendCandidateDto {
+
+	private String nickname;
+	private Long weight;
+}
@@ -15,9 +15,10 @@ import lombok.NoArgsConstructor;
 public class CommentSummaryResponse {
 
 	private Long cursorId;
+	private Long cursorLikeCount;
 	private Slice<CommentInfoResponse> contents;
 
 	public static CommentSummaryResponse createEmptyResponse() {
-		return new CommentSummaryResponse(-1L, new SliceImpl<>(new ArrayList<>()));
+		return new CommentSummaryResponse(-1L, null, new SliceImpl<>(new ArrayList<>()));
 	}
 }
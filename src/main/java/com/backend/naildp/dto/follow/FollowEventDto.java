@@ -0,0 +1,15 @@
+package com.backend.naildp.dto.follow;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class FollowEventDto {
+
+	private String followerNickname;
+	private String followingNickname;
+	private boolean followed;
+}
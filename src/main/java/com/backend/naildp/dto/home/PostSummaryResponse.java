@@ -1,14 +1,13 @@
 package com.backend.naildp.dto.home;
 
 import java.util.ArrayList;
-import java.util.List;
 
 import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.SliceImpl;
 
+import com.backend.naildp.common.KeysetCursor;
 import com.backend.naildp.dto.archive.FollowArchiveResponseDto;
 import com.backend.naildp.dto.archive.UserArchiveResponseDto;
-import com.backend.naildp.entity.Post;
 import com.backend.naildp.repository.ArchiveMapping;
 
 import lombok.AllArgsConstructor;
@@ -23,18 +22,22 @@ import lombok.extern.slf4j.Slf4j;
 public class PostSummaryResponse {
 
 	private Long cursorId;
+	// 정렬 키가 id 가 아닌 목록의 다음 페이지 요청용 복합 커서
+	private String cursor;
 	private Slice<?> postSummaryList;
 
-	public PostSummaryResponse(Slice<Post> latestPosts, List<Post> savedPosts, List<Post> likedPosts) {
-		log.info("PostSummaryResponse 응답값 만들기");
-		cursorId = latestPosts.getContent().get(latestPosts.getNumberOfElements() - 1).getId();
-		postSummaryList = latestPosts.map(post -> new HomePostResponse(post, savedPosts, likedPosts));
+	public PostSummaryResponse(Long cursorId, Slice<?> postSummaryList) {
+		this(cursorId, null, postSummaryList);
 	}
 
-	public PostSummaryResponse(Slice<Post> latestPosts) {
-		log.info("PostSummaryResponse 응답값 만들기 - 익명 사용자");
-		cursorId = latestPosts.getContent().get(latestPosts.getNumberOfElements() - 1).getId();
-		postSummaryList = latestPosts.map(HomePostResponse::recentPostForAnonymous);
+	public static PostSummaryResponse createPostCardSummary(Slice<HomePostResponse> postCards) {
+		Long cursorId = postCards.getContent().get(postCards.getNumberOfElements() - 1).getPostId();
+		return new PostSummaryResponse(cursorId, postCards);
+	}
+
+	public static PostSummaryResponse createPostCardSummary(Slice<HomePostResponse> postCards, KeysetCursor cursor) {
+		Long cursorId = postCards.getContent().get(postCards.getNumberOfElements() - 1).getPostId();
+		return new PostSummaryResponse(cursorId, cursor.encode(), postCards);
 	}
 
 	public static PostSummaryResponse createEmptyResponse() {
@@ -42,14 +45,6 @@ public class PostSummaryResponse {
 		return new PostSummaryResponse(-1L, new SliceImpl<>(new ArrayList<>()));
 	}
 
-	public static PostSummaryResponse createLikedPostSummary(Slice<Post> likedPostSlice, List<Post> savedPosts) {
-		log.info("PostSummaryResponse 좋아요 체크한 게시물 응답 만들기 - 정적 팩토리 메서드");
-		Long oldestPostLikeId = likedPostSlice.getContent().get(likedPostSlice.getNumberOfElements() - 1).getId();
-		log.info("PostSummaryResponse 응답");
-		return new PostSummaryResponse(oldestPostLikeId,
-			likedPostSlice.map(post -> HomePostResponse.likedPostResponse(post, savedPosts)));
-	}
-
 	public static PostSummaryResponse createFollowArchiveSummary(Slice<ArchiveMapping> followingArchives) {
 		Long cursorId = followingArchives.getContent().get(followingArchives.getNumberOfElements() - 1).getId();
 		return new PostSummaryResponse(cursorId,
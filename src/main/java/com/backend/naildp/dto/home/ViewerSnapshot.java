@@ -0,0 +1,50 @@
+package com.backend.naildp.dto.home;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 조회 사용자의 좋아요, 저장 게시물 id
+ * 게시물 id 는 정렬된 배열로 보관해 이진 탐색으로 확인한다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class ViewerSnapshot {
+
+	private static final ViewerSnapshot EMPTY = new ViewerSnapshot(new long[0], new long[0]);
+
+	private long[] likedPostIds;
+	private long[] savedPostIds;
+
+	private ViewerSnapshot(long[] likedPostIds, long[] savedPostIds) {
+		this.likedPostIds = likedPostIds;
+		this.savedPostIds = savedPostIds;
+	}
+
+	public static ViewerSnapshot of(Collection<Long> likedPostIds, Collection<Long> savedPostIds) {
+		return new ViewerSnapshot(toSortedArray(likedPostIds), toSortedArray(savedPostIds));
+	}
+
+	public static ViewerSnapshot empty() {
+		return EMPTY;
+	}
+
+	public boolean likes(Long postId) {
+		return postId != null && Arrays.binarySearch(likedPostIds, postId) >= 0;
+	}
+
+	public boolean saved(Long postId) {
+		return postId != null && Arrays.binarySearch(savedPostIds, postId) >= 0;
+	}
+
+	private static long[] toSortedArray(Collection<Long> postIds) {
+		return postIds.stream().mapToLong(Long::longValue).sorted().distinct().toArray();
+	}
+}
@@ -0,0 +1,13 @@
+package com.backend.naildp.dto.home;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ViewerSnapshotEvictEventDto {
+
+	private String nickname;
+}
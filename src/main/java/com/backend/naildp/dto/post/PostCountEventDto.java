@@ -0,0 +1,36 @@
+package com.backend.naildp.dto.post;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class PostCountEventDto {
+
+	private Long postId;
+	private long likeDelta;
+	private long commentDelta;
+	private long shareDelta;
+
+	public static PostCountEventDto like(Long postId) {
+		return new PostCountEventDto(postId, 1, 0, 0);
+	}
+
+	public static PostCountEventDto unlike(Long postId) {
+		return new PostCountEventDto(postId, -1, 0, 0);
+	}
+
+	public static PostCountEventDto comment(Long postId) {
+		return new PostCountEventDto(postId, 0, 1, 0);
+	}
+
+	public static PostCountEventDto deleteComment(Long postId) {
+		return new PostCountEventDto(postId, 0, -1, 0);
+	}
+
+	public static PostCountEventDto share(Long postId) {
+		return new PostCountEventDto(postId, 0, 0, 1);
+	}
+}
@@ -5,9 +5,9 @@ import java.util.stream.Collectors;
 
 import com.backend.naildp.common.Boundary;
 import com.backend.naildp.common.FileExtensionChecker;
+import com.backend.naildp.dto.home.ViewerSnapshot;
 import com.backend.naildp.entity.Photo;
 import com.backend.naildp.entity.Post;
-import com.backend.naildp.entity.PostLike;
 import com.backend.naildp.entity.Tag;
 import com.backend.naildp.entity.User;
 
@@ -36,11 +36,10 @@ public class PostInfoResponse {
 	private long sharedCount;
 	private List<String> tags;
 
-	public static PostInfoResponse of(Post post, String userNickname, boolean followingStatus, int followerCount,
-		List<Post> savedPost, List<Tag>tags) {
+	public static PostInfoResponse of(Post post, boolean followingStatus, int followerCount,
+		ViewerSnapshot viewerSnapshot, List<Tag> tags) {
 
 		User writer = post.getUser();
-		List<PostLike> postLikes = post.getPostLikes();
 		List<FileInfoResponse> fileInfoResponses = post.getPhotos().stream().map(FileInfoResponse::new).toList();
 
 		return PostInfoResponse.builder()
@@ -50,10 +49,10 @@ public class PostInfoResponse {
 			.followerCount(followerCount)
 			.postContent(post.getPostContent())
 			.boundary(post.getBoundary().toString())
-			.likeCount(postLikes.size())
-			.isLiked(postLikes.stream().anyMatch(postLike -> postLike.isLikedBy(userNickname)))
-			.isSaved(savedPost.contains(post))
-			.commentCount(post.getComments().size())
+			.likeCount(post.getLikeCount())
+			.isLiked(viewerSnapshot.likes(post.getId()))
+			.isSaved(viewerSnapshot.saved(post.getId()))
+			.commentCount(post.getCommentCount())
 			.sharedCount(post.getSharing())
 			.tags(tags.stream().map(Tag::getName).collect(Collectors.toList()))
 			.files(fileInfoResponses)
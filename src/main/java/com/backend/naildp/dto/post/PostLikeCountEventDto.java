@@ -0,0 +1,15 @@
+package com.backend.naildp.dto.post;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class PostLikeCountEventDto {
+
+	private List<Long> postIds;
+}
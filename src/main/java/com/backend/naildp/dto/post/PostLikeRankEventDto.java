@@ -0,0 +1,25 @@
+package com.backend.naildp.dto.post;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class PostLikeRankEventDto {
+
+	private Long postId;
+	private boolean liked;
+	private LocalDateTime likedAt;
+
+	public static PostLikeRankEventDto like(Long postId) {
+		return new PostLikeRankEventDto(postId, true, null);
+	}
+
+	public static PostLikeRankEventDto unlike(Long postId, LocalDateTime likedAt) {
+		return new PostLikeRankEventDto(postId, false, likedAt);
+	}
+}
@@ -0,0 +1,14 @@
+package com.backend.naildp.dto.post;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class PostTimelineEventDto {
+
+	private Long postId;
+	private String writerNickname;
+}
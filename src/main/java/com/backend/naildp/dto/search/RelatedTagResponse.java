@@ -23,10 +23,14 @@ public class RelatedTagResponse {
 	private boolean isVideo;
 
 	public RelatedTagResponse(Tag tag, List<Photo> photos) {
-		String photoUrl = !photos.isEmpty() ? photos.get(0).getPhotoUrl() : "default.jpg";
-		this.tagName = tag.getName();
-		this.tagImageUrl = photoUrl;
-		this.isPhoto = FileExtensionChecker.isPhotoExtension(photoUrl);
-		this.isVideo = FileExtensionChecker.isVideoExtension(photoUrl);
+		this(tag.getName(), !photos.isEmpty() ? photos.get(0).getPhotoUrl() : null);
+	}
+
+	public RelatedTagResponse(String tagName, String photoUrl) {
+		String tagImageUrl = StringUtils.hasText(photoUrl) ? photoUrl : "default.jpg";
+		this.tagName = tagName;
+		this.tagImageUrl = tagImageUrl;
+		this.isPhoto = FileExtensionChecker.isPhotoExtension(tagImageUrl);
+		this.isVideo = FileExtensionChecker.isVideoExtension(tagImageUrl);
 	}
 }
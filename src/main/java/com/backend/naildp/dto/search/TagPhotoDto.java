@@ -0,0 +1,15 @@
+package com.backend.naildp.dto.search;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TagPhotoDto {
+
+	private String tagName;
+	private Long likeCount;
+	private String photoUrl;
+}
@@ -0,0 +1,14 @@
+package com.backend.naildp.dto.search;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TagPostCountDto {
+
+	private String tagName;
+	private Long postCount;
+}
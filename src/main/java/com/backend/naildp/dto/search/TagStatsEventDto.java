@@ -0,0 +1,15 @@
+package com.backend.naildp.dto.search;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TagStatsEventDto {
+
+	private List<String> tagNames;
+}
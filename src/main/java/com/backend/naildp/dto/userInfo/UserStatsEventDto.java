@@ -0,0 +1,13 @@
+package com.backend.naildp.dto.userInfo;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserStatsEventDto {
+
+	private String nickname;
+}
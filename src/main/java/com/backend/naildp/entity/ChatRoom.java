@@ -3,13 +3,12 @@ package com.backend.naildp.entity;
 import java.util.UUID;
 
 import com.backend.naildp.common.RoomType;
+import com.backend.naildp.common.TimeOrderedUuid;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -19,7 +18,7 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor
 public class ChatRoom extends BaseEntity {
 	@Id
-	@GeneratedValue(strategy = GenerationType.UUID)
+	@TimeOrderedUuid
 	@Column(name = "chat_room_id")
 	private UUID id;
 
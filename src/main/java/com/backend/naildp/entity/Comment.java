@@ -4,7 +4,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 import org.hibernate.annotations.BatchSize;
-import org.hibernate.annotations.Formula;
+import org.hibernate.annotations.ColumnDefault;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -12,15 +12,18 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.Table;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
 @Getter
+@Table(indexes = @Index(name = "idx_comment_post_like_count", columnList = "post_id, like_count, comment_id"))
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Comment extends BaseEntity {
 
@@ -44,7 +47,9 @@ public class Comment extends BaseEntity {
 	@Column(nullable = false)
 	private String commentContent;
 
-	@Formula("(select count(*) from comment_like where comment_like.comment_id = comment_id)")
+	// 좋아요 수는 CommentRepository 의 update 쿼리로만 변경한다.
+	@ColumnDefault("0")
+	@Column(nullable = false, updatable = false)
 	private long likeCount;
 
 	public Comment(User user, Post post, String commentContent) {
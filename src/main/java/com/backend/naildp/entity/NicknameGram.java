@@ -0,0 +1,79 @@
+package com.backend.naildp.entity;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 닉네임 부분 일치 검색용 1, 2-gram 색인
+ * 키워드의 gram 을 모두 가진 사용자만 후보가 되므로 nickname LIKE '%keyword%' 전체 스캔을 피한다.
+ */
+@Entity
+@Table(name = "nickname_gram", indexes = @Index(name = "idx_nickname_gram_gram", columnList = "gram, user_id"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class NicknameGram {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@Column(name = "nickname_gram_id")
+	private Long id;
+
+	@Column(nullable = false, length = 8)
+	private String gram;
+
+	@ManyToOne(fetch = FetchType.LAZY)
+	@JoinColumn(name = "user_id", nullable = false)
+	private User user;
+
+	public NicknameGram(String gram, User user) {
+		this.gram = gram;
+		this.user = user;
+	}
+
+	public static List<NicknameGram> of(User user) {
+		int[] codePoints = normalize(user.getNickname());
+		Set<String> grams = new LinkedHashSet<>();
+		for (int i = 0; i < codePoints.length; i++) {
+			grams.add(new String(codePoints, i, 1));
+			if (i + 1 < codePoints.length) {
+				grams.add(new String(codePoints, i, 2));
+			}
+		}
+		return grams.stream().map(gram -> new NicknameGram(gram, user)).toList();
+	}
+
+	/**
+	 * 검색 키워드의 gram, 한 글자는 1-gram 두 글자 이상은 2-gram
+	 */
+	public static Set<String> keywordGrams(String keyword) {
+		int[] codePoints = normalize(keyword);
+		Set<String> grams = new LinkedHashSet<>();
+		if (codePoints.length == 1) {
+			grams.add(new String(codePoints, 0, 1));
+		}
+		for (int i = 0; i + 1 < codePoints.length; i++) {
+			grams.add(new String(codePoints, i, 2));
+		}
+		return grams;
+	}
+
+	private static int[] normalize(String value) {
+		return value.toLowerCase(Locale.ROOT).codePoints().toArray();
+	}
+}
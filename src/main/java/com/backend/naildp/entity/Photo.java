@@ -1,12 +1,11 @@
 package com.backend.naildp.entity;
 
+import com.backend.naildp.common.TimeOrderedId;
 import com.backend.naildp.dto.post.FileRequestDto;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
@@ -20,7 +19,7 @@ import lombok.NoArgsConstructor;
 public class Photo {
 
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@TimeOrderedId
 	@Column(name = "photo_id")
 	private Long id;
 
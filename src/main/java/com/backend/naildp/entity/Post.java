@@ -4,6 +4,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.ColumnDefault;
 
 import com.backend.naildp.common.Boundary;
 import com.backend.naildp.dto.post.PostBoundaryRequest;
@@ -55,6 +56,16 @@ public class Post extends BaseEntity {
 
 	private String postContent;
 
+	// 카운터는 PostCounterService 가 batch update 로만 변경한다.
+	@ColumnDefault("0")
+	@Column(nullable = false, updatable = false)
+	private Long likeCount = 0L;
+
+	@ColumnDefault("0")
+	@Column(nullable = false, updatable = false)
+	private Long commentCount = 0L;
+
+	@Column(updatable = false)
 	private Long sharing = 0L;
 
 	@Enumerated(value = EnumType.STRING)
@@ -127,8 +138,4 @@ public class Post extends BaseEntity {
 	public void changeBoundary(PostBoundaryRequest postBoundaryRequest) {
 		this.boundary = postBoundaryRequest.getCloser();
 	}
-
-	public void share() {
-		this.sharing++;
-	}
 }
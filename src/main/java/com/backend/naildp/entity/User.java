@@ -5,9 +5,9 @@ import java.util.List;
 import java.util.UUID;
 
 import org.hibernate.annotations.BatchSize;
-import org.hibernate.annotations.Formula;
 
 import com.backend.naildp.common.NotificationType;
+import com.backend.naildp.common.TimeOrderedUuid;
 import com.backend.naildp.common.UserRole;
 import com.backend.naildp.dto.auth.LoginRequestDto;
 
@@ -15,22 +15,23 @@ import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.Table;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity(name = "Users")
+@Table(indexes = @Index(name = "idx_users_nickname", columnList = "nickname"))
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class User extends BaseEntity {
 
 	@Id
-	@GeneratedValue(strategy = GenerationType.UUID)
+	@TimeOrderedUuid
 	@Column(name = "user_id")
 	private UUID id;
 
@@ -51,9 +52,6 @@ public class User extends BaseEntity {
 	@Column(nullable = false)
 	private String thumbnailUrl = "default";
 
-	@Formula("(select count(*) from archive where archive.user_id = user_id and archive.boundary <> 'NONE' )")
-	private int archiveCount;
-
 	@BatchSize(size = 5)
 	@OneToMany(mappedBy = "user")
 	private List<UserNotification> userNotifications = new ArrayList<>();
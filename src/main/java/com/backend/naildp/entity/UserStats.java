@@ -0,0 +1,62 @@
+package com.backend.naildp.entity;
+
+import java.util.UUID;
+
+import org.hibernate.annotations.ColumnDefault;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.MapsId;
+import jakarta.persistence.OneToOne;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 사용자 검색, 프로필 헤더에 노출하는 사용자별 집계
+ * 카운터는 UserStatsService 가 bulk update 로만 변경한다.
+ */
+@Entity
+@Table(name = "user_stats")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class UserStats {
+
+	@Id
+	@Column(name = "user_id")
+	private UUID id;
+
+	@MapsId
+	@OneToOne(fetch = FetchType.LAZY)
+	@JoinColumn(name = "user_id")
+	private User user;
+
+	@ColumnDefault("0")
+	@Column(nullable = false, updatable = false)
+	private Long postCount = 0L;
+
+	@ColumnDefault("0")
+	@Column(nullable = false, updatable = false)
+	private Long savedPostCount = 0L;
+
+	@ColumnDefault("0")
+	@Column(nullable = false, updatable = false)
+	private Long followerCount = 0L;
+
+	@ColumnDefault("0")
+	@Column(nullable = false, updatable = false)
+	private Long followingCount = 0L;
+
+	// 저장한 게시물 중 본인이 볼 수 있는 게시물 수, 프로필의 저장 수
+	@ColumnDefault("0")
+	@Column(nullable = false, updatable = false)
+	private Long visibleSavedPostCount = 0L;
+
+	public UserStats(User user) {
+		this.user = user;
+	}
+}
@@ -7,6 +7,8 @@ import java.util.UUID;
 
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import com.backend.naildp.dto.chat.ChatMessageDto;
@@ -18,6 +20,10 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Document(collection = "chat_message")
+@CompoundIndexes({
+	@CompoundIndex(name = "idx_chat_room_created_at", def = "{'chatRoomId': 1, 'createdAt': -1, '_id': -1}"),
+	@CompoundIndex(name = "idx_chat_room_seq", def = "{'chatRoomId': 1, 'seq': 1}")
+})
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
@@ -37,6 +43,9 @@ public class ChatMessage {
 
 	private String chatRoomId;
 
+	// 채팅방 내 메시지 순번
+	private Long seq;
+
 	private List<String> mention;
 	private List<String> media;
 
@@ -51,4 +60,8 @@ public class ChatMessage {
 		this.profileUrl = user.getThumbnailUrl();
 		this.media = new ArrayList<>();
 	}
+
+	public void updateSeq(Long seq) {
+		this.seq = seq;
+	}
 }
@@ -0,0 +1,85 @@
+package com.backend.naildp.oauth2.impl;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.function.Function;
+
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.backend.naildp.dto.auth.PrincipalEvictEventDto;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * JWT 인가 필터에서 사용하는 인증 사용자 로컬 캐시
+ * 프로필 변경이 커밋되면 Redis 채널로 삭제 메시지를 발행해 모든 서버의 캐시를 함께 비운다.
+ */
+@Slf4j
+@Component
+public class UserPrincipalCache implements MessageListener {
+
+	static final String INVALIDATE_CHANNEL = "principal:invalidate";
+	private static final int MAXIMUM_SIZE = 10_000;
+	private static final Duration TTL = Duration.ofMinutes(5);
+
+	private final RedisTemplate<String, String> redisTemplate;
+	private final RedisMessageListenerContainer redisMessageListenerContainer;
+	private final Cache<String, UserDetails> cache;
+
+	public UserPrincipalCache(RedisTemplate<String, String> redisTemplate,
+		RedisMessageListenerContainer redisMessageListenerContainer) {
+		this.redisTemplate = redisTemplate;
+		this.redisMessageListenerContainer = redisMessageListenerContainer;
+		this.cache = Caffeine.newBuilder()
+			.maximumSize(MAXIMUM_SIZE)
+			.expireAfterWrite(TTL)
+			.recordStats()
+			.build();
+	}
+
+	@PostConstruct
+	void subscribe() {
+		redisMessageListenerContainer.addMessageListener(this, ChannelTopic.of(INVALIDATE_CHANNEL));
+	}
+
+	// 조회 실패(UsernameNotFoundException)는 캐시하지 않는다.
+	public UserDetails get(String nickname, Function<String, UserDetails> loader) {
+		return cache.get(nickname, loader);
+	}
+
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void evict(PrincipalEvictEventDto principalEvictEventDto) {
+		String nickname = principalEvictEventDto.getNickname();
+		cache.invalidate(nickname);
+		redisTemplate.convertAndSend(INVALIDATE_CHANNEL, nickname);
+	}
+
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		cache.invalidate(new String(message.getBody(), StandardCharsets.UTF_8));
+	}
+
+	public CacheStats stats() {
+		return cache.stats();
+	}
+
+	@Scheduled(fixedRate = 300_000)
+	public void logStats() {
+		CacheStats stats = cache.stats();
+		log.info("principal cache size = {}, hitRate = {}, evictionCount = {}", cache.estimatedSize(),
+			String.format("%.3f", stats.hitRate()), stats.evictionCount());
+	}
+}
@@ -11,10 +11,9 @@ import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
-import com.backend.naildp.entity.User;
 import com.backend.naildp.exception.TokenNotValidateException;
 import com.backend.naildp.oauth2.impl.UserDetailsServiceImpl;
-import com.backend.naildp.repository.UserRepository;
+import com.backend.naildp.oauth2.impl.UserPrincipalCache;
 
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
@@ -33,8 +32,8 @@ public class JwtAuthorizationFilter extends OncePerRequestFilter {
 	private static final String[] PERMIT_URL_ARRAY = {"/auth/**", "/signup/", "/error"};
 	private final JwtUtil jwtUtil;
 	private final UserDetailsServiceImpl userDetailsService;
-	private final RedisUtil redisUtil;
-	private final UserRepository userRepository;
+	private final UserPrincipalCache userPrincipalCache;
+	private final TokenRefreshCoordinator tokenRefreshCoordinator;
 
 	@Override
 	protected void doFilterInternal(HttpServletRequest req, HttpServletResponse res, FilterChain filterChain) throws
@@ -55,11 +54,14 @@ public class JwtAuthorizationFilter extends OncePerRequestFilter {
 				tokenValue = jwtUtil.substringToken(tokenValue);
 				log.info(tokenValue);
 
-				if (!jwtUtil.validateToken(tokenValue)) {
-					refreshAccessToken(req, res);
+				// 서명 검증은 요청당 한 번, 만료된 토큰이면 재발급 후 만료 토큰의 Claims 사용
+				Claims info;
+				try {
+					info = jwtUtil.getVerifiedClaims(tokenValue);
+				} catch (ExpiredJwtException e) {
+					info = e.getClaims();
+					refreshAccessToken(req, res, info.getSubject());
 				}
-
-				Claims info = jwtUtil.getUserInfoFromToken(tokenValue);
 				setAuthentication(info.getSubject());
 			}
 
@@ -71,24 +73,8 @@ public class JwtAuthorizationFilter extends OncePerRequestFilter {
 		}
 	}
 
-	public void refreshAccessToken(HttpServletRequest req, HttpServletResponse res) throws IOException {
-
-		String expiredAccessToken = jwtUtil.getTokenFromRequest(req);
-		expiredAccessToken = jwtUtil.substringToken(expiredAccessToken);
-		log.info("Token from request: {}", expiredAccessToken);
-
-		String nickname;
-		try {
-			nickname = jwtUtil.getUserInfoFromToken(expiredAccessToken).getSubject();
-		} catch (ExpiredJwtException e) {
-			nickname = e.getClaims().getSubject(); // 만료된 토큰에서도 사용자 정보 추출 가능
-		}
-		log.info("4");
-
-		User findUser = userRepository.findUserByNickname(nickname).orElseThrow(() ->
-			new IllegalArgumentException("사용자를 찾을 수 없습니다."));
-		log.info("nickname = " + findUser.getNickname());
-
+	// 동시에 만료된 요청들은 TokenRefreshCoordinator 에서 한 번의 재발급 결과를 함께 사용한다.
+	public void refreshAccessToken(HttpServletRequest req, HttpServletResponse res, String nickname) {
 		// Refresh Token 추출
 		log.info("쿠키에서 리프레시 토큰 추출");
 		String refreshTokenFromCookie = "";
@@ -101,27 +87,9 @@ public class JwtAuthorizationFilter extends OncePerRequestFilter {
 				}
 			}
 		}
-		// Redis 에서 Refresh Token 추출
-		String refreshTokenFromRedis = redisUtil.getRefreshToken(findUser.getNickname());
-		log.info("refreshTokenFromRedis: {}", refreshTokenFromRedis);
-
-		if (refreshTokenFromRedis == null || !refreshTokenFromRedis.equals(refreshTokenFromCookie)) {
-			throw new TokenNotValidateException("리프레시 토큰이 유효하지 않거나 만료되었습니다.");
-		}
-		log.info("5 ");
 
-		// 리프레시 토큰 유효성 검증
-		if (!jwtUtil.validateToken(refreshTokenFromCookie)) {
-			redisUtil.deleteRefreshToken(findUser.getNickname());
-			throw new TokenNotValidateException("리프레시 토큰이 만료되었습니다.");
-		}
-		log.info("6 ");
-
-		// 새로운 AccessToken 발급
-		log.info("새로운 Access Token 발급");
-		String newAccessToken = jwtUtil.createToken(findUser.getNickname(), findUser.getRole());
+		String newAccessToken = tokenRefreshCoordinator.refresh(nickname, refreshTokenFromCookie);
 		jwtUtil.addJwtToCookie(newAccessToken, "Authorization", res); // 쿠키에 새 토큰 저장
-
 	}
 
 	// 인증 처리
@@ -133,9 +101,9 @@ public class JwtAuthorizationFilter extends OncePerRequestFilter {
 		SecurityContextHolder.setContext(context);
 	}
 
-	// 인증 객체 생성
+	// 인증 객체 생성 - 캐시에 없을 때만 DB 조회
 	private Authentication createAuthentication(String username) {
-		UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+		UserDetails userDetails = userPrincipalCache.get(username, userDetailsService::loadUserByUsername);
 		return new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
 	}
 }
\ No newline at end of file
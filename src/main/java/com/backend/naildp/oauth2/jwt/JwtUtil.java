@@ -3,9 +3,13 @@ package com.backend.naildp.oauth2.jwt;
 import java.io.UnsupportedEncodingException;
 import java.net.URLDecoder;
 import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Base64;
 import java.util.Date;
+import java.util.concurrent.TimeUnit;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -15,9 +19,13 @@ import org.springframework.util.StringUtils;
 
 import com.backend.naildp.common.UserRole;
 import com.backend.naildp.exception.TokenNotValidateException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
@@ -37,12 +45,36 @@ public class JwtUtil {
 	public static final String BEARER_PREFIX = "Bearer ";
 	private static final long ACCESS_TOKEN_EXPIRE_TIME = 1000 * 60 * 30;
 	private static final long REFRESH_TOKEN_EXPIRE_TIME = 1000 * 60 * 60L * 24 * 7;
+	private static final int VERIFIED_TOKEN_CACHE_SIZE = 10_000;
 
 	@Value("${jwt.secret.key}") // Base64 Encode 한 SecretKey
 	private String secretKey;
 	private Key key;
+	private JwtParser jwtParser; // 생성 후에는 thread-safe 하므로 한 번만 만든다.
 	private final SignatureAlgorithm signatureAlgorithm = SignatureAlgorithm.HS256;
 
+	// 서명 검증을 마친 Access Token : 토큰 해시 -> Claims, 토큰 만료 시각에 삭제
+	private final Cache<String, Claims> verifiedTokens = Caffeine.newBuilder()
+		.maximumSize(VERIFIED_TOKEN_CACHE_SIZE)
+		.expireAfter(new Expiry<String, Claims>() {
+			@Override
+			public long expireAfterCreate(String key, Claims claims, long currentTime) {
+				long remainMillis = claims.getExpiration().getTime() - System.currentTimeMillis();
+				return TimeUnit.MILLISECONDS.toNanos(Math.max(remainMillis, 0));
+			}
+
+			@Override
+			public long expireAfterUpdate(String key, Claims claims, long currentTime, long currentDuration) {
+				return currentDuration;
+			}
+
+			@Override
+			public long expireAfterRead(String key, Claims claims, long currentTime, long currentDuration) {
+				return currentDuration;
+			}
+		})
+		.build();
+
 	// 로그 설정
 	public static final Logger logger = LoggerFactory.getLogger("JWT 관련 로그");
 
@@ -50,6 +82,7 @@ public class JwtUtil {
 	public void init() {
 		byte[] bytes = Base64.getDecoder().decode(secretKey);
 		key = Keys.hmacShaKeyFor(bytes);
+		jwtParser = Jwts.parserBuilder().setSigningKey(key).build();
 	}
 
 	//JWT 생성
@@ -99,24 +132,47 @@ public class JwtUtil {
 		throw new TokenNotValidateException("Not Found Token");
 	}
 
+	// 서명 검증된 Claims 조회, 캐시에 있으면 서명 검증과 파싱을 생략한다.
+	// 만료된 토큰은 ExpiredJwtException, 위조된 토큰은 TokenNotValidateException
+	public Claims getVerifiedClaims(String token) {
+		String tokenHash = hash(token);
+		Claims cached = verifiedTokens.getIfPresent(tokenHash);
+		if (cached != null) {
+			return cached;
+		}
+
+		Claims claims;
+		try {
+			claims = jwtParser.parseClaimsJws(token).getBody();
+		} catch (ExpiredJwtException e) {
+			throw e;
+		} catch (Exception e) {
+			logger.error("유효하지 않은 토큰입니다.", e);
+			throw new TokenNotValidateException("잘못된 JWT 서명입니다.", e);
+		}
+
+		// 사용자 식별자가 있는 Access Token 만 캐시
+		if (claims.getSubject() != null && claims.getExpiration() != null) {
+			verifiedTokens.put(tokenHash, claims);
+		}
+		return claims;
+	}
+
 	// JWT 토큰 유효성 검사 메서드
 	public boolean validateToken(String token) {
 		try {
-			Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody();
+			getVerifiedClaims(token);
 			return true;
 		} catch (ExpiredJwtException e) {
 			logger.error("만료된 토큰입니다.", e);
 			return false;
-		} catch (Exception e) {
-			logger.error("유효하지 않은 토큰입니다.", e);
-			throw new TokenNotValidateException("잘못된 JWT 서명입니다.", e);
 		}
 	}
 
 	// JWT에서 사용자 정보 가져오기
 	public Claims getUserInfoFromToken(String token) {
 		try {
-			return Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody();
+			return getVerifiedClaims(token);
 		} catch (ExpiredJwtException e) {
 			// 만료된 토큰에서도 Claims 반환
 			return e.getClaims();
@@ -141,4 +197,12 @@ public class JwtUtil {
 		return null;
 	}
 
+	private String hash(String token) {
+		try {
+			byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+			return Base64.getEncoder().encodeToString(digest);
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
 }
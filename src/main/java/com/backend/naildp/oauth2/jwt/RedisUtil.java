@@ -1,5 +1,7 @@
 package com.backend.naildp.oauth2.jwt;
 
+import java.time.Duration;
+
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Component;
 
@@ -9,6 +11,9 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class RedisUtil {
 
+	private static final String REFRESH_LOCK_PREFIX = "refresh:lock:";
+	private static final String REFRESHED_TOKEN_PREFIX = "refresh:token:";
+
 	private final RedisTemplate<String, String> redisTemplate;
 
 	public void saveRefreshToken(String nickname, String refreshToken) {
@@ -22,4 +27,22 @@ public class RedisUtil {
 	public void deleteRefreshToken(String nickname) {
 		redisTemplate.delete(nickname);
 	}
-}
\ No newline at end of file
+
+	// 서버 간 Access Token 재발급 락 (SET NX PX)
+	public boolean tryRefreshLock(String nickname, Duration ttl) {
+		return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(REFRESH_LOCK_PREFIX + nickname, "1", ttl));
+	}
+
+	public void releaseRefreshLock(String nickname) {
+		redisTemplate.delete(REFRESH_LOCK_PREFIX + nickname);
+	}
+
+	// 방금 재발급한 Access Token, 동시에 들어온 다른 서버의 요청이 재사용한다.
+	public void saveRefreshedAccessToken(String nickname, String accessToken, Duration ttl) {
+		redisTemplate.opsForValue().set(REFRESHED_TOKEN_PREFIX + nickname, accessToken, ttl);
+	}
+
+	public String getRefreshedAccessToken(String nickname) {
+		return redisTemplate.opsForValue().get(REFRESHED_TOKEN_PREFIX + nickname);
+	}
+}
@@ -0,0 +1,137 @@
+package com.backend.naildp.oauth2.jwt;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.stereotype.Component;
+
+import com.backend.naildp.entity.User;
+import com.backend.naildp.exception.TokenNotValidateException;
+import com.backend.naildp.repository.UserRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 만료된 Access Token 재발급을 사용자별로 한 번만 수행한다.
+ * 같은 서버의 동시 요청은 진행 중인 재발급 결과를 기다리고,
+ * 다른 서버의 동시 요청은 Redis 락을 잡은 서버가 남긴 토큰을 재사용한다.
+ * 결과를 함께 쓰기 전에 요청마다 리프레시 토큰의 서명, 만료, 저장된 토큰과의 일치를 먼저 확인한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TokenRefreshCoordinator {
+
+	static final Duration LOCK_TTL = Duration.ofSeconds(3);
+	static final Duration REFRESHED_TOKEN_TTL = Duration.ofSeconds(10);
+	private static final int WAIT_RETRY_COUNT = 20;
+	private static final long WAIT_INTERVAL_MILLIS = 50;
+
+	private final JwtUtil jwtUtil;
+	private final RedisUtil redisUtil;
+	private final UserRepository userRepository;
+
+	private final ConcurrentHashMap<String, CompletableFuture<String>> inFlight = new ConcurrentHashMap<>();
+
+	// 재발급된 Access Token (Bearer 접두사 포함) 반환
+	public String refresh(String nickname, String refreshToken) {
+		validateRefreshToken(nickname, refreshToken);
+
+		String key = nickname + ":" + refreshToken;
+		CompletableFuture<String> future = new CompletableFuture<>();
+		CompletableFuture<String> running = inFlight.putIfAbsent(key, future);
+		if (running != null) {
+			return await(running);
+		}
+
+		try {
+			String accessToken = refreshOnce(nickname, refreshToken);
+			future.complete(accessToken);
+			return accessToken;
+		} catch (RuntimeException e) {
+			future.completeExceptionally(e);
+			throw e;
+		} finally {
+			inFlight.remove(key, future);
+		}
+	}
+
+	// 서명이 잘못된 토큰은 validateToken 에서 TokenNotValidateException
+	private void validateRefreshToken(String nickname, String refreshToken) {
+		boolean notExpired = jwtUtil.validateToken(refreshToken);
+
+		String refreshTokenFromRedis = redisUtil.getRefreshToken(nickname);
+		if (refreshTokenFromRedis == null || !refreshTokenFromRedis.equals(refreshToken)) {
+			throw new TokenNotValidateException("리프레시 토큰이 유효하지 않거나 만료되었습니다.");
+		}
+
+		if (!notExpired) {
+			redisUtil.deleteRefreshToken(nickname);
+			throw new TokenNotValidateException("리프레시 토큰이 만료되었습니다.");
+		}
+	}
+
+	private String refreshOnce(String nickname, String refreshToken) {
+		String refreshed = redisUtil.getRefreshedAccessToken(nickname);
+		if (refreshed != null) {
+			return refreshed;
+		}
+
+		boolean locked = redisUtil.tryRefreshLock(nickname, LOCK_TTL);
+		if (!locked) {
+			refreshed = waitForOtherNode(nickname);
+			if (refreshed != null) {
+				return refreshed;
+			}
+			log.warn("다른 서버의 토큰 재발급 대기 시간 초과, 직접 재발급 : {}", nickname);
+		}
+
+		try {
+			return issue(nickname);
+		} finally {
+			if (locked) {
+				redisUtil.releaseRefreshLock(nickname);
+			}
+		}
+	}
+
+	private String issue(String nickname) {
+		User findUser = userRepository.findUserByNickname(nickname).orElseThrow(() ->
+			new IllegalArgumentException("사용자를 찾을 수 없습니다."));
+
+		log.info("새로운 Access Token 발급");
+		String accessToken = jwtUtil.createToken(findUser.getNickname(), findUser.getRole());
+		redisUtil.saveRefreshedAccessToken(nickname, accessToken, REFRESHED_TOKEN_TTL);
+		return accessToken;
+	}
+
+	private String waitForOtherNode(String nickname) {
+		for (int i = 0; i < WAIT_RETRY_COUNT; i++) {
+			try {
+				Thread.sleep(WAIT_INTERVAL_MILLIS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return null;
+			}
+			String refreshed = redisUtil.getRefreshedAccessToken(nickname);
+			if (refreshed != null) {
+				return refreshed;
+			}
+		}
+		return null;
+	}
+
+	private String await(CompletableFuture<String> running) {
+		try {
+			return running.join();
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			throw e;
+		}
+	}
+}
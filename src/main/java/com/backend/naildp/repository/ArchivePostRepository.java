@@ -1,8 +1,12 @@
 package com.backend.naildp.repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -27,8 +31,47 @@ public interface ArchivePostRepository extends JpaRepository<ArchivePost, Long>
 
 	boolean existsByArchiveIdAndPostId(Long archiveId, Long postId);
 
+	@Query("select ap.id from ArchivePost ap where ap.archive.id = :archiveId and ap.post.id = :postId")
+	Optional<Long> findIdByArchiveIdAndPostId(@Param("archiveId") Long archiveId, @Param("postId") Long postId);
+
 	List<PostMapping> findArchivePostsByArchiveId(Long archiveId);
 
+	// 아카이브 내 게시물 전체 조회, 저장 순서(id) 를 커서로 내려주기 위해 저장 행을 조회한다.
+	@Query("select ap from ArchivePost ap join fetch ap.post p"
+		+ " where ap.archive.id = :archiveId"
+		+ " and p.tempSave = false"
+		+ " and (p.boundary = 'ALL'"
+		+ " or (p.boundary = 'FOLLOW' and (p.user.id in :followingIds or p.user.nickname = :myNickname))"
+		+ " or(p.boundary = 'NONE' and p.user.nickname = :myNickname)) "
+		+ " order by ap.id desc ")
+	Slice<ArchivePost> findArchivePostsByFollow(@Param("myNickname") String myNickname,
+		@Param("archiveId") Long archiveId,
+		@Param("followingIds") List<UUID> followingIds,
+		PageRequest pageRequest);
+
+	@Query("select ap from ArchivePost ap join fetch ap.post p"
+		+ " where ap.archive.id = :archiveId"
+		+ " and ap.id < :id "
+		+ " and p.tempSave = false"
+		+ " and (p.boundary = 'ALL'"
+		+ " or (p.boundary = 'FOLLOW' and (p.user.id in :followingIds or p.user.nickname = :myNickname))"
+		+ " or(p.boundary = 'NONE' and p.user.nickname = :myNickname)) "
+		+ " order by ap.id desc ")
+	Slice<ArchivePost> findArchivePostsByIdAndFollow(@Param("id") Long cursorArchivePostId,
+		@Param("myNickname") String myNickname,
+		@Param("archiveId") Long archiveId,
+		@Param("followingIds") List<UUID> followingIds,
+		PageRequest pageRequest);
+
+	// 아카이브의 게시물을 복제한 아카이브로 한 번의 insert ... select 로 복사
+	@Modifying(flushAutomatically = true)
+	@Query("insert into ArchivePost (archive, post, createdDate, lastModifiedDate)"
+		+ " select copy, ap.post, :now, :now from ArchivePost ap, Archive copy"
+		+ " where ap.archive.id = :archiveId and copy.id = :copyArchiveId"
+		+ " order by ap.id")
+	int copyArchivePosts(@Param("archiveId") Long archiveId, @Param("copyArchiveId") Long copyArchiveId,
+		@Param("now") LocalDateTime now);
+
 	@Modifying(flushAutomatically = true, clearAutomatically = true)
 	@Query("delete from ArchivePost ap where ap.archive.id = :archiveId")
 	void deleteAllByArchiveId(@Param("archiveId") Long archiveId);
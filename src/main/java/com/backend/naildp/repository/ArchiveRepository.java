@@ -2,6 +2,7 @@ package com.backend.naildp.repository;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Slice;
@@ -18,7 +19,7 @@ public interface ArchiveRepository extends JpaRepository<Archive, Long> {
 			+ "from Archive a left join a.archivePosts ap "
 			+ "where a.user.nickname = :nickname "
 			+ "group by a.id "
-			+ "order by a.createdDate DESC")
+			+ "order by a.id DESC")
 	Slice<ArchiveMapping> findArchiveInfosByUserNickname(@Param("nickname") String nickname, PageRequest pageRequest);
 
 	@Query(
@@ -27,7 +28,7 @@ public interface ArchiveRepository extends JpaRepository<Archive, Long> {
 			+ "where a.user.nickname = :nickname "
 			+ "and a.id < :id "
 			+ "group by a.id "
-			+ "order by a.createdDate DESC")
+			+ "order by a.id DESC")
 	Slice<ArchiveMapping> findArchiveInfosByIdAndUserNickname(@Param("nickname") String nickname, @Param("id") Long id,
 		PageRequest pageRequest);
 
@@ -38,7 +39,7 @@ public interface ArchiveRepository extends JpaRepository<Archive, Long> {
 			+ "where a.user.nickname = :nickname "
 			+ "and a.boundary <> 'NONE'"
 			+ "group by a.id "
-			+ "order by a.createdDate DESC")
+			+ "order by a.id DESC")
 	Slice<ArchiveMapping> findArchiveInfosWithoutNone(@Param("nickname") String nickname, PageRequest pageRequest);
 
 	@Query(
@@ -48,7 +49,7 @@ public interface ArchiveRepository extends JpaRepository<Archive, Long> {
 			+ "and a.boundary <> 'NONE'"
 			+ "and a.id < :id "
 			+ "group by a.id "
-			+ "order by a.createdDate DESC")
+			+ "order by a.id DESC")
 	Slice<ArchiveMapping> findArchiveInfosByIdWithoutNone(@Param("nickname") String nickname, @Param("id") Long id,
 		PageRequest pageRequest);
 
@@ -58,22 +59,24 @@ public interface ArchiveRepository extends JpaRepository<Archive, Long> {
 
 	// 팔로잉한 아카이브 하나씩 조회
 	@Query(
-		"select a.id as id, u.nickname as nickname, u.thumbnailUrl as thumbnailUrl, a.archiveImgUrl as archiveImgUrl, u.archiveCount as archiveCount "
+		"select a.id as id, u.nickname as nickname, u.thumbnailUrl as thumbnailUrl, a.archiveImgUrl as archiveImgUrl, "
+			+ "(select count(a3) from Archive a3 where a3.user = u and a3.boundary <> 'NONE') as archiveCount "
 			+ "from Archive a " + "join a.user u "
-			+ "where u.nickname in :followingNickname "
+			+ "where u.id in :followingIds "
 			+ "and a.createdDate = (select MAX(a2.createdDate) from Archive a2 where a2.user = u and a2.boundary <> 'NONE') "
-			+ "order by a.createdDate desc")
-	Slice<ArchiveMapping> findArchivesByFollowing(@Param("followingNickname") List<String> followingNickname,
+			+ "order by a.id desc")
+	Slice<ArchiveMapping> findArchivesByFollowing(@Param("followingIds") List<UUID> followingIds,
 		PageRequest pageRequest);
 
 	@Query(
-		"select a.id as id, u.nickname as nickname, u.thumbnailUrl as thumbnailUrl, a.archiveImgUrl as archiveImgUrl, u.archiveCount as archiveCount "
+		"select a.id as id, u.nickname as nickname, u.thumbnailUrl as thumbnailUrl, a.archiveImgUrl as archiveImgUrl, "
+			+ "(select count(a3) from Archive a3 where a3.user = u and a3.boundary <> 'NONE') as archiveCount "
 			+ "from Archive a " + "join a.user u "
-			+ "where u.nickname in :followingNickname "
+			+ "where u.id in :followingIds "
 			+ "and a.id < :id "
 			+ "and a.createdDate = (select MAX(a2.createdDate) from Archive a2 where a2.user = u and a2.boundary <> 'NONE') "
-			+ "order by a.createdDate desc")
-	Slice<ArchiveMapping> findArchivesByIdAndFollowing(@Param("followingNickname") List<String> followingNickname,
+			+ "order by a.id desc")
+	Slice<ArchiveMapping> findArchivesByIdAndFollowing(@Param("followingIds") List<UUID> followingIds,
 		@Param("id") Long id,
 		PageRequest pageRequest);
 
@@ -83,7 +86,7 @@ public interface ArchiveRepository extends JpaRepository<Archive, Long> {
 			+ "where a.user.nickname = :nickname "
 			+ "and ap.post.id = :postId "
 			+ "group by a.id "
-			+ "order by a.createdDate DESC")
+			+ "order by a.id DESC")
 	Slice<ArchiveMapping> findSavedArchiveByPage(@Param("nickname") String nickname, @Param("postId") Long postId,
 		PageRequest pageRequest);
 
@@ -94,7 +97,7 @@ public interface ArchiveRepository extends JpaRepository<Archive, Long> {
 			+ "and ap.post.id = :postId "
 			+ "and a.id < :id "
 			+ "group by a.id "
-			+ "order by a.createdDate DESC")
+			+ "order by a.id DESC")
 	Slice<ArchiveMapping> findSavedArchiveByIdAndPage(@Param("nickname") String nickname, @Param("postId") Long postId,
 		@Param("id") Long cursorId,
 		PageRequest pageRequest);
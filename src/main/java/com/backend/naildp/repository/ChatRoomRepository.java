@@ -1,5 +1,6 @@
 package com.backend.naildp.repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -30,7 +31,7 @@ public interface ChatRoomRepository extends JpaRepository<ChatRoom, UUID>, ChatR
 			+ "AND (cu.isPinning = true "
 			+ "OR (:category = 'all' OR (:category = 'personal' AND cu.chatRoom.roomType = 'PERSONAL') "
 			+ "OR (:category = 'group' AND cu.chatRoom.roomType = 'GROUP'))) "
-			+ "ORDER BY cu.isPinning DESC, cu.chatRoom.lastModifiedDate DESC"
+			+ "ORDER BY cu.isPinning DESC, cu.chatRoom.lastModifiedDate DESC, cu.chatRoom.id DESC"
 	)
 	Slice<ChatRoomMapping> findAllChatRoomByNicknameAndCategory(
 		@Param("nickname") String nickname,
@@ -43,14 +44,16 @@ public interface ChatRoomRepository extends JpaRepository<ChatRoom, UUID>, ChatR
 			+ "WHERE cu.user.nickname = :nickname "
 			+ "AND cu.isExited = false "
 			+ "AND (cu.isPinning = false "
-			+ "AND cu.chatRoom.lastModifiedDate < (SELECT c.lastModifiedDate FROM ChatRoom c WHERE c.id = :cursorId) "
+			+ "AND (cu.chatRoom.lastModifiedDate < :cursorDate "
+			+ "OR (cu.chatRoom.lastModifiedDate = :cursorDate AND cu.chatRoom.id < :cursorId)) "
 			+ "AND (:category = 'all' OR (:category = 'personal' AND cu.chatRoom.roomType = 'PERSONAL') "
 			+ "OR (:category = 'group' AND cu.chatRoom.roomType = 'GROUP'))) "
-			+ "ORDER BY cu.isPinning DESC, cu.chatRoom.lastModifiedDate DESC"
+			+ "ORDER BY cu.isPinning DESC, cu.chatRoom.lastModifiedDate DESC, cu.chatRoom.id DESC"
 	)
 	Slice<ChatRoomMapping> findAllChatRoomByNicknameAndCategoryAndId(
 		@Param("nickname") String nickname,
-		@Param("category") String category, @Param("cursorId") UUID cursorId, PageRequest pageRequest
+		@Param("category") String category, @Param("cursorDate") LocalDateTime cursorDate,
+		@Param("cursorId") UUID cursorId, PageRequest pageRequest
 	);
 
 	@Query("SELECT u.thumbnailUrl FROM ChatRoomUser cu JOIN cu.user u WHERE cu.chatRoom.id = :chatRoomId AND u.nickname != :nickname")
@@ -1,5 +1,6 @@
 package com.backend.naildp.repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -11,6 +12,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.SliceImpl;
 
+import com.backend.naildp.common.KeysetCursor;
 import com.backend.naildp.dto.chat.ChatListResponse;
 import com.backend.naildp.entity.ChatRoom;
 import com.backend.naildp.entity.QChatRoom;
@@ -19,6 +21,7 @@ import com.backend.naildp.entity.QUser;
 import com.backend.naildp.service.chat.ChatRoomStatusService;
 import com.querydsl.core.types.ExpressionUtils;
 import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.core.types.dsl.Expressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 
@@ -38,7 +41,7 @@ public class ChatRoomRepositoryImpl implements ChatRoomRepositoryCustom {
 	QUser user = QUser.user;
 
 	@Override
-	public Slice<ChatListResponse> searchChatRoomsByName(String keyword, Pageable pageable, UUID cursorId,
+	public Slice<ChatListResponse> searchChatRoomsByName(String keyword, Pageable pageable, KeysetCursor cursor,
 		String myNickname) {
 		List<ChatListResponse> results = queryFactory
 			.select(Projections.fields(ChatListResponse.class,
@@ -57,9 +60,9 @@ public class ChatRoomRepositoryImpl implements ChatRoomRepositoryCustom {
 				user.nickname.eq(myNickname),
 				chatRoomUser.name.containsIgnoreCase(keyword),
 				chatRoomUser.isExited.eq(false),
-				cursorId == null ? null : chatRoom.id.gt(cursorId)
+				isAfterCursor(cursor)
 			)
-			.orderBy(chatRoom.lastModifiedDate.desc())
+			.orderBy(chatRoom.lastModifiedDate.desc(), chatRoom.id.desc())
 			.limit(pageable.getPageSize() + 1)
 			.fetch();
 
@@ -81,6 +84,16 @@ public class ChatRoomRepositoryImpl implements ChatRoomRepositoryCustom {
 		return new SliceImpl<>(results, pageable, hasNext);
 	}
 
+	private BooleanExpression isAfterCursor(KeysetCursor cursor) {
+		if (cursor == null) {
+			return null;
+		}
+
+		LocalDateTime cursorDate = cursor.getKeyAsDateTime();
+		return chatRoom.lastModifiedDate.lt(cursorDate)
+			.or(chatRoom.lastModifiedDate.eq(cursorDate).and(chatRoom.id.lt(cursor.getIdAsUuid())));
+	}
+
 	private Map<UUID, List<String>> findProfileUrlsForChatRooms(List<ChatListResponse> results, String myNickname) {
 		return results.stream()
 			.map(ChatListResponse::getRoomId)
@@ -5,6 +5,7 @@ import java.util.Optional;
 import java.util.UUID;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import com.backend.naildp.entity.ChatRoomUser;
@@ -15,6 +16,9 @@ public interface ChatRoomUserRepository extends JpaRepository<ChatRoomUser, Long
 
 	List<ChatRoomUser> findAllByChatRoomIdAndIsExitedFalse(UUID chatRoomId);
 
+	@Query("select cu.user.nickname from ChatRoomUser cu where cu.chatRoom.id = :chatRoomId and cu.isExited = false")
+	List<String> findNicknamesByChatRoomIdAndIsExitedFalse(@Param("chatRoomId") UUID chatRoomId);
+
 	Optional<ChatRoomUser> findByChatRoomIdAndUserNickname(UUID chatRoomId, String nickname);
 
 	Optional<ChatRoomUser> findByChatRoomIdAndUserNicknameAndIsExitedIsFalse(UUID chatRoomId, String nickname);
@@ -5,6 +5,7 @@ import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.backend.naildp.entity.CommentLike;
 
@@ -13,4 +14,8 @@ public interface CommentLikeRepository extends JpaRepository<CommentLike, Long>
 	Optional<CommentLike> findCommentLikeByCommentIdAndUserNickname(Long commentId, String nickname);
 
 	Long countAllByCommentId(Long commentId);
+
+	@Modifying(flushAutomatically = true)
+	@Query("delete from CommentLike cl where cl.id = :commentLikeId")
+	int deleteCommentLikeById(@Param("commentLikeId") Long commentLikeId);
 }
@@ -23,7 +23,7 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
 	Slice<Comment> findCommentsByPostId(@Param("postId") Long postId, PageRequest pageRequest);
 
 	@Query("select c from Comment c join fetch c.user where c.post.id = :postId"
-		+ " and ((c.likeCount <= :likeCount and c.id < :commentId) or c.likeCount < :likeCount)")
+		+ " and (c.likeCount < :likeCount or (c.likeCount = :likeCount and c.id < :commentId))")
 	Slice<Comment> findCommentsByPostIdAndIdBefore(@Param("postId") Long postId,
 		@Param("commentId") Long commentId,
 		@Param("likeCount") Long likeCount,
@@ -32,6 +32,14 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
 	@Query("select c.likeCount from Comment c where c.id = :commentId")
 	long countLikesById(@Param("commentId") Long commentId);
 
+	@Modifying(flushAutomatically = true)
+	@Query("update Comment c set c.likeCount = c.likeCount + 1 where c.id = :commentId")
+	void increaseLikeCount(@Param("commentId") Long commentId);
+
+	@Modifying(flushAutomatically = true)
+	@Query("update Comment c set c.likeCount = c.likeCount - 1 where c.id = :commentId and c.likeCount > 0")
+	void decreaseLikeCount(@Param("commentId") Long commentId);
+
 	@Modifying(flushAutomatically = true, clearAutomatically = true)
 	@Query("delete from Comment c where c.post.id = :postId")
 	void deleteAllByPostId(@Param("postId") Long postId);
@@ -1,7 +1,9 @@
 package com.backend.naildp.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
@@ -16,6 +18,17 @@ public interface FollowRepository extends JpaRepository<Follow, Long> {
 	@Query("select f.following.nickname from Follow f where f.follower.nickname=:nickname")
 	List<String> findFollowingNicknamesByUserNickname(@Param("nickname") String nickname);
 
+	@Query("select f.following.id from Follow f where f.follower.nickname = :nickname")
+	List<UUID> findFollowingIdsByUserNickname(@Param("nickname") String nickname);
+
+	@Query("select f.follower.nickname from Follow f where f.following.nickname = :nickname")
+	List<String> findFollowerNicknamesByUserNickname(@Param("nickname") String nickname);
+
+	@Query("select f.following.nickname from Follow f"
+		+ " where f.follower.nickname = :nickname and f.following.nickname in :followingNicknames")
+	List<String> findFollowingNicknamesIn(@Param("nickname") String nickname,
+		@Param("followingNicknames") Collection<String> followingNicknames);
+
 	@Query("select f.following from Follow f where f.follower.nickname = :followerNickname")
 	List<User> findFollowingUserByFollowerNickname(@Param("followerNickname") String nickname);
 
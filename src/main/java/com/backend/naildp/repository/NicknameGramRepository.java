@@ -0,0 +1,16 @@
+package com.backend.naildp.repository;
+
+import java.util.List;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import com.backend.naildp.entity.NicknameGram;
+import com.backend.naildp.entity.User;
+
+public interface NicknameGramRepository extends JpaRepository<NicknameGram, Long> {
+
+	@Query("select u from Users u where not exists (select g from NicknameGram g where g.user = u)")
+	List<User> findUsersWithoutGrams(PageRequest pageRequest);
+}
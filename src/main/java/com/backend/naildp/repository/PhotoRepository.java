@@ -1,5 +1,6 @@
 package com.backend.naildp.repository;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -14,6 +15,11 @@ public interface PhotoRepository extends JpaRepository<Photo, Long> {
 
 	List<Photo> findByPhotoUrlIn(List<String> deletedFileUrls);
 
+	// 게시물별 첫 번째 사진(대표 사진)
+	@Query("select p from Photo p where p.id in"
+		+ " (select min(cp.id) from Photo cp where cp.post.id in :postIds group by cp.post.id)")
+	List<Photo> findCoverPhotosByPostIds(@Param("postIds") Collection<Long> postIds);
+
 	@Modifying(flushAutomatically = true, clearAutomatically = true)
 	@Query("delete from Photo p where p.post.id = :postId")
 	void deleteAllByPostId(@Param("postId") Long postId);
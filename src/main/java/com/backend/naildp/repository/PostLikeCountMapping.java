@@ -0,0 +1,8 @@
+package com.backend.naildp.repository;
+
+public interface PostLikeCountMapping {
+
+	Long getPostId();
+
+	Long getLikeCount();
+}
@@ -2,6 +2,7 @@ package com.backend.naildp.repository;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
@@ -46,6 +47,37 @@ public interface PostLikeRepository extends JpaRepository<PostLike, Long> {
 	Slice<PostLike> findPostLikesByIdAndFollowing(@Param("nickname") String nickname, @Param("id") Long cursorId,
 		@Param("following") List<User> following, PageRequest pageRequest);
 
+	// 아카이브 내 게시물 좋아요 조회, 좋아요 순서(id) 를 커서로 내려주기 위해 좋아요 행을 조회한다.
+	@Query("select pl from PostLike pl join fetch pl.post p"
+		+ " join ArchivePost ap on p.id = ap.post.id"
+		+ " where ap.archive.id = :archiveId"
+		+ " and pl.user.nickname = :myNickname"
+		+ " and p.tempSave = false"
+		+ " and (p.boundary = 'ALL'"
+		+ " or (p.boundary = 'FOLLOW' and (p.user.id in :followingIds or p.user.nickname = :myNickname))"
+		+ " or(p.boundary = 'NONE' and p.user.nickname = :myNickname)) "
+		+ " order by pl.id desc ")
+	Slice<PostLike> findArchivePostLikesByFollow(@Param("myNickname") String myNickname,
+		@Param("archiveId") Long archiveId,
+		@Param("followingIds") List<UUID> followingIds,
+		PageRequest pageRequest);
+
+	@Query("select pl from PostLike pl join fetch pl.post p"
+		+ " join ArchivePost ap on p.id = ap.post.id"
+		+ " where ap.archive.id = :archiveId"
+		+ " and pl.user.nickname = :myNickname"
+		+ " and pl.id < :id "
+		+ " and p.tempSave = false"
+		+ " and (p.boundary = 'ALL'"
+		+ " or (p.boundary = 'FOLLOW' and (p.user.id in :followingIds or p.user.nickname = :myNickname))"
+		+ " or(p.boundary = 'NONE' and p.user.nickname = :myNickname)) "
+		+ " order by pl.id desc ")
+	Slice<PostLike> findArchivePostLikesByIdAndFollow(@Param("id") Long cursorPostLikeId,
+		@Param("myNickname") String myNickname,
+		@Param("archiveId") Long archiveId,
+		@Param("followingIds") List<UUID> followingIds,
+		PageRequest pageRequest);
+
 	@Query("SELECT pl.post FROM PostLike pl WHERE pl.user.nickname = :nickname")
 	List<Post> findPostLikesByUserNickname(@Param("nickname") String nickname);
 
@@ -2,6 +2,7 @@ package com.backend.naildp.repository;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Slice;
@@ -42,104 +43,67 @@ public interface PostRepository extends JpaRepository<Post, Long>, PostSearchRep
 	// 내가 올린 게시물 전체 조회
 	@Query("select p from Post p where p.tempSave = false"
 		+ " and (p.boundary = 'ALL'"
-		+ " or (p.boundary = 'FOLLOW' and p.user.nickname in :followingNickname)"
+		+ " or (p.boundary = 'FOLLOW' and (p.user.id in :followingIds or p.user.nickname = :myNickname))"
 		+ " or(p.boundary = 'NONE' and p.user.nickname = :myNickname)) "
-		+ " and p.user.nickname =:postNickname order by  p.createdDate desc ")
+		+ " and p.user.nickname =:postNickname order by p.id desc ")
 	Slice<Post> findUserPostsByFollow(@Param("myNickname") String myNickname,
 		@Param("postNickname") String postNickname,
-		@Param("followingNickname") List<String> followingNickname,
+		@Param("followingIds") List<UUID> followingIds,
 		PageRequest pageRequest);
 
 	@Query("select p from Post p where p.id < :id and p.tempSave = false"
 		+ " and (p.boundary = 'ALL'"
-		+ " or (p.boundary = 'FOLLOW' and p.user.nickname in :followingNickname)"
+		+ " or (p.boundary = 'FOLLOW' and (p.user.id in :followingIds or p.user.nickname = :myNickname))"
 		+ " or(p.boundary = 'NONE' and p.user.nickname = :myNickname)) "
-		+ " and p.user.nickname =:postNickname order by  p.createdDate desc ")
+		+ " and p.user.nickname =:postNickname order by p.id desc ")
 	Slice<Post> findUserPostsByIdAndFollow(@Param("id") Long id, @Param("myNickname") String myNickname,
 		@Param("postNickname") String postNickname,
-		@Param("followingNickname") List<String> followingNickname,
+		@Param("followingIds") List<UUID> followingIds,
 		PageRequest pageRequest);
 
 	// 내가 올린 게시물 중 좋아요 조회
 	@Query("select p from Post p join p.postLikes pl where pl.user.nickname = :myNickname "
 		+ "and (p.boundary = 'ALL' "
-		+ "or (p.boundary = 'FOLLOW' and p.user.nickname in :followingNickname) "
+		+ "or (p.boundary = 'FOLLOW' and (p.user.id in :followingIds or p.user.nickname = :myNickname)) "
 		+ "or (p.boundary = 'NONE' and p.user.nickname = :myNickname)) "
 		+ "and p.user.nickname =:postNickname "
-		+ "order by p.createdDate desc")
+		+ "order by p.id desc")
 	Slice<Post> findLikedUserPostsByFollow(@Param("myNickname") String myNickname,
 		@Param("postNickname") String postNickname,
-		@Param("followingNickname") List<String> followingNickname,
+		@Param("followingIds") List<UUID> followingIds,
 		PageRequest pageRequest);
 
 	@Query("select p from Post p join p.postLikes pl where pl.user.nickname = :myNickname "
 		+ "and p.id < :id "
 		+ "and (p.boundary = 'ALL' "
-		+ "or (p.boundary = 'FOLLOW' and p.user.nickname in :followingNickname) "
+		+ "or (p.boundary = 'FOLLOW' and (p.user.id in :followingIds or p.user.nickname = :myNickname)) "
 		+ "or (p.boundary = 'NONE' and p.user.nickname = :myNickname)) "
 		+ "and p.user.nickname =:postNickname "
-		+ "order by p.createdDate desc")
+		+ "order by p.id desc")
 	Slice<Post> findLikedUserPostsByIdAndFollow(@Param("id") Long id, @Param("myNickname") String myNickname,
 		@Param("postNickname") String postNickname,
-		@Param("followingNickname") List<String> followingNickname,
+		@Param("followingIds") List<UUID> followingIds,
 		PageRequest pageRequest);
 
-	// 아카이브 내 게시물 전체 조회
-	@Query("select p from Post p join ArchivePost ap on p.id = ap.post.id"
-		+ " where ap.archive.id = :archiveId"
-		+ " and p.tempSave = false"
-		+ " and (p.boundary = 'ALL'"
-		+ " or (p.boundary = 'FOLLOW' and p.user.nickname in :followingNickname)"
-		+ " or(p.boundary = 'NONE' and p.user.nickname = :myNickname)) "
-		+ " order by  ap.lastModifiedDate desc ")
-	Slice<Post> findArchivePostsByFollow(@Param("myNickname") String myNickname,
-		@Param("archiveId") Long archiveId,
-		@Param("followingNickname") List<String> followingNickname,
-		PageRequest pageRequest);
+	@Query("select p.id from Post p where p.tempSave = false and p.boundary = :boundary order by p.id desc")
+	List<Long> findPostIdsByBoundary(@Param("boundary") Boundary boundary, PageRequest pageRequest);
 
-	@Query("select p from Post p join ArchivePost ap on p.id = ap.post.id"
-		+ " where ap.archive.id = :archiveId"
-		+ " and p.id < :id "
-		+ " and p.tempSave = false"
-		+ " and (p.boundary = 'ALL'"
-		+ " or (p.boundary = 'FOLLOW' and p.user.nickname in :followingNickname)"
-		+ " or(p.boundary = 'NONE' and p.user.nickname = :myNickname)) "
-		+ " order by ap.lastModifiedDate desc ")
-	Slice<Post> findArchivePostsByIdAndFollow(@Param("id") Long id, @Param("myNickname") String myNickname,
-		@Param("archiveId") Long archiveId,
-		@Param("followingNickname") List<String> followingNickname,
-		PageRequest pageRequest);
+	@Query("select p.id from Post p where p.tempSave = false and p.boundary = :boundary"
+		+ " and p.user.nickname = :nickname order by p.id desc")
+	List<Long> findPostIdsByWriterAndBoundary(@Param("nickname") String nickname,
+		@Param("boundary") Boundary boundary, PageRequest pageRequest);
 
-	// 아카이브 내 게시물 좋아요 조회
-	@Query("select p from Post p join ArchivePost ap on p.id = ap.post.id"
-		+ " join PostLike pl on p.id = pl.post.id "
-		+ " join Users u on pl.user.id = u.id"
-		+ " where ap.archive.id = :archiveId"
-		+ " and u.nickname = :myNickname"
-		+ " and p.tempSave = false"
-		+ " and (p.boundary = 'ALL'"
-		+ " or (p.boundary = 'FOLLOW' and p.user.nickname in :followingNickname)"
-		+ " or(p.boundary = 'NONE' and p.user.nickname = :myNickname)) "
-		+ " order by pl.lastModifiedDate desc ")
-	Slice<Post> findLikedArchivePostsByFollow(@Param("myNickname") String myNickname,
-		@Param("archiveId") Long archiveId,
-		@Param("followingNickname") List<String> followingNickname,
-		PageRequest pageRequest);
+	// 본인 + 팔로잉 사용자의 팔로우 공개 게시물 id
+	@Query("select p.id from Post p where p.tempSave = false and p.boundary = 'FOLLOW'"
+		+ " and (p.user.nickname = :nickname"
+		+ " or p.user in (select f.following from Follow f where f.follower.nickname = :nickname))"
+		+ " order by p.id desc")
+	List<Long> findFollowPostIdsForTimeline(@Param("nickname") String nickname, PageRequest pageRequest);
 
-	@Query("select p from Post p join ArchivePost ap on p.id = ap.post.id"
-		+ " join PostLike pl on p.id = pl.post.id "
-		+ " join Users u on pl.user.id = u.id"
-		+ " where ap.archive.id = :archiveId"
-		+ " and u.nickname = :myNickname"
-		+ " and p.id < :id "
-		+ " and p.tempSave = false"
-		+ " and (p.boundary = 'ALL'"
-		+ " or (p.boundary = 'FOLLOW' and p.user.nickname in :followingNickname)"
-		+ " or(p.boundary = 'NONE' and p.user.nickname = :myNickname)) "
-		+ " order by  pl.lastModifiedDate desc ")
-	Slice<Post> findLikedArchivePostsByIdAndFollow(@Param("id") Long id, @Param("myNickname") String myNickname,
-		@Param("archiveId") Long archiveId,
-		@Param("followingNickname") List<String> followingNickname,
-		PageRequest pageRequest);
 
+	@Query("select p from Post p where p.id > :id and p.tempSave = false and p.boundary <> 'NONE' order by p.id")
+	List<Post> findSearchablePostsAfter(@Param("id") Long lastPostId, PageRequest pageRequest);
+
+	@Query("select p.id as postId, p.likeCount as likeCount from Post p where p.id in :postIds")
+	List<PostLikeCountMapping> findLikeCountsByIdIn(@Param("postIds") List<Long> postIds);
 }
@@ -10,7 +10,11 @@ import static com.backend.naildp.entity.QUser.*;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
@@ -18,15 +22,12 @@ import org.springframework.data.domain.SliceImpl;
 import org.springframework.util.StringUtils;
 
 import com.backend.naildp.common.Boundary;
+import com.backend.naildp.common.KeysetCursor;
 import com.backend.naildp.entity.Post;
 import com.querydsl.core.BooleanBuilder;
 import com.querydsl.core.types.Order;
 import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.dsl.BooleanExpression;
-import com.querydsl.core.types.dsl.DateTimeTemplate;
-import com.querydsl.core.types.dsl.Expressions;
-import com.querydsl.core.types.dsl.StringExpression;
-import com.querydsl.core.types.dsl.StringExpressions;
 import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.JPQLQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
@@ -43,16 +44,17 @@ public class PostRepositoryImpl implements PostSearchRepository {
 	}
 
 	@Override
-	public Slice<Post> searchPostByKeyword(Pageable pageable, List<String> keywords, String username, Long cursorId) {
+	public Slice<Post> searchPostByKeyword(Pageable pageable, List<String> keywords, String username,
+		KeysetCursor cursor) {
 		List<Post> posts = queryFactory
 			.select(post)
 			.from(post)
 			.where(
 				isAllowedToViewPosts(username)
 					.and(containsInPost(keywords))
-					.and(lessThanCustomCursor(cursorId))
+					.and(isAfterLikeCountCursor(cursor))
 			)
-			.orderBy(post.postLikes.size().desc(), post.createdDate.desc())
+			.orderBy(post.likeCount.desc(), post.id.desc())
 			.limit(pageable.getPageSize() + 1)
 			.fetch();
 
@@ -78,43 +80,37 @@ public class PostRepositoryImpl implements PostSearchRepository {
 	}
 
 	@Override
-	public Slice<Post> findNewestPostSlice(String username, Long cursorPostId, Pageable pageable) {
-		List<Post> newestPosts = queryFactory
-			.selectFrom(post)
-			.where(post.tempSave.isFalse()
-				.and(isAllowedToViewPosts(username))
-				.and(isRegisteredBeforeCursorPost(cursorPostId))
-			)
-			.orderBy(post.createdDate.desc())
-			.limit(pageable.getPageSize() + 1)
+	public List<Long> findLikedPostIds(String username) {
+		return queryFactory
+			.select(postLike.post.id)
+			.from(postLike)
+			.where(postLike.user.nickname.eq(username))
 			.fetch();
-
-		return new SliceImpl<>(newestPosts, pageable, hasNext(newestPosts, pageable.getPageSize()));
 	}
 
 	@Override
-	public Slice<Post> findTrendPostSlice(String username, Long cursorPostId, Pageable pageable) {
-		JPQLQuery<Long> postLikeCountQuery = JPAExpressions
-			.select(postLike.count())
-			.from(postLike)
-			.where(postLike.post.eq(post),
-				postLike.createdDate
-					.between(LocalDateTime.of(LocalDate.now(), LocalTime.MIDNIGHT), LocalDateTime.now()));
-
-		OrderSpecifier<Long> orderSpecifier = new OrderSpecifier<>(Order.DESC, postLikeCountQuery);
+	public List<Long> findSavedPostIds(String username) {
+		return queryFactory
+			.select(archivePost.post.id)
+			.distinct()
+			.from(archivePost)
+			.where(archivePost.archive.user.nickname.eq(username))
+			.fetch();
+	}
 
-		List<Post> posts = queryFactory
-			.select(post)
-			.from(post)
+	@Override
+	public Slice<Post> findNewestPostSlice(String username, Long cursorPostId, Pageable pageable) {
+		List<Post> newestPosts = queryFactory
+			.selectFrom(post)
 			.where(post.tempSave.isFalse()
 				.and(isAllowedToViewPosts(username))
-				.and(hasLessLikeThanCursorPost(cursorPostId))
+				.and(isRegisteredBeforeCursorPost(cursorPostId))
 			)
-			.orderBy(orderSpecifier, post.createdDate.desc())
+			.orderBy(post.id.desc())
 			.limit(pageable.getPageSize() + 1)
 			.fetch();
 
-		return new SliceImpl<>(posts, pageable, hasNext(posts, pageable.getPageSize()));
+		return new SliceImpl<>(newestPosts, pageable, hasNext(newestPosts, pageable.getPageSize()));
 	}
 
 	@Override
@@ -138,7 +134,7 @@ public class PostRepositoryImpl implements PostSearchRepository {
 				.and(isContainedInPost(tagIdsInPosts))
 				.and(hasLessLikeThanCursorPost(cursorPostId))
 			)
-			.orderBy(orderSpecifier, post.createdDate.desc())
+			.orderBy(orderSpecifier, post.id.desc())
 			.limit(pageable.getPageSize() + 1)
 			.distinct()
 			.fetch();
@@ -146,6 +142,29 @@ public class PostRepositoryImpl implements PostSearchRepository {
 		return new SliceImpl<>(posts, pageable, hasNext(posts, pageable.getPageSize()));
 	}
 
+	@Override
+	public List<Post> findVisiblePostsByIds(List<Long> postIds, String username) {
+		if (postIds.isEmpty()) {
+			return new ArrayList<>();
+		}
+
+		// 전달받은 id 순서를 유지
+		Map<Long, Post> postMap = queryFactory
+			.selectFrom(post)
+			.where(post.id.in(postIds)
+				.and(post.tempSave.isFalse())
+				.and(isAllowedToViewPosts(username))
+			)
+			.fetch()
+			.stream()
+			.collect(Collectors.toMap(Post::getId, Function.identity()));
+
+		return postIds.stream()
+			.filter(postMap::containsKey)
+			.map(postMap::get)
+			.collect(Collectors.toCollection(ArrayList::new));
+	}
+
 	private BooleanExpression isContainedInPost(List<Long> tagIdsInPosts) {
 		if (tagIdsInPosts.isEmpty()) {
 			return null;
@@ -153,13 +172,13 @@ public class PostRepositoryImpl implements PostSearchRepository {
 		return tagPost.tag.id.in(tagIdsInPosts);
 	}
 
+	// 게시물 id 는 작성 순서대로 증가하므로 작성일 대신 id 범위로 조회한다.
 	private BooleanExpression isRegisteredBeforeCursorPost(Long cursorPostId) {
 		if (cursorPostId == null) {
 			return null;
 		}
 
-		return post.createdDate.before(
-			JPAExpressions.select(post.createdDate).from(post).where(post.id.eq(cursorPostId)));
+		return post.id.lt(cursorPostId);
 	}
 
 	private boolean hasNext(List<Post> posts, int size) {
@@ -178,11 +197,11 @@ public class PostRepositoryImpl implements PostSearchRepository {
 		return post.boundary.eq(Boundary.ALL)
 			.or(post.boundary.eq(Boundary.FOLLOW).and(
 				user.nickname.eq(usernameCond).or(
-					JPAExpressions
-						.select(follow)
+					// 팔로잉 id 목록은 게시물과 무관하게 한 번만 계산되도록 상관 없는 서브쿼리로 둔다.
+					post.user.id.in(JPAExpressions
+						.select(follow.following.id)
 						.from(follow)
-						.where(follow.follower.nickname.eq(usernameCond)
-							.and(follow.following.eq(post.user))).isNotNull()))
+						.where(follow.follower.nickname.eq(usernameCond)))))
 			);
 	}
 
@@ -216,31 +235,13 @@ public class PostRepositoryImpl implements PostSearchRepository {
 			.contains(keyword);
 	}
 
-	private BooleanExpression lessThanCustomCursor(Long cursorId) {
-		if (cursorId == null) {
+	private BooleanExpression isAfterLikeCountCursor(KeysetCursor cursor) {
+		if (cursor == null) {
 			return null;
 		}
 
-		DateTimeTemplate<String> stringDateTimeTemplate = Expressions.dateTimeTemplate(String.class,
-			"DATE_FORMAT({0}, '%y%m%d%H%i%s')", post.createdDate);
-
-		String cursor = generateCustomCursor(cursorId, stringDateTimeTemplate);
-
-		return generateCustomExpression(stringDateTimeTemplate).lt(cursor);
-	}
-
-	private String generateCustomCursor(Long cursorId, DateTimeTemplate<String> stringDateTimeTemplate) {
-		return queryFactory
-			.select(generateCustomExpression(stringDateTimeTemplate))
-			.from(post)
-			.where(post.id.eq(cursorId))
-			.fetchOne();
-	}
-
-	private StringExpression generateCustomExpression(DateTimeTemplate<String> stringDateTimeTemplate) {
-		return StringExpressions.lpad(post.postLikes.size().stringValue(), 6, '0')
-			.concat(StringExpressions.lpad(stringDateTimeTemplate.stringValue(), 12, '0')
-				.concat(StringExpressions.lpad(post.id.stringValue(), 8, '0')));
+		return post.likeCount.lt(cursor.getKey())
+			.or(post.likeCount.eq(cursor.getKey()).and(post.id.lt(cursor.getIdAsLong())));
 	}
 
 	private BooleanExpression hasLessLikeThanCursorPost(Long cursorPostId) {
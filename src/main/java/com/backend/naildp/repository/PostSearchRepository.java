@@ -5,18 +5,23 @@ import java.util.List;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 
+import com.backend.naildp.common.KeysetCursor;
 import com.backend.naildp.entity.Post;
 
 public interface PostSearchRepository {
-	Slice<Post> searchPostByKeyword(Pageable pageable, List<String> keywords, String username, Long cursorId);
+	Slice<Post> searchPostByKeyword(Pageable pageable, List<String> keywords, String username, KeysetCursor cursor);
 
 	List<Post> findPostsInArchive(String username);
 
 	List<Post> findLikedPosts(String username);
 
-	Slice<Post> findNewestPostSlice(String username, Long cursorPostId, Pageable pageable);
+	List<Long> findLikedPostIds(String username);
+
+	List<Long> findSavedPostIds(String username);
 
-	Slice<Post> findTrendPostSlice(String username, Long cursorPostId, Pageable pageable);
+	Slice<Post> findNewestPostSlice(String username, Long cursorPostId, Pageable pageable);
 
 	Slice<Post> findForYouPostSlice(String username, Long cursorPostId, List<Long> tagIdsInPosts, Pageable pageable);
+
+	List<Post> findVisiblePostsByIds(List<Long> postIds, String username);
 }
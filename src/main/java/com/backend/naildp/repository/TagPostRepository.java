@@ -1,5 +1,6 @@
 package com.backend.naildp.repository;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -18,6 +19,12 @@ public interface TagPostRepository extends JpaRepository<TagPost, Long>, TagPost
 	@Query("select distinct tp.tag.id from TagPost tp where tp.post in :posts")
 	List<Long> findTagIdsInPosts(@Param("posts") List<Post> posts);
 
+	@Query("select distinct tp.tag.id from TagPost tp where tp.post.id in :postIds")
+	List<Long> findTagIdsInPostIds(@Param("postIds") Collection<Long> postIds);
+
+	@Query("select tp from TagPost tp join fetch tp.tag t where tp.post.id in :postIds")
+	List<TagPost> findTagPostAndTagByPostIds(@Param("postIds") Collection<Long> postIds);
+
 	@Modifying(flushAutomatically = true, clearAutomatically = true)
 	@Query("delete from TagPost tp where tp.post.id = :postId")
 	void deleteAllByPostId(@Param("postId") Long postId);
@@ -1,16 +1,21 @@
 package com.backend.naildp.repository;
 
 import static com.backend.naildp.entity.QFollow.*;
+import static com.backend.naildp.entity.QPhoto.*;
 import static com.backend.naildp.entity.QPost.*;
 import static com.backend.naildp.entity.QTag.*;
 import static com.backend.naildp.entity.QTagPost.*;
 import static com.backend.naildp.entity.QUser.*;
 
+import java.util.Collection;
 import java.util.List;
 
 import com.backend.naildp.common.Boundary;
+import com.backend.naildp.dto.search.TagPhotoDto;
+import com.backend.naildp.dto.search.TagPostCountDto;
 import com.backend.naildp.entity.TagPost;
 import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.core.types.dsl.CaseBuilder;
 import com.querydsl.core.types.dsl.NumberExpression;
@@ -50,6 +55,44 @@ public class TagPostRepositoryImpl implements TagPostSearchRepository {
 			.fetch();
 	}
 
+	/**
+	 * 태그별 전체 공개 게시물 수, tagNames 가 null 이면 모든 태그
+	 */
+	@Override
+	public List<TagPostCountDto> countPublicPostsByTag(Collection<String> tagNames) {
+		return queryFactory
+			.select(Projections.constructor(TagPostCountDto.class, tag.name, tagPost.count()))
+			.from(tagPost)
+			.join(tagPost.post, post).join(tagPost.tag, tag)
+			.where(isPublicPost().and(tagNameIn(tagNames)))
+			.groupBy(tag.name)
+			.fetch();
+	}
+
+	/**
+	 * 태그별 대표 사진 후보 - 사진이 한 장인 전체 공개 게시물의 사진과 좋아요 수
+	 */
+	@Override
+	public List<TagPhotoDto> findPublicSinglePhotosByTag(Collection<String> tagNames) {
+		return queryFactory
+			.select(Projections.constructor(TagPhotoDto.class, tag.name, post.likeCount, photo.photoUrl))
+			.from(tagPost)
+			.join(tagPost.post, post).join(tagPost.tag, tag).join(post.photos, photo)
+			.where(isPublicPost().and(tagNameIn(tagNames)).and(post.photos.size().eq(1)))
+			.fetch();
+	}
+
+	private BooleanExpression isPublicPost() {
+		return post.tempSave.isFalse().and(post.boundary.eq(Boundary.ALL));
+	}
+
+	private BooleanExpression tagNameIn(Collection<String> tagNames) {
+		if (tagNames == null) {
+			return null;
+		}
+		return tag.name.in(tagNames);
+	}
+
 	private BooleanBuilder keywordContainedInTag(List<String> keywords) {
 		if (keywords.isEmpty()) {
 			return null;
@@ -70,10 +113,9 @@ public class TagPostRepositoryImpl implements TagPostSearchRepository {
 	}
 
 	private BooleanExpression isFollowerOfPostWriter(String usernameCond) {
-		return JPAExpressions
-			.select(follow)
+		return post.user.id.in(JPAExpressions
+			.select(follow.following.id)
 			.from(follow)
-			.where(follow.follower.nickname.eq(usernameCond)
-				.and(follow.following.eq(post.user))).isNotNull();
+			.where(follow.follower.nickname.eq(usernameCond)));
 	}
 }
@@ -1,10 +1,17 @@
 package com.backend.naildp.repository;
 
+import java.util.Collection;
 import java.util.List;
 
+import com.backend.naildp.dto.search.TagPhotoDto;
+import com.backend.naildp.dto.search.TagPostCountDto;
 import com.backend.naildp.entity.TagPost;
 
 public interface TagPostSearchRepository {
 
 	List<TagPost> searchRelatedTags(List<String> keywords, String userNickname);
+
+	List<TagPostCountDto> countPublicPostsByTag(Collection<String> tagNames);
+
+	List<TagPhotoDto> findPublicSinglePhotosByTag(Collection<String> tagNames);
 }
@@ -1,15 +1,20 @@
 package com.backend.naildp.repository;
 
+import java.util.Collection;
 import java.util.List;
 
+import com.backend.naildp.dto.chat.RecommendCandidateDto;
 import com.backend.naildp.dto.search.SearchUserResponse;
-import com.backend.naildp.entity.User;
 
 public interface UserRepositoryCustom {
 
 	List<SearchUserResponse> searchByKeyword(String keyword, String nickname);
 
-	List<SearchUserResponse> findRecommendedUser(User currentUser);
+	List<RecommendCandidateDto> findFriendsOfFriends(String nickname, int limit);
+
+	List<RecommendCandidateDto> findPopularUsers(int limit);
+
+	List<SearchUserResponse> findUserSummaries(Collection<String> nicknames);
 
 	List<SearchUserResponse> findUserInfoByRecentUsers(String nickname, List<String> recentUsers);
 }
@@ -2,14 +2,19 @@ package com.backend.naildp.repository;
 
 import static com.backend.naildp.entity.QArchivePost.*;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
 
+import com.backend.naildp.dto.chat.RecommendCandidateDto;
 import com.backend.naildp.dto.search.SearchUserResponse;
+import com.backend.naildp.entity.NicknameGram;
 import com.backend.naildp.entity.QArchive;
 import com.backend.naildp.entity.QFollow;
+import com.backend.naildp.entity.QNicknameGram;
 import com.backend.naildp.entity.QPost;
 import com.backend.naildp.entity.QUser;
-import com.backend.naildp.entity.User;
+import com.backend.naildp.entity.QUserStats;
 import com.querydsl.core.types.Expression;
 import com.querydsl.core.types.ExpressionUtils;
 import com.querydsl.core.types.Projections;
@@ -35,58 +40,77 @@ public class UserRepositoryImpl implements UserRepositoryCustom {
 	QUser user = QUser.user;
 	QPost post = QPost.post;
 	QArchive archive = QArchive.archive;
+	QUserStats userStats = QUserStats.userStats;
+	QNicknameGram nicknameGram = QNicknameGram.nicknameGram;
 
 	@Override
 	public List<SearchUserResponse> searchByKeyword(String keyword, String nickname) {
 		// 사용자 닉네임, 프로필
-		// 게시물 수, 저장된 게시물 수, 팔로워 수
+		// 게시물 수, 저장된 게시물 수, 팔로워 수 - user_stats 에 미리 집계
 
 		NumberExpression<Integer> userSorting = userSortingOrder(keyword);
 
 		BooleanPath isFollowing = Expressions.booleanPath("isFollowing");
+		QUser me = new QUser("me");
+		QFollow myFollow = new QFollow("myFollow");
 
 		return queryFactory.select(
 				Projections.fields(SearchUserResponse.class, user.nickname, user.thumbnailUrl.as("profileUrl"),
-					ExpressionUtils.as(JPAExpressions.select(post.count()).from(post).where(post.user.eq(user)),
-						"postCount"), ExpressionUtils.as(JPAExpressions.select(archivePost.count())
-						.from(archivePost)
-						.where(archivePost.archive.user.eq(user)), "savedPostCount"),
-					ExpressionUtils.as(JPAExpressions.select(follow.count()).from(follow).where(follow.following.eq(user)),
-						"followerCount"), ExpressionUtils.as(
-						JPAExpressions.select(follow.count().when(1L).then(true).otherwise(false))
-							.from(follow)
-							.where(follow.following.eq(user), follow.follower.nickname.eq(nickname)), isFollowing)))
+					userStats.postCount.coalesce(0L).as("postCount"),
+					userStats.savedPostCount.coalesce(0L).as("savedPostCount"),
+					userStats.followerCount.coalesce(0L).as("followerCount"),
+					myFollow.id.isNotNull().as(isFollowing)))
 			.from(user)
-			.where(containInNickname(keyword))
+			.leftJoin(userStats).on(userStats.user.eq(user))
+			.leftJoin(me).on(me.nickname.eq(nickname))
+			.leftJoin(myFollow).on(myFollow.follower.eq(me), myFollow.following.eq(user))
+			.where(hasNicknameGrams(keyword), containInNickname(keyword))
 			.orderBy(isFollowing.desc(), userSorting.desc(), user.nickname.asc())
 			.limit(10)
 			.fetch();
 	}
 
 	@Override
-	public List<SearchUserResponse> findRecommendedUser(User currentUser) {
-		QFollow followToOther = new QFollow("followToOther"); // currentUser -> otherUser
-		QFollow followToCurrent = new QFollow("followToCurrent"); // otherUser -> currentUser
+	public List<RecommendCandidateDto> findFriendsOfFriends(String nickname, int limit) {
+		QFollow myFollow = new QFollow("myFollow");
 
+		// 내가 팔로우한 사용자들이 팔로우하는 사용자, 겹치는 수가 많은 순
 		return queryFactory
-			.select(Projections.fields(SearchUserResponse.class,
-				user.nickname.as("nickname"),
-				user.thumbnailUrl.as("profileUrl"),
-				ExpressionUtils.as(getPostCount(), "postCount"),
-				ExpressionUtils.as(getSavedPostCount(), "savedPostCount"),
-				ExpressionUtils.as(getFollowerCount(), "followerCount"),
-				followToCurrent.id.isNotNull().as("isFollowing")
-			))
+			.select(Projections.constructor(RecommendCandidateDto.class, user.nickname, follow.count()))
+			.from(follow)
+			.join(follow.following, user)
+			.where(follow.follower.id.in(JPAExpressions
+					.select(myFollow.following.id)
+					.from(myFollow)
+					.where(myFollow.follower.nickname.eq(nickname))),
+				user.nickname.ne(nickname))
+			.groupBy(user.nickname)
+			.orderBy(follow.count().desc(), user.nickname.asc())
+			.limit(limit)
+			.fetch();
+	}
+
+	@Override
+	public List<RecommendCandidateDto> findPopularUsers(int limit) {
+		return queryFactory
+			.select(Projections.constructor(RecommendCandidateDto.class, user.nickname, userStats.followerCount))
+			.from(userStats)
+			.join(userStats.user, user)
+			.orderBy(userStats.followerCount.desc(), user.nickname.asc())
+			.limit(limit)
+			.fetch();
+	}
+
+	@Override
+	public List<SearchUserResponse> findUserSummaries(Collection<String> nicknames) {
+		return queryFactory
+			.select(Projections.fields(SearchUserResponse.class, user.nickname, user.thumbnailUrl.as("profileUrl"),
+				userStats.postCount.coalesce(0L).as("postCount"),
+				userStats.savedPostCount.coalesce(0L).as("savedPostCount"),
+				userStats.followerCount.coalesce(0L).as("followerCount")))
 			.from(user)
-			.leftJoin(followToOther)
-			.on(followToOther.follower.eq(currentUser)
-				.and(followToOther.following.eq(user)))
-			.leftJoin(followToCurrent)
-			.on(followToCurrent.follower.eq(user)
-				.and(followToCurrent.following.eq(currentUser)))
-			.where(user.ne(currentUser))
-			.groupBy(user.id)
-			.orderBy(getPriority(followToOther, followToCurrent).asc(), user.nickname.asc())
+			.leftJoin(userStats).on(userStats.user.eq(user))
+			.where(user.nickname.in(nicknames))
 			.fetch();
 	}
 
@@ -109,17 +133,6 @@ public class UserRepositoryImpl implements UserRepositoryCustom {
 			.fetch();
 	}
 
-	private NumberExpression<Integer> getPriority(QFollow followCurrentToUser, QFollow followUserToCurrent) {
-		return new CaseBuilder()
-			// 맞팔일 때 1순위
-			.when(followCurrentToUser.id.isNotNull().and(followUserToCurrent.id.isNotNull())).then(1)
-			// 내가 팔로우한 경우 2순위
-			.when(followCurrentToUser.id.isNotNull()).then(2)
-			// 나를 팔로우한 경우 3순위
-			.when(followUserToCurrent.id.isNotNull()).then(3)
-			.otherwise(4);
-	}
-
 	private Expression<Long> getPostCount() {
 		return JPAExpressions
 			.select(post.count())
@@ -146,6 +159,21 @@ public class UserRepositoryImpl implements UserRepositoryCustom {
 		return new CaseBuilder().when(user.nickname.startsWith(keyword)).then(2).otherwise(1);
 	}
 
+	// 키워드의 gram 을 모두 가진 사용자만 후보로 좁힌 뒤 containInNickname 으로 확인
+	private BooleanExpression hasNicknameGrams(String keyword) {
+		Set<String> grams = NicknameGram.keywordGrams(keyword);
+		if (grams.isEmpty()) {
+			return null;
+		}
+
+		return user.id.in(JPAExpressions
+			.select(nicknameGram.user.id)
+			.from(nicknameGram)
+			.where(nicknameGram.gram.in(grams))
+			.groupBy(nicknameGram.user.id)
+			.having(nicknameGram.gram.countDistinct().eq((long)grams.size())));
+	}
+
 	private BooleanExpression containInNickname(String keyword) {
 		return user.nickname.contains(keyword);
 	}
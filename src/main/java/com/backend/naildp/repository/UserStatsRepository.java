@@ -0,0 +1,49 @@
+package com.backend.naildp.repository;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.backend.naildp.entity.User;
+import com.backend.naildp.entity.UserStats;
+
+public interface UserStatsRepository extends JpaRepository<UserStats, UUID> {
+
+	// 저장한 게시물 중 전체 공개, 본인 게시물, 팔로우한 사용자의 팔로우 공개 게시물만 보인다.
+	String REFRESH_COUNTS = "update UserStats s set"
+		+ " s.postCount = (select count(p) from Post p where p.user = s.user and p.tempSave = false),"
+		+ " s.savedPostCount = (select count(ap) from ArchivePost ap where ap.archive.user = s.user),"
+		+ " s.followerCount = (select count(f) from Follow f where f.following = s.user),"
+		+ " s.followingCount = (select count(f) from Follow f where f.follower = s.user),"
+		+ " s.visibleSavedPostCount = (select count(ap) from ArchivePost ap join ap.post p"
+		+ " where ap.archive.user = s.user and p.tempSave = false"
+		+ " and (p.boundary = com.backend.naildp.common.Boundary.ALL or p.user = s.user"
+		+ " or (p.boundary = com.backend.naildp.common.Boundary.FOLLOW"
+		+ " and exists (select f from Follow f where f.follower = s.user and f.following = p.user))))";
+
+	@Modifying(flushAutomatically = true)
+	@Query(REFRESH_COUNTS + " where s.id = (select u.id from Users u where u.nickname = :nickname)")
+	int refreshByNickname(@Param("nickname") String nickname);
+
+	@Modifying(flushAutomatically = true)
+	@Query(REFRESH_COUNTS + " where s.id in (select ap.archive.user.id from ArchivePost ap where ap.post.id = :postId)")
+	int refreshSaversOf(@Param("postId") Long postId);
+
+	// 보정 구간마다 트랜잭션을 나눠 전체 테이블에 락을 오래 잡지 않는다.
+	@Transactional
+	@Modifying(flushAutomatically = true)
+	@Query(REFRESH_COUNTS + " where s.id in :ids")
+	int refreshByIds(@Param("ids") List<UUID> ids);
+
+	@Query("select s.id from UserStats s where s.id > :id order by s.id")
+	List<UUID> findIdsAfter(@Param("id") UUID lastId, PageRequest pageRequest);
+
+	@Query("select u from Users u where not exists (select s from UserStats s where s.user = u)")
+	List<User> findUsersWithoutStats(PageRequest pageRequest);
+}
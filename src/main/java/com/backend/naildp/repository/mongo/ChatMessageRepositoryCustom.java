@@ -0,0 +1,15 @@
+package com.backend.naildp.repository.mongo;
+
+import java.time.LocalDateTime;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+import com.backend.naildp.common.KeysetCursor;
+import com.backend.naildp.entity.mongo.ChatMessage;
+
+public interface ChatMessageRepositoryCustom {
+
+	Slice<ChatMessage> findMessagesBeforeCursor(String chatRoomId, LocalDateTime rejoinedAt, KeysetCursor cursor,
+		Pageable pageable);
+}
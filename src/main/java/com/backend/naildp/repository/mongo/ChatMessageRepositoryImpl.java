@@ -0,0 +1,62 @@
+package com.backend.naildp.repository.mongo;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.bson.types.ObjectId;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+
+import com.backend.naildp.common.KeysetCursor;
+import com.backend.naildp.entity.mongo.ChatMessage;
+import com.backend.naildp.exception.CustomException;
+import com.backend.naildp.exception.ErrorCode;
+
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class ChatMessageRepositoryImpl implements ChatMessageRepositoryCustom {
+
+	private final MongoTemplate mongoTemplate;
+
+	/**
+	 * 커서 메시지 이전 메시지를 최신순으로 조회, (chatRoomId, createdAt, _id) 복합 인덱스 범위만 읽는다.
+	 */
+	@Override
+	public Slice<ChatMessage> findMessagesBeforeCursor(String chatRoomId, LocalDateTime rejoinedAt,
+		KeysetCursor cursor, Pageable pageable) {
+		Criteria criteria = Criteria.where("chatRoomId").is(chatRoomId);
+		if (rejoinedAt != null) {
+			criteria = criteria.and("createdAt").gt(rejoinedAt);
+		}
+		if (cursor != null) {
+			LocalDateTime cursorDate = cursor.getKeyAsDateTime();
+			criteria = criteria.orOperator(Criteria.where("createdAt").lt(cursorDate),
+				Criteria.where("createdAt").is(cursorDate).and("id").lt(toObjectId(cursor.getId())));
+		}
+
+		Query query = Query.query(criteria)
+			.with(Sort.by(Sort.Direction.DESC, "createdAt", "id"))
+			.limit(pageable.getPageSize() + 1);
+		List<ChatMessage> messages = mongoTemplate.find(query, ChatMessage.class);
+
+		boolean hasNext = messages.size() > pageable.getPageSize();
+		if (hasNext) {
+			messages.remove(messages.size() - 1);
+		}
+
+		return new SliceImpl<>(messages, pageable, hasNext);
+	}
+
+	private ObjectId toObjectId(String id) {
+		if (!ObjectId.isValid(id)) {
+			throw new CustomException("잘못된 커서입니다.", ErrorCode.INVALID_FORM);
+		}
+		return new ObjectId(id);
+	}
+}
@@ -1,33 +1,40 @@
 package com.backend.naildp.service;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.UUID;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
 
 import com.backend.naildp.common.Boundary;
+import com.backend.naildp.common.KeysetCursor;
 import com.backend.naildp.common.UserRole;
 import com.backend.naildp.dto.archive.ArchiveIdRequestDto;
 import com.backend.naildp.dto.archive.ArchivePostSummaryResponse;
 import com.backend.naildp.dto.archive.CreateArchiveRequestDto;
 import com.backend.naildp.dto.archive.UnsaveRequestDto;
 import com.backend.naildp.dto.home.PostSummaryResponse;
+import com.backend.naildp.dto.home.ViewerSnapshotEvictEventDto;
+import com.backend.naildp.dto.userInfo.UserStatsEventDto;
 import com.backend.naildp.entity.Archive;
 import com.backend.naildp.entity.ArchivePost;
 import com.backend.naildp.entity.Post;
+import com.backend.naildp.entity.PostLike;
 import com.backend.naildp.entity.User;
 import com.backend.naildp.exception.CustomException;
 import com.backend.naildp.exception.ErrorCode;
 import com.backend.naildp.repository.ArchiveMapping;
 import com.backend.naildp.repository.ArchivePostRepository;
 import com.backend.naildp.repository.ArchiveRepository;
-import com.backend.naildp.repository.FollowRepository;
 import com.backend.naildp.repository.PostLikeRepository;
-import com.backend.naildp.repository.PostMapping;
 import com.backend.naildp.repository.PostRepository;
 import com.backend.naildp.repository.UserRepository;
+import com.backend.naildp.service.post.PostCardAssembler;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -40,8 +47,10 @@ public class ArchiveService {
 	private final ArchiveRepository archiveRepository;
 	private final ArchivePostRepository archivePostRepository;
 	private final PostRepository postRepository;
-	private final FollowRepository followRepository;
 	private final PostLikeRepository postLikeRepository;
+	private final FollowGraph followGraph;
+	private final PostCardAssembler postCardAssembler;
+	private final ApplicationEventPublisher applicationEventPublisher;
 
 	@Transactional
 	public Long createArchive(String nickname, CreateArchiveRequestDto createArchiveRequestDto) {
@@ -88,7 +97,7 @@ public class ArchiveService {
 			.orElseThrow(() -> new CustomException("해당 유저가 존재하지 않습니다.", ErrorCode.NOT_FOUND));
 
 		//사용자가 아카이브 생성자의 팔로워인지 확인필요. -> isLock(잠금 썸네일)
-		boolean isFollower = followRepository.existsByFollowerNicknameAndFollowing(myNickname, otherUser);
+		boolean isFollower = followGraph.follows(myNickname, otherUser);
 
 		PageRequest pageRequest = PageRequest.of(0, size);
 		Slice<ArchiveMapping> archiveList;
@@ -114,7 +123,6 @@ public class ArchiveService {
 		Archive archive = archiveRepository.findArchiveById(archiveId)
 			.orElseThrow(() -> new CustomException("해당 아카이브를 찾을 수 없습니다.", ErrorCode.NOT_FOUND));
 
-		User postUser = post.getUser();
 		String photo = post.getPhotos().get(0).getPhotoUrl();
 
 		if (archive.notEqualsNickname(nickname)) {
@@ -133,8 +141,7 @@ public class ArchiveService {
 			throw new CustomException("비공개 게시물은 저장할 수 없습니다.", ErrorCode.INVALID_BOUNDARY);
 		}
 
-		if (post.isOpenedForFollower() && !followRepository.existsByFollowerNicknameAndFollowing(nickname, postUser)
-			&& post.notWrittenBy(nickname)) {
+		if (post.isOpenedForFollower() && !followGraph.canView(nickname, post)) {
 			throw new CustomException("팔로워만 게시물을 저장할 수 있습니다.", ErrorCode.INVALID_BOUNDARY);
 		}
 
@@ -143,6 +150,9 @@ public class ArchiveService {
 		//최근게시물 사진으로 썸네일 업데이트
 		archive.updateImgUrl(photo);
 
+		applicationEventPublisher.publishEvent(new ViewerSnapshotEvictEventDto(nickname));
+		applicationEventPublisher.publishEvent(new UserStatsEventDto(nickname));
+
 	}
 
 	@Transactional
@@ -157,8 +167,6 @@ public class ArchiveService {
 			throw new CustomException("본인의 아카이브에만 접근할 수 있습니다.", ErrorCode.USER_MISMATCH);
 		}
 
-		List<PostMapping> postList = archivePostRepository.findArchivePostsByArchiveId(requestDto.getArchiveId());
-
 		Archive copyArchive = Archive.builder()
 			.archiveImgUrl(originalArchive.getArchiveImgUrl())
 			.name(originalArchive.getName() + "Copy")
@@ -167,12 +175,10 @@ public class ArchiveService {
 			.build();
 
 		archiveRepository.save(copyArchive);
+		archivePostRepository.copyArchivePosts(originalArchive.getId(), copyArchive.getId(), LocalDateTime.now());
 
-		if (!postList.isEmpty()) {
-			postList.stream()
-				.map(post -> new ArchivePost(copyArchive, post.getPost()))
-				.forEach(archivePostRepository::save);
-		}
+		applicationEventPublisher.publishEvent(new ViewerSnapshotEvictEventDto(nickname));
+		applicationEventPublisher.publishEvent(new UserStatsEventDto(nickname));
 	}
 
 	@Transactional(readOnly = true)
@@ -180,13 +186,15 @@ public class ArchiveService {
 		PageRequest pageRequest = PageRequest.of(0, size);
 		Slice<ArchiveMapping> archiveList;
 		// 팔로잉 nickname 썸네일사진, 아카이브 썸네일, archive count 아카이브 ID
-		List<String> followingNickname = followRepository.findFollowingNicknamesByUserNickname(nickname);
+		List<UUID> followingIds = followGraph.findFollowingIds(nickname);
+		if (followingIds.isEmpty()) {
+			return PostSummaryResponse.createEmptyResponse();
+		}
 
-		// followingNickname.add(nickname);
 		if (cursorId == -1) {
-			archiveList = archiveRepository.findArchivesByFollowing(followingNickname, pageRequest);
+			archiveList = archiveRepository.findArchivesByFollowing(followingIds, pageRequest);
 		} else {
-			archiveList = archiveRepository.findArchivesByIdAndFollowing(followingNickname, cursorId, pageRequest);
+			archiveList = archiveRepository.findArchivesByIdAndFollowing(followingIds, cursorId, pageRequest);
 
 		}
 		if (archiveList.isEmpty()) {
@@ -206,12 +214,16 @@ public class ArchiveService {
 		}
 		archivePostRepository.deleteAllByArchiveId(archive.getId());
 		archiveRepository.delete(archive);
+
+		applicationEventPublisher.publishEvent(new ViewerSnapshotEvictEventDto(nickname));
+		applicationEventPublisher.publishEvent(new UserStatsEventDto(nickname));
 	}
 
 	@Transactional(readOnly = true)
-	public ArchivePostSummaryResponse getArchivePosts(String nickname, Long archiveId, int size, long cursorId) {
+	public ArchivePostSummaryResponse getArchivePosts(String nickname, Long archiveId, int size, long cursorId,
+		String cursor) {
 		PageRequest pageRequest = PageRequest.of(0, size);
-		Slice<Post> postList;
+		Slice<ArchivePost> archivePosts;
 
 		Archive archive = archiveRepository.findArchiveById(archiveId)
 			.orElseThrow(() -> new CustomException("해당 아카이브를 찾을 수 없습니다.", ErrorCode.NOT_FOUND));
@@ -220,37 +232,39 @@ public class ArchiveService {
 			throw new CustomException("비공개 아카이브입니다.", ErrorCode.INVALID_BOUNDARY);
 		}
 
-		if (archive.isOpenedForFollower() && !followRepository.existsByFollowerNicknameAndFollowing(nickname,
-			archive.getUser()) && archive.notEqualsNickname(nickname)) {
+		if (archive.isOpenedForFollower() && !followGraph.follows(nickname, archive.getUser())
+			&& archive.notEqualsNickname(nickname)) {
 			throw new CustomException("팔로워 아카이브입니다.", ErrorCode.INVALID_BOUNDARY);
 		}
 
-		List<String> followingNickname = followRepository.findFollowingNicknamesByUserNickname(nickname);
-		followingNickname.add(nickname);
+		List<UUID> followingIds = followGraph.findFollowingIds(nickname);
+		Long cursorArchivePostId = resolveArchivePostCursor(archiveId, cursorId, cursor);
 
-		if (cursorId == -1) {
-			postList = postRepository.findArchivePostsByFollow(nickname, archiveId, followingNickname, pageRequest);
-		} else {
-			postList = postRepository.findArchivePostsByIdAndFollow(cursorId, nickname, archiveId, followingNickname,
+		if (cursorArchivePostId == null) {
+			archivePosts = archivePostRepository.findArchivePostsByFollow(nickname, archiveId, followingIds,
 				pageRequest);
+		} else {
+			archivePosts = archivePostRepository.findArchivePostsByIdAndFollow(cursorArchivePostId, nickname,
+				archiveId, followingIds, pageRequest);
 		}
 
-		if (postList.isEmpty()) {
+		if (archivePosts.isEmpty()) {
 			return ArchivePostSummaryResponse.createEmptyResponse(archive.getName(), archive.getUser().getNickname());
 		}
 
-		List<Post> savedPosts = archivePostRepository.findArchivePostsByArchiveUserNickname(nickname);
-		List<Post> likedPosts = postLikeRepository.findPostLikesByUserNickname(nickname);
-
-		return ArchivePostSummaryResponse.of(postList, savedPosts, likedPosts, archive.getName(),
-			archive.getUser().getNickname());
+		ArchivePost lastArchivePost = archivePosts.getContent().get(archivePosts.getNumberOfElements() - 1);
+		return ArchivePostSummaryResponse.of(
+			postCardAssembler.assemble(archivePosts.map(ArchivePost::getPost), nickname), archive.getName(),
+			archive.getUser().getNickname(),
+			KeysetCursor.of(lastArchivePost.getId(), lastArchivePost.getPost().getId()));
 	}
 
 	@Transactional(readOnly = true)
-	public PostSummaryResponse getLikedArchivePosts(String nickname, Long archiveId, int size, long cursorId) {
+	public PostSummaryResponse getLikedArchivePosts(String nickname, Long archiveId, int size, long cursorId,
+		String cursor) {
 
 		PageRequest pageRequest = PageRequest.of(0, size);
-		Slice<Post> postList;
+		Slice<PostLike> postLikes;
 
 		Archive archive = archiveRepository.findArchiveById(archiveId)
 			.orElseThrow(() -> new CustomException("해당 아카이브를 찾을 수 없습니다.", ErrorCode.NOT_FOUND));
@@ -259,29 +273,55 @@ public class ArchiveService {
 			throw new CustomException("비공개 아카이브입니다.", ErrorCode.INVALID_BOUNDARY);
 		}
 
-		if (archive.isOpenedForFollower() && !followRepository.existsByFollowerNicknameAndFollowing(nickname,
-			archive.getUser()) && archive.notEqualsNickname(nickname)) {
+		if (archive.isOpenedForFollower() && !followGraph.follows(nickname, archive.getUser())
+			&& archive.notEqualsNickname(nickname)) {
 			throw new CustomException("팔로워 아카이브입니다.", ErrorCode.INVALID_BOUNDARY);
 		}
 
-		List<String> followingNickname = followRepository.findFollowingNicknamesByUserNickname(nickname);
-		followingNickname.add(nickname);
+		List<UUID> followingIds = followGraph.findFollowingIds(nickname);
+		Long cursorPostLikeId = resolvePostLikeCursor(nickname, cursorId, cursor);
 
-		if (cursorId == -1) {
-			postList = postRepository.findLikedArchivePostsByFollow(nickname, archiveId, followingNickname,
+		if (cursorPostLikeId == null) {
+			postLikes = postLikeRepository.findArchivePostLikesByFollow(nickname, archiveId, followingIds,
 				pageRequest);
 		} else {
-			postList = postRepository.findLikedArchivePostsByIdAndFollow(cursorId, nickname, archiveId,
-				followingNickname, pageRequest);
+			postLikes = postLikeRepository.findArchivePostLikesByIdAndFollow(cursorPostLikeId, nickname, archiveId,
+				followingIds, pageRequest);
 		}
 
-		if (postList.isEmpty()) {
+		if (postLikes.isEmpty()) {
 			return PostSummaryResponse.createEmptyResponse();
 		}
 
-		List<Post> savedPosts = archivePostRepository.findArchivePostsByArchiveUserNickname(nickname);
+		PostLike lastPostLike = postLikes.getContent().get(postLikes.getNumberOfElements() - 1);
+		return postCardAssembler.createLikedSummary(postLikes.map(PostLike::getPost), nickname,
+			KeysetCursor.of(lastPostLike.getId(), lastPostLike.getPost().getId()));
+	}
+
+	// 커서의 정렬 키는 아카이브에 저장한 순서(id) 이므로 커서 게시물이 저장 해제되어도 이어서 조회할 수 있다.
+	// cursor 를 보내지 않는 이전 클라이언트는 커서 게시물의 저장 순서를 조회한다.
+	private Long resolveArchivePostCursor(Long archiveId, long cursorId, String cursor) {
+		if (StringUtils.hasText(cursor)) {
+			return KeysetCursor.decode(cursor).getKey();
+		}
+		if (cursorId == -1) {
+			return null;
+		}
+		return archivePostRepository.findIdByArchiveIdAndPostId(archiveId, cursorId)
+			.orElseThrow(() -> new CustomException("아카이브에 저장된 게시물이 아닙니다.", ErrorCode.NOT_FOUND));
+	}
 
-		return PostSummaryResponse.createLikedPostSummary(postList, savedPosts);
+	// 커서의 정렬 키는 좋아요한 순서(id) 이므로 커서 게시물의 좋아요가 취소되어도 이어서 조회할 수 있다.
+	private Long resolvePostLikeCursor(String nickname, long cursorId, String cursor) {
+		if (StringUtils.hasText(cursor)) {
+			return KeysetCursor.decode(cursor).getKey();
+		}
+		if (cursorId == -1) {
+			return null;
+		}
+		return postLikeRepository.findPostLikeByUserNicknameAndPostId(nickname, cursorId)
+			.map(PostLike::getId)
+			.orElseThrow(() -> new CustomException("좋아요한 게시물이 아닙니다.", ErrorCode.NOT_FOUND));
 	}
 
 	@Transactional
@@ -324,6 +364,9 @@ public class ArchiveService {
 					() -> archive.updateImgUrl(null)
 				);
 		});
+
+		applicationEventPublisher.publishEvent(new ViewerSnapshotEvictEventDto(nickname));
+		applicationEventPublisher.publishEvent(new UserStatsEventDto(nickname));
 	}
 
 	@Transactional
@@ -48,6 +48,7 @@ public class AuthService {
 	private final RedisUtil redisUtil;
 	private final JwtAuthorizationFilter jwtAuthorizationFilter;
 	private final UsersProfileRepository usersProfileRepository;
+	private final UserStatsService userStatsService;
 
 	@Transactional
 	public ResponseEntity<ApiResponse<?>> signupUser(LoginRequestDto loginRequestDto, HttpServletRequest req,
@@ -66,6 +67,7 @@ public class AuthService {
 			.build();
 
 		userRepository.save(user);
+		userStatsService.register(user);
 
 		SocialUserInfoDto userInfo = cookieUtil.getUserInfoFromCookie(req);
 		SocialLogin socialLogin = new SocialLogin(userInfo.getId(), userInfo.getPlatform(), userInfo.getEmail(),
@@ -0,0 +1,57 @@
+package com.backend.naildp.service;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 댓글 좋아요 수(like_count) 보정
+ * 컬럼 추가 전에 작성된 댓글은 0 으로 시작하므로, 배포 후 처음 시작한 한 서버에서 comment_like 수로 한 번만 다시 채운다.
+ * 채운 뒤에는 완료 표시를 남겨 이후 배포에서는 다시 세지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CommentLikeCountReconciler {
+
+	static final int RECONCILE_CHUNK_SIZE = 1000;
+	static final String RECONCILE_JOB = "comment_like_count_reconcile";
+	static final String DONE_KEY = "comment_like_count_backfilled";
+
+	private static final Duration RECONCILE_LOCK_TTL = Duration.ofMinutes(10);
+	private static final String RECONCILE_SQL = "update comment c set "
+		+ "c.like_count = (select count(*) from comment_like cl where cl.comment_id = c.comment_id) "
+		+ "where c.comment_id > ? and c.comment_id <= ?";
+
+	private final JdbcTemplate jdbcTemplate;
+	private final SchedulerLock schedulerLock;
+	private final RedisTemplate<String, String> redisTemplate;
+
+	@Async
+	@EventListener(ApplicationReadyEvent.class)
+	public void reconcile() {
+		if (Boolean.TRUE.equals(redisTemplate.hasKey(DONE_KEY))) {
+			return;
+		}
+		if (!schedulerLock.tryLock(RECONCILE_JOB, RECONCILE_LOCK_TTL)) {
+			return;
+		}
+
+		Long maxCommentId = jdbcTemplate.queryForObject("select max(comment_id) from comment", Long.class);
+		if (maxCommentId != null) {
+			for (long from = 0; from < maxCommentId; from += RECONCILE_CHUNK_SIZE) {
+				jdbcTemplate.update(RECONCILE_SQL, from, from + RECONCILE_CHUNK_SIZE);
+			}
+		}
+		redisTemplate.opsForValue().set(DONE_KEY, "1");
+		log.info("댓글 좋아요 수 보정 완료 : maxCommentId = {}", maxCommentId);
+	}
+}
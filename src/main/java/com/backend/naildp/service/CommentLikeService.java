@@ -44,6 +44,7 @@ public class CommentLikeService {
 					.orElseThrow(() -> new CustomException("사용자를 찾을 수 없습니다.", ErrorCode.NOT_FOUND));
 
 				CommentLike commentLike = commentLikeRepository.saveAndFlush(new CommentLike(user, findComment));
+				commentRepository.increaseLikeCount(commentId);
 
 				// notificationManager.handleNotificationFromCommentLike(findComment, user, commentLike);
 				notificationManager.handleNotificationFromCommentLike(findComment, user, commentLike);
@@ -62,7 +63,12 @@ public class CommentLikeService {
 		postAccessValidator.isAvailablePost(post, username);
 
 		commentLikeRepository.findCommentLikeByCommentIdAndUserNickname(commentId, username)
-			.ifPresent(commentLikeRepository::delete);
+			.ifPresent(commentLike -> {
+				// 동시에 취소 요청이 들어와도 실제로 삭제한 요청만 좋아요 수를 줄인다.
+				if (commentLikeRepository.deleteCommentLikeById(commentLike.getId()) > 0) {
+					commentRepository.decreaseLikeCount(commentId);
+				}
+			});
 	}
 
 	@Transactional(readOnly = true)
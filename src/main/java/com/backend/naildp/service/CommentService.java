@@ -10,6 +10,7 @@ import org.springframework.transaction.annotation.Transactional;
 import com.backend.naildp.dto.comment.CommentInfoResponse;
 import com.backend.naildp.dto.comment.CommentRegisterDto;
 import com.backend.naildp.dto.comment.CommentSummaryResponse;
+import com.backend.naildp.dto.post.PostCountEventDto;
 import com.backend.naildp.entity.Comment;
 import com.backend.naildp.entity.Notification;
 import com.backend.naildp.entity.Post;
@@ -32,6 +33,7 @@ public class CommentService {
 	private final UserRepository userRepository;
 	private final PostAccessValidator postAccessValidator;
 	private final NotificationManager notificationManager;
+	private final ApplicationEventPublisher applicationEventPublisher;
 
 	@Transactional
 	public Long registerComment(Long postId, CommentRegisterDto commentRegisterDto, String username) {
@@ -48,7 +50,9 @@ public class CommentService {
 		User postWriter = post.getUser();
 		notificationManager.handleCommentNotification(comment, postWriter);
 
-		return commentRepository.save(comment).getId();
+		Long commentId = commentRepository.save(comment).getId();
+		applicationEventPublisher.publishEvent(PostCountEventDto.comment(postId));
+		return commentId;
 	}
 
 	@Transactional
@@ -88,18 +92,21 @@ public class CommentService {
 		postOfComment.deleteComment(comment);
 
 		commentRepository.delete(comment);
+		applicationEventPublisher.publishEvent(PostCountEventDto.deleteComment(postOfComment.getId()));
 	}
 
-	public CommentSummaryResponse findComments(Long postId, int size, long cursorId, String nickname) {
+	public CommentSummaryResponse findComments(Long postId, int size, long cursorId, Long cursorLikeCount,
+		String nickname) {
 		//좋아요수, 대댓글수, 작성시간 기준으로 정렬
-		//v1은 좋아요수, 작성시간 기준
-		PageRequest pageRequest = PageRequest.of(0, size, Sort.by(Sort.Direction.DESC, "likeCount", "createdDate"));
+		//v1은 좋아요수, 작성순서 기준 - (post_id, like_count, comment_id) 인덱스 순서
+		PageRequest pageRequest = PageRequest.of(0, size, Sort.by(Sort.Direction.DESC, "likeCount", "id"));
 
 		Slice<Comment> commentSlice;
 		if (cursorId == -1L) {
 			commentSlice = commentRepository.findCommentsByPostId(postId, pageRequest);
 		} else {
-			long likeCount = commentRepository.countLikesById(cursorId);
+			// cursorLikeCount 를 보내지 않는 이전 클라이언트는 cursor 댓글의 좋아요 수를 조회한다.
+			long likeCount = cursorLikeCount != null ? cursorLikeCount : commentRepository.countLikesById(cursorId);
 			commentSlice = commentRepository.findCommentsByPostIdAndIdBefore(postId, cursorId, likeCount, pageRequest);
 		}
 
@@ -110,8 +117,9 @@ public class CommentService {
 		//comment, user, commentLike
 		Slice<CommentInfoResponse> commentInfoResponseSlice = commentSlice.map(
 			comment -> CommentInfoResponse.of(comment, nickname));
-		Long cursorCommentId = commentSlice.getContent().get(commentSlice.getNumberOfElements() - 1).getId();
+		Comment cursorComment = commentSlice.getContent().get(commentSlice.getNumberOfElements() - 1);
 
-		return new CommentSummaryResponse(cursorCommentId, commentInfoResponseSlice);
+		return new CommentSummaryResponse(cursorComment.getId(), cursorComment.getLikeCount(),
+			commentInfoResponseSlice);
 	}
 }
@@ -0,0 +1,164 @@
+package com.backend.naildp.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.StringUtils;
+
+import com.backend.naildp.dto.follow.FollowEventDto;
+import com.backend.naildp.entity.Post;
+import com.backend.naildp.entity.User;
+import com.backend.naildp.repository.FollowRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import jakarta.annotation.PostConstruct;
+
+/**
+ * 게시물, 아카이브 공개범위 확인용 팔로우 관계 로컬 캐시
+ * 사용자마다 팔로잉 id 를 정렬된 long 배열로 들고 있다가 처음 조회할 때 채운다.
+ * 팔로우, 언팔로우가 커밋되면 Redis 채널로 삭제 메시지를 발행해 모든 서버의 캐시를 함께 비운다.
+ */
+@Component
+public class FollowGraph implements MessageListener {
+
+	static final String INVALIDATE_CHANNEL = "follow_graph:invalidate";
+	// 캐시에 담는 팔로잉 id 수 기준 상한
+	private static final long MAXIMUM_WEIGHT = 2_000_000L;
+	private static final Duration TTL = Duration.ofMinutes(30);
+
+	private final FollowRepository followRepository;
+	private final RedisTemplate<String, String> redisTemplate;
+	private final RedisMessageListenerContainer redisMessageListenerContainer;
+	private final Cache<String, FollowingSet> cache;
+
+	public FollowGraph(FollowRepository followRepository, RedisTemplate<String, String> redisTemplate,
+		RedisMessageListenerContainer redisMessageListenerContainer) {
+		this.followRepository = followRepository;
+		this.redisTemplate = redisTemplate;
+		this.redisMessageListenerContainer = redisMessageListenerContainer;
+		this.cache = Caffeine.newBuilder()
+			.maximumWeight(MAXIMUM_WEIGHT)
+			.weigher((String nickname, FollowingSet followingSet) -> followingSet.size() + 1)
+			.expireAfterWrite(TTL)
+			.build();
+	}
+
+	@PostConstruct
+	void subscribe() {
+		redisMessageListenerContainer.addMessageListener(this, ChannelTopic.of(INVALIDATE_CHANNEL));
+	}
+
+	public boolean follows(String viewer, User target) {
+		if (!StringUtils.hasText(viewer) || target == null || target.getId() == null) {
+			return false;
+		}
+		return find(viewer).contains(target.getId());
+	}
+
+	/**
+	 * 게시물 공개범위 기준 열람 가능 여부, 임시저장 여부는 확인하지 않는다.
+	 */
+	public boolean canView(String viewer, Post post) {
+		return switch (post.getBoundary()) {
+			case ALL -> true;
+			case NONE -> !post.notWrittenBy(viewer);
+			case FOLLOW -> !post.notWrittenBy(viewer) || follows(viewer, post.getUser());
+		};
+	}
+
+	/**
+	 * 팔로우 공개 목록 쿼리의 작성자 IN 조건용 팔로잉 id 목록
+	 */
+	public List<UUID> findFollowingIds(String viewer) {
+		if (!StringUtils.hasText(viewer)) {
+			return new ArrayList<>();
+		}
+		return find(viewer).followingIds();
+	}
+
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void evict(FollowEventDto followEventDto) {
+		String followerNickname = followEventDto.getFollowerNickname();
+		cache.invalidate(followerNickname);
+		redisTemplate.convertAndSend(INVALIDATE_CHANNEL, followerNickname);
+	}
+
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		cache.invalidate(new String(message.getBody(), StandardCharsets.UTF_8));
+	}
+
+	private FollowingSet find(String viewer) {
+		return cache.get(viewer, nickname -> FollowingSet.of(followRepository.findFollowingIdsByUserNickname(nickname)));
+	}
+
+	/**
+	 * UUID 를 (상위 64bit, 하위 64bit) 쌍으로 정렬해 담고 이진 탐색으로 포함 여부를 확인한다.
+	 */
+	private static final class FollowingSet {
+
+		private final long[] bits;
+
+		private FollowingSet(long[] bits) {
+			this.bits = bits;
+		}
+
+		private static FollowingSet of(List<UUID> followingIds) {
+			List<UUID> sorted = followingIds.stream().distinct().sorted().toList();
+			long[] bits = new long[sorted.size() * 2];
+			for (int i = 0; i < sorted.size(); i++) {
+				bits[i * 2] = sorted.get(i).getMostSignificantBits();
+				bits[i * 2 + 1] = sorted.get(i).getLeastSignificantBits();
+			}
+			return new FollowingSet(bits);
+		}
+
+		private int size() {
+			return bits.length / 2;
+		}
+
+		// UUID.compareTo 와 같은 순서로 비교한다.
+		private boolean contains(UUID userId) {
+			long most = userId.getMostSignificantBits();
+			long least = userId.getLeastSignificantBits();
+			int low = 0;
+			int high = size() - 1;
+			while (low <= high) {
+				int mid = (low + high) >>> 1;
+				int compared = Long.compare(bits[mid * 2], most);
+				if (compared == 0) {
+					compared = Long.compare(bits[mid * 2 + 1], least);
+				}
+				if (compared == 0) {
+					return true;
+				}
+				if (compared < 0) {
+					low = mid + 1;
+				} else {
+					high = mid - 1;
+				}
+			}
+			return false;
+		}
+
+		private List<UUID> followingIds() {
+			List<UUID> followingIds = new ArrayList<>(size());
+			for (int i = 0; i < size(); i++) {
+				followingIds.add(new UUID(bits[i * 2], bits[i * 2 + 1]));
+			}
+			return followingIds;
+		}
+	}
+}
@@ -6,6 +6,7 @@ import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.backend.naildp.dto.follow.FollowEventDto;
 import com.backend.naildp.entity.Follow;
 import com.backend.naildp.entity.Notification;
 import com.backend.naildp.entity.User;
@@ -24,6 +25,7 @@ public class FollowService {
 	private final FollowRepository followRepository;
 	private final UserRepository userRepository;
 	private final NotificationManager notificationManager;
+	private final ApplicationEventPublisher applicationEventPublisher;
 
 	@Transactional
 	public Long followUser(String followTargetNickname, String username) {
@@ -42,6 +44,7 @@ public class FollowService {
 				Follow savedFollow = followRepository.saveAndFlush(new Follow(user, followTargetUser));
 
 				notificationManager.handleFollowNotification(savedFollow);
+				applicationEventPublisher.publishEvent(new FollowEventDto(username, followTargetNickname, true));
 
 				return savedFollow;
 			});
@@ -51,6 +54,7 @@ public class FollowService {
 	@Transactional
 	public void unfollowUser(String followTargetNickname, String username) {
 		followRepository.deleteByFollowerNicknameAndFollowingNickname(username, followTargetNickname);
+		applicationEventPublisher.publishEvent(new FollowEventDto(username, followTargetNickname, false));
 	}
 
 	public int countFollower(String username) {
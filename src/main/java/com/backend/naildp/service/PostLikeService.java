@@ -1,8 +1,12 @@
 package com.backend.naildp.service;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.backend.naildp.dto.home.ViewerSnapshotEvictEventDto;
+import com.backend.naildp.dto.post.PostCountEventDto;
+import com.backend.naildp.dto.post.PostLikeRankEventDto;
 import com.backend.naildp.dto.postLike.PostLikeCountResponse;
 import com.backend.naildp.entity.Post;
 import com.backend.naildp.entity.PostLike;
@@ -24,6 +28,7 @@ public class PostLikeService {
 	private final PostLikeRepository postLikeRepository;
 	private final PostAccessValidator postAccessValidator;
 	private final NotificationManager notificationManager;
+	private final ApplicationEventPublisher applicationEventPublisher;
 
 	@Transactional
 	public Long likeByPostId(Long postId, String username) {
@@ -37,6 +42,9 @@ public class PostLikeService {
 					.orElseThrow(() -> new CustomException("nickname 으로 회원을 찾을 수 없습니다.", ErrorCode.NOT_FOUND));
 				PostLike savedPostLike = postLikeRepository.save(new PostLike(user, post));
 				post.addPostLike(savedPostLike);
+				applicationEventPublisher.publishEvent(PostCountEventDto.like(postId));
+				applicationEventPublisher.publishEvent(PostLikeRankEventDto.like(postId));
+				applicationEventPublisher.publishEvent(new ViewerSnapshotEvictEventDto(username));
 
 				notificationManager.handlePostLikeNotification(user, post, savedPostLike);
 
@@ -56,6 +64,9 @@ public class PostLikeService {
 			.orElseThrow(() -> new CustomException("해당 게시물은 존재하지 않습니다.", ErrorCode.NOT_FOUND));
 
 		postLikeRepository.deletePostLikeById(postLike.getId());
+		applicationEventPublisher.publishEvent(PostCountEventDto.unlike(postId));
+		applicationEventPublisher.publishEvent(PostLikeRankEventDto.unlike(postId, postLike.getCreatedDate()));
+		applicationEventPublisher.publishEvent(new ViewerSnapshotEvictEventDto(username));
 	}
 
 	@Transactional(readOnly = true)
@@ -64,6 +75,6 @@ public class PostLikeService {
 			.orElseThrow(() -> new CustomException("게시물을 찾을 수 없습니다.", ErrorCode.NOT_FOUND));
 		postAccessValidator.isAvailablePost(post, username);
 
-		return new PostLikeCountResponse(post.getPostLikes().size());
+		return new PostLikeCountResponse(post.getLikeCount());
 	}
 }
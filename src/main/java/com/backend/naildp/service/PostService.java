@@ -1,21 +1,30 @@
 package com.backend.naildp.service;
 
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
 import com.backend.naildp.common.Boundary;
+import com.backend.naildp.dto.home.ViewerSnapshot;
 import com.backend.naildp.dto.post.EditPostResponseDto;
 import com.backend.naildp.dto.post.FileRequestDto;
 import com.backend.naildp.dto.post.PostBoundaryRequest;
+import com.backend.naildp.dto.post.PostCountEventDto;
 import com.backend.naildp.dto.post.PostInfoResponse;
 import com.backend.naildp.dto.post.PostRequestDto;
+import com.backend.naildp.dto.post.PostTimelineEventDto;
 import com.backend.naildp.dto.post.TagRequestDto;
 import com.backend.naildp.dto.post.TempPostRequestDto;
+import com.backend.naildp.dto.search.TagStatsEventDto;
+import com.backend.naildp.dto.userInfo.UserStatsEventDto;
 import com.backend.naildp.entity.Photo;
 import com.backend.naildp.entity.Post;
 import com.backend.naildp.entity.Tag;
@@ -28,8 +37,8 @@ import com.backend.naildp.repository.FollowRepository;
 import com.backend.naildp.repository.PhotoRepository;
 import com.backend.naildp.repository.PostRepository;
 import com.backend.naildp.repository.TagPostRepository;
-import com.backend.naildp.repository.TagRepository;
 import com.backend.naildp.repository.UserRepository;
+import com.backend.naildp.service.post.PostTagWriter;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -41,13 +50,16 @@ public class PostService {
 
 	private final PostRepository postRepository;
 	private final UserRepository userRepository;
-	private final TagRepository tagRepository;
 	private final TagPostRepository tagPostRepository;
 	private final PhotoRepository photoRepository;
 	private final FollowRepository followRepository;
 	private final ArchivePostRepository archivePostRepository;
 	private final S3Service s3Service;
 	private final PostDeletionFacade postDeletionFacade;
+	private final ApplicationEventPublisher applicationEventPublisher;
+	private final ViewerSnapshotService viewerSnapshotService;
+	private final PostTagWriter postTagWriter;
+	private final FollowGraph followGraph;
 
 	@Transactional
 	public void uploadPost(String nickname, PostRequestDto postRequestDto, List<MultipartFile> files) {
@@ -77,6 +89,10 @@ public class PostService {
 		List<FileRequestDto> fileRequestDtos = s3Service.saveFiles(files);
 
 		fileRequestDtos.stream().map(fileRequestDto -> new Photo(post, fileRequestDto)).forEach(photoRepository::save);
+
+		applicationEventPublisher.publishEvent(new PostTimelineEventDto(post.getId(), nickname));
+		applicationEventPublisher.publishEvent(new TagStatsEventDto(toTagNames(postRequestDto.getTags())));
+		applicationEventPublisher.publishEvent(new UserStatsEventDto(nickname));
 	}
 
 	@Transactional
@@ -100,15 +116,21 @@ public class PostService {
 			throw new CustomException("파일을 첨부해주세요.", ErrorCode.INVALID_FORM);
 		}
 
-		post.update(postRequestDto);
+		// 빠지는 태그의 연관 태그 통계도 다시 계산해야 하므로 삭제 전에 조회
+		Set<String> changedTagNames = new HashSet<>(findTagNames(post));
 
-		tagPostRepository.deleteAllByPostId(postId);
+		post.update(postRequestDto);
 
 		updateTags(postRequestDto.getTags(), post);
 
 		updateFiles(files, post);
 		deleteFileUrls(postRequestDto.getDeletedFileUrls());
 
+		changedTagNames.addAll(toTagNames(postRequestDto.getTags()));
+		applicationEventPublisher.publishEvent(new PostTimelineEventDto(postId, nickname));
+		applicationEventPublisher.publishEvent(new TagStatsEventDto(new ArrayList<>(changedTagNames)));
+		// 임시저장 게시물이 게시되면 게시물 수가 바뀐다.
+		applicationEventPublisher.publishEvent(new UserStatsEventDto(nickname));
 	}
 
 	// 게시물 수정 조회
@@ -164,7 +186,6 @@ public class PostService {
 			}
 
 			post.tempUpdate(tempPostRequestDto);
-			tagPostRepository.deleteAllByPostId(postOptional.get().getId());
 			deleteFileUrls(tempPostRequestDto.getDeletedFileUrls());
 
 		} else {
@@ -211,21 +232,20 @@ public class PostService {
 			throw new CustomException("비공개 게시물은 작성자만 접근할 수 있습니다.", ErrorCode.INVALID_BOUNDARY);
 		}
 
-		if (post.isOpenedForFollower() && !followRepository.existsByFollowerNicknameAndFollowing(username,
-			post.getUser()) && post.notWrittenBy(username)) {
+		if (post.isOpenedForFollower() && !followGraph.canView(username, post)) {
 			throw new CustomException("팔로우 공개 게시물은 팔로워와 작성자만 접근할 수 있습니다.", ErrorCode.INVALID_BOUNDARY);
 		}
 
 		boolean followingStatus = isFollower(username, writer, post.getBoundary());
 		int followerCount = followRepository.countFollowersByUserNickname(writer.getNickname());
 
-		List<Post> savedPost = postRepository.findPostsInArchive(username);
+		ViewerSnapshot viewerSnapshot = viewerSnapshotService.findSnapshot(username);
 
 		// 태그 TagPost - Tag 조회
 		List<TagPost> tagPosts = tagPostRepository.findTagPostAndTagByPost(post);
 		List<Tag> tags = tagPosts.stream().map(TagPost::getTag).collect(Collectors.toList());
 
-		return PostInfoResponse.of(post, username, followingStatus, followerCount, savedPost, tags);
+		return PostInfoResponse.of(post, followingStatus, followerCount, viewerSnapshot, tags);
 	}
 
 	@Transactional
@@ -240,6 +260,9 @@ public class PostService {
 
 		//변경
 		post.changeBoundary(postBoundaryRequest);
+
+		applicationEventPublisher.publishEvent(new PostTimelineEventDto(postId, username));
+		applicationEventPublisher.publishEvent(new TagStatsEventDto(findTagNames(post)));
 	}
 
 	@Transactional
@@ -251,8 +274,12 @@ public class PostService {
 		if (post.notWrittenBy(nickname)) {
 			throw new CustomException("게시글 삭제는 작성자만 할 수 있습니다.", ErrorCode.USER_MISMATCH);
 		}
+		List<String> tagNames = findTagNames(post);
 		postDeletionFacade.deletePostAndAssociations(postId);
 
+		applicationEventPublisher.publishEvent(new PostTimelineEventDto(postId, nickname));
+		applicationEventPublisher.publishEvent(new TagStatsEventDto(tagNames));
+		applicationEventPublisher.publishEvent(new UserStatsEventDto(nickname));
 	}
 
 	@Transactional(readOnly = true)
@@ -265,8 +292,7 @@ public class PostService {
 			throw new CustomException("비공개 게시물은 작성자만 접근할 수 있습니다.", ErrorCode.INVALID_BOUNDARY);
 		}
 
-		if (post.isOpenedForFollower() && !followRepository.existsByFollowerNicknameAndFollowing(username,
-			post.getUser()) && post.notWrittenBy(username)) {
+		if (post.isOpenedForFollower() && !followGraph.canView(username, post)) {
 			throw new CustomException("팔로우 공개 게시물은 팔로워와 작성자만 접근할 수 있습니다.", ErrorCode.INVALID_BOUNDARY);
 		}
 
@@ -286,12 +312,11 @@ public class PostService {
 			throw new CustomException("비공개 게시물은 작성자만 접근할 수 있습니다.", ErrorCode.INVALID_BOUNDARY);
 		}
 
-		if (post.isOpenedForFollower() && !followRepository.existsByFollowerNicknameAndFollowing(username,
-			post.getUser()) && post.notWrittenBy(username)) {
+		if (post.isOpenedForFollower() && !followGraph.canView(username, post)) {
 			throw new CustomException("팔로우 공개 게시물은 팔로워와 작성자만 접근할 수 있습니다.", ErrorCode.INVALID_BOUNDARY);
 		}
 
-		post.share();
+		applicationEventPublisher.publishEvent(PostCountEventDto.share(postId));
 
 		return post.getId();
 	}
@@ -313,17 +338,23 @@ public class PostService {
 
 	}
 
-	// 태그 업데이트 메서드
+	// 태그 업데이트 메서드, 기존 태그와 달라진 태그만 반영
 	private void updateTags(List<TagRequestDto> tags, Post post) {
-		if (tags != null && !tags.isEmpty()) {
-			for (TagRequestDto tag : tags) {
-				String tagName = tag.getTagName().toLowerCase();
-				// validateTagName(tagName);
-				Tag existingTag = tagRepository.findByName(tagName)
-					.orElseGet(() -> tagRepository.save(new Tag(tagName)));
-				tagPostRepository.save(new TagPost(existingTag, post));
-			}
+		// validateTagName(tagName);
+		postTagWriter.replaceTags(post, toTagNames(tags));
+	}
+
+	private List<String> findTagNames(Post post) {
+		return tagPostRepository.findTagPostAndTagByPost(post).stream()
+			.map(tagPost -> tagPost.getTag().getName())
+			.toList();
+	}
+
+	private List<String> toTagNames(List<TagRequestDto> tags) {
+		if (tags == null) {
+			return new ArrayList<>();
 		}
+		return tags.stream().map(tag -> tag.getTagName().toLowerCase()).distinct().toList();
 	}
 
 	// 파일 업데이트 메서드
@@ -349,7 +380,7 @@ public class PostService {
 			throw new CustomException("게시물을 읽을 수 없습니다.", ErrorCode.NOT_FOUND);
 		}
 
-		return followRepository.existsByFollowerNicknameAndFollowing(nickname, writer);
+		return followGraph.follows(nickname, writer);
 	}
 
 	private boolean equalsReaderAndWriter(String nickname, User writer) {
@@ -0,0 +1,109 @@
+package com.backend.naildp.service;
+
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+import org.springframework.stereotype.Component;
+
+import com.backend.naildp.dto.search.RelatedTagResponse;
+
+/**
+ * 연관 태그 자동완성용 메모리 인덱스
+ * 태그 이름의 모든 접미사를 정렬된 맵에 넣어 두고, 접미사의 접두사 범위 조회로 부분 일치 태그를 찾는다.
+ * 전체 공개 게시물이 있는 태그만 대표 사진과 함께 담아 둔다.
+ */
+@Component
+public class RelatedTagIndex {
+
+	private final Map<String, RelatedTagResponse> entries = new ConcurrentHashMap<>();
+	private final ConcurrentSkipListMap<String, Set<String>> suffixes = new ConcurrentSkipListMap<>();
+	private volatile boolean ready = false;
+
+	public boolean isReady() {
+		return ready;
+	}
+
+	/**
+	 * 전체 재계산 결과 반영, 결과에 없는 태그는 제거한다.
+	 */
+	public void replaceAll(Map<String, Long> postCounts, Map<String, String> photoUrls) {
+		entries.keySet().stream()
+			.filter(tagName -> !postCounts.containsKey(tagName))
+			.toList()
+			.forEach(this::remove);
+		postCounts.forEach((tagName, postCount) -> put(tagName, postCount, photoUrls.get(tagName)));
+		ready = true;
+	}
+
+	/**
+	 * 태그 하나의 대표 사진 갱신, 게시물이 없으면 제거한다.
+	 */
+	public void put(String tagName, long postCount, String photoUrl) {
+		if (postCount <= 0) {
+			remove(tagName);
+			return;
+		}
+
+		RelatedTagResponse previous = entries.put(tagName, new RelatedTagResponse(tagName, photoUrl));
+		if (previous == null) {
+			String normalized = tagName.toLowerCase(Locale.ROOT);
+			for (int i = 0; i < normalized.length(); i++) {
+				suffixes.computeIfAbsent(normalized.substring(i), key -> ConcurrentHashMap.newKeySet()).add(tagName);
+			}
+		}
+	}
+
+	public void remove(String tagName) {
+		if (entries.remove(tagName) == null) {
+			return;
+		}
+
+		String normalized = tagName.toLowerCase(Locale.ROOT);
+		for (int i = 0; i < normalized.length(); i++) {
+			suffixes.computeIfPresent(normalized.substring(i), (key, tagNames) -> {
+				tagNames.remove(tagName);
+				return tagNames.isEmpty() ? null : tagNames;
+			});
+		}
+	}
+
+	/**
+	 * 키워드 중 하나라도 포함하는 태그를 짧은 이름, 키워드로 시작하는 이름, 이름 순으로 조회
+	 */
+	public List<RelatedTagResponse> search(List<String> keywords, int limit) {
+		List<String> normalizedKeywords = keywords.stream().map(keyword -> keyword.toLowerCase(Locale.ROOT)).toList();
+
+		Set<String> tagNames = new HashSet<>();
+		if (normalizedKeywords.isEmpty()) {
+			tagNames.addAll(entries.keySet());
+		}
+		for (String keyword : normalizedKeywords) {
+			suffixes.subMap(keyword, true, keyword + Character.MAX_VALUE, true)
+				.values()
+				.forEach(tagNames::addAll);
+		}
+
+		Comparator<String> order = Comparator.comparingInt(String::length)
+			.thenComparing(tagName -> startsWithAny(tagName, normalizedKeywords) ? 0 : 1)
+			.thenComparing(Comparator.naturalOrder());
+
+		return tagNames.stream()
+			.sorted(order)
+			.map(entries::get)
+			.filter(Objects::nonNull)
+			.limit(limit)
+			.toList();
+	}
+
+	private boolean startsWithAny(String tagName, List<String> keywords) {
+		String normalized = tagName.toLowerCase(Locale.ROOT);
+		return keywords.stream().anyMatch(normalized::startsWith);
+	}
+}
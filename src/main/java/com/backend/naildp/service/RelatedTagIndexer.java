@@ -0,0 +1,82 @@
+package com.backend.naildp.service;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.backend.naildp.dto.search.TagPhotoDto;
+import com.backend.naildp.dto.search.TagPostCountDto;
+import com.backend.naildp.dto.search.TagStatsEventDto;
+import com.backend.naildp.repository.TagPostRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RelatedTagIndexer {
+
+	private final TagPostRepository tagPostRepository;
+	private final RelatedTagIndex relatedTagIndex;
+
+	/**
+	 * 게시물 태그, 공개범위 변경 커밋 후 해당 태그만 다시 계산
+	 */
+	@Async
+	@Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+	public void refreshTags(TagStatsEventDto tagStatsEventDto) {
+		List<String> tagNames = tagStatsEventDto.getTagNames();
+		if (tagNames.isEmpty()) {
+			return;
+		}
+
+		Map<String, Long> postCounts = countPosts(tagNames);
+		Map<String, String> photoUrls = findRepresentativePhotos(tagNames);
+		tagNames.forEach(tagName ->
+			relatedTagIndex.put(tagName, postCounts.getOrDefault(tagName, 0L), photoUrls.get(tagName)));
+	}
+
+	/**
+	 * 서버 시작 시 전체 계산, 이후 매일 새벽 좋아요 수가 바뀐 대표 사진 보정
+	 */
+	@Async
+	@EventListener(ApplicationReadyEvent.class)
+	@Scheduled(cron = "0 40 4 * * *")
+	@Transactional(readOnly = true)
+	public void rebuild() {
+		Map<String, Long> postCounts = countPosts(null);
+		relatedTagIndex.replaceAll(postCounts, findRepresentativePhotos(null));
+		log.info("연관 태그 인덱스 계산 완료 : {}건", postCounts.size());
+	}
+
+	private Map<String, Long> countPosts(Collection<String> tagNames) {
+		return tagPostRepository.countPublicPostsByTag(tagNames).stream()
+			.collect(Collectors.toMap(TagPostCountDto::getTagName, TagPostCountDto::getPostCount));
+	}
+
+	// 태그마다 좋아요가 가장 많은 한 장짜리 게시물의 사진
+	private Map<String, String> findRepresentativePhotos(Collection<String> tagNames) {
+		Map<String, TagPhotoDto> representatives = new HashMap<>();
+		for (TagPhotoDto tagPhotoDto : tagPostRepository.findPublicSinglePhotosByTag(tagNames)) {
+			representatives.merge(tagPhotoDto.getTagName(), tagPhotoDto,
+				(current, candidate) -> candidate.getLikeCount() > current.getLikeCount() ? candidate : current);
+		}
+		Map<String, String> photoUrls = new HashMap<>();
+		representatives.forEach((tagName, tagPhotoDto) -> photoUrls.put(tagName, tagPhotoDto.getPhotoUrl()));
+		return photoUrls;
+	}
+}
@@ -0,0 +1,40 @@
+package com.backend.naildp.service;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 여러 서버에서 같은 시각에 실행되는 작업을 한 서버에서만 실행하기 위한 락 (SET NX EX)
+ * 작업이 끝나도 풀지 않고 만료를 기다려, 늦게 시작한 서버가 같은 주기에 다시 실행하지 않게 한다.
+ * 서버마다 차례로 실행해야 하는 작업은 owner 를 지정해 잡고, 끝나면 자신이 잡은 락만 푼다.
+ */
+@Component
+@RequiredArgsConstructor
+public class SchedulerLock {
+
+	private static final String LOCK_KEY = "scheduler_lock:";
+	private static final RedisScript<Long> UNLOCK_SCRIPT = new DefaultRedisScript<>(
+		"if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) end "
+			+ "return 0", Long.class);
+
+	private final RedisTemplate<String, String> redisTemplate;
+
+	public boolean tryLock(String jobName, Duration ttl) {
+		return tryLock(jobName, "1", ttl);
+	}
+
+	public boolean tryLock(String jobName, String owner, Duration ttl) {
+		return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(LOCK_KEY + jobName, owner, ttl));
+	}
+
+	public void unlock(String jobName, String owner) {
+		redisTemplate.execute(UNLOCK_SCRIPT, List.of(LOCK_KEY + jobName), owner);
+	}
+}
@@ -11,10 +11,12 @@ import java.util.stream.Collectors;
 
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 
+import com.backend.naildp.common.KeysetCursor;
 import com.backend.naildp.dto.home.PostSummaryResponse;
 import com.backend.naildp.dto.search.RelatedTagResponse;
 import com.backend.naildp.dto.search.SearchUserResponse;
@@ -22,9 +24,13 @@ import com.backend.naildp.entity.Photo;
 import com.backend.naildp.entity.Post;
 import com.backend.naildp.entity.Tag;
 import com.backend.naildp.entity.TagPost;
+import com.backend.naildp.exception.CustomException;
+import com.backend.naildp.exception.ErrorCode;
 import com.backend.naildp.repository.PostRepository;
 import com.backend.naildp.repository.TagPostRepository;
 import com.backend.naildp.repository.UserRepository;
+import com.backend.naildp.service.post.PostCardAssembler;
+import com.backend.naildp.service.post.PostSearchIndex;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -35,31 +41,80 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class SearchService {
 
+	private static final int RELATED_TAG_LIMIT = 10;
+
 	private final UserRepository userRepository;
 	private final PostRepository postRepository;
 	private final TagPostRepository tagPostRepository;
+	private final PostCardAssembler postCardAssembler;
+	private final PostSearchIndex postSearchIndex;
+	private final RelatedTagIndex relatedTagIndex;
 
 	public List<SearchUserResponse> searchUsers(String nicknameKeyword, String username) {
 		List<SearchUserResponse> searchUserResponses = userRepository.searchByKeyword(nicknameKeyword, username);
 		return searchUserResponses;
 	}
 
-	public PostSummaryResponse searchPosts(Pageable pageable, List<String> postKeywords, String username, Long cursorId) {
-		Slice<Post> posts = postRepository.searchPostByKeyword(pageable, postKeywords, username, cursorId);
+	public PostSummaryResponse searchPosts(Pageable pageable, List<String> postKeywords, String username, Long cursorId,
+		String cursor) {
+		KeysetCursor keysetCursor = resolveCursor(cursorId, cursor);
+		if (!postSearchIndex.isReady()) {
+			Slice<Post> posts = postRepository.searchPostByKeyword(pageable, postKeywords, username, keysetCursor);
+			return postCardAssembler.createSearchSummary(posts, username);
+		}
 
-		if (posts.isEmpty()) {
-			return PostSummaryResponse.createEmptyResponse();
+		// 인덱스는 자신이 색인한 좋아요 수로 정렬하므로 커서의 게시물 id 로 위치를 찾는다.
+		Long cursorPostId = keysetCursor == null ? null : keysetCursor.getIdAsLong();
+		return postCardAssembler.createSearchSummary(
+			searchPostsInIndex(pageable, postKeywords, username, cursorPostId), username);
+	}
+
+	// cursor 를 보내지 않는 이전 클라이언트는 cursor 게시물의 좋아요 수를 조회한다.
+	private KeysetCursor resolveCursor(Long cursorId, String cursor) {
+		if (StringUtils.hasText(cursor)) {
+			return KeysetCursor.decode(cursor);
+		}
+		if (cursorId == null) {
+			return null;
 		}
+		Post cursorPost = postRepository.findById(cursorId)
+			.orElseThrow(() -> new CustomException("검색 커서 게시물을 찾을 수 없습니다.", ErrorCode.NOT_FOUND));
+		return KeysetCursor.of(cursorPost.getLikeCount(), cursorPost.getId());
+	}
+
+	// 인덱스에서 정렬된 id 를 받아 DB 에서 열람 권한 확인 후 조회, 걸러진 만큼 다음 id 를 이어서 조회한다.
+	private Slice<Post> searchPostsInIndex(Pageable pageable, List<String> postKeywords, String username,
+		Long cursorId) {
+		int size = pageable.getPageSize();
+		boolean publicOnly = !StringUtils.hasText(username);
+		List<Post> posts = new ArrayList<>();
+		Long cursor = cursorId;
 
-		List<Post> postsInArchive = postRepository.findPostsInArchive(username);
-		List<Post> likedPosts = postRepository.findLikedPosts(username);
+		while (posts.size() <= size) {
+			List<Long> postIds = postSearchIndex.search(postKeywords, publicOnly, cursor, size + 1);
+			if (postIds.isEmpty()) {
+				break;
+			}
+			posts.addAll(postRepository.findVisiblePostsByIds(postIds, username));
+			if (postIds.size() <= size) {
+				break;
+			}
+			cursor = postIds.get(postIds.size() - 1);
+		}
 
-		return new PostSummaryResponse(posts, postsInArchive, likedPosts);
+		boolean hasNext = posts.size() > size;
+		List<Post> content = hasNext ? new ArrayList<>(posts.subList(0, size)) : posts;
+		return new SliceImpl<>(content, pageable, hasNext);
 	}
 
 	public List<RelatedTagResponse> searchRelatedTagsByKeyword(String keyword, String username) {
 		List<String> keywords = Arrays.stream(keyword.split(" ")).filter(StringUtils::hasText).toList();
 
+		// 메모리 인덱스는 전체 공개 게시물 기준으로 태그 통계와 대표 사진을 미리 계산해 둔다.
+		if (relatedTagIndex.isReady()) {
+			return relatedTagIndex.search(keywords, RELATED_TAG_LIMIT);
+		}
+
 		List<TagPost> tagPosts = tagPostRepository.searchRelatedTags(keywords, username);
 
 		Map<Tag, List<Photo>> tagPostMap = tagPosts.stream()
@@ -70,7 +125,7 @@ public class SearchService {
 						posts -> {
 							Optional<Post> optionalPost = posts.stream()
 								.filter(p -> p.getPhotos().size() == 1)
-								.max(Comparator.comparingLong(p -> p.getPostLikes().size()));
+								.max(Comparator.comparingLong(Post::getLikeCount));
 							if (optionalPost.isPresent()) {
 								return optionalPost.get().getPhotos();
 							}
@@ -82,7 +137,7 @@ public class SearchService {
 
 		return tagPostMap.entrySet().stream()
 			.map(entry -> new RelatedTagResponse(entry.getKey(), entry.getValue()))
-			.limit(10)
+			.limit(RELATED_TAG_LIMIT)
 			.toList();
 	}
 }
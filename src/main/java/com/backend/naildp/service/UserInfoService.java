@@ -4,24 +4,22 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
-import com.backend.naildp.common.Boundary;
 import com.backend.naildp.common.ProfileType;
+import com.backend.naildp.dto.auth.PrincipalEvictEventDto;
 import com.backend.naildp.dto.post.FileRequestDto;
 import com.backend.naildp.dto.userInfo.ProfileRequestDto;
 import com.backend.naildp.dto.userInfo.UserInfoResponseDto;
-import com.backend.naildp.entity.ArchivePost;
 import com.backend.naildp.entity.Profile;
 import com.backend.naildp.entity.User;
+import com.backend.naildp.entity.UserStats;
 import com.backend.naildp.entity.UsersProfile;
 import com.backend.naildp.exception.CustomException;
 import com.backend.naildp.exception.ErrorCode;
-import com.backend.naildp.repository.ArchivePostRepository;
-import com.backend.naildp.repository.FollowRepository;
-import com.backend.naildp.repository.PostRepository;
 import com.backend.naildp.repository.ProfileRepository;
 import com.backend.naildp.repository.UserRepository;
 import com.backend.naildp.repository.UsersProfileRepository;
@@ -35,12 +33,12 @@ import lombok.extern.slf4j.Slf4j;
 public class UserInfoService {
 
 	private final UserRepository userRepository;
-	private final PostRepository postRepository;
 	private final ProfileRepository profileRepository;
-	private final ArchivePostRepository archivePostRepository;
-	private final FollowRepository followRepository;
+	private final FollowGraph followGraph;
+	private final UserStatsService userStatsService;
 	private final S3Service s3Service;
 	private final UsersProfileRepository usersProfileRepository;
+	private final ApplicationEventPublisher applicationEventPublisher;
 
 	@Transactional(readOnly = true)
 	public UserInfoResponseDto getUserInfo(String nickname) {
@@ -48,22 +46,16 @@ public class UserInfoService {
 		User user = userRepository.findByNickname(nickname)
 			.orElseThrow(() -> new CustomException("nickname 으로 회원을 찾을 수 없습니다.", ErrorCode.NOT_FOUND));
 
-		List<ArchivePost> archivePosts = archivePostRepository.findAllArchivePostsByUserNicknameAndTempSaveIsFalse(
-			user.getNickname());
-
-		List<String> followings = followRepository.findFollowingNicknamesByUserNickname(user.getNickname());
-		followings.add(nickname);
-
-		int saveCount = calculateSaveCount(archivePosts, followings, user.getNickname());
+		UserStats userStats = userStatsService.findStats(user);
 
 		return UserInfoResponseDto.builder()
 			.nickname(user.getNickname())
 			.point(user.getPoint())
 			.profileUrl(user.getThumbnailUrl())
-			.postsCount(postRepository.countPostsByUserAndTempSaveIsFalse(user))
-			.saveCount(saveCount)
-			.followerCount(followRepository.countFollowersByUserNickname(user.getNickname()))
-			.followingCount(followRepository.countFollowingsByUserNickname(user.getNickname()))
+			.postsCount(userStats.getPostCount().intValue())
+			.saveCount(userStats.getVisibleSavedPostCount().intValue())
+			.followerCount(userStats.getFollowerCount().intValue())
+			.followingCount(userStats.getFollowingCount().intValue())
 			.build();
 	}
 
@@ -73,23 +65,17 @@ public class UserInfoService {
 		User otherUser = userRepository.findByNickname(otherNickname)
 			.orElseThrow(() -> new CustomException("nickname 으로 회원을 찾을 수 없습니다.", ErrorCode.NOT_FOUND));
 
-		List<ArchivePost> archivePosts = archivePostRepository.findAllArchivePostsByUserNicknameAndTempSaveIsFalse(
-			otherNickname);
-
-		List<String> followings = followRepository.findFollowingNicknamesByUserNickname(otherNickname);
-		followings.add(otherNickname);
-
-		int saveCount = calculateSaveCount(archivePosts, followings, otherNickname);
+		UserStats userStats = userStatsService.findStats(otherUser);
 
 		return UserInfoResponseDto.builder()
 			.nickname(otherUser.getNickname())
 			.point(null)
 			.profileUrl(otherUser.getThumbnailUrl())
-			.postsCount(postRepository.countPostsByUserAndTempSaveIsFalse(otherUser))
-			.saveCount(saveCount)
-			.followerCount(followRepository.countFollowersByUserNickname(otherUser.getNickname()))
-			.followingCount(followRepository.countFollowingsByUserNickname(otherUser.getNickname()))
-			.followingStatus(followRepository.existsByFollowerNicknameAndFollowing(myNickname, otherUser))
+			.postsCount(userStats.getPostCount().intValue())
+			.saveCount(userStats.getVisibleSavedPostCount().intValue())
+			.followerCount(userStats.getFollowerCount().intValue())
+			.followingCount(userStats.getFollowingCount().intValue())
+			.followingStatus(followGraph.follows(myNickname, otherUser))
 			.build();
 	}
 
@@ -152,6 +138,7 @@ public class UserInfoService {
 		profileRepository.save(newProfile);
 		usersProfileRepository.save(newUsersProfile);
 		user.thumbnailUrlUpdate(fileRequestDto.getFileUrl());
+		applicationEventPublisher.publishEvent(new PrincipalEvictEventDto(nickname));
 	}
 
 	@Transactional(readOnly = true)
@@ -195,26 +182,11 @@ public class UserInfoService {
 		}
 
 		user.thumbnailUrlUpdate(profileRequestDto.getProfileUrl());
+		applicationEventPublisher.publishEvent(new PrincipalEvictEventDto(nickname));
 
 	}
 
 	private boolean checkProfileType(Profile profile) {
 		return profile.getProfileType() != ProfileType.CUSTOMIZATION && profile.getProfileType() != ProfileType.AUTO;
 	}
-
-	private int calculateSaveCount(List<ArchivePost> archivePosts, List<String> followings, String userNickname) {
-		if (archivePosts.isEmpty()) {
-			return 0;
-		}
-
-		return (int)archivePosts.stream()
-			.map(ArchivePost::getPost)
-			.filter(post -> {
-				Boundary boundary = post.getBoundary();
-				return boundary == Boundary.ALL ||
-					(boundary == Boundary.FOLLOW && followings.contains(post.getUser().getNickname())) ||
-					(boundary == Boundary.NONE && !post.notWrittenBy(userNickname));
-			})
-			.count();
-	}
 }
@@ -2,6 +2,7 @@ package com.backend.naildp.service;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Slice;
@@ -11,10 +12,8 @@ import org.springframework.transaction.annotation.Transactional;
 import com.backend.naildp.dto.home.PostSummaryResponse;
 import com.backend.naildp.dto.userInfo.TempSaveResponseDto;
 import com.backend.naildp.entity.Post;
-import com.backend.naildp.repository.ArchivePostRepository;
-import com.backend.naildp.repository.FollowRepository;
-import com.backend.naildp.repository.PostLikeRepository;
 import com.backend.naildp.repository.PostRepository;
+import com.backend.naildp.service.post.PostCardAssembler;
 
 import lombok.RequiredArgsConstructor;
 
@@ -24,58 +23,40 @@ import lombok.RequiredArgsConstructor;
 public class UserPostService {
 
 	private final PostRepository postRepository;
-	private final ArchivePostRepository archivePostRepository;
-	private final FollowRepository followRepository;
-	private final PostLikeRepository postLikeRepository;
+	private final FollowGraph followGraph;
+	private final PostCardAssembler postCardAssembler;
 
 	public PostSummaryResponse getUserPosts(String myNickname, String postNickname, int size, long cursorPostId) {
 		PageRequest pageRequest = PageRequest.of(0, size);
 		Slice<Post> postList;
 
-		List<String> followingNickname = followRepository.findFollowingNicknamesByUserNickname(myNickname);
-		followingNickname.add(myNickname);
+		List<UUID> followingIds = followGraph.findFollowingIds(myNickname);
 
 		if (cursorPostId == -1) {
-			postList = postRepository.findUserPostsByFollow(myNickname, postNickname, followingNickname, pageRequest);
+			postList = postRepository.findUserPostsByFollow(myNickname, postNickname, followingIds, pageRequest);
 		} else {
 			postList = postRepository.findUserPostsByIdAndFollow(cursorPostId, myNickname, postNickname,
-				followingNickname,
-				pageRequest);
-		}
-
-		if (postList.isEmpty()) {
-			return PostSummaryResponse.createEmptyResponse();
+				followingIds, pageRequest);
 		}
 
-		List<Post> savedPosts = archivePostRepository.findArchivePostsByArchiveUserNickname(myNickname);
-		List<Post> likedPosts = postLikeRepository.findPostLikesByUserNickname(myNickname);
-
-		return new PostSummaryResponse(postList, savedPosts, likedPosts);
+		return postCardAssembler.createSummary(postList, myNickname);
 	}
 
 	public PostSummaryResponse getLikedUserPosts(String myNickname, String postNickname, int size, long cursorPostId) {
 		PageRequest pageRequest = PageRequest.of(0, size);
 		Slice<Post> postList;
 
-		List<String> followingNickname = followRepository.findFollowingNicknamesByUserNickname(myNickname);
-		followingNickname.add(myNickname);
+		List<UUID> followingIds = followGraph.findFollowingIds(myNickname);
 
 		if (cursorPostId == -1) {
-			postList = postRepository.findLikedUserPostsByFollow(myNickname, postNickname, followingNickname,
+			postList = postRepository.findLikedUserPostsByFollow(myNickname, postNickname, followingIds,
 				pageRequest);
 		} else {
 			postList = postRepository.findLikedUserPostsByIdAndFollow(cursorPostId, myNickname, postNickname,
-				followingNickname,
-				pageRequest);
-		}
-
-		if (postList.isEmpty()) {
-			return PostSummaryResponse.createEmptyResponse();
+				followingIds, pageRequest);
 		}
 
-		List<Post> savedPosts = archivePostRepository.findArchivePostsByArchiveUserNickname(myNickname);
-
-		return PostSummaryResponse.createLikedPostSummary(postList, savedPosts);
+		return postCardAssembler.createLikedSummary(postList, myNickname);
 	}
 
 	public TempSaveResponseDto getTempPost(String nickname) {
@@ -0,0 +1,150 @@
+package com.backend.naildp.service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.backend.naildp.dto.follow.FollowEventDto;
+import com.backend.naildp.dto.post.PostTimelineEventDto;
+import com.backend.naildp.dto.userInfo.UserStatsEventDto;
+import com.backend.naildp.entity.NicknameGram;
+import com.backend.naildp.entity.User;
+import com.backend.naildp.entity.UserStats;
+import com.backend.naildp.repository.NicknameGramRepository;
+import com.backend.naildp.repository.UserStatsRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 사용자 검색용 닉네임 gram 과 게시물, 저장, 팔로워, 팔로잉 수 집계 관리
+ * 게시물, 아카이브, 팔로우, 공개범위 변경이 커밋되면 관련 사용자의 집계를 다시 계산하고,
+ * 다른 사용자의 게시물 삭제처럼 이벤트로 잡히지 않는 변경은 매일 새벽 한 서버에서 사용자 id 구간별로 재계산해 보정한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UserStatsService {
+
+	static final int BACKFILL_CHUNK_SIZE = 500;
+	static final int REFRESH_CHUNK_SIZE = 500;
+	static final String BACKFILL_JOB = "user_stats_backfill";
+	static final String RECONCILE_JOB = "user_stats_reconcile";
+
+	private static final Duration BACKFILL_LOCK_TTL = Duration.ofMinutes(10);
+	private static final Duration RECONCILE_LOCK_TTL = Duration.ofMinutes(30);
+
+	private final UserStatsRepository userStatsRepository;
+	private final NicknameGramRepository nicknameGramRepository;
+	private final SchedulerLock schedulerLock;
+
+	// 회원가입 시 집계 행과 닉네임 gram 생성
+	@Transactional
+	public void register(User user) {
+		userStatsRepository.save(new UserStats(user));
+		nicknameGramRepository.saveAll(NicknameGram.of(user));
+	}
+
+	@Async
+	@Transactional(propagation = Propagation.REQUIRES_NEW)
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+	public void refresh(UserStatsEventDto userStatsEventDto) {
+		userStatsRepository.refreshByNickname(userStatsEventDto.getNickname());
+	}
+
+	@Async
+	@Transactional(propagation = Propagation.REQUIRES_NEW)
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+	public void refreshFollow(FollowEventDto followEventDto) {
+		userStatsRepository.refreshByNickname(followEventDto.getFollowerNickname());
+		userStatsRepository.refreshByNickname(followEventDto.getFollowingNickname());
+	}
+
+	// 공개범위가 바뀐 게시물을 저장한 사용자들의 저장 수 갱신
+	@Async
+	@Transactional(propagation = Propagation.REQUIRES_NEW)
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+	public void refreshSavers(PostTimelineEventDto postTimelineEventDto) {
+		userStatsRepository.refreshSaversOf(postTimelineEventDto.getPostId());
+	}
+
+	// 집계 행이 없으면 (백필 전) 0 으로 조회한다.
+	@Transactional(readOnly = true)
+	public UserStats findStats(User user) {
+		return userStatsRepository.findById(user.getId()).orElseGet(() -> new UserStats(user));
+	}
+
+	/**
+	 * 서버 시작 시 집계 행, gram 이 없는 기존 사용자만 채운다.
+	 */
+	@Async
+	@EventListener(ApplicationReadyEvent.class)
+	public void backfill() {
+		if (!schedulerLock.tryLock(BACKFILL_JOB, BACKFILL_LOCK_TTL)) {
+			return;
+		}
+		int backfilled = fillMissingRows();
+		log.info("사용자 집계 백필 완료 : {}건", backfilled);
+	}
+
+	/**
+	 * 매일 새벽 전체 집계를 사용자 id 구간별로 나눠 다시 계산
+	 */
+	@Async
+	@Scheduled(cron = "0 50 4 * * *")
+	public void reconcile() {
+		if (!schedulerLock.tryLock(RECONCILE_JOB, RECONCILE_LOCK_TTL)) {
+			return;
+		}
+		fillMissingRows();
+
+		UUID lastId = new UUID(0L, 0L);
+		int refreshed = 0;
+		while (true) {
+			List<UUID> ids = userStatsRepository.findIdsAfter(lastId, PageRequest.of(0, REFRESH_CHUNK_SIZE));
+			if (ids.isEmpty()) {
+				break;
+			}
+			refreshed += userStatsRepository.refreshByIds(ids);
+			lastId = ids.get(ids.size() - 1);
+		}
+		log.info("사용자 집계 보정 완료 : {}건", refreshed);
+	}
+
+	// 새로 만든 집계 행은 바로 실제 수로 채운다.
+	private int fillMissingRows() {
+		int backfilled = 0;
+		while (true) {
+			List<User> users = userStatsRepository.findUsersWithoutStats(PageRequest.of(0, BACKFILL_CHUNK_SIZE));
+			if (users.isEmpty()) {
+				break;
+			}
+			userStatsRepository.saveAll(users.stream().map(UserStats::new).toList());
+			userStatsRepository.refreshByIds(users.stream().map(User::getId).toList());
+			backfilled += users.size();
+		}
+
+		while (true) {
+			List<NicknameGram> grams = nicknameGramRepository.findUsersWithoutGrams(
+					PageRequest.of(0, BACKFILL_CHUNK_SIZE)).stream()
+				.flatMap(user -> NicknameGram.of(user).stream())
+				.toList();
+			if (grams.isEmpty()) {
+				break;
+			}
+			nicknameGramRepository.saveAll(grams);
+		}
+		return backfilled;
+	}
+}
@@ -0,0 +1,64 @@
+package com.backend.naildp.service;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.StringUtils;
+
+import com.backend.naildp.dto.home.ViewerSnapshot;
+import com.backend.naildp.dto.home.ViewerSnapshotEvictEventDto;
+import com.backend.naildp.repository.PostRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 피드 응답에 사용하는 조회 사용자 스냅샷 캐시
+ * 좋아요, 저장 변경이 커밋되면 스냅샷을 삭제하고 다음 조회 시 다시 만든다.
+ * 삭제 직전에 DB 를 읽은 조회가 이전 스냅샷을 다시 저장할 수 있으므로 잠시 뒤 한 번 더 삭제한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class ViewerSnapshotService {
+
+	private static final String SNAPSHOT_KEY = "viewer_snapshot:";
+	private static final Duration SNAPSHOT_TTL = Duration.ofMinutes(10);
+	private static final Duration SECOND_EVICT_DELAY = Duration.ofSeconds(1);
+
+	private final RedisTemplate<String, ViewerSnapshot> viewerSnapshotRedisTemplate;
+	private final PostRepository postRepository;
+	private final TaskScheduler taskScheduler;
+
+	public ViewerSnapshot findSnapshot(String nickname) {
+		if (!StringUtils.hasText(nickname)) {
+			return ViewerSnapshot.empty();
+		}
+
+		String key = SNAPSHOT_KEY + nickname;
+		ViewerSnapshot cachedSnapshot = viewerSnapshotRedisTemplate.opsForValue().get(key);
+		if (cachedSnapshot != null) {
+			return cachedSnapshot;
+		}
+
+		ViewerSnapshot snapshot = ViewerSnapshot.of(
+			postRepository.findLikedPostIds(nickname),
+			postRepository.findSavedPostIds(nickname));
+		viewerSnapshotRedisTemplate.opsForValue().set(key, snapshot, SNAPSHOT_TTL);
+		return snapshot;
+	}
+
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void evict(ViewerSnapshotEvictEventDto viewerSnapshotEvictEventDto) {
+		evict(viewerSnapshotEvictEventDto.getNickname());
+	}
+
+	private void evict(String nickname) {
+		String key = SNAPSHOT_KEY + nickname;
+		viewerSnapshotRedisTemplate.delete(key);
+		taskScheduler.schedule(() -> viewerSnapshotRedisTemplate.delete(key), Instant.now().plus(SECOND_EVICT_DELAY));
+	}
+}
@@ -0,0 +1,248 @@
+package com.backend.naildp.service.chat;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.StringUtils;
+
+import com.backend.naildp.common.KeysetCursor;
+import com.backend.naildp.dto.chat.ChatRecommendSummaryResponse;
+import com.backend.naildp.dto.chat.RecommendCandidateDto;
+import com.backend.naildp.dto.follow.FollowEventDto;
+import com.backend.naildp.dto.search.SearchUserResponse;
+import com.backend.naildp.exception.CustomException;
+import com.backend.naildp.exception.ErrorCode;
+import com.backend.naildp.repository.FollowRepository;
+import com.backend.naildp.repository.UserRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 채팅 상대 추천 목록
+ * chat_recommend:{nickname} : 맞팔, 내가 팔로우, 나를 팔로우, 친구의 친구, 팔로워가 많은 사용자 순서의 점수를 가진 sorted set
+ * 조회 시 목록이 없으면 계산해 두고, 팔로우 변경이 커밋되면 두 사용자의 목록에서 상대의 점수만 바꾼다.
+ * 친구의 친구, 인기 사용자는 목록이 만료된 뒤 다시 계산된다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ChatRecommendService {
+
+	static final int FRIEND_OF_FRIEND_LIMIT = 100;
+	static final int POPULAR_USER_LIMIT = 50;
+	static final int MAX_PAGE_SIZE = 100;
+
+	private static final String RECOMMEND_KEY = "chat_recommend:";
+	private static final String READY_SUFFIX = ":ready";
+	private static final Duration RECOMMEND_TTL = Duration.ofHours(6);
+	private static final long TIER_GAP = 1_000_000L;
+
+	private final RedisTemplate<String, String> redisTemplate;
+	private final UserRepository userRepository;
+	private final FollowRepository followRepository;
+
+	/**
+	 * cursor 사용자 다음 순서부터 추천 사용자 조회
+	 *
+	 * @param cursorNickname 이전 페이지 마지막 사용자 닉네임, cursor 를 보내지 않는 이전 클라이언트용
+	 * @param cursor         이전 페이지 마지막 사용자의 (추천 점수, 닉네임) 커서, 둘 다 없으면 처음부터 조회
+	 */
+	@Transactional(readOnly = true)
+	public ChatRecommendSummaryResponse findRecommendUsers(String nickname, String cursorNickname, String cursor,
+		int size) {
+		if (size < 1) {
+			throw new CustomException("조회 개수는 1 이상이어야 합니다.", ErrorCode.INVALID_FORM);
+		}
+		int limit = Math.min(size, MAX_PAGE_SIZE);
+
+		String key = RECOMMEND_KEY + nickname;
+		if (!Boolean.TRUE.equals(redisTemplate.hasKey(key + READY_SUFFIX))) {
+			rebuild(nickname);
+		}
+
+		Long start = findStart(key, cursorNickname, StringUtils.hasText(cursor) ? KeysetCursor.decode(cursor) : null);
+		if (start == null) {
+			log.info("추천 목록에 커서 사용자가 없습니다. nickname : {}, cursor : {}", nickname, cursorNickname);
+			return ChatRecommendSummaryResponse.createEmptyResponse();
+		}
+
+		Set<TypedTuple<String>> tuples = redisTemplate.opsForZSet().rangeWithScores(key, start, start + limit - 1);
+		if (tuples == null || tuples.isEmpty()) {
+			return ChatRecommendSummaryResponse.createEmptyResponse();
+		}
+
+		Map<String, Tier> tiers = new LinkedHashMap<>();
+		TypedTuple<String> last = null;
+		for (TypedTuple<String> tuple : tuples) {
+			tiers.put(tuple.getValue(), Tier.of(tuple.getScore()));
+			last = tuple;
+		}
+
+		Map<String, SearchUserResponse> summaries = userRepository.findUserSummaries(tiers.keySet()).stream()
+			.collect(Collectors.toMap(SearchUserResponse::getNickname, Function.identity()));
+
+		List<SearchUserResponse> responses = new ArrayList<>();
+		tiers.forEach((candidate, tier) -> {
+			SearchUserResponse summary = summaries.get(candidate);
+			if (summary != null) {
+				responses.add(new SearchUserResponse(summary.getNickname(), summary.getProfileUrl(),
+					summary.getPostCount(), summary.getSavedPostCount(), summary.getFollowerCount(),
+					tier.followsMe));
+			}
+		});
+
+		String nextCursor = KeysetCursor.of(last.getScore().longValue(), last.getValue()).encode();
+		return new ChatRecommendSummaryResponse(last.getValue(), nextCursor, responses);
+	}
+
+	/**
+	 * 팔로우, 언팔로우 커밋 후 두 사용자의 추천 목록에서 상대 사용자의 순위만 갱신
+	 * 계산된 목록이 없는 사용자는 다음 조회 시 전체 계산한다.
+	 */
+	@Async
+	@Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+	public void applyFollow(FollowEventDto followEventDto) {
+		String follower = followEventDto.getFollowerNickname();
+		String following = followEventDto.getFollowingNickname();
+		boolean followed = followEventDto.isFollowed();
+		boolean followedBack = followRepository.findFollowByFollowerNicknameAndFollowingNickname(following, follower)
+			.isPresent();
+
+		updateCandidate(follower, following, Tier.between(followed, followedBack));
+		updateCandidate(following, follower, Tier.between(followedBack, followed));
+	}
+
+	private void updateCandidate(String nickname, String candidate, Tier tier) {
+		String key = RECOMMEND_KEY + nickname;
+		if (!Boolean.TRUE.equals(redisTemplate.hasKey(key + READY_SUFFIX))) {
+			return;
+		}
+
+		// 관계가 끊기면 친구의 친구일 수도 있지만 다음 전체 계산까지는 목록에서 뺀다.
+		if (tier == null) {
+			redisTemplate.opsForZSet().remove(key, candidate);
+			return;
+		}
+		redisTemplate.opsForZSet().add(key, candidate, tier.score(0));
+	}
+
+	private void rebuild(String nickname) {
+		List<String> followings = followRepository.findFollowingNicknamesByUserNickname(nickname);
+		Set<String> followers = new HashSet<>(followRepository.findFollowerNicknamesByUserNickname(nickname));
+
+		// 앞 순위 관계가 먼저 들어가고, 이미 들어간 사용자는 덮어쓰지 않는다.
+		Map<String, Double> scores = new LinkedHashMap<>();
+		followings.forEach(following -> scores.put(following,
+			Tier.between(true, followers.contains(following)).score(0)));
+		followers.forEach(follower -> scores.putIfAbsent(follower, Tier.FOLLOWER.score(0)));
+		userRepository.findFriendsOfFriends(nickname, FRIEND_OF_FRIEND_LIMIT).forEach(candidate ->
+			scores.putIfAbsent(candidate.getNickname(), Tier.FRIEND_OF_FRIEND.score(candidate.getWeight())));
+		userRepository.findPopularUsers(POPULAR_USER_LIMIT).forEach(candidate ->
+			scores.putIfAbsent(candidate.getNickname(), Tier.POPULAR.score(candidate.getWeight())));
+		scores.remove(nickname);
+
+		String key = RECOMMEND_KEY + nickname;
+		byte[] rawKey = serialize(key);
+		redisTemplate.executePipelined((RedisCallback<Object>)connection -> {
+			connection.keyCommands().del(rawKey);
+			scores.forEach((candidate, score) -> connection.zSetCommands().zAdd(rawKey, score, serialize(candidate)));
+			connection.keyCommands().expire(rawKey, RECOMMEND_TTL.getSeconds());
+			return null;
+		});
+		redisTemplate.opsForValue().set(key + READY_SUFFIX, "1", RECOMMEND_TTL);
+	}
+
+	/**
+	 * 커서 다음 순위, 커서 사용자가 같은 점수로 남아 있으면 순위로 찾는다.
+	 * 목록에서 빠졌거나 점수가 바뀌었으면 커서의 (점수, 닉네임) 보다 앞선 사용자 수로 찾아 페이지가 끊기지 않게 한다.
+	 * 이전 클라이언트의 닉네임 커서가 목록에 없으면 null
+	 */
+	private Long findStart(String key, String cursorNickname, KeysetCursor cursor) {
+		if (cursor == null) {
+			if (!StringUtils.hasText(cursorNickname)) {
+				return 0L;
+			}
+			Long rank = redisTemplate.opsForZSet().rank(key, cursorNickname);
+			return rank == null ? null : rank + 1;
+		}
+
+		double cursorScore = cursor.getKey();
+		String cursorMember = cursor.getId();
+		Double score = redisTemplate.opsForZSet().score(key, cursorMember);
+		if (score != null && score == cursorScore) {
+			Long rank = redisTemplate.opsForZSet().rank(key, cursorMember);
+			if (rank != null) {
+				return rank + 1;
+			}
+		}
+
+		// 점수는 정수이므로 커서 점수 - 1 까지가 앞선 점수, 같은 점수는 Redis 와 같이 닉네임 바이트 순서로 비교한다.
+		Long lowerScoreCount = redisTemplate.opsForZSet().count(key, Double.NEGATIVE_INFINITY, cursorScore - 1);
+		Set<String> sameScoreMembers = redisTemplate.opsForZSet().rangeByScore(key, cursorScore, cursorScore);
+		byte[] rawCursorMember = serialize(cursorMember);
+		long sameScoreBefore = sameScoreMembers == null ? 0 : sameScoreMembers.stream()
+			.filter(member -> Arrays.compareUnsigned(serialize(member), rawCursorMember) <= 0)
+			.count();
+		return (lowerScoreCount == null ? 0 : lowerScoreCount) + sameScoreBefore;
+	}
+
+	private byte[] serialize(String value) {
+		return value.getBytes(StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * 추천 순위, 점수가 작을수록 앞선다.
+	 * 같은 순위 안에서는 겹치는 팔로우 수, 팔로워 수가 많을수록 앞서고 같으면 닉네임 순이다.
+	 */
+	private enum Tier {
+		MUTUAL(1, true),
+		FOLLOWING(2, false),
+		FOLLOWER(3, true),
+		FRIEND_OF_FRIEND(4, false),
+		POPULAR(5, false);
+
+		private final int order;
+		private final boolean followsMe;
+
+		Tier(int order, boolean followsMe) {
+			this.order = order;
+			this.followsMe = followsMe;
+		}
+
+		private double score(long weight) {
+			return order * TIER_GAP - Math.min(Math.max(weight, 0L), TIER_GAP - 1);
+		}
+
+		private static Tier of(Double score) {
+			return values()[(int)Math.ceil(score / TIER_GAP) - 1];
+		}
+
+		// 두 사용자 사이 팔로우 관계로 정해지는 순위, 관계가 없으면 null
+		private static Tier between(boolean iFollow, boolean followsMe) {
+			if (iFollow) {
+				return followsMe ? MUTUAL : FOLLOWING;
+			}
+			return followsMe ? FOLLOWER : null;
+		}
+	}
+}
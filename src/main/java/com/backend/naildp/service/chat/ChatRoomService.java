@@ -14,9 +14,12 @@ import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
 
+import com.backend.naildp.common.KeysetCursor;
 import com.backend.naildp.dto.chat.ChatListResponse;
 import com.backend.naildp.dto.chat.ChatListSummaryResponse;
+import com.backend.naildp.dto.chat.ChatRecommendSummaryResponse;
 import com.backend.naildp.dto.chat.ChatRoomRequestDto;
 import com.backend.naildp.dto.chat.RenameChatRoomRequestDto;
 import com.backend.naildp.dto.search.SearchUserResponse;
@@ -41,6 +44,7 @@ public class ChatRoomService {
 	private final ChatRoomRepository chatRoomRepository;
 	private final ChatRoomUserRepository chatRoomUserRepository;
 	private final ChatRoomStatusService chatRoomStatusService;
+	private final ChatRecommendService chatRecommendService;
 
 	@Transactional
 	public UUID createChatRoom(String myNickname, ChatRoomRequestDto chatRoomRequestDto) {
@@ -66,19 +70,19 @@ public class ChatRoomService {
 	}
 
 	@Transactional(readOnly = true)
-	public ChatListSummaryResponse getChatList(String nickname, String category, int size, UUID cursorId) {
+	public ChatListSummaryResponse getChatList(String nickname, String category, int size, UUID cursorId,
+		String cursor) {
 		PageRequest pageRequest = PageRequest.of(0, size);
 		Slice<ChatRoomMapping> chatRoomList;
 
 		User user = userRepository.findByNickname(nickname)
 			.orElseThrow(() -> new CustomException("사용자를 찾을 수 없습니다.", ErrorCode.NOT_FOUND));
-		if (cursorId == null) {
+		KeysetCursor keysetCursor = resolveCursor(cursorId, cursor);
+		if (keysetCursor == null) {
 			chatRoomList = chatRoomRepository.findAllChatRoomByNicknameAndCategory(nickname, category, pageRequest);
 		} else {
 			chatRoomList = chatRoomRepository.findAllChatRoomByNicknameAndCategoryAndId(nickname, category,
-				cursorId,
-				pageRequest);
-
+				keysetCursor.getKeyAsDateTime(), keysetCursor.getIdAsUuid(), pageRequest);
 		}
 		if (chatRoomList.isEmpty()) {
 			return ChatListSummaryResponse.createEmptyResponse();
@@ -164,12 +168,9 @@ public class ChatRoomService {
 		chatRoomUser.updateRoomName(request.getChatRoomName());
 	}
 
-	@Transactional(readOnly = true)
-	public List<SearchUserResponse> getRecommendUsers(String nickname) {
-		User user = userRepository.findByNickname(nickname)
-			.orElseThrow(() -> new CustomException("사용자를 찾을 수 없습니다.", ErrorCode.NOT_FOUND));
-
-		return userRepository.findRecommendedUser(user);
+	public ChatRecommendSummaryResponse getRecommendUsers(String nickname, String cursorNickname, String cursor,
+		int size) {
+		return chatRecommendService.findRecommendUsers(nickname, cursorNickname, cursor, size);
 	}
 
 	@Transactional(readOnly = true)
@@ -188,9 +189,9 @@ public class ChatRoomService {
 
 	@Transactional(readOnly = true)
 	public ChatListSummaryResponse searchChatRoomsByName(String nickname, String keyword, Pageable pageable,
-		UUID cursorId) {
-		Slice<ChatListResponse> chatRooms = chatRoomRepository.searchChatRoomsByName(keyword, pageable, cursorId,
-			nickname);
+		UUID cursorId, String cursor) {
+		Slice<ChatListResponse> chatRooms = chatRoomRepository.searchChatRoomsByName(keyword, pageable,
+			resolveCursor(cursorId, cursor), nickname);
 
 		if (chatRooms.isEmpty()) {
 			return ChatListSummaryResponse.createEmptyResponse();
@@ -198,4 +199,17 @@ public class ChatRoomService {
 
 		return ChatListSummaryResponse.of(chatRooms);
 	}
+
+	// cursor 를 보내지 않는 이전 클라이언트는 cursor 채팅방의 마지막 수정 시각을 조회한다.
+	private KeysetCursor resolveCursor(UUID cursorId, String cursor) {
+		if (StringUtils.hasText(cursor)) {
+			return KeysetCursor.decode(cursor);
+		}
+		if (cursorId == null) {
+			return null;
+		}
+		ChatRoom chatRoom = chatRoomRepository.findById(cursorId)
+			.orElseThrow(() -> new CustomException("채팅방을 찾을 수 없습니다", ErrorCode.NOT_FOUND));
+		return KeysetCursor.of(chatRoom.getLastModifiedDate(), chatRoom.getId());
+	}
 }
\ No newline at end of file
@@ -1,12 +1,17 @@
 package com.backend.naildp.service.chat;
 
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
 import org.springframework.stereotype.Service;
 
 import com.backend.naildp.dto.chat.ChatRoomRequestDto;
@@ -37,6 +42,49 @@ public class ChatRoomStatusService {
 		return count != null ? count : 0;  // null이면 0 반환
 	}
 
+	/**
+	 * 메시지 한 건의 받는 사람별 상태를 한 번의 파이프라인으로 갱신
+	 * 접속하지 않은 받는 사람의 안읽은 메시지 수를 늘리고, 보낸 사람과 받는 사람의 최근 대화 상대를 갱신한 뒤
+	 * 받는 사람별 안읽은 메시지 수를 반환한다.
+	 */
+	public Map<String, Integer> recordMessage(String chatRoomId, String sender, List<String> receivers,
+		Set<String> activeReceivers, long timestamp) {
+		Map<String, Integer> unreadCounts = new HashMap<>();
+		if (receivers.isEmpty()) {
+			return unreadCounts;
+		}
+
+		List<Object> results = chatRedisTemplate.executePipelined(new SessionCallback<Object>() {
+			@Override
+			@SuppressWarnings("unchecked")
+			public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+				RedisOperations<String, Object> redisOperations = (RedisOperations<String, Object>)operations;
+				// 받는 사람 순서대로 안읽은 메시지 수 결과를 받는다.
+				receivers.forEach(receiver -> {
+					String key = UNREAD_COUNT_KEY + ":" + chatRoomId + ":" + receiver;
+					if (activeReceivers.contains(receiver)) {
+						redisOperations.opsForValue().get(key);
+					} else {
+						redisOperations.opsForValue().increment(key);
+					}
+				});
+				receivers.forEach(receiver -> {
+					redisOperations.opsForZSet().add(RECENT_USERS_KEY + ":" + sender, receiver, timestamp);
+					redisOperations.opsForZSet().add(RECENT_USERS_KEY + ":" + receiver, sender, timestamp);
+					redisOperations.opsForZSet().removeRange(RECENT_USERS_KEY + ":" + receiver, 0, -11);
+				});
+				redisOperations.opsForZSet().removeRange(RECENT_USERS_KEY + ":" + sender, 0, -11);
+				return null;
+			}
+		});
+
+		for (int i = 0; i < receivers.size(); i++) {
+			Object count = results.get(i);
+			unreadCounts.put(receivers.get(i), count == null ? 0 : ((Number)count).intValue());
+		}
+		return unreadCounts;
+	}
+
 	// 특정 사용자의 최근 대화 상대를 추가하는 메서드
 	public void addRecentUsers(String username, String chatPartner, long timestamp) {
 		chatRedisTemplate.opsForZSet().add(RECENT_USERS_KEY + ":" + username, chatPartner, timestamp);
@@ -0,0 +1,113 @@
+package com.backend.naildp.service.chat;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import org.springframework.stereotype.Component;
+
+import com.backend.naildp.dto.chat.ChatRouteMessageDto;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 채팅 STOMP 메시지 노드 라우팅
+ * Kafka 에서 받은 메시지를 구독 세션이 있는 노드에만 전달한다.
+ * 이 노드의 구독자에게는 바로 로컬 브로커로 보내고, 다른 노드에는 노드별 Redis 채널로 묶어서 한 번 발행한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatRouter implements MessageListener {
+
+	static final String NODE_CHANNEL = "chat_node:";
+
+	private final ChatSubscriptionRegistry chatSubscriptionRegistry;
+	private final SimpMessageSendingOperations template;
+	private final RedisTemplate<String, String> redisTemplate;
+	private final RedisMessageListenerContainer redisMessageListenerContainer;
+	private final ObjectMapper objectMapper;
+
+	@PostConstruct
+	void subscribe() {
+		redisMessageListenerContainer.addMessageListener(this,
+			ChannelTopic.of(NODE_CHANNEL + chatSubscriptionRegistry.getNodeId()));
+	}
+
+	public void send(String destination, Object payload) {
+		sendAll(Map.of(destination, payload));
+	}
+
+	/**
+	 * 목적지별 메시지를 구독 노드로 전달, 구독 노드 조회는 한 번에 하고 노드마다 한 번만 발행한다.
+	 */
+	public void sendAll(Map<String, ?> payloads) {
+		if (payloads.isEmpty()) {
+			return;
+		}
+
+		String localNode = chatSubscriptionRegistry.getNodeId();
+		List<String> destinations = new ArrayList<>(payloads.keySet());
+		List<Set<String>> nodes = chatSubscriptionRegistry.findNodes(destinations);
+
+		Map<String, List<ChatRouteMessageDto>> messagesByNode = new LinkedHashMap<>();
+		for (int i = 0; i < destinations.size(); i++) {
+			String destination = destinations.get(i);
+			Object payload = payloads.get(destination);
+			for (String node : nodes.get(i)) {
+				if (node.equals(localNode)) {
+					template.convertAndSend(destination, payload);
+				} else {
+					messagesByNode.computeIfAbsent(node, key -> new ArrayList<>())
+						.add(new ChatRouteMessageDto(destination, objectMapper.valueToTree(payload)));
+				}
+			}
+		}
+		messagesByNode.forEach(this::publish);
+	}
+
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		try {
+			List<ChatRouteMessageDto> messages = objectMapper.readValue(message.getBody(),
+				new TypeReference<List<ChatRouteMessageDto>>() {
+				});
+			messages.forEach(routeMessage -> template.convertAndSend(routeMessage.getDestination(),
+				routeMessage.getPayload()));
+		} catch (IOException e) {
+			log.error("채팅 라우팅 메시지 역직렬화 실패 : {}", e.getMessage());
+		}
+	}
+
+	private void publish(String node, List<ChatRouteMessageDto> messages) {
+		Long receivers = redisTemplate.convertAndSend(NODE_CHANNEL + node, write(messages));
+		if (receivers != null && receivers == 0) {
+			// 채널을 듣는 노드가 없으면 종료된 노드이므로 구독 목록에서 지운다.
+			log.info("종료된 채팅 노드 {} 를 구독 목록에서 제거", node);
+			chatSubscriptionRegistry.removeNode(node,
+				messages.stream().map(ChatRouteMessageDto::getDestination).toList());
+		}
+	}
+
+	private String write(List<ChatRouteMessageDto> messages) {
+		try {
+			return objectMapper.writeValueAsString(messages);
+		} catch (JsonProcessingException e) {
+			throw new IllegalArgumentException("채팅 라우팅 메시지 직렬화 실패");
+		}
+	}
+}
@@ -0,0 +1,120 @@
+package com.backend.naildp.service.chat;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 노드(서버)별 STOMP 구독 목록
+ * 목적지마다 Redis 해시에 노드 id -> 구독 수를 저장해 메시지를 받아야 하는 노드만 찾을 수 있게 한다.
+ * 세션의 구독 id -> 목적지는 노드 메모리에 두고 구독 해제, 연결 종료 때 구독 수를 함께 줄인다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ChatSubscriptionRegistry {
+
+	private static final String ROUTE_KEY = "chat_route";
+
+	// 구독 수를 줄이고 0 이 되면 노드를 목적지에서 지운다.
+	private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+		"local count = redis.call('HINCRBY', KEYS[1], ARGV[1], -1) "
+			+ "if count <= 0 then redis.call('HDEL', KEYS[1], ARGV[1]) end "
+			+ "return count", Long.class);
+
+	private final RedisTemplate<String, String> redisTemplate;
+	private final String nodeId = UUID.randomUUID().toString();
+	// 세션 id -> (구독 id -> 목적지)
+	private final Map<String, Map<String, String>> subscriptions = new ConcurrentHashMap<>();
+
+	public String getNodeId() {
+		return nodeId;
+	}
+
+	public void subscribe(String sessionId, String subscriptionId, String destination) {
+		if (sessionId == null || subscriptionId == null || destination == null) {
+			return;
+		}
+		String previous = subscriptions.computeIfAbsent(sessionId, id -> new ConcurrentHashMap<>())
+			.put(subscriptionId, destination);
+		if (previous != null) {
+			release(previous);
+		}
+		redisTemplate.execute((RedisCallback<Long>)connection -> connection.hashCommands()
+			.hIncrBy(bytes(routeKey(destination)), bytes(nodeId), 1));
+	}
+
+	public void unsubscribe(String sessionId, String subscriptionId) {
+		Map<String, String> sessionSubscriptions = subscriptions.get(sessionId);
+		if (sessionSubscriptions == null || subscriptionId == null) {
+			return;
+		}
+		String destination = sessionSubscriptions.remove(subscriptionId);
+		if (destination != null) {
+			release(destination);
+		}
+	}
+
+	public void disconnect(String sessionId) {
+		Map<String, String> sessionSubscriptions = subscriptions.remove(sessionId);
+		if (sessionSubscriptions != null) {
+			sessionSubscriptions.values().forEach(this::release);
+		}
+	}
+
+	/**
+	 * 목적지별 구독 세션이 있는 노드 id, 한 번의 파이프라인으로 조회한다.
+	 */
+	@SuppressWarnings("unchecked")
+	public List<Set<String>> findNodes(List<String> destinations) {
+		List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>)connection -> {
+			destinations.forEach(destination -> connection.hashCommands().hKeys(bytes(routeKey(destination))));
+			return null;
+		});
+
+		List<Set<String>> nodes = new ArrayList<>(destinations.size());
+		for (Object result : results) {
+			nodes.add(result == null ? Set.of() : (Set<String>)result);
+		}
+		return nodes;
+	}
+
+	// 채널 구독자가 없는(종료된) 노드를 목적지 구독 목록에서 지운다.
+	public void removeNode(String node, Collection<String> destinations) {
+		redisTemplate.executePipelined((RedisCallback<Object>)connection -> {
+			destinations.forEach(destination -> connection.hashCommands()
+				.hDel(bytes(routeKey(destination)), bytes(node)));
+			return null;
+		});
+	}
+
+	@PreDestroy
+	void clear() {
+		subscriptions.keySet().forEach(this::disconnect);
+	}
+
+	private void release(String destination) {
+		redisTemplate.execute(RELEASE_SCRIPT, List.of(routeKey(destination)), nodeId);
+	}
+
+	private String routeKey(String destination) {
+		return ROUTE_KEY + ":" + destination;
+	}
+
+	private byte[] bytes(String value) {
+		return value.getBytes(StandardCharsets.UTF_8);
+	}
+}
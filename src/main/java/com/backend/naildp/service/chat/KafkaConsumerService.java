@@ -1,12 +1,14 @@
 package com.backend.naildp.service.chat;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.UUID;
 
 import org.springframework.kafka.annotation.KafkaListener;
-import org.springframework.messaging.simp.SimpMessageSendingOperations;
 import org.springframework.stereotype.Component;
 
 import com.backend.naildp.dto.chat.ChatMessageDto;
+import com.backend.naildp.dto.chat.ChatUpdateBatchDto;
 import com.backend.naildp.dto.chat.ChatUpdateDto;
 import com.backend.naildp.dto.chat.TempRoomSwitchDto;
 import com.backend.naildp.repository.ChatRoomUserRepository;
@@ -20,15 +22,16 @@ import lombok.extern.slf4j.Slf4j;
 public class KafkaConsumerService {
 
 	private static final String TOPIC_NAME = "chatting";
-	private static final String CHAT_UPDATE_TOPIC = "chatUpdates";
+	private static final String CHAT_UPDATE_TOPIC = "chatUpdateBatches";
 
-	private final SimpMessageSendingOperations template;
+	private final ChatRouter chatRouter;
 	private final ChatRoomUserRepository chatRoomUserRepository;
 
-	@KafkaListener(topics = TOPIC_NAME)
+	@KafkaListener(topics = TOPIC_NAME, containerFactory = "kafkaListenerContainerFactory")
 	public void listenMessage(ChatMessageDto chatMessageDto) {
 		try {
-			template.convertAndSend("/sub/chat/" + chatMessageDto.getChatRoomId(), chatMessageDto);
+			// 채팅방을 구독 중인 노드로만 전달
+			chatRouter.send("/sub/chat/" + chatMessageDto.getChatRoomId(), chatMessageDto);
 			log.info("수신 채팅방: {}", chatMessageDto.getChatRoomId());
 
 		} catch (Exception e) {
@@ -36,24 +39,25 @@ public class KafkaConsumerService {
 		}
 	}
 
-	@KafkaListener(topics = CHAT_UPDATE_TOPIC)
-	public void listenForChatUpdates(ChatUpdateDto chatUpdateDto) {
+	@KafkaListener(topics = CHAT_UPDATE_TOPIC, containerFactory = "chatUpdateKafkaListenerContainerFactory")
+	public void listenForChatUpdates(ChatUpdateBatchDto chatUpdateBatchDto) {
 		try {
-			String destination = "/sub/chat/list/updates/" + chatUpdateDto.getReceiver();
-			template.convertAndSend(destination, chatUpdateDto);
-			// });
-			log.info("Update 수신 채팅방: {}", chatUpdateDto.getChatRoomId());
+			Map<String, ChatUpdateDto> updates = new LinkedHashMap<>();
+			chatUpdateBatchDto.toChatUpdates().forEach(chatUpdateDto -> updates.put(
+				"/sub/chat/list/updates/" + chatUpdateDto.getReceiver(), chatUpdateDto));
+			chatRouter.sendAll(updates);
+			log.info("Update 수신 채팅방: {}", chatUpdateBatchDto.getChatRoomId());
 
 		} catch (Exception e) {
 			throw new RuntimeException("예외 발생 : " + e.getMessage());
 		}
 	}
 
-	@KafkaListener(topics = "chatRoomSwitch")
+	@KafkaListener(topics = "chatRoomSwitch", containerFactory = "chatRoomSwitchKafkaListenerContainerFactory")
 	public void listenChatRoomSwitch(TempRoomSwitchDto tempRoomSwitchDto) {
 		UUID newChatRoomId = tempRoomSwitchDto.getNewChatRoomId();
 		String sender = tempRoomSwitchDto.getSender();
 
-		template.convertAndSend("/topic/chat/" + sender + "/newRoom", newChatRoomId);
+		chatRouter.send("/topic/chat/" + sender + "/newRoom", newChatRoomId);
 	}
 }
\ No newline at end of file
@@ -7,7 +7,7 @@ import org.springframework.kafka.support.SendResult;
 import org.springframework.stereotype.Service;
 
 import com.backend.naildp.dto.chat.ChatMessageDto;
-import com.backend.naildp.dto.chat.ChatUpdateDto;
+import com.backend.naildp.dto.chat.ChatUpdateBatchDto;
 import com.backend.naildp.dto.chat.TempRoomSwitchDto;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
@@ -20,17 +20,19 @@ import lombok.extern.slf4j.Slf4j;
 public class KafkaProducerService {
 
 	private static final String TOPIC_NAME = "chatting";
-	private static final String CHAT_UPDATE_TOPIC = "chatUpdates";
+	private static final String CHAT_UPDATE_TOPIC = "chatUpdateBatches";
 
 	private final KafkaTemplate<String, ChatMessageDto> kafkaTemplate;
-	private final KafkaTemplate<String, ChatUpdateDto> updateKafkaTemplate;
+	private final KafkaTemplate<String, ChatUpdateBatchDto> updateKafkaTemplate;
 	private final KafkaTemplate<String, TempRoomSwitchDto> switchKafkaTemplate;
 
 	private final ObjectMapper objectMapper = new ObjectMapper();
 
 	public void send(ChatMessageDto chatMessageDto) {
 
-		CompletableFuture<SendResult<String, ChatMessageDto>> future = kafkaTemplate.send(TOPIC_NAME, chatMessageDto);
+		// 채팅방 ID 를 키로 보내 같은 채팅방 메시지는 한 파티션에서 순서대로 처리
+		CompletableFuture<SendResult<String, ChatMessageDto>> future = kafkaTemplate.send(TOPIC_NAME,
+			chatMessageDto.getChatRoomId(), chatMessageDto);
 
 		future.whenComplete((result, ex) -> {
 			if (ex != null) {
@@ -42,16 +44,17 @@ public class KafkaProducerService {
 		});
 	}
 
-	public void sendChatUpdate(ChatUpdateDto chatUpdateDto) {
-		CompletableFuture<SendResult<String, ChatUpdateDto>> future = updateKafkaTemplate.send(CHAT_UPDATE_TOPIC,
-			chatUpdateDto);
+	public void sendChatUpdate(ChatUpdateBatchDto chatUpdateBatchDto) {
+		CompletableFuture<SendResult<String, ChatUpdateBatchDto>> future = updateKafkaTemplate.send(CHAT_UPDATE_TOPIC,
+			chatUpdateBatchDto.getChatRoomId().toString(), chatUpdateBatchDto);
 
 		future.whenComplete((result, ex) -> {
 			if (ex != null) {
-				log.error("Unable to send update=[" + chatUpdateDto.getLastMessage() + "] due to : " + ex.getMessage());
+				log.error("Unable to send update=[" + chatUpdateBatchDto.getLastMessage() + "] due to : "
+					+ ex.getMessage());
 			} else {
-				log.info("Update 채팅방: {}, 메시지: {}", chatUpdateDto.getChatRoomId(),
-					chatUpdateDto.getLastMessage());
+				log.info("Update 채팅방: {}, 메시지: {}, 받는 사람: {}명", chatUpdateBatchDto.getChatRoomId(),
+					chatUpdateBatchDto.getLastMessage(), chatUpdateBatchDto.getReceivers().size());
 			}
 		});
 	}
@@ -59,7 +62,7 @@ public class KafkaProducerService {
 	public void sendChatRoomSwitchEvent(TempRoomSwitchDto switchDto) {
 
 		CompletableFuture<SendResult<String, TempRoomSwitchDto>> future = switchKafkaTemplate.send("chatRoomSwitch",
-			switchDto);
+			switchDto.getSender(), switchDto);
 
 		future.whenComplete((result, ex) -> {
 			if (ex != null) {
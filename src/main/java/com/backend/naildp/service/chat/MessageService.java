@@ -2,18 +2,25 @@ package com.backend.naildp.service.chat;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
 import org.springframework.web.multipart.MultipartFile;
 
+import com.backend.naildp.common.KeysetCursor;
 import com.backend.naildp.common.RoomType;
 import com.backend.naildp.dto.chat.ChatMessageDto;
 import com.backend.naildp.dto.chat.ChatRoomRequestDto;
-import com.backend.naildp.dto.chat.ChatUpdateDto;
+import com.backend.naildp.dto.chat.ChatUpdateBatchDto;
 import com.backend.naildp.dto.chat.MessageResponseDto;
 import com.backend.naildp.dto.chat.MessageSummaryResponse;
 import com.backend.naildp.dto.chat.TempRoomSwitchDto;
@@ -37,6 +44,8 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 @Service
 public class MessageService {
+	private static final int MAX_PAGE_SIZE = 100;
+
 	private final UserRepository userRepository;
 	private final ChatRoomRepository chatRoomRepository;
 	private final ChatRoomUserRepository chatRoomUserRepository;
@@ -72,10 +81,12 @@ public class MessageService {
 		}
 
 		ChatMessage chatMessage = new ChatMessage(chatMessageDto, chatRoom.getId(), user);
+		chatMessage.updateSeq(messageStatusService.nextSeq(chatRoom.getId().toString()));
 		chatMessageRepository.save(chatMessage);
 		chatRoom.updateLastMessage(chatMessageDto.getContent());
 
 		chatMessageDto.setChatRoomId(chatRoom.getId().toString());
+		chatMessageDto.setSeq(chatMessage.getSeq());
 
 		// 메시지 전송
 		kafkaProducerService.send(chatMessageDto);
@@ -191,22 +202,44 @@ public class MessageService {
 
 	}
 
-	// 특정 채팅방 내 메시지 조회
+	// 특정 채팅방 내 메시지 조회, 최신 메시지부터 커서 이전 구간을 size 만큼 조회해 시간순으로 반환
 	@Transactional(readOnly = true)
-	public MessageSummaryResponse getMessagesByRoomId(UUID chatRoomId, String nickname) {
+	public MessageSummaryResponse getMessagesByRoomId(UUID chatRoomId, String nickname, int size, String cursor) {
+		if (size < 1 || size > MAX_PAGE_SIZE) {
+			throw new CustomException("조회 개수는 1 ~ " + MAX_PAGE_SIZE + " 사이여야 합니다.", ErrorCode.INVALID_FORM);
+		}
+
 		ChatRoomUser chatRoomUser = chatRoomUserRepository.findByChatRoomIdAndUserNickname(chatRoomId, nickname)
 			.orElse(null);
 		LocalDateTime rejoinedAt = (chatRoomUser != null) ? chatRoomUser.getRejoinedAt() : null;
 
-		// 메시지 조회
-		List<ChatMessage> messages = getChatMessages(chatRoomId, rejoinedAt);
+		// 재입장 시점 이후 메시지 조회
+		KeysetCursor keysetCursor = StringUtils.hasText(cursor) ? KeysetCursor.decode(cursor) : null;
+		Slice<ChatMessage> messageSlice = chatMessageRepository.findMessagesBeforeCursor(chatRoomId.toString(),
+			rejoinedAt, keysetCursor, PageRequest.of(0, size));
+		List<ChatMessage> messages = new ArrayList<>(messageSlice.getContent());
+
+		// 참여자별 마지막으로 읽은 순번으로 메시지별 읽지 않은 사용자 수 계산
+		List<String> participants = chatRoomUserRepository.findNicknamesByChatRoomIdAndIsExitedFalse(chatRoomId);
+		Map<Long, Long> unreadUserCounts = messageStatusService.getUnreadUserCounts(chatRoomId.toString(),
+			participants, messages.stream().map(ChatMessage::getSeq).toList());
+		String nextCursor = null;
+		if (messageSlice.hasNext()) {
+			ChatMessage oldestMessage = messages.get(messages.size() - 1);
+			nextCursor = KeysetCursor.of(oldestMessage.getCreatedAt(), oldestMessage.getId()).encode();
+		}
+		Collections.reverse(messages);
 
-		List<MessageResponseDto> messageDto = messages.stream().map(message -> {
-			Long unreadUserCount = messageStatusService.getUnreadUserCount(chatRoomId.toString(), message.getId());
-			return MessageResponseDto.of(message, unreadUserCount);
-		}).collect(Collectors.toList());
+		List<MessageResponseDto> messageDto = messages.stream()
+			.map(message -> MessageResponseDto.of(message,
+				message.getSeq() == null ? 0L : unreadUserCounts.getOrDefault(message.getSeq(), 0L)))
+			.collect(Collectors.toList());
 
-		String firstUnreadMessageId = messageStatusService.getFirstUnreadMessageId(chatRoomId.toString(), nickname);
+		long lastReadSeq = messageStatusService.getLastReadSeq(chatRoomId.toString(), nickname);
+		String firstUnreadMessageId = chatMessageRepository
+			.findFirstByChatRoomIdAndSeqGreaterThanOrderBySeqAsc(chatRoomId.toString(), lastReadSeq)
+			.map(ChatMessage::getId)
+			.orElse(null);
 
 		// 채팅방과 유저 정보 조회
 		ChatRoom chatRoom = chatRoomRepository.findById(chatRoomId).orElse(null);
@@ -214,7 +247,7 @@ public class MessageService {
 			? getTempChatUserInfo(chatRoomId, nickname)
 			: getActiveChatUserInfo(chatRoomId, nickname);
 
-		return new MessageSummaryResponse(messageDto, firstUnreadMessageId, chatUserInfo);
+		return new MessageSummaryResponse(messageDto, firstUnreadMessageId, chatUserInfo, nextCursor);
 	}
 
 	// 최초로 메시지 보냈을 때, 실제로 생성되는 채팅방
@@ -250,30 +283,30 @@ public class MessageService {
 	private void updateChatRoomForParticipants(UUID chatRoomId, ChatMessageDto chatMessageDto,
 		ChatMessage chatMessage) {
 		List<String> participants = getNicknamesByChatRoom(chatRoomId);
+		String sender = chatMessageDto.getSender();
+		List<String> receivers = participants.stream()
+			.filter(participant -> !participant.equals(sender))
+			.toList();
+
+		// 보낸 사람과 채팅방에 들어와 있는 받는 사람은 이 메시지까지 읽음
+		Set<String> activeReceivers = sessionService.findActiveUsers(receivers);
+		List<String> readers = new ArrayList<>(activeReceivers);
+		readers.add(sender);
+		messageStatusService.markRead(chatRoomId.toString(), readers, chatMessage.getSeq());
+		if (receivers.isEmpty()) {
+			return;
+		}
 
-		participants.forEach(participant -> {
-			if (!participant.equals(chatMessageDto.getSender())) {
-				// 채팅방에 들어와 있는지 확인
-				boolean isActive = sessionService.isSessionExist(participant);
-				if (!isActive) {
-					chatRoomStatusService.incrementUnreadCount(chatRoomId.toString(), participant);
-					messageStatusService.setFirstUnreadMessageId(chatRoomId.toString(), participant,
-						chatMessage.getId());
-				}
-				// 최근 대화 상대 저장
-				chatRoomStatusService.addRecentUsers(chatMessageDto.getSender(), participant,
-					System.currentTimeMillis());
-				chatRoomStatusService.addRecentUsers(participant, chatMessageDto.getSender(),
-					System.currentTimeMillis());
-
-				// 안읽은 메시지 업데이트
-				int unreadCount = chatRoomStatusService.getUnreadCount(chatRoomId.toString(), participant);
-				ChatUpdateDto chatUpdateDto = new ChatUpdateDto(chatRoomId, unreadCount,
-					chatMessageDto.getContent(), LocalDateTime.now(), chatMessageDto.getSender(), participant);
-
-				kafkaProducerService.sendChatUpdate(chatUpdateDto);
-			}
-		});
+		// 안읽은 메시지 수, 최근 대화 상대를 한 번에 갱신
+		Map<String, Integer> unreadCounts = chatRoomStatusService.recordMessage(chatRoomId.toString(), sender,
+			receivers, activeReceivers, System.currentTimeMillis());
+
+		// 받는 사람 목록을 담아 채팅 목록 업데이트 한 건 전송
+		List<ChatUpdateBatchDto.Receiver> updateReceivers = receivers.stream()
+			.map(receiver -> new ChatUpdateBatchDto.Receiver(receiver, unreadCounts.getOrDefault(receiver, 0)))
+			.toList();
+		kafkaProducerService.sendChatUpdate(new ChatUpdateBatchDto(chatRoomId, chatMessageDto.getContent(),
+			LocalDateTime.now(), sender, updateReceivers));
 	}
 
 	// 특정 채팅방 참여자 리스트 가져오기
@@ -297,14 +330,6 @@ public class MessageService {
 			.collect(Collectors.toList());
 	}
 
-	// 재입장 시점을 기준으로 메시지 조회
-	private List<ChatMessage> getChatMessages(UUID chatRoomId, LocalDateTime rejoinedAt) {
-		if (rejoinedAt == null) {
-			return chatMessageRepository.findAllByChatRoomId(chatRoomId.toString());
-		}
-		return chatMessageRepository.findAllByChatRoomIdAndCreatedAtAfter(chatRoomId.toString(), rejoinedAt);
-	}
-
 	// 임시 채팅방 유저 정보 조회
 	private List<MessageSummaryResponse.ChatUserInfoResponse> getTempChatUserInfo(UUID chatRoomId, String nickname) {
 		ChatRoomRequestDto chatRoomRequestDto = chatRoomStatusService.getTempChatRoom(chatRoomId);
@@ -350,6 +375,7 @@ public class MessageService {
 			.content(content)
 			.media(mediaUrls)
 			.mention(new ArrayList<>())
+			.seq(messageStatusService.nextSeq(chatRoomId.toString()))
 			.build();
 	}
 
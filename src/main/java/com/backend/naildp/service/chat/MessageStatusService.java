@@ -1,49 +1,176 @@
 package com.backend.naildp.service.chat;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.GenericToStringSerializer;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 
+import com.backend.naildp.service.SchedulerLock;
+
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
+/**
+ * 채팅방 메시지 읽음 상태
+ * 채팅방마다 메시지 순번(seq)을 1씩 증가시켜 부여하고, 참여자별로 마지막으로 읽은 순번만 저장한다.
+ * 메시지를 읽지 않은 사용자 수는 마지막으로 읽은 순번이 메시지 순번보다 작은 참여자 수다.
+ */
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class MessageStatusService {
 	private final RedisTemplate<String, Object> chatRedisTemplate;
-	private static final String UNREAD_USER_KEY = "unread_user";
-	private static final String FIRST_UNREAD_MESSAGE_KEY = "first_unread_message";
+	private final SchedulerLock schedulerLock;
+	private static final String MESSAGE_SEQ_KEY = "message_seq";
+	private static final String READ_SEQ_KEY = "read_seq";
+
+	private static final String[] LEGACY_READ_KEY_PATTERNS = {"unread_user:*", "first_unread_message:*"};
+	private static final String LEGACY_CLEANUP_JOB = "chat_legacy_read_state_cleanup";
+	private static final int LEGACY_CLEANUP_BATCH_SIZE = 500;
 
-	// 메시지를 읽지 않은 사용자 추가
-	public void addUnreadUser(String chatRoomId, String messageId, String userId) {
-		String key = UNREAD_USER_KEY + ":" + chatRoomId + ":" + messageId;
-		chatRedisTemplate.opsForSet().add(key, userId);
+	// 마지막으로 읽은 순번은 커질 때만 갱신, 순번을 넘기지 않으면 채팅방의 현재 순번까지 읽음 처리
+	private static final RedisScript<Long> MARK_READ_SCRIPT = new DefaultRedisScript<>(
+		"local seq = tonumber(ARGV[1]) "
+			+ "if not seq then seq = tonumber(redis.call('GET', KEYS[1]) or '0') end "
+			+ "for i = 2, #ARGV do "
+			+ "local current = tonumber(redis.call('HGET', KEYS[2], ARGV[i]) or '0') "
+			+ "if seq > current then redis.call('HSET', KEYS[2], ARGV[i], string.format('%d', seq)) end "
+			+ "end "
+			+ "return seq", Long.class);
+
+	// 채팅방 메시지 순번 발급
+	public Long nextSeq(String chatRoomId) {
+		return chatRedisTemplate.opsForValue().increment(MESSAGE_SEQ_KEY + ":" + chatRoomId);
 	}
 
-	// 메시지를 읽은 사용자 제거
-	public void removeUnreadUser(String chatRoomId, String messageId, String userId) {
-		String key = UNREAD_USER_KEY + ":" + chatRoomId + ":" + messageId;
-		chatRedisTemplate.opsForSet().remove(key, userId);
+	// 참여자들이 seq 번 메시지까지 읽음
+	public void markRead(String chatRoomId, Collection<String> userIds, Long seq) {
+		if (userIds.isEmpty()) {
+			return;
+		}
+		markRead(chatRoomId, userIds, String.valueOf(seq));
 	}
 
-	// 메시지별 읽지 않은 사용자 수 조회
-	public Long getUnreadUserCount(String chatRoomId, String messageId) {
-		String key = UNREAD_USER_KEY + ":" + chatRoomId + ":" + messageId;
-		return chatRedisTemplate.opsForSet().size(key);
+	// 참여자가 채팅방의 모든 메시지를 읽음
+	public void markAllRead(String chatRoomId, String userId) {
+		markRead(chatRoomId, List.of(userId), "");
+	}
+
+	public long getLastReadSeq(String chatRoomId, String userId) {
+		return findLastReadSeqs(chatRoomId, List.of(userId))[0];
+	}
+
+	// 메시지 순번별 읽지 않은 사용자 수, 참여자들의 마지막으로 읽은 순번을 한 번에 조회해 계산한다.
+	public Map<Long, Long> getUnreadUserCounts(String chatRoomId, List<String> participants, List<Long> seqs) {
+		Map<Long, Long> unreadUserCounts = new HashMap<>();
+		if (participants.isEmpty() || seqs.isEmpty()) {
+			return unreadUserCounts;
+		}
+
+		long[] lastReadSeqs = findLastReadSeqs(chatRoomId, participants);
+		Arrays.sort(lastReadSeqs);
+		seqs.stream()
+			.filter(Objects::nonNull)
+			.forEach(seq -> unreadUserCounts.put(seq, (long)countLessThan(lastReadSeqs, seq)));
+		return unreadUserCounts;
 	}
 
-	// 특정 채팅방의 사용자별 최초로 읽지 않은 메시지
-	public void setFirstUnreadMessageId(String chatRoomId, String userId, String messageId) {
-		String key = FIRST_UNREAD_MESSAGE_KEY + ":" + chatRoomId + ":" + userId;
-		// 첫 번째 읽지 않은 메시지가 설정되지 않은 경우에만 설정
-		chatRedisTemplate.opsForValue().setIfAbsent(key, messageId);
+	/**
+	 * 메시지별 읽지 않은 사용자 Set 과 첫 번째 안읽은 메시지 키는 읽음 순번으로 바뀐 뒤 쓰이지 않으므로 한 서버에서 지운다.
+	 */
+	@Async
+	@EventListener(ApplicationReadyEvent.class)
+	public void deleteLegacyReadState() {
+		if (!schedulerLock.tryLock(LEGACY_CLEANUP_JOB, Duration.ofDays(1))) {
+			return;
+		}
+
+		for (String pattern : LEGACY_READ_KEY_PATTERNS) {
+			Long deleted = chatRedisTemplate.execute((RedisCallback<Long>)connection -> {
+				long count = 0;
+				List<byte[]> keys = new ArrayList<>();
+				ScanOptions options = ScanOptions.scanOptions().match(pattern).count(LEGACY_CLEANUP_BATCH_SIZE).build();
+				try (Cursor<byte[]> cursor = connection.keyCommands().scan(options)) {
+					while (cursor.hasNext()) {
+						keys.add(cursor.next());
+						if (keys.size() == LEGACY_CLEANUP_BATCH_SIZE) {
+							count += unlink(connection, keys);
+						}
+					}
+				}
+				return count + unlink(connection, keys);
+			});
+			log.info("이전 읽음 상태 키 삭제 : pattern = {}, {}건", pattern, deleted);
+		}
+	}
+
+	private void markRead(String chatRoomId, Collection<String> userIds, String seq) {
+		List<String> args = new ArrayList<>(userIds.size() + 1);
+		args.add(seq);
+		args.addAll(userIds);
+		chatRedisTemplate.execute(MARK_READ_SCRIPT, StringRedisSerializer.UTF_8,
+			new GenericToStringSerializer<>(Long.class),
+			List.of(MESSAGE_SEQ_KEY + ":" + chatRoomId, READ_SEQ_KEY + ":" + chatRoomId), args.toArray());
+	}
+
+	private long unlink(RedisConnection connection, List<byte[]> keys) {
+		if (keys.isEmpty()) {
+			return 0;
+		}
+		Long unlinked = connection.keyCommands().unlink(keys.toArray(byte[][]::new));
+		keys.clear();
+		return unlinked == null ? 0 : unlinked;
+	}
+
+	private long[] findLastReadSeqs(String chatRoomId, List<String> userIds) {
+		byte[] key = serialize(READ_SEQ_KEY + ":" + chatRoomId);
+		byte[][] fields = userIds.stream().map(this::serialize).toArray(byte[][]::new);
+		List<byte[]> values = chatRedisTemplate.execute(
+			(RedisCallback<List<byte[]>>)connection -> connection.hashCommands().hMGet(key, fields));
+
+		long[] lastReadSeqs = new long[userIds.size()];
+		for (int i = 0; values != null && i < values.size(); i++) {
+			byte[] value = values.get(i);
+			lastReadSeqs[i] = value == null ? 0L : Long.parseLong(new String(value, StandardCharsets.UTF_8));
+		}
+		return lastReadSeqs;
 	}
 
-	public String getFirstUnreadMessageId(String chatRoomId, String userId) {
-		String key = FIRST_UNREAD_MESSAGE_KEY + ":" + chatRoomId + ":" + userId;
-		return (String)chatRedisTemplate.opsForValue().get(key);
+	// 정렬된 배열에서 seq 보다 작은 값의 개수
+	private int countLessThan(long[] sorted, long seq) {
+		int low = 0;
+		int high = sorted.length;
+		while (low < high) {
+			int mid = (low + high) >>> 1;
+			if (sorted[mid] < seq) {
+				low = mid + 1;
+			} else {
+				high = mid;
+			}
+		}
+		return low;
 	}
 
-	public void resetFirstUnreadMessageId(String chatRoomId, String userId) {
-		String key = FIRST_UNREAD_MESSAGE_KEY + ":" + chatRoomId + ":" + userId;
-		chatRedisTemplate.delete(key);
+	private byte[] serialize(String value) {
+		return value.getBytes(StandardCharsets.UTF_8);
 	}
 }
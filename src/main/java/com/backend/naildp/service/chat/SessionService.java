@@ -1,5 +1,9 @@
 package com.backend.naildp.service.chat;
 
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 
@@ -28,6 +32,23 @@ public class SessionService {
 		return redisSessionTemplate.hasKey(generateSessionKey(userId));
 	}
 
+	// 여러 사용자의 접속 여부를 한 번에 조회
+	public Set<String> findActiveUsers(List<String> userIds) {
+		Set<String> activeUsers = new HashSet<>();
+		if (userIds.isEmpty()) {
+			return activeUsers;
+		}
+
+		List<String> sessionIds = redisSessionTemplate.opsForValue()
+			.multiGet(userIds.stream().map(this::generateSessionKey).toList());
+		for (int i = 0; sessionIds != null && i < userIds.size(); i++) {
+			if (sessionIds.get(i) != null) {
+				activeUsers.add(userIds.get(i));
+			}
+		}
+		return activeUsers;
+	}
+
 	public void deleteSession(String sessionId) {
 		String userId = getUserIdBySessionId(sessionId);
 		if (userId != null) {
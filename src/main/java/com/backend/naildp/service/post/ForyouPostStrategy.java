@@ -1,7 +1,9 @@
 package com.backend.naildp.service.post;
 
-import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Slice;
@@ -9,9 +11,11 @@ import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.backend.naildp.dto.home.PostSummaryResponse;
+import com.backend.naildp.dto.home.ViewerSnapshot;
 import com.backend.naildp.entity.Post;
 import com.backend.naildp.repository.PostRepository;
 import com.backend.naildp.repository.TagPostRepository;
+import com.backend.naildp.service.ViewerSnapshotService;
 
 import lombok.RequiredArgsConstructor;
 
@@ -21,26 +25,24 @@ public class ForyouPostStrategy implements PostStrategy {
 
 	private final PostRepository postRepository;
 	private final TagPostRepository tagPostRepository;
+	private final ViewerSnapshotService viewerSnapshotService;
+	private final PostCardAssembler postCardAssembler;
 
 	@Transactional(readOnly = true)
 	@Override
 	public PostSummaryResponse homePosts(int size, Long cursorPostId, String username) {
-		List<Post> savedPostsInArchive = postRepository.findPostsInArchive(username);
-		List<Post> likedPosts = postRepository.findLikedPosts(username);
+		ViewerSnapshot viewerSnapshot = viewerSnapshotService.findSnapshot(username);
 
-		List<Post> selectedPosts = new ArrayList<>(savedPostsInArchive);
-		selectedPosts.addAll(likedPosts);
+		Set<Long> selectedPostIds = new HashSet<>();
+		Arrays.stream(viewerSnapshot.getSavedPostIds()).forEach(selectedPostIds::add);
+		Arrays.stream(viewerSnapshot.getLikedPostIds()).forEach(selectedPostIds::add);
 
-		List<Long> tagIdsInPosts = tagPostRepository.findTagIdsInPosts(selectedPosts);
+		List<Long> tagIdsInPosts = tagPostRepository.findTagIdsInPostIds(selectedPostIds);
 
 		Slice<Post> forYouPostSlice = postRepository.findForYouPostSlice(username, cursorPostId, tagIdsInPosts,
 			PageRequest.of(0, size));
 
-		if (forYouPostSlice.isEmpty()) {
-			return PostSummaryResponse.createEmptyResponse();
-		}
-
-		return new PostSummaryResponse(forYouPostSlice, savedPostsInArchive, likedPosts);
+		return postCardAssembler.createSummary(forYouPostSlice, username);
 	}
 
 }
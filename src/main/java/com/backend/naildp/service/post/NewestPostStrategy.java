@@ -1,13 +1,13 @@
 package com.backend.naildp.service.post;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Component;
-import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.util.StringUtils;
 
 import com.backend.naildp.dto.home.PostSummaryResponse;
 import com.backend.naildp.entity.Post;
@@ -15,28 +15,59 @@ import com.backend.naildp.repository.PostRepository;
 
 import lombok.RequiredArgsConstructor;
 
+/**
+ * 타임라인에서 최신 게시물 id 를 읽어 조회하고, 타임라인이 소진되면 DB 에서 이어서 조회
+ */
 @Component("new")
 @Transactional(readOnly = true)
 @RequiredArgsConstructor
 public class NewestPostStrategy implements PostStrategy {
 
 	private final PostRepository postRepository;
+	private final PostTimelineService postTimelineService;
+	private final PostCardAssembler postCardAssembler;
 
 	@Override
 	public PostSummaryResponse homePosts(int size, Long cursorPostId, String username) {
 		PageRequest pageRequest = PageRequest.of(0, size);
-		Slice<Post> newestPostSlice = postRepository.findNewestPostSlice(username, cursorPostId, pageRequest);
+		List<Post> posts = findNewestPosts(size + 1, cursorPostId, username);
 
-		if (newestPostSlice.isEmpty()) {
+		if (posts.isEmpty()) {
 			return PostSummaryResponse.createEmptyResponse();
 		}
 
-		if (!StringUtils.hasText(username)) {
-			return new PostSummaryResponse(newestPostSlice);
+		boolean hasNext = posts.size() > size;
+		if (hasNext) {
+			posts.remove(size);
 		}
+		Slice<Post> newestPostSlice = new SliceImpl<>(posts, pageRequest, hasNext);
 
-		List<Post> likedPosts = postRepository.findLikedPosts(username);
-		List<Post> savedPosts = postRepository.findPostsInArchive(username);
-		return new PostSummaryResponse(newestPostSlice, savedPosts, likedPosts);
+		return postCardAssembler.createSummary(newestPostSlice, username);
+	}
+
+	private List<Post> findNewestPosts(int limit, Long cursorPostId, String username) {
+		List<Post> posts = new ArrayList<>();
+		Long cursor = cursorPostId;
+
+		while (posts.size() < limit) {
+			List<Long> postIds = postTimelineService.findPostIds(username, cursor, limit);
+			if (!postIds.isEmpty()) {
+				// 타임라인에 남아있는 삭제, 비공개 게시물은 조회 시 제외된다.
+				List<Post> visiblePosts = postRepository.findVisiblePostsByIds(postIds, username);
+				posts.addAll(visiblePosts.subList(0, Math.min(visiblePosts.size(), limit - posts.size())));
+				cursor = postIds.get(postIds.size() - 1);
+			}
+
+			if (postIds.size() < limit) {
+				break;
+			}
+		}
+
+		if (posts.size() < limit) {
+			Slice<Post> postSlice = postRepository.findNewestPostSlice(username, cursor,
+				PageRequest.of(0, limit - posts.size()));
+			posts.addAll(postSlice.getContent());
+		}
+		return posts;
 	}
 }
@@ -0,0 +1,88 @@
+package com.backend.naildp.service.post;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.backend.naildp.common.KeysetCursor;
+import com.backend.naildp.dto.home.HomePostResponse;
+import com.backend.naildp.dto.home.PostSummaryResponse;
+import com.backend.naildp.dto.home.ViewerSnapshot;
+import com.backend.naildp.entity.Photo;
+import com.backend.naildp.entity.Post;
+import com.backend.naildp.repository.PhotoRepository;
+import com.backend.naildp.service.ViewerSnapshotService;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 게시물 목록 -> 게시물 카드 응답 변환
+ * 대표 사진은 한 번의 쿼리로, 좋아요/저장 여부는 조회 사용자 스냅샷으로 채워 페이지 크기와 관계없이 쿼리 수가 고정된다.
+ */
+@Component
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+public class PostCardAssembler {
+
+	private final PhotoRepository photoRepository;
+	private final ViewerSnapshotService viewerSnapshotService;
+
+	public PostSummaryResponse createSummary(Slice<Post> posts, String username) {
+		if (posts.isEmpty()) {
+			return PostSummaryResponse.createEmptyResponse();
+		}
+		return PostSummaryResponse.createPostCardSummary(assemble(posts, username, false));
+	}
+
+	// 좋아요 수, id 순으로 정렬한 검색 결과는 마지막 게시물의 (좋아요 수, id) 를 커서로 내려준다.
+	public PostSummaryResponse createSearchSummary(Slice<Post> posts, String username) {
+		if (posts.isEmpty()) {
+			return PostSummaryResponse.createEmptyResponse();
+		}
+		Post lastPost = posts.getContent().get(posts.getNumberOfElements() - 1);
+		return PostSummaryResponse.createPostCardSummary(assemble(posts, username, false),
+			KeysetCursor.of(lastPost.getLikeCount(), lastPost.getId()));
+	}
+
+	// 좋아요한 게시물 목록은 좋아요 여부를 확인하지 않는다.
+	public PostSummaryResponse createLikedSummary(Slice<Post> likedPosts, String username) {
+		if (likedPosts.isEmpty()) {
+			return PostSummaryResponse.createEmptyResponse();
+		}
+		return PostSummaryResponse.createPostCardSummary(assemble(likedPosts, username, true));
+	}
+
+	public PostSummaryResponse createLikedSummary(Slice<Post> likedPosts, String username, KeysetCursor cursor) {
+		return PostSummaryResponse.createPostCardSummary(assemble(likedPosts, username, true), cursor);
+	}
+
+	public Slice<HomePostResponse> assemble(Slice<Post> posts, String username) {
+		return assemble(posts, username, false);
+	}
+
+	private Slice<HomePostResponse> assemble(Slice<Post> posts, String username, boolean liked) {
+		Map<Long, Photo> coverPhotos = findCoverPhotos(posts.map(Post::getId).getContent());
+		ViewerSnapshot viewerSnapshot = viewerSnapshotService.findSnapshot(username);
+
+		return posts.map(post -> HomePostResponse.of(post, coverPhotos.get(post.getId()),
+			liked || viewerSnapshot.likes(post.getId()), viewerSnapshot.saved(post.getId())));
+	}
+
+	private Map<Long, Photo> findCoverPhotos(List<Long> postIds) {
+		List<Long> ids = postIds.stream().filter(Objects::nonNull).toList();
+		if (ids.isEmpty()) {
+			return new HashMap<>();
+		}
+
+		return photoRepository.findCoverPhotosByPostIds(ids)
+			.stream()
+			.collect(Collectors.toMap(photo -> photo.getPost().getId(), Function.identity()));
+	}
+}
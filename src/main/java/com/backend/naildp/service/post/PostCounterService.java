@@ -0,0 +1,160 @@
+package com.backend.naildp.service.post;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.backend.naildp.dto.post.PostCountEventDto;
+import com.backend.naildp.dto.post.PostLikeCountEventDto;
+import com.backend.naildp.service.SchedulerLock;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 게시물 좋아요, 댓글, 공유 수 write-behind 집계
+ * 커밋된 변경을 게시물별로 메모리에 모아두고 주기적으로 한 번의 batch update 로 반영한다.
+ * 좋아요, 댓글 수는 변경량을 더하지 않고 반영 시점의 실제 수로 다시 세므로, 보정 작업과 겹치거나 여러 서버가
+ * 같은 게시물을 반영해도 중복 집계되지 않는다. 공유 수는 원본 데이터가 없어 변경량을 더한다.
+ * 반영 전 서버가 종료되어 유실된 변경은 서버 시작 시, 매일 새벽 한 서버에서 실제 좋아요, 댓글 수로 보정한다.
+ * 좋아요 수가 반영된 게시물은 검색 인덱스의 정렬값도 갱신하도록 이벤트를 발행한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PostCounterService {
+
+	static final int RECONCILE_CHUNK_SIZE = 1000;
+	static final String RECONCILE_JOB = "post_counter_reconcile";
+
+	private static final Duration RECONCILE_LOCK_TTL = Duration.ofMinutes(30);
+	private static final String FLUSH_SQL = "update post p set "
+		+ "p.like_count = (select count(*) from post_like pl where pl.post_id = p.post_id), "
+		+ "p.comment_count = (select count(*) from comment c where c.post_id = p.post_id), "
+		+ "p.sharing = coalesce(p.sharing, 0) + ? where p.post_id = ?";
+	private static final String RECONCILE_SQL = "update post p set "
+		+ "p.like_count = (select count(*) from post_like pl where pl.post_id = p.post_id), "
+		+ "p.comment_count = (select count(*) from comment c where c.post_id = p.post_id) "
+		+ "where p.post_id > ? and p.post_id <= ?";
+
+	private final JdbcTemplate jdbcTemplate;
+	private final SchedulerLock schedulerLock;
+	private final ApplicationEventPublisher applicationEventPublisher;
+	private final ConcurrentHashMap<Long, CountDelta> buffer = new ConcurrentHashMap<>();
+
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void record(PostCountEventDto postCountEventDto) {
+		CountDelta delta = new CountDelta(postCountEventDto.getLikeDelta(), postCountEventDto.getCommentDelta(),
+			postCountEventDto.getShareDelta());
+		buffer.merge(postCountEventDto.getPostId(), delta, CountDelta::plus);
+	}
+
+	@Scheduled(fixedDelay = 1000)
+	public void flush() {
+		List<Long> likedPostIds = flushDeltas();
+		if (!likedPostIds.isEmpty()) {
+			applicationEventPublisher.publishEvent(new PostLikeCountEventDto(likedPostIds));
+		}
+	}
+
+	// 종료 시에는 DB 에만 반영하고, 검색 인덱스 정렬값은 다음 전체 색인에서 맞춘다.
+	@PreDestroy
+	void flushOnShutdown() {
+		flushDeltas();
+	}
+
+	/**
+	 * 모아둔 변경을 반영하고 좋아요 수가 바뀐 게시물 id 반환, 실패하면 다음 주기에 다시 반영한다.
+	 */
+	private List<Long> flushDeltas() {
+		List<Map.Entry<Long, CountDelta>> deltas = drain();
+		if (deltas.isEmpty()) {
+			return List.of();
+		}
+
+		try {
+			jdbcTemplate.batchUpdate(FLUSH_SQL, deltas, deltas.size(), (ps, entry) -> {
+				ps.setLong(1, entry.getValue().share);
+				ps.setLong(2, entry.getKey());
+			});
+		} catch (DataAccessException e) {
+			log.warn("게시물 카운터 반영 실패, 다음 주기에 다시 시도 : {}", e.getMessage());
+			deltas.forEach(entry -> buffer.merge(entry.getKey(), entry.getValue(), CountDelta::plus));
+			return List.of();
+		}
+
+		return deltas.stream()
+			.filter(entry -> entry.getValue().like != 0)
+			.map(Map.Entry::getKey)
+			.toList();
+	}
+
+	/**
+	 * 서버 시작 시(배포 전 게시물 채우기), 매일 새벽 실제 좋아요, 댓글 수로 카운터 보정
+	 */
+	@Async
+	@EventListener(ApplicationReadyEvent.class)
+	@Scheduled(cron = "0 0 4 * * *")
+	public void reconcile() {
+		if (!schedulerLock.tryLock(RECONCILE_JOB, RECONCILE_LOCK_TTL)) {
+			return;
+		}
+		flush();
+
+		Long maxPostId = jdbcTemplate.queryForObject("select max(post_id) from post", Long.class);
+		if (maxPostId == null) {
+			return;
+		}
+
+		for (long from = 0; from < maxPostId; from += RECONCILE_CHUNK_SIZE) {
+			jdbcTemplate.update(RECONCILE_SQL, from, from + RECONCILE_CHUNK_SIZE);
+		}
+		log.info("게시물 카운터 보정 완료 : maxPostId = {}", maxPostId);
+	}
+
+	private List<Map.Entry<Long, CountDelta>> drain() {
+		List<Map.Entry<Long, CountDelta>> deltas = new ArrayList<>();
+		for (Long postId : buffer.keySet()) {
+			CountDelta delta = buffer.remove(postId);
+			if (delta != null && !delta.isZero()) {
+				deltas.add(Map.entry(postId, delta));
+			}
+		}
+		return deltas;
+	}
+
+	private static final class CountDelta {
+
+		private final long like;
+		private final long comment;
+		private final long share;
+
+		private CountDelta(long like, long comment, long share) {
+			this.like = like;
+			this.comment = comment;
+			this.share = share;
+		}
+
+		private CountDelta plus(CountDelta other) {
+			return new CountDelta(like + other.like, comment + other.comment, share + other.share);
+		}
+
+		private boolean isZero() {
+			return like == 0 && comment == 0 && share == 0;
+		}
+	}
+}
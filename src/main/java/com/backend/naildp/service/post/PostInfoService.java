@@ -1,7 +1,6 @@
 package com.backend.naildp.service.post;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Slice;
@@ -12,11 +11,9 @@ import org.springframework.util.StringUtils;
 
 import com.backend.naildp.common.Boundary;
 import com.backend.naildp.dto.home.PostSummaryResponse;
-import com.backend.naildp.entity.ArchivePost;
 import com.backend.naildp.entity.Post;
 import com.backend.naildp.entity.PostLike;
 import com.backend.naildp.entity.User;
-import com.backend.naildp.repository.ArchivePostRepository;
 import com.backend.naildp.repository.FollowRepository;
 import com.backend.naildp.repository.PostLikeRepository;
 import com.backend.naildp.repository.PostRepository;
@@ -31,9 +28,9 @@ import lombok.extern.slf4j.Slf4j;
 public class PostInfoService {
 
 	private final PostRepository postRepository;
-	private final ArchivePostRepository archivePostRepository;
 	private final PostLikeRepository postLikeRepository;
 	private final FollowRepository followRepository;
+	private final PostCardAssembler postCardAssembler;
 
 	public PostSummaryResponse findLikedPost(String nickname, int pageSize, long cursorId) {
 		PageRequest pageRequest = createPageRequest(pageSize, "createdDate");
@@ -48,12 +45,8 @@ public class PostInfoService {
 			return PostSummaryResponse.createEmptyResponse();
 		}
 
-		// 게시글 저장 여부 체크
-		List<ArchivePost> archivePosts = archivePostRepository.findAllByArchiveUserNickname(nickname);
-		List<Post> savedPosts = archivePosts.stream().map(ArchivePost::getPost).collect(Collectors.toList());
-
-		// return new PostSummaryResponse(likedPosts, savedPosts);
-		return PostSummaryResponse.createLikedPostSummary(likedPosts, savedPosts);
+		// 대표 사진, 저장 여부를 채운 게시물 카드로 변환
+		return postCardAssembler.createLikedSummary(likedPosts, nickname);
 	}
 
 	private PageRequest createPageRequest(int size, String property) {
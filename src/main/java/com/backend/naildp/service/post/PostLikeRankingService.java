@@ -0,0 +1,120 @@
+package com.backend.naildp.service.post;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.backend.naildp.dto.post.PostLikeRankEventDto;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 당일 게시물 좋아요 랭킹
+ * key : post_like_rank:{yyyyMMdd}, member : 0 으로 채운 게시물 id, score : 당일 좋아요 수
+ * 좋아요 수가 같으면 member 역순(= 최신 게시물 순)으로 정렬된다.
+ */
+@Service
+@RequiredArgsConstructor
+public class PostLikeRankingService {
+
+	private static final String RANKING_KEY = "post_like_rank";
+	private static final Duration RANKING_TTL = Duration.ofDays(2);
+	private static final DateTimeFormatter KEY_DATE_FORMAT = DateTimeFormatter.BASIC_ISO_DATE;
+
+	private final RedisTemplate<String, String> redisTemplate;
+
+	/**
+	 * 좋아요, 좋아요 취소가 커밋된 뒤에만 랭킹에 반영한다.
+	 */
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+	public void apply(PostLikeRankEventDto postLikeRankEventDto) {
+		if (postLikeRankEventDto.isLiked()) {
+			increment(postLikeRankEventDto.getPostId());
+		} else {
+			decrement(postLikeRankEventDto.getPostId(), postLikeRankEventDto.getLikedAt());
+		}
+	}
+
+	// 당일 좋아요 수 증가
+	public void increment(Long postId) {
+		String key = generateKey(LocalDate.now());
+		redisTemplate.opsForZSet().incrementScore(key, toMember(postId), 1);
+		redisTemplate.expire(key, RANKING_TTL);
+	}
+
+	// 당일 눌린 좋아요를 취소한 경우에만 감소
+	public void decrement(Long postId, LocalDateTime likedAt) {
+		if (likedAt == null || !likedAt.toLocalDate().equals(LocalDate.now())) {
+			return;
+		}
+
+		String key = generateKey(LocalDate.now());
+		redisTemplate.opsForZSet().incrementScore(key, toMember(postId), -1);
+		redisTemplate.opsForZSet().removeRangeByScore(key, Double.NEGATIVE_INFINITY, 0);
+	}
+
+	public boolean isRanked(Long postId) {
+		return postId != null
+			&& redisTemplate.opsForZSet().score(generateKey(LocalDate.now()), toMember(postId)) != null;
+	}
+
+	// cursor 게시물 다음 순위의 시작 인덱스, cursor 가 없으면 1위부터
+	public long findStartIndexAfter(Long cursorPostId) {
+		if (cursorPostId == null) {
+			return 0;
+		}
+
+		Long rank = redisTemplate.opsForZSet().reverseRank(generateKey(LocalDate.now()), toMember(cursorPostId));
+		return rank == null ? 0 : rank + 1;
+	}
+
+	// 랭킹 순서대로 게시물 id 조회
+	public List<Long> findPostIds(long start, int count) {
+		Set<String> members = redisTemplate.opsForZSet()
+			.reverseRange(generateKey(LocalDate.now()), start, start + count - 1);
+
+		if (members == null || members.isEmpty()) {
+			return Collections.emptyList();
+		}
+
+		List<Long> postIds = new ArrayList<>(members.size());
+		members.forEach(member -> postIds.add(Long.parseLong(member)));
+		return postIds;
+	}
+
+	// 랭킹에 포함되지 않은 게시물 id 만 추출
+	public List<Long> filterUnranked(List<Long> postIds) {
+		if (postIds.isEmpty()) {
+			return Collections.emptyList();
+		}
+
+		Object[] members = postIds.stream().map(this::toMember).toArray();
+		List<Double> scores = redisTemplate.opsForZSet().score(generateKey(LocalDate.now()), members);
+
+		List<Long> unranked = new ArrayList<>();
+		for (int i = 0; i < postIds.size(); i++) {
+			if (scores == null || scores.get(i) == null) {
+				unranked.add(postIds.get(i));
+			}
+		}
+		return unranked;
+	}
+
+	private String generateKey(LocalDate date) {
+		return RANKING_KEY + ":" + date.format(KEY_DATE_FORMAT);
+	}
+
+	private String toMember(Long postId) {
+		return String.format("%019d", postId);
+	}
+}
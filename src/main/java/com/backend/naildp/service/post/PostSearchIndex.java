@@ -0,0 +1,295 @@
+package com.backend.naildp.service.post;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.LowerCaseFilter;
+import org.apache.lucene.analysis.Tokenizer;
+import org.apache.lucene.analysis.miscellaneous.PerFieldAnalyzerWrapper;
+import org.apache.lucene.analysis.ngram.NGramTokenizer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.LongPoint;
+import org.apache.lucene.document.NumericDocValuesField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.NumericDocValues;
+import org.apache.lucene.index.ReaderUtil;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.FieldDoc;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.MatchAllDocsQuery;
+import org.apache.lucene.search.PhraseQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.SortField;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import com.backend.naildp.common.Boundary;
+import com.backend.naildp.entity.Post;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 게시물 키워드 검색용 내장 Lucene 인덱스
+ * 본문은 1, 2-gram 으로 색인해 LIKE '%keyword%' 와 같은 부분 일치를 인덱스로 처리하고,
+ * 태그는 이름 전체 일치로 색인한다. 결과는 좋아요 수, 게시물 id 역순으로 정렬한다.
+ * 좋아요 수는 카운터 반영 때마다 doc values 만 갱신하고, 전체 색인은 세대 번호로 색인되지 않은 게시물을 지운다.
+ */
+@Slf4j
+@Component
+public class PostSearchIndex {
+
+	private static final String ID = "id";
+	private static final String POST_ID = "postId";
+	private static final String LIKE_COUNT = "likeCount";
+	private static final String BOUNDARY = "boundary";
+	private static final String CONTENT = "content";
+	private static final String CONTENT_UNIGRAM = "contentUnigram";
+	private static final String TAG = "tag";
+	private static final String GENERATION = "generation";
+
+	private static final Sort SORT = new Sort(
+		new SortField(LIKE_COUNT, SortField.Type.LONG, true),
+		new SortField(POST_ID, SortField.Type.LONG, true));
+
+	private final Directory directory = new ByteBuffersDirectory();
+	private final Analyzer analyzer = new PerFieldAnalyzerWrapper(new NGramAnalyzer(2),
+		Map.of(CONTENT_UNIGRAM, new NGramAnalyzer(1)));
+
+	private IndexWriter indexWriter;
+	private SearcherManager searcherManager;
+	private final AtomicLong generation = new AtomicLong();
+	private volatile boolean ready = false;
+
+	@PostConstruct
+	void open() throws IOException {
+		indexWriter = new IndexWriter(directory, new IndexWriterConfig(analyzer));
+		searcherManager = new SearcherManager(indexWriter, null);
+	}
+
+	@PreDestroy
+	void close() throws IOException {
+		searcherManager.close();
+		indexWriter.close();
+		directory.close();
+	}
+
+	// 전체 색인이 한 번 끝나기 전에는 DB 검색을 사용한다.
+	public boolean isReady() {
+		return ready;
+	}
+
+	/**
+	 * 전체 색인 시작, 이후 색인하는 문서는 새 세대 번호를 갖는다.
+	 */
+	public long beginRebuild() {
+		return generation.incrementAndGet();
+	}
+
+	/**
+	 * 전체 색인 종료, 이번 세대에 다시 색인되지 않은 (삭제, 비공개, 임시저장된) 게시물을 지운다.
+	 */
+	public void finishRebuild(long rebuildGeneration) {
+		try {
+			indexWriter.deleteDocuments(LongPoint.newRangeQuery(GENERATION, Long.MIN_VALUE, rebuildGeneration - 1));
+			searcherManager.maybeRefresh();
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		ready = true;
+	}
+
+	/**
+	 * 게시물 색인 추가 또는 갱신, 임시저장이거나 비공개 게시물은 색인에서 제거한다.
+	 */
+	public void index(Post post, List<String> tagNames) {
+		indexAll(List.of(post), Map.of(post.getId(), tagNames));
+	}
+
+	public void indexAll(List<Post> posts, Map<Long, List<String>> tagNamesByPostId) {
+		try {
+			for (Post post : posts) {
+				Term idTerm = new Term(ID, String.valueOf(post.getId()));
+				if (post.isTempSaved() || post.isClosed()) {
+					indexWriter.deleteDocuments(idTerm);
+					continue;
+				}
+				indexWriter.updateDocument(idTerm,
+					createDocument(post, tagNamesByPostId.getOrDefault(post.getId(), List.of())));
+			}
+			searcherManager.maybeRefresh();
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * 게시물별 좋아요 수 정렬값 갱신, 색인에 없는 게시물은 무시된다.
+	 */
+	public void updateLikeCounts(Map<Long, Long> likeCountsByPostId) {
+		try {
+			for (Map.Entry<Long, Long> likeCount : likeCountsByPostId.entrySet()) {
+				indexWriter.updateNumericDocValue(new Term(ID, String.valueOf(likeCount.getKey())), LIKE_COUNT,
+					likeCount.getValue());
+			}
+			searcherManager.maybeRefresh();
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	public void delete(Long postId) {
+		try {
+			indexWriter.deleteDocuments(new Term(ID, String.valueOf(postId)));
+			searcherManager.maybeRefresh();
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * 키워드를 모두 포함하는 게시물 id 를 정렬 순서대로 조회
+	 * 팔로우 공개 게시물의 열람 권한은 호출하는 쪽에서 DB 로 다시 확인한다.
+	 *
+	 * @param publicOnly 전체 공개 게시물만 조회
+	 * @param cursorId 이전 페이지 마지막 게시물 id, 이 게시물 다음부터 조회
+	 */
+	public List<Long> search(List<String> keywords, boolean publicOnly, Long cursorId, int size) {
+		try {
+			IndexSearcher searcher = searcherManager.acquire();
+			try {
+				Query query = createQuery(keywords, publicOnly);
+				TopDocs topDocs;
+				if (cursorId == null) {
+					topDocs = searcher.search(query, size, SORT);
+				} else {
+					FieldDoc after = findCursor(searcher, cursorId);
+					if (after == null) {
+						return new ArrayList<>();
+					}
+					topDocs = searcher.searchAfter(after, query, size, SORT);
+				}
+
+				List<Long> postIds = new ArrayList<>();
+				for (ScoreDoc scoreDoc : topDocs.scoreDocs) {
+					postIds.add((Long)((FieldDoc)scoreDoc).fields[1]);
+				}
+				return postIds;
+			} finally {
+				searcherManager.release(searcher);
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	private FieldDoc findCursor(IndexSearcher searcher, Long cursorId) throws IOException {
+		TopDocs cursorDocs = searcher.search(new TermQuery(new Term(ID, String.valueOf(cursorId))), 1);
+		if (cursorDocs.scoreDocs.length == 0) {
+			log.info("검색 커서 게시물이 색인에 없습니다. postId : {}", cursorId);
+			return null;
+		}
+
+		// 좋아요 수는 doc values 로만 갱신되므로 정렬에 쓰는 값과 같은 doc values 에서 읽는다.
+		int doc = cursorDocs.scoreDocs[0].doc;
+		List<LeafReaderContext> leaves = searcher.getIndexReader().leaves();
+		LeafReaderContext leaf = leaves.get(ReaderUtil.subIndex(doc, leaves));
+		NumericDocValues likeCounts = leaf.reader().getNumericDocValues(LIKE_COUNT);
+		long likeCount = likeCounts != null && likeCounts.advanceExact(doc - leaf.docBase)
+			? likeCounts.longValue() : 0L;
+		return new FieldDoc(doc, Float.NaN, new Object[] {likeCount, cursorId});
+	}
+
+	private Query createQuery(List<String> keywords, boolean publicOnly) {
+		BooleanQuery.Builder builder = new BooleanQuery.Builder();
+		boolean hasKeyword = false;
+
+		for (String keyword : keywords) {
+			if (!StringUtils.hasText(keyword)) {
+				continue;
+			}
+			String normalized = keyword.toLowerCase(Locale.ROOT);
+			Query keywordQuery = new BooleanQuery.Builder()
+				.add(contentContains(normalized), BooleanClause.Occur.SHOULD)
+				.add(new TermQuery(new Term(TAG, normalized)), BooleanClause.Occur.SHOULD)
+				.build();
+			builder.add(keywordQuery, BooleanClause.Occur.MUST);
+			hasKeyword = true;
+		}
+
+		if (!hasKeyword) {
+			builder.add(new MatchAllDocsQuery(), BooleanClause.Occur.MUST);
+		}
+		if (publicOnly) {
+			builder.add(new TermQuery(new Term(BOUNDARY, Boundary.ALL.name())), BooleanClause.Occur.FILTER);
+		}
+		return builder.build();
+	}
+
+	// 한 글자는 1-gram, 두 글자 이상은 연속된 2-gram phrase 로 부분 일치 검색
+	private Query contentContains(String keyword) {
+		int[] codePoints = keyword.codePoints().toArray();
+		if (codePoints.length == 1) {
+			return new TermQuery(new Term(CONTENT_UNIGRAM, keyword));
+		}
+
+		PhraseQuery.Builder builder = new PhraseQuery.Builder();
+		for (int i = 0; i < codePoints.length - 1; i++) {
+			builder.add(new Term(CONTENT, new String(codePoints, i, 2)), i);
+		}
+		return builder.build();
+	}
+
+	private Document createDocument(Post post, List<String> tagNames) {
+		Document document = new Document();
+		document.add(new StringField(ID, String.valueOf(post.getId()), Field.Store.NO));
+		document.add(new NumericDocValuesField(POST_ID, post.getId()));
+		document.add(new NumericDocValuesField(LIKE_COUNT, post.getLikeCount()));
+		document.add(new LongPoint(GENERATION, generation.get()));
+		document.add(new StringField(BOUNDARY, post.getBoundary().name(), Field.Store.NO));
+
+		String content = post.getPostContent() == null ? "" : post.getPostContent();
+		document.add(new TextField(CONTENT, content, Field.Store.NO));
+		document.add(new TextField(CONTENT_UNIGRAM, content, Field.Store.NO));
+
+		tagNames.forEach(tagName ->
+			document.add(new StringField(TAG, tagName.toLowerCase(Locale.ROOT), Field.Store.NO)));
+		return document;
+	}
+
+	private static final class NGramAnalyzer extends Analyzer {
+
+		private final int gramSize;
+
+		private NGramAnalyzer(int gramSize) {
+			this.gramSize = gramSize;
+		}
+
+		@Override
+		protected TokenStreamComponents createComponents(String fieldName) {
+			Tokenizer tokenizer = new NGramTokenizer(gramSize, gramSize);
+			return new TokenStreamComponents(tokenizer, new LowerCaseFilter(tokenizer));
+		}
+	}
+}
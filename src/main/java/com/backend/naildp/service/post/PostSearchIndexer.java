@@ -0,0 +1,154 @@
+package com.backend.naildp.service.post;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.backend.naildp.dto.post.PostLikeCountEventDto;
+import com.backend.naildp.dto.post.PostTimelineEventDto;
+import com.backend.naildp.entity.Post;
+import com.backend.naildp.repository.PostRepository;
+import com.backend.naildp.repository.TagPostRepository;
+import com.backend.naildp.service.SchedulerLock;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 게시물 검색 인덱스 색인
+ * 인덱스는 서버마다 메모리에 두므로 서버마다 전체 색인을 하되, 락으로 한 번에 한 서버씩 차례로 DB 를 읽는다.
+ * 좋아요 수 정렬값은 카운터가 반영될 때 Redis 채널로 발행해 모든 서버의 인덱스에 함께 반영한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostSearchIndexer implements MessageListener {
+
+	static final int REBUILD_CHUNK_SIZE = 500;
+	static final String REBUILD_JOB = "post_search_rebuild";
+	static final String LIKE_COUNT_CHANNEL = "post_search:like_count";
+
+	private static final Duration REBUILD_LOCK_TTL = Duration.ofMinutes(10);
+	private static final Duration REBUILD_RETRY_DELAY = Duration.ofSeconds(30);
+
+	private final PostRepository postRepository;
+	private final TagPostRepository tagPostRepository;
+	private final PostSearchIndex postSearchIndex;
+	private final SchedulerLock schedulerLock;
+	private final RedisTemplate<String, String> redisTemplate;
+	private final RedisMessageListenerContainer redisMessageListenerContainer;
+	private final String lockOwner = UUID.randomUUID().toString();
+
+	@PostConstruct
+	void subscribe() {
+		redisMessageListenerContainer.addMessageListener(this, ChannelTopic.of(LIKE_COUNT_CHANNEL));
+	}
+
+	/**
+	 * 게시물 작성, 수정, 공개범위 변경, 삭제 커밋 후 검색 인덱스 갱신
+	 */
+	@Async
+	@Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+	public void reindexPost(PostTimelineEventDto postTimelineEventDto) {
+		Long postId = postTimelineEventDto.getPostId();
+		postRepository.findById(postId).ifPresentOrElse(
+			post -> postSearchIndex.index(post, findTagNames(List.of(postId)).getOrDefault(postId, List.of())),
+			() -> postSearchIndex.delete(postId));
+	}
+
+	/**
+	 * 카운터에 반영된 좋아요 수를 모든 서버에 발행
+	 */
+	@Async
+	@EventListener
+	public void publishLikeCounts(PostLikeCountEventDto postLikeCountEventDto) {
+		String likeCounts = postRepository.findLikeCountsByIdIn(postLikeCountEventDto.getPostIds()).stream()
+			.map(likeCount -> likeCount.getPostId() + ":" + likeCount.getLikeCount())
+			.collect(Collectors.joining(","));
+		if (!likeCounts.isEmpty()) {
+			redisTemplate.convertAndSend(LIKE_COUNT_CHANNEL, likeCounts);
+		}
+	}
+
+	// postId:likeCount 를 쉼표로 이은 메시지
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		Map<Long, Long> likeCountsByPostId = new HashMap<>();
+		for (String likeCount : new String(message.getBody(), StandardCharsets.UTF_8).split(",")) {
+			String[] pair = likeCount.split(":");
+			likeCountsByPostId.put(Long.parseLong(pair[0]), Long.parseLong(pair[1]));
+		}
+		postSearchIndex.updateLikeCounts(likeCountsByPostId);
+	}
+
+	/**
+	 * 서버 시작 시 전체 색인, 이후 매일 새벽 이벤트로 잡히지 않은 변경을 맞추기 위해 다시 색인
+	 * 다른 서버가 색인 중이면 끝날 때까지 기다렸다가 색인하고, 그동안 이 서버는 DB 검색을 사용한다.
+	 */
+	@Async
+	@EventListener(ApplicationReadyEvent.class)
+	@Scheduled(cron = "0 30 4 * * *")
+	public void rebuild() {
+		while (!schedulerLock.tryLock(REBUILD_JOB, lockOwner, REBUILD_LOCK_TTL)) {
+			try {
+				Thread.sleep(REBUILD_RETRY_DELAY.toMillis());
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return;
+			}
+		}
+
+		try {
+			long generation = postSearchIndex.beginRebuild();
+			long lastPostId = 0L;
+			int indexedCount = 0;
+
+			while (true) {
+				List<Post> posts = postRepository.findSearchablePostsAfter(lastPostId,
+					PageRequest.of(0, REBUILD_CHUNK_SIZE));
+				if (posts.isEmpty()) {
+					break;
+				}
+
+				List<Long> postIds = posts.stream().map(Post::getId).toList();
+				postSearchIndex.indexAll(posts, findTagNames(postIds));
+
+				indexedCount += posts.size();
+				lastPostId = postIds.get(postIds.size() - 1);
+			}
+
+			postSearchIndex.finishRebuild(generation);
+			log.info("게시물 검색 인덱스 색인 완료 : {}건", indexedCount);
+		} finally {
+			schedulerLock.unlock(REBUILD_JOB, lockOwner);
+		}
+	}
+
+	private Map<Long, List<String>> findTagNames(List<Long> postIds) {
+		return tagPostRepository.findTagPostAndTagByPostIds(postIds).stream()
+			.collect(Collectors.groupingBy(tagPost -> tagPost.getPost().getId(),
+				Collectors.mapping(tagPost -> tagPost.getTag().getName(), Collectors.toList())));
+	}
+}
@@ -0,0 +1,55 @@
+package com.backend.naildp.service.post;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import com.backend.naildp.entity.Post;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 게시물 태그 반영
+ * 현재 태그와 비교해 추가된 태그만 한 번의 batch insert, 빠진 태그만 한 번의 delete 로 반영한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class PostTagWriter {
+
+	private static final String SELECT_SQL = "select tag_id from tag_post where post_id = ?";
+	private static final String INSERT_SQL = "insert into tag_post (tag_id, post_id) values (?, ?)";
+	private static final String DELETE_SQL = "delete from tag_post where post_id = :postId and tag_id in (:tagIds)";
+
+	private final JdbcTemplate jdbcTemplate;
+	private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+	private final TagDictionary tagDictionary;
+
+	/**
+	 * 게시물의 태그를 tagNames 와 같게 맞춘다.
+	 *
+	 * @param tagNames 소문자로 정규화된 태그 이름
+	 */
+	public void replaceTags(Post post, List<String> tagNames) {
+		Long postId = post.getId();
+		Set<Long> targetIds = new HashSet<>(tagDictionary.resolveIds(tagNames).values());
+		Set<Long> currentIds = new HashSet<>(jdbcTemplate.queryForList(SELECT_SQL, Long.class, postId));
+
+		List<Long> deletedIds = currentIds.stream().filter(tagId -> !targetIds.contains(tagId)).toList();
+		if (!deletedIds.isEmpty()) {
+			namedParameterJdbcTemplate.update(DELETE_SQL, Map.of("postId", postId, "tagIds", deletedIds));
+		}
+
+		List<Long> addedIds = targetIds.stream().filter(tagId -> !currentIds.contains(tagId)).toList();
+		if (!addedIds.isEmpty()) {
+			jdbcTemplate.batchUpdate(INSERT_SQL, addedIds, addedIds.size(), (ps, tagId) -> {
+				ps.setLong(1, tagId);
+				ps.setLong(2, postId);
+			});
+		}
+	}
+}
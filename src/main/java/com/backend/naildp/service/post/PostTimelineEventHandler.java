@@ -0,0 +1,41 @@
+package com.backend.naildp.service.post;
+
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.backend.naildp.dto.follow.FollowEventDto;
+import com.backend.naildp.dto.post.PostTimelineEventDto;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostTimelineEventHandler {
+
+	private final PostTimelineService postTimelineService;
+
+	/**
+	 * 게시물 작성, 수정, 공개범위 변경, 삭제 커밋 후 타임라인 갱신
+	 */
+	@Async
+	@Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+	public void refreshPostTimeline(PostTimelineEventDto postTimelineEventDto) {
+		log.info("타임라인 갱신 postId : {}", postTimelineEventDto.getPostId());
+		postTimelineService.refreshPost(postTimelineEventDto.getPostId(), postTimelineEventDto.getWriterNickname());
+	}
+
+	@Async
+	@Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+	public void refreshFollowTimeline(FollowEventDto followEventDto) {
+		postTimelineService.refreshFollow(followEventDto.getFollowerNickname(), followEventDto.getFollowingNickname(),
+			followEventDto.isFollowed());
+	}
+}
@@ -0,0 +1,247 @@
+package com.backend.naildp.service.post;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+import com.backend.naildp.common.Boundary;
+import com.backend.naildp.entity.Post;
+import com.backend.naildp.repository.FollowRepository;
+import com.backend.naildp.repository.PostRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 최신 게시물 타임라인
+ * timeline:all : 전체 공개 게시물
+ * timeline:inbox:{nickname} : 팔로우 공개 게시물 중 본인 + 팔로잉 사용자의 게시물 (작성 시 팔로워에게 fan-out)
+ * timeline:outbox:{nickname} : 팔로워가 많은 사용자의 팔로우 공개 게시물 (조회 시 병합)
+ * member 와 score 는 모두 게시물 id 이며, 각 타임라인은 최대 길이만큼만 유지한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class PostTimelineService {
+
+	static final int ALL_TIMELINE_CAPACITY = 1000;
+	static final int USER_TIMELINE_CAPACITY = 500;
+	static final int CELEBRITY_FOLLOWER_THRESHOLD = 5000;
+
+	private static final String ALL_TIMELINE_KEY = "timeline:all";
+	private static final String INBOX_KEY = "timeline:inbox:";
+	private static final String OUTBOX_KEY = "timeline:outbox:";
+	private static final String CELEBRITY_KEY = "timeline:celebrities";
+	private static final String READY_SUFFIX = ":ready";
+	private static final String EMPTY_READY = "empty";
+	private static final Duration INBOX_TTL = Duration.ofDays(7);
+	private static final Duration ALL_TIMELINE_READY_TTL = Duration.ofHours(1);
+	private static final Duration EMPTY_READY_TTL = Duration.ofMinutes(1);
+
+	private final RedisTemplate<String, String> redisTemplate;
+	private final PostRepository postRepository;
+	private final FollowRepository followRepository;
+
+	/**
+	 * cursor 이후의 게시물 id 를 최신순으로 조회
+	 * 잘려나간 타임라인이 있으면 그보다 오래된 게시물은 신뢰할 수 없으므로 제외한다.
+	 * 반환된 id 개수가 limit 보다 적으면 타임라인이 소진된 것이다.
+	 */
+	public List<Long> findPostIds(String username, Long cursorPostId, int limit) {
+		List<String> keys = findTimelineKeys(username);
+		double max = cursorPostId == null ? Double.POSITIVE_INFINITY : cursorPostId - 1;
+
+		TreeSet<Long> postIds = new TreeSet<>();
+		long floor = 0;
+		for (String key : keys) {
+			Set<TypedTuple<String>> tuples = redisTemplate.opsForZSet()
+				.reverseRangeByScoreWithScores(key, Double.NEGATIVE_INFINITY, max, 0, limit);
+			if (tuples != null) {
+				tuples.forEach(tuple -> postIds.add(Long.parseLong(tuple.getValue())));
+			}
+			floor = Math.max(floor, findTrustedFloor(key));
+		}
+
+		List<Long> result = new ArrayList<>(limit);
+		for (Long postId : postIds.descendingSet()) {
+			if (result.size() == limit || postId < floor) {
+				break;
+			}
+			result.add(postId);
+		}
+		return result;
+	}
+
+	/**
+	 * 게시물 상태(삭제, 공개범위, 임시저장)에 맞게 타임라인 갱신
+	 */
+	public void refreshPost(Long postId, String writerNickname) {
+		Optional<Post> post = postRepository.findById(postId);
+		boolean celebrity = isCelebrity(writerNickname);
+		List<String> followerNicknames = celebrity ? List.of()
+			: followRepository.findFollowerNicknamesByUserNickname(writerNickname);
+
+		Set<String> candidateKeys = new HashSet<>();
+		candidateKeys.add(ALL_TIMELINE_KEY);
+		candidateKeys.add(INBOX_KEY + writerNickname);
+		candidateKeys.add(OUTBOX_KEY + writerNickname);
+		followerNicknames.forEach(follower -> candidateKeys.add(INBOX_KEY + follower));
+
+		Set<String> targetKeys = new HashSet<>();
+		if (post.isPresent() && !post.get().isTempSaved()) {
+			Boundary boundary = post.get().getBoundary();
+			if (boundary == Boundary.ALL) {
+				targetKeys.add(ALL_TIMELINE_KEY);
+			} else if (boundary == Boundary.FOLLOW) {
+				targetKeys.add(INBOX_KEY + writerNickname);
+				if (celebrity) {
+					targetKeys.add(OUTBOX_KEY + writerNickname);
+				} else {
+					followerNicknames.forEach(follower -> targetKeys.add(INBOX_KEY + follower));
+				}
+			}
+		}
+
+		if (celebrity && !targetKeys.isEmpty()) {
+			redisTemplate.opsForSet().add(CELEBRITY_KEY, writerNickname);
+		}
+
+		String member = postId.toString();
+		redisTemplate.executePipelined((RedisCallback<Object>)connection -> {
+			for (String key : candidateKeys) {
+				if (targetKeys.contains(key)) {
+					addToTimeline(connection, key, postId, member);
+				} else {
+					connection.zSetCommands().zRem(serialize(key), serialize(member));
+				}
+			}
+			return null;
+		});
+	}
+
+	/**
+	 * 팔로우 시 팔로잉 사용자의 최근 팔로우 공개 게시물을 inbox 에 추가, 언팔로우 시 제거
+	 */
+	public void refreshFollow(String followerNickname, String followingNickname, boolean followed) {
+		List<Long> postIds = postRepository.findPostIdsByWriterAndBoundary(followingNickname, Boundary.FOLLOW,
+			PageRequest.of(0, USER_TIMELINE_CAPACITY));
+		if (postIds.isEmpty()) {
+			return;
+		}
+
+		String key = INBOX_KEY + followerNickname;
+		redisTemplate.executePipelined((RedisCallback<Object>)connection -> {
+			for (Long postId : postIds) {
+				if (followed) {
+					addToTimeline(connection, key, postId, postId.toString());
+				} else {
+					connection.zSetCommands().zRem(serialize(key), serialize(postId.toString()));
+				}
+			}
+			return null;
+		});
+	}
+
+	private List<String> findTimelineKeys(String username) {
+		List<String> keys = new ArrayList<>();
+		keys.add(ALL_TIMELINE_KEY);
+		initialize(ALL_TIMELINE_KEY, () -> postRepository.findPostIdsByBoundary(Boundary.ALL,
+			PageRequest.of(0, ALL_TIMELINE_CAPACITY)));
+
+		if (!StringUtils.hasText(username)) {
+			return keys;
+		}
+
+		String inboxKey = INBOX_KEY + username;
+		keys.add(inboxKey);
+		initialize(inboxKey, () -> postRepository.findFollowPostIdsForTimeline(username,
+			PageRequest.of(0, USER_TIMELINE_CAPACITY)));
+		redisTemplate.expire(inboxKey, INBOX_TTL);
+
+		Set<String> celebrities = redisTemplate.opsForSet().members(CELEBRITY_KEY);
+		if (celebrities != null && !celebrities.isEmpty()) {
+			followRepository.findFollowingNicknamesIn(username, celebrities)
+				.forEach(celebrity -> keys.add(OUTBOX_KEY + celebrity));
+		}
+		return keys;
+	}
+
+	// 타임라인이 비어있는 상태(최초 조회, 만료)라면 DB 에서 최근 게시물로 채운다.
+	private void initialize(String key, PostIdLoader loader) {
+		String readyKey = key + READY_SUFFIX;
+		if (isReady(key, readyKey)) {
+			return;
+		}
+
+		List<Long> postIds = loader.load();
+		if (postIds.isEmpty()) {
+			redisTemplate.opsForValue().set(readyKey, EMPTY_READY, EMPTY_READY_TTL);
+			return;
+		}
+		redisTemplate.executePipelined((RedisCallback<Object>)connection -> {
+			postIds.forEach(postId -> addToTimeline(connection, key, postId, postId.toString()));
+			return null;
+		});
+
+		Duration readyTtl = key.startsWith(INBOX_KEY) ? INBOX_TTL : ALL_TIMELINE_READY_TTL;
+		redisTemplate.opsForValue().set(readyKey, "1", readyTtl);
+	}
+
+	// 타임라인 키가 사라졌으면(eviction, flush) 표시가 남아 있어도 다시 채운다.
+	// 비어 있는 타임라인은 키가 없으므로 짧게 남기는 빈 표시로 확인한다.
+	private boolean isReady(String key, String readyKey) {
+		String ready = redisTemplate.opsForValue().get(readyKey);
+		if (ready == null) {
+			return false;
+		}
+		return EMPTY_READY.equals(ready) || Boolean.TRUE.equals(redisTemplate.hasKey(key));
+	}
+
+	// 최대 길이를 채운 타임라인은 가장 오래된 게시물 이전 구간을 알 수 없다.
+	private long findTrustedFloor(String key) {
+		Long size = redisTemplate.opsForZSet().zCard(key);
+		if (size == null || size < capacityOf(key)) {
+			return 0;
+		}
+
+		Set<String> oldest = redisTemplate.opsForZSet().range(key, 0, 0);
+		return oldest == null || oldest.isEmpty() ? 0 : Long.parseLong(oldest.iterator().next());
+	}
+
+	private boolean isCelebrity(String nickname) {
+		return followRepository.countFollowersByUserNickname(nickname) >= CELEBRITY_FOLLOWER_THRESHOLD;
+	}
+
+	private void addToTimeline(RedisConnection connection, String key, Long postId, String member) {
+		byte[] rawKey = serialize(key);
+		connection.zSetCommands().zAdd(rawKey, postId, serialize(member));
+		connection.zSetCommands().zRemRange(rawKey, 0, -(capacityOf(key) + 1));
+		if (key.startsWith(INBOX_KEY)) {
+			connection.keyCommands().expire(rawKey, INBOX_TTL.toSeconds());
+		}
+	}
+
+	private int capacityOf(String key) {
+		return ALL_TIMELINE_KEY.equals(key) ? ALL_TIMELINE_CAPACITY : USER_TIMELINE_CAPACITY;
+	}
+
+	private byte[] serialize(String value) {
+		return value.getBytes(StandardCharsets.UTF_8);
+	}
+
+	@FunctionalInterface
+	private interface PostIdLoader {
+		List<Long> load();
+	}
+}
@@ -0,0 +1,102 @@
+package com.backend.naildp.service.post;
+
+import java.text.Collator;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 태그 이름 -> 태그 id 사전
+ * 태그는 삭제되지 않으므로 한 번 확인한 id 는 메모리에 계속 둔다.
+ * 없는 태그는 한 번의 batch insert ignore 로 만들고, 동시에 같은 태그를 만들면 uk_tag_name 으로 하나만 남는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class TagDictionary {
+
+	static final int MAX_CACHED_TAGS = 50_000;
+
+	private static final String SELECT_SQL = "select tag_id, name from tag where name in (:names)";
+	private static final String INSERT_IGNORE_SQL = "insert ignore into tag (name) values (?)";
+	private static final Comparator<String> NAME_COLLATION = nameCollation();
+
+	private final JdbcTemplate jdbcTemplate;
+	private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+	private final Cache<String, Long> tagIds = Caffeine.newBuilder()
+		.maximumSize(MAX_CACHED_TAGS)
+		.build();
+
+	/**
+	 * 태그 이름별 id 조회, 없는 태그는 생성한다.
+	 */
+	public Map<String, Long> resolveIds(Collection<String> tagNames) {
+		Map<String, Long> ids = new HashMap<>(tagIds.getAllPresent(tagNames));
+		List<String> missingNames = tagNames.stream().filter(tagName -> !ids.containsKey(tagName)).distinct().toList();
+		if (missingNames.isEmpty()) {
+			return ids;
+		}
+
+		Map<String, Long> foundIds = findIds(missingNames);
+		List<String> newNames = missingNames.stream().filter(tagName -> !foundIds.containsKey(tagName)).toList();
+		if (!newNames.isEmpty()) {
+			jdbcTemplate.batchUpdate(INSERT_IGNORE_SQL, newNames, newNames.size(),
+				(ps, tagName) -> ps.setString(1, tagName));
+			foundIds.putAll(findIds(newNames));
+		}
+
+		// DB 에 저장된 표기가 아닌 요청한 이름으로 id 를 돌려준다.
+		Map<String, Long> resolvedIds = new HashMap<>();
+		missingNames.stream()
+			.filter(foundIds::containsKey)
+			.forEach(tagName -> resolvedIds.put(tagName, foundIds.get(tagName)));
+		ids.putAll(resolvedIds);
+		cacheAfterCommit(resolvedIds);
+		return ids;
+	}
+
+	// name 컬럼 collation 은 대소문자, 악센트, 끝 공백을 구분하지 않으므로 같은 기준으로 비교한다.
+	private Map<String, Long> findIds(List<String> tagNames) {
+		Map<String, Long> ids = new TreeMap<>(NAME_COLLATION);
+		namedParameterJdbcTemplate.query(SELECT_SQL, Map.of("names", tagNames),
+			rs -> {
+				ids.put(rs.getString("name"), rs.getLong("tag_id"));
+			});
+		return ids;
+	}
+
+	private static Comparator<String> nameCollation() {
+		Collator collator = Collator.getInstance(Locale.ROOT);
+		collator.setStrength(Collator.PRIMARY);
+		return Comparator.comparing(String::stripTrailing, collator);
+	}
+
+	// 롤백된 트랜잭션에서 만든 태그 id 가 남지 않도록 커밋 후 캐시
+	private void cacheAfterCommit(Map<String, Long> ids) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			tagIds.putAll(ids);
+			return;
+		}
+
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				tagIds.putAll(ids);
+			}
+		});
+	}
+}
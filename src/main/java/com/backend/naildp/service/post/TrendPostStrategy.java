@@ -1,12 +1,15 @@
 package com.backend.naildp.service.post;
 
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.util.StringUtils;
 
 import com.backend.naildp.dto.home.PostSummaryResponse;
 import com.backend.naildp.entity.Post;
@@ -14,28 +17,89 @@ import com.backend.naildp.repository.PostRepository;
 
 import lombok.RequiredArgsConstructor;
 
+/**
+ * 당일 좋아요 랭킹 순으로 조회하고, 랭킹이 끝나면 당일 좋아요가 없는 게시물을 최신순으로 이어서 조회
+ */
 @Component("trending")
 @Transactional(readOnly = true)
 @RequiredArgsConstructor
 public class TrendPostStrategy implements PostStrategy {
 
 	private final PostRepository postRepository;
+	private final PostLikeRankingService postLikeRankingService;
+	private final PostCardAssembler postCardAssembler;
 
 	@Override
 	public PostSummaryResponse homePosts(int size, Long cursorPostId, String username) {
 		PageRequest pageRequest = PageRequest.of(0, size);
-		Slice<Post> trendPostSlice = postRepository.findTrendPostSlice(username, cursorPostId, pageRequest);
+		List<Post> posts = new ArrayList<>();
 
-		if (trendPostSlice.isEmpty()) {
+		boolean cursorInRanking = cursorPostId == null || postLikeRankingService.isRanked(cursorPostId);
+		if (cursorInRanking) {
+			fillRankedPosts(posts, size + 1, cursorPostId, username);
+		}
+		if (posts.size() <= size) {
+			fillNewestPosts(posts, size + 1, cursorInRanking ? null : cursorPostId, username);
+		}
+
+		if (posts.isEmpty()) {
 			return PostSummaryResponse.createEmptyResponse();
 		}
 
-		if (!StringUtils.hasText(username)) {
-			return new PostSummaryResponse(trendPostSlice);
+		boolean hasNext = posts.size() > size;
+		if (hasNext) {
+			posts.remove(size);
+		}
+		Slice<Post> trendPostSlice = new SliceImpl<>(posts, pageRequest, hasNext);
+
+		return postCardAssembler.createSummary(trendPostSlice, username);
+	}
+
+	private void fillRankedPosts(List<Post> posts, int limit, Long cursorPostId, String username) {
+		long start = postLikeRankingService.findStartIndexAfter(cursorPostId);
+
+		while (posts.size() < limit) {
+			List<Long> rankedPostIds = postLikeRankingService.findPostIds(start, limit);
+			if (rankedPostIds.isEmpty()) {
+				return;
+			}
+			start += rankedPostIds.size();
+
+			List<Post> visiblePosts = postRepository.findVisiblePostsByIds(rankedPostIds, username);
+			posts.addAll(visiblePosts.subList(0, Math.min(visiblePosts.size(), limit - posts.size())));
+
+			if (rankedPostIds.size() < limit) {
+				return;
+			}
 		}
+	}
+
+	private void fillNewestPosts(List<Post> posts, int limit, Long cursorPostId, String username) {
+		Set<Long> addedPostIds = new HashSet<>();
+		posts.forEach(post -> addedPostIds.add(post.getId()));
 
-		List<Post> likedPosts = postRepository.findLikedPosts(username);
-		List<Post> savedPosts = postRepository.findPostsInArchive(username);
-		return new PostSummaryResponse(trendPostSlice, savedPosts, likedPosts);
+		Long cursor = cursorPostId;
+		while (posts.size() < limit) {
+			Slice<Post> newestPostSlice = postRepository.findNewestPostSlice(username, cursor,
+				PageRequest.of(0, limit));
+			if (newestPostSlice.isEmpty()) {
+				return;
+			}
+
+			List<Post> newestPosts = newestPostSlice.getContent();
+			List<Long> unrankedPostIds = postLikeRankingService.filterUnranked(
+				newestPosts.stream().map(Post::getId).toList());
+
+			for (Post post : newestPosts) {
+				if (posts.size() < limit && unrankedPostIds.contains(post.getId()) && addedPostIds.add(post.getId())) {
+					posts.add(post);
+				}
+			}
+
+			if (!newestPostSlice.hasNext()) {
+				return;
+			}
+			cursor = newestPosts.get(newestPosts.size() - 1).getId();
+		}
 	}
 }
@@ -0,0 +1,46 @@
+package com.backend.naildp.common;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.backend.naildp.exception.CustomException;
+
+class KeysetCursorTest {
+
+	@DisplayName("인코딩한 커서를 디코딩하면 같은 정렬 키와 id 를 돌려준다.")
+	@Test
+	void encodeAndDecode() {
+		//given
+		LocalDateTime modifiedAt = LocalDateTime.of(2024, 7, 1, 12, 30, 15, 123_456_000);
+		UUID chatRoomId = TimeOrderedUuidGenerator.nextUuid();
+
+		//when
+		KeysetCursor likeCountCursor = KeysetCursor.decode(KeysetCursor.of(15L, 300L).encode());
+		KeysetCursor dateCursor = KeysetCursor.decode(KeysetCursor.of(modifiedAt, chatRoomId).encode());
+		KeysetCursor messageCursor = KeysetCursor.decode(
+			KeysetCursor.of(modifiedAt, "66a1b2c3d4e5f60718293a4b").encode());
+
+		//then
+		assertThat(likeCountCursor.getKey()).isEqualTo(15L);
+		assertThat(likeCountCursor.getIdAsLong()).isEqualTo(300L);
+		assertThat(dateCursor.getKeyAsDateTime()).isEqualTo(modifiedAt);
+		assertThat(dateCursor.getIdAsUuid()).isEqualTo(chatRoomId);
+		assertThat(messageCursor.getKeyAsDateTime()).isEqualTo(modifiedAt);
+		assertThat(messageCursor.getId()).isEqualTo("66a1b2c3d4e5f60718293a4b");
+	}
+
+	@DisplayName("형식이 맞지 않는 커서는 예외가 발생한다.")
+	@Test
+	void decodeInvalidCursor() {
+		assertThatThrownBy(() -> KeysetCursor.decode("not a cursor"))
+			.isInstanceOf(CustomException.class)
+			.hasMessage("잘못된 커서입니다.");
+		assertThatThrownBy(() -> KeysetCursor.decode(KeysetCursor.of(1L, 2L).encode()).getIdAsUuid())
+			.isInstanceOf(CustomException.class);
+	}
+}
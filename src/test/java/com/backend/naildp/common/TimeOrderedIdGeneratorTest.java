@@ -0,0 +1,95 @@
+package com.backend.naildp.common;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class TimeOrderedIdGeneratorTest {
+
+	@DisplayName("연속으로 생성한 id 는 증가하고 JavaScript 에서 정확히 표현되는 범위 안에 있다.")
+	@Test
+	void nextIdIncreasesWithinSafeInteger() {
+		//when
+		List<Long> ids = new ArrayList<>();
+		for (int i = 0; i < 20_000; i++) {
+			ids.add(TimeOrderedIdGenerator.nextId());
+		}
+
+		//then
+		assertThat(ids).isSorted();
+		assertThat(new HashSet<>(ids)).hasSize(ids.size());
+		assertThat(ids.get(ids.size() - 1)).isLessThan(1L << 53);
+	}
+
+	@DisplayName("여러 스레드에서 동시에 생성해도 id 가 겹치지 않는다.")
+	@Test
+	void nextIdIsUniqueAcrossThreads() throws Exception {
+		//given
+		int threadCount = 8;
+		int idsPerThread = 5_000;
+		Set<Long> ids = ConcurrentHashMap.newKeySet();
+		ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+
+		//when
+		List<Future<?>> futures = new ArrayList<>();
+		for (int i = 0; i < threadCount; i++) {
+			futures.add(executorService.submit(() -> {
+				for (int j = 0; j < idsPerThread; j++) {
+					ids.add(TimeOrderedIdGenerator.nextId());
+				}
+			}));
+		}
+		for (Future<?> future : futures) {
+			future.get();
+		}
+		executorService.shutdown();
+
+		//then
+		assertThat(ids).hasSize(threadCount * idsPerThread);
+	}
+
+	@DisplayName("노드 번호를 정하면 다음 초부터 그 노드 번호로 id 를 생성한다.")
+	@Test
+	void assignNodeStartsFromNextSecond() {
+		//given
+		long before = TimeOrderedIdGenerator.nextId();
+		int timeShift = TimeOrderedIdGenerator.NODE_BITS + TimeOrderedIdGenerator.SEQUENCE_BITS;
+
+		//when
+		TimeOrderedIdGenerator.assignNode(7, Long.MAX_VALUE);
+		long id = TimeOrderedIdGenerator.nextId();
+
+		//then
+		assertThat((id >> TimeOrderedIdGenerator.SEQUENCE_BITS) & ((1L << TimeOrderedIdGenerator.NODE_BITS) - 1))
+			.isEqualTo(7L);
+		assertThat(id >> timeShift).isGreaterThan(before >> timeShift);
+		assertThat(id & ((1L << TimeOrderedIdGenerator.SEQUENCE_BITS) - 1)).isZero();
+	}
+
+	@DisplayName("노드 번호 임대가 만료되면 연장될 때까지 id 를 생성하지 않는다.")
+	@Test
+	void refuseAfterLeaseExpired() {
+		//given
+		TimeOrderedIdGenerator.assignNode(8, System.currentTimeMillis() - 1);
+
+		try {
+			//when & then
+			assertThatThrownBy(TimeOrderedIdGenerator::nextId).isInstanceOf(IllegalStateException.class);
+
+			TimeOrderedIdGenerator.extendLease(Long.MAX_VALUE);
+			assertThat(TimeOrderedIdGenerator.nextId()).isPositive();
+		} finally {
+			TimeOrderedIdGenerator.extendLease(Long.MAX_VALUE);
+		}
+	}
+}
@@ -0,0 +1,35 @@
+package com.backend.naildp.common;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class TimeOrderedUuidGeneratorTest {
+
+	@DisplayName("연속으로 생성한 UUID 는 version 7 형식이고 생성 순서대로 정렬된다.")
+	@Test
+	void nextUuidIsOrderedVersion7() {
+		//given
+		long before = System.currentTimeMillis();
+
+		//when
+		List<UUID> uuids = new ArrayList<>();
+		for (int i = 0; i < 20_000; i++) {
+			uuids.add(TimeOrderedUuidGenerator.nextUuid());
+		}
+
+		//then
+		UUID first = uuids.get(0);
+		assertThat(first.version()).isEqualTo(7);
+		assertThat(first.variant()).isEqualTo(2);
+		assertThat(first.getMostSignificantBits() >>> 16).isGreaterThanOrEqualTo(before);
+		assertThat(uuids).isSorted();
+		assertThat(new HashSet<>(uuids)).hasSize(uuids.size());
+	}
+}
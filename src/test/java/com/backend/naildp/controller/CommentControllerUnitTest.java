@@ -187,11 +187,11 @@ class CommentControllerUnitTest {
 	@WithMockUser(username = "testUser", roles = {"USER"})
 	void findNoComments() throws Exception {
 		//given
-		CommentSummaryResponse response = new CommentSummaryResponse(-1L, new SliceImpl<>(new ArrayList<>()));
+		CommentSummaryResponse response = new CommentSummaryResponse(-1L, null, new SliceImpl<>(new ArrayList<>()));
 		ApiResponse<CommentSummaryResponse> apiResponse = ApiResponse.successResponse(response, "댓글 조회 성공", 2000);
 		String jsonResponse = objectMapper.writeValueAsString(apiResponse);
 
-		when(commentService.findComments(anyLong(), anyInt(), eq(-1L), anyString())).thenReturn(response);
+		when(commentService.findComments(anyLong(), anyInt(), eq(-1L), isNull(), anyString())).thenReturn(response);
 
 		//when
 		ResultActions resultActions = mvc.perform(get("/api/posts/{postId}/comment", 1L));
@@ -226,11 +226,11 @@ class CommentControllerUnitTest {
 		Slice<CommentInfoResponse> commentInfoResponseSlice = new SliceImpl<>(commentInfoResponseList, pageRequest,
 			true);
 
-		CommentSummaryResponse response = new CommentSummaryResponse(1L, commentInfoResponseSlice);
+		CommentSummaryResponse response = new CommentSummaryResponse(1L, 2L, commentInfoResponseSlice);
 		ApiResponse<CommentSummaryResponse> apiResponse = ApiResponse.successResponse(response, "댓글 조회 성공", 2000);
 		String jsonResponse = objectMapper.writeValueAsString(apiResponse);
 
-		when(commentService.findComments(anyLong(), anyInt(), eq(-1L), anyString())).thenReturn(response);
+		when(commentService.findComments(anyLong(), anyInt(), eq(-1L), isNull(), anyString())).thenReturn(response);
 
 		//when
 		ResultActions resultActions = mvc.perform(get("/api/posts/{postId}/comment", 1L).param("size", "2"));
@@ -28,6 +28,8 @@ class PostTest {
 
 		assertThat(post.getSharing()).isEqualTo(0L);
 		assertThat(post.getSharing()).isNotNull();
+		assertThat(post.getLikeCount()).isEqualTo(0L);
+		assertThat(post.getCommentCount()).isEqualTo(0L);
 
 		assertThat(post.getPostContent()).isEqualTo("content");
 
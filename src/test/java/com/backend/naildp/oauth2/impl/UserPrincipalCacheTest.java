@@ -0,0 +1,112 @@
+package com.backend.naildp.oauth2.impl;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+
+import com.backend.naildp.common.UserRole;
+import com.backend.naildp.dto.auth.PrincipalEvictEventDto;
+import com.backend.naildp.entity.User;
+
+@ExtendWith(MockitoExtension.class)
+class UserPrincipalCacheTest {
+
+	@Mock
+	RedisTemplate<String, String> redisTemplate;
+
+	@Mock
+	RedisMessageListenerContainer redisMessageListenerContainer;
+
+	UserPrincipalCache userPrincipalCache;
+	AtomicInteger loadCount;
+	Function<String, UserDetails> loader;
+
+	@BeforeEach
+	void setup() {
+		userPrincipalCache = new UserPrincipalCache(redisTemplate, redisMessageListenerContainer);
+		loadCount = new AtomicInteger();
+		loader = nickname -> {
+			loadCount.incrementAndGet();
+			return new UserDetailsImpl(createUser(nickname));
+		};
+	}
+
+	@DisplayName("캐시된 사용자는 다시 조회하지 않는다.")
+	@Test
+	void cacheHit() {
+		//when
+		userPrincipalCache.get("user", loader);
+		UserDetails userDetails = userPrincipalCache.get("user", loader);
+
+		//then
+		assertThat(userDetails.getUsername()).isEqualTo("user");
+		assertThat(loadCount).hasValue(1);
+		assertThat(userPrincipalCache.stats().hitCount()).isEqualTo(1);
+	}
+
+	@DisplayName("조회에 실패한 사용자는 캐시하지 않는다.")
+	@Test
+	void notCacheMissingUser() {
+		//given
+		Function<String, UserDetails> failingLoader = nickname -> {
+			throw new UsernameNotFoundException("Not Found " + nickname);
+		};
+
+		//when & then
+		assertThatThrownBy(() -> userPrincipalCache.get("unknown", failingLoader))
+			.isInstanceOf(UsernameNotFoundException.class);
+		userPrincipalCache.get("unknown", loader);
+		assertThat(loadCount).hasValue(1);
+	}
+
+	@DisplayName("프로필 변경 시 로컬 캐시를 비우고 다른 서버에 삭제 메시지를 발행한다.")
+	@Test
+	void evictAndPublish() {
+		//given
+		userPrincipalCache.get("user", loader);
+
+		//when
+		userPrincipalCache.evict(new PrincipalEvictEventDto("user"));
+		userPrincipalCache.get("user", loader);
+
+		//then
+		assertThat(loadCount).hasValue(2);
+		verify(redisTemplate).convertAndSend(UserPrincipalCache.INVALIDATE_CHANNEL, "user");
+	}
+
+	@DisplayName("다른 서버에서 발행한 삭제 메시지를 받으면 캐시를 비운다.")
+	@Test
+	void evictByMessage() {
+		//given
+		userPrincipalCache.get("user", loader);
+		DefaultMessage message = new DefaultMessage(
+			UserPrincipalCache.INVALIDATE_CHANNEL.getBytes(StandardCharsets.UTF_8),
+			"user".getBytes(StandardCharsets.UTF_8));
+
+		//when
+		userPrincipalCache.onMessage(message, null);
+		userPrincipalCache.get("user", loader);
+
+		//then
+		assertThat(loadCount).hasValue(2);
+	}
+
+	private User createUser(String nickname) {
+		return User.builder().nickname(nickname).phoneNumber("pn").agreement(true).role(UserRole.USER).build();
+	}
+}
@@ -0,0 +1,79 @@
+package com.backend.naildp.oauth2.jwt;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Base64;
+import java.util.Date;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.backend.naildp.common.UserRole;
+import com.backend.naildp.exception.TokenNotValidateException;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+
+class JwtVerifiedClaimsCacheTest {
+
+	private static final String SECRET_KEY = "d42ad6111848f136a3de63282954ec1fb581f7cc9c8cc3a6e63fd34547ec7a29d2362ca9f9ba99af7bb7c56fa5af71fd862ad6c44591172357fe0b52448cfa29";
+
+	JwtUtil jwtUtil;
+
+	@BeforeEach
+	void setup() {
+		jwtUtil = new JwtUtil();
+		ReflectionTestUtils.setField(jwtUtil, "secretKey", SECRET_KEY);
+		jwtUtil.init();
+	}
+
+	@DisplayName("한 번 검증한 토큰은 다시 파싱하지 않고 캐시된 Claims 를 반환한다.")
+	@Test
+	void reuseVerifiedClaims() {
+		//given
+		String token = jwtUtil.substringToken(jwtUtil.createToken("testUser", UserRole.USER));
+
+		//when
+		Claims first = jwtUtil.getVerifiedClaims(token);
+		Claims second = jwtUtil.getVerifiedClaims(token);
+
+		//then
+		assertThat(first.getSubject()).isEqualTo("testUser");
+		assertThat(second).isSameAs(first);
+		assertThat(jwtUtil.validateToken(token)).isTrue();
+		assertThat(jwtUtil.getUserInfoFromToken(token)).isSameAs(first);
+	}
+
+	@DisplayName("만료된 토큰은 캐시하지 않고 만료 예외를 던진다.")
+	@Test
+	void expiredToken() {
+		//given
+		String token = Jwts.builder()
+			.setSubject("testUser")
+			.claim(JwtUtil.AUTHORIZATION_KEY, UserRole.USER)
+			.setExpiration(new Date(System.currentTimeMillis() - 1000))
+			.signWith(Keys.hmacShaKeyFor(Base64.getDecoder().decode(SECRET_KEY)), SignatureAlgorithm.HS256)
+			.compact();
+
+		//when & then
+		assertThatThrownBy(() -> jwtUtil.getVerifiedClaims(token)).isInstanceOf(ExpiredJwtException.class);
+		assertThat(jwtUtil.validateToken(token)).isFalse();
+		assertThat(jwtUtil.getUserInfoFromToken(token).getSubject()).isEqualTo("testUser");
+	}
+
+	@DisplayName("서명이 변조된 토큰은 검증에 실패한다.")
+	@Test
+	void tamperedToken() {
+		//given
+		String token = jwtUtil.substringToken(jwtUtil.createToken("testUser", UserRole.USER));
+		String tampered = token.substring(0, token.length() - 2) + (token.endsWith("AA") ? "BB" : "AA");
+
+		//when & then
+		assertThatThrownBy(() -> jwtUtil.getVerifiedClaims(tampered)).isInstanceOf(TokenNotValidateException.class);
+	}
+}
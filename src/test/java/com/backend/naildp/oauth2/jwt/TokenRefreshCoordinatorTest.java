@@ -0,0 +1,151 @@
+package com.backend.naildp.oauth2.jwt;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.backend.naildp.common.UserRole;
+import com.backend.naildp.entity.User;
+import com.backend.naildp.exception.TokenNotValidateException;
+import com.backend.naildp.repository.UserRepository;
+
+@ExtendWith(MockitoExtension.class)
+class TokenRefreshCoordinatorTest {
+
+	@InjectMocks
+	TokenRefreshCoordinator tokenRefreshCoordinator;
+
+	@Mock
+	JwtUtil jwtUtil;
+
+	@Mock
+	RedisUtil redisUtil;
+
+	@Mock
+	UserRepository userRepository;
+
+	@DisplayName("같은 사용자의 동시 재발급 요청은 한 번만 토큰을 발급하고 결과를 함께 사용한다.")
+	@Test
+	void coalesceConcurrentRefresh() throws Exception {
+		//given
+		int threadCount = 10;
+		User user = User.builder().nickname("user").phoneNumber("pn").agreement(true).role(UserRole.USER).build();
+		CountDownLatch issuing = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		AtomicReference<String> refreshedToken = new AtomicReference<>();
+
+		given(redisUtil.getRefreshToken("user")).willReturn("refresh");
+		given(redisUtil.getRefreshedAccessToken("user")).willAnswer(invocation -> refreshedToken.get());
+		willAnswer(invocation -> {
+			refreshedToken.set(invocation.getArgument(1));
+			return null;
+		}).given(redisUtil).saveRefreshedAccessToken(eq("user"), anyString(), any());
+		given(redisUtil.tryRefreshLock(eq("user"), any())).willReturn(true);
+		given(jwtUtil.validateToken("refresh")).willReturn(true);
+		given(userRepository.findUserByNickname("user")).willReturn(Optional.of(user));
+		given(jwtUtil.createToken("user", UserRole.USER)).willAnswer(invocation -> {
+			issuing.countDown();
+			release.await();
+			return "Bearer newToken";
+		});
+
+		ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+		List<Future<String>> results = new ArrayList<>();
+
+		//when
+		results.add(executorService.submit(() -> tokenRefreshCoordinator.refresh("user", "refresh")));
+		issuing.await();
+		for (int i = 1; i < threadCount; i++) {
+			results.add(executorService.submit(() -> tokenRefreshCoordinator.refresh("user", "refresh")));
+		}
+		Thread.sleep(100);
+		release.countDown();
+
+		//then
+		for (Future<String> result : results) {
+			assertThat(result.get()).isEqualTo("Bearer newToken");
+		}
+		executorService.shutdown();
+		verify(jwtUtil, times(1)).createToken("user", UserRole.USER);
+		verify(userRepository, times(1)).findUserByNickname("user");
+		assertThat(refreshedToken).hasValue("Bearer newToken");
+		verify(redisUtil).releaseRefreshLock("user");
+	}
+
+	@DisplayName("다른 서버가 재발급 락을 잡고 있으면 그 서버가 발급한 토큰을 재사용한다.")
+	@Test
+	void reuseTokenFromOtherNode() {
+		//given
+		given(jwtUtil.validateToken("refresh")).willReturn(true);
+		given(redisUtil.getRefreshToken("user")).willReturn("refresh");
+		given(redisUtil.getRefreshedAccessToken("user")).willReturn(null, "Bearer otherNodeToken");
+		given(redisUtil.tryRefreshLock(eq("user"), any())).willReturn(false);
+
+		//when
+		String accessToken = tokenRefreshCoordinator.refresh("user", "refresh");
+
+		//then
+		assertThat(accessToken).isEqualTo("Bearer otherNodeToken");
+		verify(jwtUtil, never()).createToken(any(), any());
+		verifyNoInteractions(userRepository);
+		verify(redisUtil, never()).releaseRefreshLock("user");
+	}
+
+	@DisplayName("쿠키의 리프레시 토큰이 저장된 토큰과 다르면 재발급하지 않는다.")
+	@Test
+	void rejectMismatchedRefreshToken() {
+		//given
+		given(jwtUtil.validateToken("stolen")).willReturn(true);
+		given(redisUtil.getRefreshToken("user")).willReturn("refresh");
+
+		//when & then
+		assertThatThrownBy(() -> tokenRefreshCoordinator.refresh("user", "stolen"))
+			.isInstanceOf(TokenNotValidateException.class);
+		verify(redisUtil, never()).getRefreshedAccessToken("user");
+		verify(redisUtil, never()).deleteRefreshToken("user");
+		verify(jwtUtil, never()).createToken(any(), any());
+		verifyNoInteractions(userRepository);
+	}
+
+	@DisplayName("만료된 리프레시 토큰은 방금 재발급된 토큰이 있어도 재사용하지 않고 저장된 토큰을 지운다.")
+	@Test
+	void rejectExpiredRefreshTokenInReuseWindow() {
+		//given
+		given(jwtUtil.validateToken("refresh")).willReturn(false);
+		given(redisUtil.getRefreshToken("user")).willReturn("refresh");
+
+		//when & then
+		assertThatThrownBy(() -> tokenRefreshCoordinator.refresh("user", "refresh"))
+			.isInstanceOf(TokenNotValidateException.class);
+		verify(redisUtil, never()).getRefreshedAccessToken("user");
+		verify(redisUtil).deleteRefreshToken("user");
+		verifyNoInteractions(userRepository);
+	}
+
+	@DisplayName("서명이 잘못된 리프레시 토큰은 저장된 토큰을 확인하기 전에 거절한다.")
+	@Test
+	void rejectForgedRefreshToken() {
+		//given
+		given(jwtUtil.validateToken("forged")).willThrow(new TokenNotValidateException("잘못된 JWT 서명입니다."));
+
+		//when & then
+		assertThatThrownBy(() -> tokenRefreshCoordinator.refresh("user", "forged"))
+			.isInstanceOf(TokenNotValidateException.class);
+		verifyNoInteractions(redisUtil, userRepository);
+	}
+}
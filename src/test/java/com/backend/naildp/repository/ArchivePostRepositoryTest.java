@@ -2,6 +2,7 @@ package com.backend.naildp.repository;
 
 import static org.assertj.core.api.Assertions.*;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -37,6 +38,8 @@ class ArchivePostRepositoryTest {
 	@Autowired
 	EntityManager em;
 
+	Archive archive;
+
 	@BeforeEach
 	void setup() {
 		User user = createTestMember("mj@naver.com", "mj", "0101111", 1L);
@@ -47,7 +50,7 @@ class ArchivePostRepositoryTest {
 		List<Post> writerPosts = createTestPostWithPhoto(10, writer);
 
 		// 아카이브 생성
-		Archive archive = createTestArchive(user, "mj의 전체 공개 아카이브", Boundary.ALL);
+		archive = createTestArchive(user, "mj의 전체 공개 아카이브", Boundary.ALL);
 
 		// 아카이브에 게시물 저장
 		savePostInArchive(writerPosts, archive);
@@ -83,6 +86,30 @@ class ArchivePostRepositoryTest {
 		writers.forEach(user -> assertThat(user.getPhoneNumber()).isEqualTo("0102222"));
 	}
 
+	@DisplayName("아카이브의 게시물을 복제한 아카이브로 한 번에 복사한다.")
+	@Test
+	void copyArchivePosts() {
+		//given
+		User user = em.find(User.class, archive.getUser().getId());
+		Archive copyArchive = createTestArchive(user, "mj의 전체 공개 아카이브Copy", Boundary.ALL);
+		LocalDateTime now = LocalDateTime.now();
+
+		//when
+		int copied = archivePostRepository.copyArchivePosts(archive.getId(), copyArchive.getId(), now);
+		em.clear();
+
+		//then
+		List<Long> originalPostIds = archivePostRepository.findArchivePostsByArchiveId(archive.getId()).stream()
+			.map(postMapping -> postMapping.getPost().getId())
+			.toList();
+		List<Long> copiedPostIds = archivePostRepository.findArchivePostsByArchiveId(copyArchive.getId()).stream()
+			.map(postMapping -> postMapping.getPost().getId())
+			.toList();
+
+		assertThat(copied).isEqualTo(10);
+		assertThat(copiedPostIds).containsExactlyInAnyOrderElementsOf(originalPostIds);
+	}
+
 	private User createTestMember(String email, String nickname, String phoneNumber, Long socialLoginId) {
 		LoginRequestDto loginRequestDto = new LoginRequestDto(nickname, phoneNumber, true);
 		User user = new User(loginRequestDto, UserRole.USER);
@@ -41,6 +41,7 @@ class CommentRepositoryTest {
 		int likeCnt = 5;
 		for (int i = 0; i < likeCnt; i++) {
 			em.persist(new CommentLike(commentLiker, comment));
+			commentRepository.increaseLikeCount(comment.getId());
 		}
 
 		em.flush();
@@ -53,6 +54,23 @@ class CommentRepositoryTest {
 		assertEquals(likeCnt, commentLikeCount);
 	}
 
+	@Test
+	void 댓글_좋아요_개수는_0_미만으로_줄지_않는다() {
+		//given
+		User user = createUser("nickname");
+		Post post = createPost(user);
+		Comment comment = registerComment(user, post);
+		commentRepository.increaseLikeCount(comment.getId());
+
+		//when
+		commentRepository.decreaseLikeCount(comment.getId());
+		commentRepository.decreaseLikeCount(comment.getId());
+		em.clear();
+
+		//then
+		assertEquals(0, commentRepository.countLikesById(comment.getId()));
+	}
+
 	private Comment registerComment(User user, Post post) {
 		Comment comment = new Comment(user, post, "comment");
 		em.persist(comment);
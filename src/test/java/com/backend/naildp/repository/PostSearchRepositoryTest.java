@@ -9,13 +9,8 @@ import static com.backend.naildp.entity.QTagPost.*;
 import static com.backend.naildp.entity.QUser.*;
 import static org.assertj.core.api.Assertions.*;
 
-import java.time.LocalDate;
-import java.time.LocalDateTime;
-import java.time.LocalTime;
 import java.util.ArrayList;
-import java.util.Comparator;
 import java.util.List;
-import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -28,11 +23,11 @@ import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Slice;
-import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Sort;
 import org.springframework.test.context.ActiveProfiles;
 
 import com.backend.naildp.common.Boundary;
+import com.backend.naildp.common.KeysetCursor;
 import com.backend.naildp.common.UserRole;
 import com.backend.naildp.config.JpaAuditingConfiguration;
 import com.backend.naildp.config.QueryDslTestConfig;
@@ -50,15 +45,8 @@ import com.backend.naildp.entity.QTagPost;
 import com.backend.naildp.entity.Tag;
 import com.backend.naildp.entity.TagPost;
 import com.backend.naildp.entity.User;
-import com.querydsl.core.Tuple;
-import com.querydsl.core.types.ExpressionUtils;
-import com.querydsl.core.types.Order;
-import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.dsl.BooleanExpression;
-import com.querydsl.core.types.dsl.Expressions;
-import com.querydsl.core.types.dsl.NumberPath;
 import com.querydsl.jpa.JPAExpressions;
-import com.querydsl.jpa.JPQLQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 
 import io.jsonwebtoken.lang.Strings;
@@ -120,13 +108,13 @@ public class PostSearchRepositoryTest {
 		//given
 		String username = "writer";
 		int pageSize = 20;
-		Post firstPost = em.createQuery("select p from Post p order by p.createdDate desc", Post.class)
+		Post firstPost = em.createQuery("select p from Post p order by p.likeCount desc, p.id desc", Post.class)
 			.setMaxResults(1)
 			.getSingleResult();
 
 		//when
 		Slice<Post> posts = postRepository.searchPostByKeyword(PageRequest.of(0, pageSize), List.of(keyword), username,
-			firstPost.getId());
+			KeysetCursor.of(firstPost.getLikeCount(), firstPost.getId()));
 
 		//then
 		assertThat(posts.hasNext()).isFalse();
@@ -135,23 +123,28 @@ public class PostSearchRepositoryTest {
 		assertThat(posts).extracting(Post::getBoundary).contains(Boundary.ALL);
 	}
 
-	@DisplayName("키워드를 가지는 게시물 검색 예외 - 커서인 Post 가 삭제되었을 때")
-	@ParameterizedTest
-	@CsvSource(value = {"가리비네일, 20", "태그아님, 10"})
-	void searchPostsByDeletedCursorId(String keyword, int expectedPostCount) {
+	@DisplayName("키워드를 가지는 게시물 검색 - 인코딩된 커서로 다음 페이지를 이어서 조회한다.")
+	@Test
+	void searchPostsByEncodedCursor() {
 		//given
 		String username = "writer";
-		int pageSize = 20;
-		PageRequest pageRequest = PageRequest.of(0, pageSize);
-		Post firstPost = em.createQuery("select p from Post p order by p.createdDate desc", Post.class)
-			.setMaxResults(1)
-			.getSingleResult();
+		List<String> keywords = List.of("가리비네일");
+		PageRequest pageRequest = PageRequest.of(0, 7);
+
+		Slice<Post> firstPage = postRepository.searchPostByKeyword(pageRequest, keywords, username, null);
+		Post lastPost = firstPage.getContent().get(firstPage.getNumberOfElements() - 1);
+		String cursor = KeysetCursor.of(lastPost.getLikeCount(), lastPost.getId()).encode();
+
+		//when
+		Slice<Post> secondPage = postRepository.searchPostByKeyword(pageRequest, keywords, username,
+			KeysetCursor.decode(cursor));
 
-		//when & then
-		assertThatThrownBy(() ->
-			postRepository.searchPostByKeyword(PageRequest.of(0, pageSize), List.of(keyword), username,
-				firstPost.getId() + 1))
-			.isInstanceOf(NullPointerException.class);
+		//then
+		assertThat(firstPage.hasNext()).isTrue();
+		assertThat(secondPage).hasSize(7);
+		assertThat(secondPage).extracting(Post::getId)
+			.doesNotContainAnyElementsOf(firstPage.map(Post::getId).getContent())
+			.allMatch(postId -> postId < lastPost.getId());
 	}
 
 	@DisplayName("일반 사용자로 두개의 키워드를 갖는 게시물 검색")
@@ -398,86 +391,6 @@ public class PostSearchRepositoryTest {
 			.contains("writer", "writerNotFollowed", "writerUsingTags");
 		assertThat(newestPostSlice).extracting(Post::getTempSave).containsOnly(false);
 	}
-
-	@DisplayName("자정부터 현시각까지 좋아요수 많은 순서대로 게시물 조회")
-	@Test
-	void trendPost() {
-		//given
-		User liker = getUserByNickname("nickname");
-		List<Post> publicPostFromWriter = findPostByNicknameAndBoundary("writer", Boundary.ALL);
-		addPostLike(liker, publicPostFromWriter, 3);
-		List<Post> followPostFromWriter = findPostByNicknameAndBoundary("writer", Boundary.FOLLOW);
-		addPostLike(liker, followPostFromWriter, 2);
-		List<Post> publicPostFromWriterNotFollowed = findPostByNicknameAndBoundary("writerNotFollowed", Boundary.ALL);
-		addPostLike(liker, publicPostFromWriterNotFollowed, 1);
-
-		em.flush();
-		em.clear();
-
-		String username = "nickname";
-		int pageSize = 40;
-		Long cursorPostId = null;
-		PageRequest pageRequest = PageRequest.of(0, pageSize);
-
-		//when
-		// Slice<Post> postSlice = findTrendPostSliceV2(username, cursorPostId, pageRequest);
-		Slice<Post> postSlice = postRepository.findTrendPostSlice(username, cursorPostId, pageRequest);
-
-		//then
-		assertThat(postSlice).hasSize(pageSize);
-		assertThat(postSlice.hasNext()).isFalse();
-		assertThat(postSlice).extracting(Post::getTempSave).containsOnly(false);
-		assertThat(postSlice.getContent()).isSortedAccordingTo(
-			Comparator.comparingInt((Post post) -> (int)post.getPostLikes()
-					.stream()
-					.filter(postLike1 -> postLike1.getCreatedDate().isBefore(LocalDateTime.now()) &&
-						postLike1.getCreatedDate().isAfter(LocalDateTime.of(LocalDate.now(), LocalTime.MIDNIGHT)))
-					.count()).reversed()
-				.thenComparing(Post::getCreatedDate, Comparator.reverseOrder())
-		);
-	}
-
-	@DisplayName("자정부터 현시각까지 좋아요수 많은 순서대로 게시물 조회 - 커서 페이징")
-	@Test
-	void trendPostWithCursor() {
-		//given
-		User liker = getUserByNickname("nickname");
-		List<Post> publicPostFromWriter = findPostByNicknameAndBoundary("writer", Boundary.ALL);
-		addPostLike(liker, publicPostFromWriter, 3);
-		List<Post> followPostFromWriter = findPostByNicknameAndBoundary("writer", Boundary.FOLLOW);
-		addPostLike(liker, followPostFromWriter, 2);
-		List<Post> publicPostFromWriterNotFollowed = findPostByNicknameAndBoundary("writerNotFollowed", Boundary.ALL);
-		addPostLike(liker, publicPostFromWriterNotFollowed, 1);
-
-		em.flush();
-		em.clear();
-
-		String username = "nickname";
-		int pageSize = 20;
-		PageRequest pageRequest = PageRequest.of(0, pageSize);
-
-		//when
-		// Slice<Post> trendPostSliceWithoutCursor = findTrendPostSliceV2(username, null, pageRequest);
-		Slice<Post> trendPostSliceWithoutCursor = postRepository.findTrendPostSlice(username, null, pageRequest);
-		Post cursorPost = trendPostSliceWithoutCursor.getContent()
-			.get(trendPostSliceWithoutCursor.getNumberOfElements() - 1);
-		// Slice<Post> trendPostSliceWithCursor = findTrendPostSliceV2(username, cursorPost.getId(), pageRequest);
-		Slice<Post> trendPostSliceWithCursor = postRepository.findTrendPostSlice(username, cursorPost.getId(), pageRequest);
-
-		//then
-		assertThat(trendPostSliceWithCursor).hasSize(pageSize);
-		assertThat(trendPostSliceWithCursor.hasNext()).isFalse();
-		assertThat(trendPostSliceWithCursor).extracting(Post::getTempSave).containsOnly(false);
-		assertThat(trendPostSliceWithCursor.getContent()).isSortedAccordingTo(
-			Comparator.comparingInt((Post post) -> (int)post.getPostLikes()
-					.stream()
-					.filter(postLike1 -> postLike1.getCreatedDate().isBefore(LocalDateTime.now()) &&
-						postLike1.getCreatedDate().isAfter(LocalDateTime.of(LocalDate.now(), LocalTime.MIDNIGHT)))
-					.count()).reversed()
-				.thenComparing(Post::getCreatedDate, Comparator.reverseOrder())
-		);
-	}
-
 	@DisplayName("사용자 맞춤형 게시물 조회 테스트")
 	@Test
 	void findForYouPost() {
@@ -622,116 +535,6 @@ public class PostSearchRepositoryTest {
 		return archive;
 	}
 
-	/**
-	 * 자정부터 현시각까지 좋아요가 많은 게시물 조회
-	 */
-	private Slice<Post> findTrendPostSlice(String username, Long cursorPostId, PageRequest pageRequest) {
-		NumberPath<Long> likeCount = Expressions.numberPath(Long.class, "likeCount");
-
-		List<Tuple> tuples = queryFactory
-			.select(post,
-				ExpressionUtils.as(JPAExpressions
-						.select(postLike.count())
-						.from(postLike)
-						.where(postLike.post.eq(post),
-							postLike.createdDate
-								.between(LocalDateTime.of(LocalDate.now(), LocalTime.MIDNIGHT), LocalDateTime.now())),
-					likeCount)
-			)
-			.from(post)
-			.where(post.tempSave.isFalse()
-				.and(isAllowedToViewPosts(username))
-				.and(
-					hasLessLikeThanCursorPost(cursorPostId)
-				)
-			)
-			.orderBy(likeCount.desc(), post.createdDate.desc())
-			.limit(pageRequest.getPageSize() + 1)
-			.fetch();
-
-		List<Post> posts = tuples.stream().map(tuple -> tuple.get(post)).collect(Collectors.toList());
-
-		return new SliceImpl<>(posts, pageRequest, hasNext(posts, pageRequest.getPageSize()));
-	}
-
-	private Slice<Post> findTrendPostSliceV2(String username, Long cursorPostId, PageRequest pageRequest) {
-		JPQLQuery<Long> postLikeCountQuery = JPAExpressions
-			.select(postLike.count())
-			.from(postLike)
-			.where(postLike.post.eq(post),
-				postLike.createdDate
-					.between(LocalDateTime.of(LocalDate.now(), LocalTime.MIDNIGHT), LocalDateTime.now()));
-
-		OrderSpecifier<Long> orderSpecifier = new OrderSpecifier<>(Order.DESC, postLikeCountQuery);
-
-		List<Post> posts = queryFactory
-			.select(post)
-			.from(post)
-			.where(post.tempSave.isFalse()
-				.and(isAllowedToViewPosts(username))
-				.and(hasLessLikeThanCursorPost(cursorPostId))
-			)
-			.orderBy(orderSpecifier, post.createdDate.desc())
-			.limit(pageRequest.getPageSize() + 1)
-			.fetch();
-
-		return new SliceImpl<>(posts, pageRequest, hasNext(posts, pageRequest.getPageSize()));
-	}
-
-	private BooleanExpression hasLessLikeThanCursorPost(Long cursorPostId) {
-		if (cursorPostId == null) {
-			return null;
-		}
-
-		JPQLQuery<Long> postTodayLikeQuery = JPAExpressions
-			.select(postLike.count())
-			.from(postLike)
-			.where(postLike.post.eq(post),
-				postLike.createdDate.between(LocalDateTime.of(LocalDate.now(), LocalTime.MIDNIGHT),
-					LocalDateTime.now()));
-
-		JPQLQuery<Long> cursorPostTodayLikeQuery = JPAExpressions
-			.select(postLike.count())
-			.from(postLike)
-			.where(postLike.post.id.eq(cursorPostId)
-				, postLike.createdDate.between(LocalDateTime.of(LocalDate.now(), LocalTime.MIDNIGHT),
-					LocalDateTime.now()));
-
-		return postTodayLikeQuery.lt(cursorPostTodayLikeQuery)
-			.or(postTodayLikeQuery.eq(cursorPostId).and(isRegisteredBeforeCursorPost(cursorPostId)));
-	}
-
-	private BooleanExpression isRegisteredBeforeCursorPost(Long cursorPostId) {
-		if (cursorPostId == null) {
-			return null;
-		}
-
-		return post.createdDate.before(
-			JPAExpressions.select(post.createdDate).from(post).where(post.id.eq(cursorPostId)));
-	}
-
-	private boolean hasNext(List<Post> posts, int size) {
-		if (posts.size() > size) {
-			posts.remove(size);
-			return true;
-		}
-		return false;
-	}
-
-	private void addPostLike(User liker, List<Post> publicPostFromWriter, double likeCount) {
-		publicPostFromWriter.forEach(post -> {
-			for (int i = 0; i < likeCount; i++) {
-				em.persist(new PostLike(liker, post));
-			}
-		});
-	}
-
-	private List<Post> findPostByNicknameAndBoundary(String writerNickname, Boundary boundary) {
-		return queryFactory.selectFrom(post)
-			.where(post.user.nickname.eq(writerNickname).and(post.boundary.eq(boundary)))
-			.fetch();
-	}
-
 	private BooleanExpression isAllowedToViewPosts(String usernameCond) {
 		if (!Strings.hasText(usernameCond)) {
 			return post.boundary.eq(Boundary.ALL);
@@ -0,0 +1,90 @@
+package com.backend.naildp.repository;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import com.backend.naildp.common.Boundary;
+import com.backend.naildp.common.UserRole;
+import com.backend.naildp.config.JpaAuditingConfiguration;
+import com.backend.naildp.entity.Archive;
+import com.backend.naildp.entity.User;
+import com.backend.naildp.oauth2.impl.UserDetailsServiceImpl;
+
+import jakarta.persistence.EntityManager;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({JpaAuditingConfiguration.class, UserRepositoryTest.SqlCaptureConfig.class})
+class UserRepositoryTest {
+
+	// 실행된 SQL 을 모아 사용자 조회 쿼리에 아카이브 수 서브쿼리가 붙는지 확인한다.
+	static final List<String> EXECUTED_SQL = new CopyOnWriteArrayList<>();
+
+	@TestConfiguration
+	static class SqlCaptureConfig {
+
+		@Bean
+		HibernatePropertiesCustomizer sqlCaptureCustomizer() {
+			return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, (StatementInspector)sql -> {
+				EXECUTED_SQL.add(sql);
+				return sql;
+			});
+		}
+	}
+
+	@Autowired
+	UserRepository userRepository;
+	@Autowired
+	EntityManager em;
+
+	@BeforeEach
+	void setup() {
+		User user = User.builder()
+			.nickname("authUser")
+			.phoneNumber("pn")
+			.agreement(true)
+			.role(UserRole.USER)
+			.thumbnailUrl("")
+			.build();
+		em.persist(user);
+		for (int i = 0; i < 3; i++) {
+			em.persist(new Archive(user, "archive" + i, Boundary.ALL));
+		}
+		em.flush();
+		em.clear();
+
+		EXECUTED_SQL.clear();
+	}
+
+	@DisplayName("인증 시 사용자 조회는 아카이브 수 계산 없이 한 번의 쿼리로 끝난다.")
+	@Test
+	void loadUserByUsernameWithSingleQuery() {
+		//given
+		UserDetailsServiceImpl userDetailsService = new UserDetailsServiceImpl(userRepository);
+
+		//when
+		UserDetails userDetails = userDetailsService.loadUserByUsername("authUser");
+
+		//then
+		assertThat(userDetails.getUsername()).isEqualTo("authUser");
+		assertThat(EXECUTED_SQL).hasSize(1);
+		assertThat(EXECUTED_SQL.get(0).toLowerCase(Locale.ROOT)).contains("users").doesNotContain("archive");
+	}
+}
@@ -22,8 +22,10 @@ import com.backend.naildp.config.JpaAuditingConfiguration;
 import com.backend.naildp.config.QueryDslTestConfig;
 import com.backend.naildp.dto.search.SearchUserResponse;
 import com.backend.naildp.entity.Follow;
+import com.backend.naildp.entity.NicknameGram;
 import com.backend.naildp.entity.Post;
 import com.backend.naildp.entity.User;
+import com.backend.naildp.entity.UserStats;
 import com.querydsl.core.types.ExpressionUtils;
 import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.Projections;
@@ -54,6 +56,9 @@ public class UserSearchRepositoryTest {
 	@Autowired
 	UserRepository userRepository;
 
+	@Autowired
+	UserStatsRepository userStatsRepository;
+
 	final String NICKNAME_PREFIX = "x";
 	final int SEARCH_USER_CNT = 20;
 	final int POST_CNT = 10;
@@ -77,6 +82,7 @@ public class UserSearchRepositoryTest {
 		User 나가지마라 = createUserByNickname("나가지마라");
 		createFollow(user, 나가지마라);
 
+		userStatsRepository.refreshByIds(userStatsRepository.findAll().stream().map(UserStats::getId).toList());
 		em.flush();
 		em.clear();
 	}
@@ -108,6 +114,23 @@ public class UserSearchRepositoryTest {
 		assertThat(responses).hasSize(10);
 	}
 
+	@DisplayName("검색 결과의 게시물 수, 팔로워 수는 사용자 집계에서 조회한다.")
+	@Test
+	void searchUserWithStats() {
+		//given
+		String keyword = NICKNAME_PREFIX + "10";
+		String username = "nickname";
+
+		//when
+		List<SearchUserResponse> responses = userRepository.searchByKeyword(keyword, username);
+
+		//then
+		assertThat(responses).hasSize(1);
+		assertThat(responses.get(0).getPostCount()).isEqualTo(11L);
+		assertThat(responses.get(0).getFollowerCount()).isEqualTo(1L);
+		assertThat(responses.get(0).isFollowing()).isTrue();
+	}
+
 	@DisplayName("사용자 닉네임이 아닌 키워드로 검색")
 	@Test
 	void searchUserByNotExistedKeyword() {
@@ -131,6 +154,8 @@ public class UserSearchRepositoryTest {
 			.role(UserRole.USER)
 			.build();
 		em.persist(user);
+		em.persist(new UserStats(user));
+		NicknameGram.of(user).forEach(em::persist);
 		return user;
 	}
 
@@ -0,0 +1,123 @@
+package com.backend.naildp.repository;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import com.backend.naildp.common.Boundary;
+import com.backend.naildp.common.UserRole;
+import com.backend.naildp.config.JpaAuditingConfiguration;
+import com.backend.naildp.entity.Archive;
+import com.backend.naildp.entity.ArchivePost;
+import com.backend.naildp.entity.Follow;
+import com.backend.naildp.entity.Post;
+import com.backend.naildp.entity.User;
+import com.backend.naildp.entity.UserStats;
+
+import jakarta.persistence.EntityManager;
+
+@DataJpaTest
+@Import(JpaAuditingConfiguration.class)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class UserStatsRepositoryTest {
+
+	@Autowired
+	UserStatsRepository userStatsRepository;
+
+	@Autowired
+	EntityManager em;
+
+	private User user;
+	private User following;
+	private User stranger;
+	private Archive archive;
+
+	@BeforeEach
+	void setup() {
+		user = createUser("user");
+		following = createUser("following");
+		stranger = createUser("stranger");
+		em.persist(new Follow(user, following));
+		em.persist(new Follow(stranger, user));
+
+		archive = new Archive(user, "archive", Boundary.ALL);
+		em.persist(archive);
+	}
+
+	@DisplayName("저장 수는 전체 공개, 본인 게시물, 팔로우한 사용자의 팔로우 공개 게시물만 센다.")
+	@Test
+	void refreshVisibleSavedPostCount() {
+		//given
+		savePost(createPost(stranger, Boundary.ALL, false));
+		savePost(createPost(following, Boundary.FOLLOW, false));
+		savePost(createPost(user, Boundary.NONE, false));
+		savePost(createPost(stranger, Boundary.FOLLOW, false));
+		savePost(createPost(following, Boundary.NONE, false));
+		createPost(user, Boundary.ALL, false);
+		createPost(user, Boundary.ALL, true);
+
+		//when
+		userStatsRepository.refreshByNickname("user");
+		em.clear();
+
+		//then
+		UserStats userStats = userStatsRepository.findById(user.getId()).orElseThrow();
+		assertThat(userStats.getPostCount()).isEqualTo(2L);
+		assertThat(userStats.getSavedPostCount()).isEqualTo(5L);
+		assertThat(userStats.getVisibleSavedPostCount()).isEqualTo(3L);
+		assertThat(userStats.getFollowerCount()).isEqualTo(1L);
+		assertThat(userStats.getFollowingCount()).isEqualTo(1L);
+	}
+
+	@DisplayName("게시물을 저장한 사용자의 집계만 다시 계산한다.")
+	@Test
+	void refreshSaversOf() {
+		//given
+		Post post = createPost(stranger, Boundary.ALL, false);
+		savePost(post);
+
+		//when
+		int refreshed = userStatsRepository.refreshSaversOf(post.getId());
+		em.clear();
+
+		//then
+		assertThat(refreshed).isEqualTo(1);
+		assertThat(userStatsRepository.findById(user.getId()).orElseThrow().getVisibleSavedPostCount())
+			.isEqualTo(1L);
+		assertThat(userStatsRepository.findById(stranger.getId()).orElseThrow().getPostCount()).isEqualTo(0L);
+	}
+
+	private User createUser(String nickname) {
+		User user = User.builder()
+			.nickname(nickname)
+			.phoneNumber("pn")
+			.agreement(true)
+			.thumbnailUrl("")
+			.role(UserRole.USER)
+			.build();
+		em.persist(user);
+		em.persist(new UserStats(user));
+		return user;
+	}
+
+	private Post createPost(User writer, Boundary boundary, boolean tempSave) {
+		Post post = Post.builder()
+			.user(writer)
+			.postContent("")
+			.tempSave(tempSave)
+			.boundary(boundary)
+			.build();
+		em.persist(post);
+		return post;
+	}
+
+	private void savePost(Post post) {
+		em.persist(new ArchivePost(archive, post));
+	}
+}
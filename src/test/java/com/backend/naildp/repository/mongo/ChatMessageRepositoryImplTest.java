@@ -0,0 +1,97 @@
+package com.backend.naildp.repository.mongo;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.mongo.DataMongoTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.backend.naildp.common.KeysetCursor;
+import com.backend.naildp.entity.mongo.ChatMessage;
+
+@ActiveProfiles(profiles = {"test", "secret"})
+@DataMongoTest
+class ChatMessageRepositoryImplTest {
+
+	@Autowired
+	ChatMessageRepository chatMessageRepository;
+	@Autowired
+	MongoTemplate mongoTemplate;
+
+	String chatRoomId = UUID.randomUUID().toString();
+	LocalDateTime sameTime = LocalDateTime.of(2024, 5, 1, 12, 0, 0);
+	List<String> sameTimeIds = new ArrayList<>();
+
+	@BeforeEach
+	void setup() {
+		// 같은 시각에 저장된 메시지 3개와 앞뒤 시각 메시지 1개씩
+		for (int i = 0; i < 3; i++) {
+			sameTimeIds.add(new ObjectId().toHexString());
+		}
+		sameTimeIds.sort(String::compareTo);
+
+		insert(new ObjectId().toHexString(), sameTime.minusSeconds(1));
+		sameTimeIds.forEach(id -> insert(id, sameTime));
+		insert(new ObjectId().toHexString(), sameTime.plusSeconds(1));
+	}
+
+	@AfterEach
+	void cleanup() {
+		mongoTemplate.remove(Query.query(Criteria.where("chatRoomId").is(chatRoomId)), ChatMessage.class);
+	}
+
+	@DisplayName("작성 시각이 같은 메시지는 id 역순으로 이어서 조회해 페이지 사이에 빠지거나 겹치는 메시지가 없다.")
+	@Test
+	void pageMessagesWithSameCreatedAt() {
+		//when
+		Slice<ChatMessage> first = findPage(null);
+		Slice<ChatMessage> second = findPage(cursorOf(first));
+		Slice<ChatMessage> third = findPage(cursorOf(second));
+
+		//then
+		assertThat(first.getContent()).extracting(ChatMessage::getCreatedAt)
+			.containsExactly(sameTime.plusSeconds(1), sameTime);
+		assertThat(first.getContent().get(1).getId()).isEqualTo(sameTimeIds.get(2));
+		assertThat(second.getContent()).extracting(ChatMessage::getId)
+			.containsExactly(sameTimeIds.get(1), sameTimeIds.get(0));
+		assertThat(third.getContent()).extracting(ChatMessage::getCreatedAt).containsExactly(sameTime.minusSeconds(1));
+		assertThat(first.hasNext()).isTrue();
+		assertThat(second.hasNext()).isTrue();
+		assertThat(third.hasNext()).isFalse();
+	}
+
+	private Slice<ChatMessage> findPage(KeysetCursor cursor) {
+		return chatMessageRepository.findMessagesBeforeCursor(chatRoomId, null, cursor, PageRequest.of(0, 2));
+	}
+
+	private KeysetCursor cursorOf(Slice<ChatMessage> page) {
+		ChatMessage last = page.getContent().get(page.getNumberOfElements() - 1);
+		return KeysetCursor.of(last.getCreatedAt(), last.getId());
+	}
+
+	private void insert(String id, LocalDateTime createdAt) {
+		mongoTemplate.insert(ChatMessage.builder()
+			.id(id)
+			.chatRoomId(chatRoomId)
+			.sender("sender")
+			.content("content")
+			.messageType("CHAT")
+			.createdAt(createdAt)
+			.build());
+	}
+}
@@ -3,7 +3,7 @@ package com.backend.naildp.service;
 import static org.assertj.core.api.AssertionsForClassTypes.*;
 import static org.mockito.BDDMockito.*;
 
-import java.util.Arrays;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -14,6 +14,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import com.backend.naildp.common.Boundary;
 import com.backend.naildp.common.UserRole;
@@ -28,11 +29,10 @@ import com.backend.naildp.entity.User;
 import com.backend.naildp.exception.CustomException;
 import com.backend.naildp.repository.ArchivePostRepository;
 import com.backend.naildp.repository.ArchiveRepository;
-import com.backend.naildp.repository.FollowRepository;
 import com.backend.naildp.repository.PostLikeRepository;
-import com.backend.naildp.repository.PostMapping;
 import com.backend.naildp.repository.PostRepository;
 import com.backend.naildp.repository.UserRepository;
+import com.backend.naildp.service.post.PostCardAssembler;
 
 @ExtendWith(MockitoExtension.class)
 class ArchiveServiceTest {
@@ -50,11 +50,17 @@ class ArchiveServiceTest {
 	private PostRepository postRepository;
 
 	@Mock
-	private FollowRepository followRepository;
+	private FollowGraph followGraph;
 
 	@Mock
 	private PostLikeRepository postLikeRepository;
 
+	@Mock
+	private PostCardAssembler postCardAssembler;
+
+	@Mock
+	private ApplicationEventPublisher applicationEventPublisher;
+
 	@InjectMocks
 	private ArchiveService archiveService;
 
@@ -239,12 +245,10 @@ class ArchiveServiceTest {
 		archive = new Archive(archiveUser, "Test Archive", Boundary.ALL);
 		photo = new Photo(post, "photoUrl.jpg", "photo.jpg");
 		post.addPhoto(photo);
-		User postUser = post.getUser();
 
 		given(postRepository.findById(1L)).willReturn(Optional.of(post));
 		given(archiveRepository.findArchiveById(1L)).willReturn(Optional.of(archive));
-		given(followRepository.existsByFollowerNicknameAndFollowing(archiveUser.getNickname(), postUser)).willReturn(
-			false);
+		given(followGraph.canView(archiveUser.getNickname(), post)).willReturn(false);
 
 		assertThatThrownBy(() -> archiveService.saveArchive(archiveUser.getNickname(), 1L, 1L))
 			.isInstanceOf(CustomException.class)
@@ -261,12 +265,9 @@ class ArchiveServiceTest {
 			.archiveImgUrl("imageUrl")
 			.build();
 
-		ArchivePost archivePost = new ArchivePost(originalArchive, post);
-		List<PostMapping> postList = Arrays.asList(() -> post);
-
 		given(userRepository.findByNickname(anyString())).willReturn(Optional.of(user));
 		given(archiveRepository.findArchiveById(anyLong())).willReturn(Optional.of(originalArchive));
-		given(archivePostRepository.findArchivePostsByArchiveId(anyLong())).willReturn(postList);
+		given(archivePostRepository.copyArchivePosts(any(), any(), any(LocalDateTime.class))).willReturn(1);
 
 		ArchiveIdRequestDto requestDto = new ArchiveIdRequestDto(1L);
 
@@ -275,7 +276,8 @@ class ArchiveServiceTest {
 
 		// Then
 		then(archiveRepository).should().save(any(Archive.class));
-		then(archivePostRepository).should().save(any(ArchivePost.class));
+		then(archivePostRepository).should().copyArchivePosts(any(), any(), any(LocalDateTime.class));
+		then(archivePostRepository).should(never()).save(any(ArchivePost.class));
 	}
 
 	@Test
@@ -288,11 +290,9 @@ class ArchiveServiceTest {
 			.archiveImgUrl("imageUrl")
 			.build();
 
-		ArchivePost archivePost = new ArchivePost(originalArchive, post);
-
 		given(userRepository.findByNickname(anyString())).willReturn(Optional.of(user));
 		given(archiveRepository.findArchiveById(anyLong())).willReturn(Optional.of(originalArchive));
-		given(archivePostRepository.findArchivePostsByArchiveId(anyLong())).willReturn(Arrays.asList());
+		given(archivePostRepository.copyArchivePosts(any(), any(), any(LocalDateTime.class))).willReturn(0);
 
 		ArchiveIdRequestDto requestDto = new ArchiveIdRequestDto(1L);
 
@@ -301,6 +301,7 @@ class ArchiveServiceTest {
 
 		// Then
 		then(archiveRepository).should().save(any(Archive.class));
+		then(archivePostRepository).should().copyArchivePosts(any(), any(), any(LocalDateTime.class));
 		then(archivePostRepository).shouldHaveNoMoreInteractions();
 	}
 
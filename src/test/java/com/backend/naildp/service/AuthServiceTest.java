@@ -74,6 +74,8 @@ class AuthServiceTest {
 	private AuthService authService;
 	@Mock
 	private UsersProfileRepository usersProfileRepository;
+	@Mock
+	private UserStatsService userStatsService;
 
 	private LoginRequestDto loginRequestDto;
 	private SocialUserInfoDto kakaoUserInfoDto;
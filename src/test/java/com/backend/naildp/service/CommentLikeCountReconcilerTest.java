@@ -0,0 +1,76 @@
+package com.backend.naildp.service;
+
+import static org.mockito.BDDMockito.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class CommentLikeCountReconcilerTest {
+
+	@InjectMocks
+	CommentLikeCountReconciler commentLikeCountReconciler;
+
+	@Mock
+	JdbcTemplate jdbcTemplate;
+
+	@Mock
+	SchedulerLock schedulerLock;
+
+	@Mock
+	RedisTemplate<String, String> redisTemplate;
+
+	@Mock
+	ValueOperations<String, String> valueOperations;
+
+	@DisplayName("보정 락을 얻은 서버만 댓글 id 구간별로 좋아요 수를 다시 센다.")
+	@Test
+	void reconcileWithLock() {
+		//given
+		given(schedulerLock.tryLock(eq(CommentLikeCountReconciler.RECONCILE_JOB), any())).willReturn(true);
+		given(jdbcTemplate.queryForObject(anyString(), eq(Long.class))).willReturn(1500L);
+		given(redisTemplate.opsForValue()).willReturn(valueOperations);
+
+		//when
+		commentLikeCountReconciler.reconcile();
+
+		//then
+		verify(jdbcTemplate).update(anyString(), eq(0L), eq(1000L));
+		verify(jdbcTemplate).update(anyString(), eq(1000L), eq(2000L));
+		verify(jdbcTemplate, times(2)).update(anyString(), anyLong(), anyLong());
+		verify(valueOperations).set(CommentLikeCountReconciler.DONE_KEY, "1");
+	}
+
+	@DisplayName("이미 보정을 마쳤으면 다시 세지 않는다.")
+	@Test
+	void skipAfterBackfilled() {
+		//given
+		given(redisTemplate.hasKey(CommentLikeCountReconciler.DONE_KEY)).willReturn(true);
+
+		//when
+		commentLikeCountReconciler.reconcile();
+
+		//then
+		verifyNoInteractions(jdbcTemplate, schedulerLock);
+	}
+
+	@DisplayName("다른 서버가 보정 중이면 보정하지 않는다.")
+	@Test
+	void skipReconcileWithoutLock() {
+		//given
+		given(schedulerLock.tryLock(eq(CommentLikeCountReconciler.RECONCILE_JOB), any())).willReturn(false);
+
+		//when
+		commentLikeCountReconciler.reconcile();
+
+		//then
+		verifyNoInteractions(jdbcTemplate);
+	}
+}
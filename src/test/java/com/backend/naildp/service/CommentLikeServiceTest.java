@@ -17,6 +17,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import com.backend.naildp.common.Boundary;
 import com.backend.naildp.common.UserRole;
+import com.backend.naildp.dto.follow.FollowEventDto;
 import com.backend.naildp.dto.postLike.PostLikeCountResponse;
 import com.backend.naildp.entity.Comment;
 import com.backend.naildp.entity.CommentLike;
@@ -43,6 +44,8 @@ public class CommentLikeServiceTest {
 	PostRepository postRepository;
 	@Autowired
 	FollowRepository followRepository;
+	@Autowired
+	FollowGraph followGraph;
 
 	Long publicPostId;
 	Long followPostId;
@@ -225,6 +228,7 @@ public class CommentLikeServiceTest {
 	private Follow saveFollow(User followerUser, User postWriter) {
 		Follow follow = new Follow(followerUser, postWriter);
 		em.persist(follow);
+		followGraph.evict(new FollowEventDto(followerUser.getNickname(), postWriter.getNickname(), true));
 		return follow;
 	}
 
@@ -130,6 +130,7 @@ class CommentLikeServiceUnitTest {
 
 		//then
 		assertThat(commentLikeId).isNull();
+		verify(commentRepository).increaseLikeCount(2L);
 	}
 
 	private User createUser(String nickname) {
@@ -22,6 +22,7 @@ import com.backend.naildp.entity.Comment;
 import com.backend.naildp.entity.CommentLike;
 import com.backend.naildp.entity.Post;
 import com.backend.naildp.entity.User;
+import com.backend.naildp.repository.CommentRepository;
 
 import jakarta.persistence.EntityManager;
 
@@ -33,6 +34,8 @@ class CommentServiceTest {
 	@Autowired
 	CommentService commentService;
 
+	@Autowired
+	CommentRepository commentRepository;
 	@Autowired
 	EntityManager em;
 
@@ -65,7 +68,7 @@ class CommentServiceTest {
 		Post post = findPostByWriterNickname("postWriter");
 
 		//when
-		CommentSummaryResponse response = commentService.findComments(post.getId(), pageSize, FIRST_CURSOR_ID,
+		CommentSummaryResponse response = commentService.findComments(post.getId(), pageSize, FIRST_CURSOR_ID, null,
 			userNickname);
 		Slice<CommentInfoResponse> contents = response.getContents();
 
@@ -86,7 +89,7 @@ class CommentServiceTest {
 		Post post = findPostByWriterNickname("postWriter");
 
 		//when
-		CommentSummaryResponse response = commentService.findComments(post.getId(), pageSize, FIRST_CURSOR_ID,
+		CommentSummaryResponse response = commentService.findComments(post.getId(), pageSize, FIRST_CURSOR_ID, null,
 			userNickname);
 		Slice<CommentInfoResponse> contents = response.getContents();
 
@@ -106,7 +109,7 @@ class CommentServiceTest {
 		Post post = findPostByWriterNickname(POST_WRITER_NICKNAME_WITHOUT_COMMENT);
 
 		//when
-		CommentSummaryResponse response = commentService.findComments(post.getId(), pageSize, FIRST_CURSOR_ID,
+		CommentSummaryResponse response = commentService.findComments(post.getId(), pageSize, FIRST_CURSOR_ID, null,
 			userNickname);
 		Slice<CommentInfoResponse> contents = response.getContents();
 
@@ -133,6 +136,8 @@ class CommentServiceTest {
 			CommentLike commentLike2 = new CommentLike(commentLiker2, comment);
 			em.persist(commentLike);
 			em.persist(commentLike2);
+			commentRepository.increaseLikeCount(comment.getId());
+			commentRepository.increaseLikeCount(comment.getId());
 		}
 
 		em.flush();
@@ -141,7 +146,7 @@ class CommentServiceTest {
 		//when
 		int size = 20;
 		long cursorId = -1L;
-		CommentSummaryResponse response = commentService.findComments(post.getId(), size, cursorId,
+		CommentSummaryResponse response = commentService.findComments(post.getId(), size, cursorId, null,
 			commentLiker.getNickname());
 		Slice<CommentInfoResponse> responseSlice = response.getContents();
 
@@ -167,16 +172,18 @@ class CommentServiceTest {
 			CommentLike commentLike2 = new CommentLike(commentLiker2, comment);
 			em.persist(commentLike);
 			em.persist(commentLike2);
+			commentRepository.increaseLikeCount(comment.getId());
+			commentRepository.increaseLikeCount(comment.getId());
 		}
 
 		em.flush();
 		em.clear();
 
 		//when
-		CommentSummaryResponse response = commentService.findComments(post.getId(), 20, -1L,
+		CommentSummaryResponse response = commentService.findComments(post.getId(), 20, -1L, null,
 			commentLiker.getNickname());
 		CommentSummaryResponse secondResponse = commentService.findComments(post.getId(), 20, response.getCursorId(),
-			commentLiker.getNickname());
+			response.getCursorLikeCount(), commentLiker.getNickname());
 
 		Slice<CommentInfoResponse> responseSlice = secondResponse.getContents();
 
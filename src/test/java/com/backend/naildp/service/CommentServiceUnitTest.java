@@ -14,6 +14,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.SliceImpl;
@@ -24,6 +25,7 @@ import com.backend.naildp.common.UserRole;
 import com.backend.naildp.dto.comment.CommentInfoResponse;
 import com.backend.naildp.dto.comment.CommentRegisterDto;
 import com.backend.naildp.dto.comment.CommentSummaryResponse;
+import com.backend.naildp.dto.post.PostCountEventDto;
 import com.backend.naildp.entity.Comment;
 import com.backend.naildp.entity.Post;
 import com.backend.naildp.entity.User;
@@ -55,6 +57,9 @@ class CommentServiceUnitTest {
 	@Mock
 	UserRepository userRepository;
 
+	@Mock
+	ApplicationEventPublisher applicationEventPublisher;
+
 	@Test
 	void 임시저장_게시물에_댓글_등록_실패_테스트() {
 		//given
@@ -115,6 +120,7 @@ class CommentServiceUnitTest {
 		verify(postRepository).findPostAndUser(anyLong());
 		verify(userRepository).findByNickname(eq(writerNickname));
 		verify(commentRepository).save(any(Comment.class));
+		verify(applicationEventPublisher).publishEvent(any(PostCountEventDto.class));
 	}
 
 	@DisplayName("팔로우 공개 게시물에 팔로워가 아닌 사용자가 댓글 등록시 예외 발생")
@@ -306,7 +312,7 @@ class CommentServiceUnitTest {
 		when(commentRepository.findCommentsByPostId(anyLong(), any(PageRequest.class))).thenReturn(emptyCommentSlice);
 
 		//when
-		CommentSummaryResponse response = commentService.findComments(postId, size, cursorId, "userNickname");
+		CommentSummaryResponse response = commentService.findComments(postId, size, cursorId, null, "userNickname");
 		Slice<CommentInfoResponse> contents = response.getContents();
 
 		//then
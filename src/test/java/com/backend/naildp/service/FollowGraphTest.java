@@ -0,0 +1,138 @@
+package com.backend.naildp.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.backend.naildp.common.Boundary;
+import com.backend.naildp.common.UserRole;
+import com.backend.naildp.dto.follow.FollowEventDto;
+import com.backend.naildp.entity.Post;
+import com.backend.naildp.entity.User;
+import com.backend.naildp.repository.FollowRepository;
+
+@ExtendWith(MockitoExtension.class)
+class FollowGraphTest {
+
+	@Mock
+	FollowRepository followRepository;
+
+	@Mock
+	RedisTemplate<String, String> redisTemplate;
+
+	@Mock
+	RedisMessageListenerContainer redisMessageListenerContainer;
+
+	FollowGraph followGraph;
+	User viewer;
+	User following;
+	User stranger;
+
+	@BeforeEach
+	void setup() {
+		followGraph = new FollowGraph(followRepository, redisTemplate, redisMessageListenerContainer);
+		viewer = createUser("viewer");
+		following = createUser("following");
+		stranger = createUser("stranger");
+	}
+
+	@DisplayName("팔로잉 목록은 한 번만 조회하고 이후 포함 여부는 캐시에서 확인한다.")
+	@Test
+	void followsFromCache() {
+		//given
+		List<UUID> followingIds = new ArrayList<>(IntStream.range(0, 100).mapToObj(i -> UUID.randomUUID()).toList());
+		followingIds.add(following.getId());
+		given(followRepository.findFollowingIdsByUserNickname("viewer")).willReturn(followingIds);
+
+		//when & then
+		assertThat(followGraph.follows("viewer", following)).isTrue();
+		assertThat(followGraph.follows("viewer", stranger)).isFalse();
+		assertThat(followGraph.findFollowingIds("viewer")).containsExactlyInAnyOrderElementsOf(followingIds);
+		verify(followRepository, times(1)).findFollowingIdsByUserNickname("viewer");
+	}
+
+	@DisplayName("게시물 공개범위와 팔로우 여부로 열람 가능 여부를 판단한다.")
+	@Test
+	void canView() {
+		//given
+		given(followRepository.findFollowingIdsByUserNickname("viewer")).willReturn(List.of(following.getId()));
+
+		//when & then
+		assertThat(followGraph.canView("viewer", createPost(stranger, Boundary.ALL))).isTrue();
+		assertThat(followGraph.canView("viewer", createPost(following, Boundary.FOLLOW))).isTrue();
+		assertThat(followGraph.canView("viewer", createPost(stranger, Boundary.FOLLOW))).isFalse();
+		assertThat(followGraph.canView("viewer", createPost(viewer, Boundary.FOLLOW))).isTrue();
+		assertThat(followGraph.canView("viewer", createPost(following, Boundary.NONE))).isFalse();
+		assertThat(followGraph.canView("viewer", createPost(viewer, Boundary.NONE))).isTrue();
+	}
+
+	@DisplayName("비로그인 사용자는 팔로잉 목록을 조회하지 않는다.")
+	@Test
+	void anonymousViewer() {
+		//when & then
+		assertThat(followGraph.follows(null, following)).isFalse();
+		assertThat(followGraph.findFollowingIds("")).isEmpty();
+		verifyNoInteractions(followRepository);
+	}
+
+	@DisplayName("팔로우 변경 시 로컬 캐시를 비우고 다른 서버에 삭제 메시지를 발행한다.")
+	@Test
+	void evictAndPublish() {
+		//given
+		given(followRepository.findFollowingIdsByUserNickname("viewer"))
+			.willReturn(List.of())
+			.willReturn(List.of(following.getId()));
+		assertThat(followGraph.follows("viewer", following)).isFalse();
+
+		//when
+		followGraph.evict(new FollowEventDto("viewer", "following", true));
+
+		//then
+		assertThat(followGraph.follows("viewer", following)).isTrue();
+		verify(redisTemplate).convertAndSend(FollowGraph.INVALIDATE_CHANNEL, "viewer");
+	}
+
+	@DisplayName("다른 서버에서 발행한 삭제 메시지를 받으면 캐시를 비운다.")
+	@Test
+	void evictByMessage() {
+		//given
+		given(followRepository.findFollowingIdsByUserNickname("viewer")).willReturn(List.of());
+		followGraph.follows("viewer", following);
+		DefaultMessage message = new DefaultMessage(
+			FollowGraph.INVALIDATE_CHANNEL.getBytes(StandardCharsets.UTF_8),
+			"viewer".getBytes(StandardCharsets.UTF_8));
+
+		//when
+		followGraph.onMessage(message, null);
+		followGraph.follows("viewer", following);
+
+		//then
+		verify(followRepository, times(2)).findFollowingIdsByUserNickname("viewer");
+	}
+
+	private User createUser(String nickname) {
+		User user = User.builder().nickname(nickname).phoneNumber("pn").agreement(true).role(UserRole.USER).build();
+		ReflectionTestUtils.setField(user, "id", UUID.randomUUID());
+		return user;
+	}
+
+	private Post createPost(User writer, Boundary boundary) {
+		return Post.builder().user(writer).postContent("").tempSave(false).boundary(boundary).build();
+	}
+}
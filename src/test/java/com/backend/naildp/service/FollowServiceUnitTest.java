@@ -11,6 +11,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import com.backend.naildp.common.UserRole;
 import com.backend.naildp.entity.Follow;
@@ -30,6 +31,10 @@ class FollowServiceUnitTest {
 	FollowRepository followRepository;
 	@Mock
 	UserRepository userRepository;
+	@Mock
+	NotificationManager notificationManager;
+	@Mock
+	ApplicationEventPublisher applicationEventPublisher;
 
 	@DisplayName("사용자 자신을 팔로우하는 경우 예외 발생")
 	@Test
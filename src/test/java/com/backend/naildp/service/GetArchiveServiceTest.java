@@ -14,6 +14,7 @@ import org.springframework.transaction.annotation.Transactional;
 import com.backend.naildp.common.Boundary;
 import com.backend.naildp.common.UserRole;
 import com.backend.naildp.dto.archive.FollowArchiveResponseDto;
+import com.backend.naildp.dto.follow.FollowEventDto;
 import com.backend.naildp.dto.home.PostSummaryResponse;
 import com.backend.naildp.dto.post.FileRequestDto;
 import com.backend.naildp.entity.Archive;
@@ -43,6 +44,8 @@ public class GetArchiveServiceTest {
 	@Autowired
 	private FollowRepository followRepository;
 	@Autowired
+	private FollowGraph followGraph;
+	@Autowired
 	private PostRepository postRepository;
 	private User user1;
 	private User user2;
@@ -141,6 +144,7 @@ public class GetArchiveServiceTest {
 	private void createFollow(User follower, User following) {
 		Follow follow = new Follow(follower, following);
 		followRepository.save(follow);
+		followGraph.evict(new FollowEventDto(follower.getNickname(), following.getNickname(), true));
 	}
 
 }
@@ -13,9 +13,11 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.EnumSource;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.web.multipart.MultipartFile;
 
@@ -24,6 +26,7 @@ import com.backend.naildp.common.UserRole;
 import com.backend.naildp.dto.post.EditPostResponseDto;
 import com.backend.naildp.dto.post.FileRequestDto;
 import com.backend.naildp.dto.post.PostBoundaryRequest;
+import com.backend.naildp.dto.post.PostCountEventDto;
 import com.backend.naildp.dto.post.PostRequestDto;
 import com.backend.naildp.dto.post.TagRequestDto;
 import com.backend.naildp.entity.Photo;
@@ -37,8 +40,8 @@ import com.backend.naildp.repository.FollowRepository;
 import com.backend.naildp.repository.PhotoRepository;
 import com.backend.naildp.repository.PostRepository;
 import com.backend.naildp.repository.TagPostRepository;
-import com.backend.naildp.repository.TagRepository;
 import com.backend.naildp.repository.UserRepository;
+import com.backend.naildp.service.post.PostTagWriter;
 
 import lombok.extern.slf4j.Slf4j;
 
@@ -55,9 +58,6 @@ class PostCreateServiceTest {
 	@Mock
 	S3Service s3Service;
 
-	@Mock
-	TagRepository tagRepository;
-
 	@Mock
 	TagPostRepository tagPostRepository;
 
@@ -67,12 +67,24 @@ class PostCreateServiceTest {
 	@Mock
 	FollowRepository followRepository;
 
+	@Mock
+	FollowGraph followGraph;
+
 	@InjectMocks
 	PostService postService;
 
 	@Mock
 	private PostDeletionFacade postDeletionFacade;
 
+	@Mock
+	ApplicationEventPublisher applicationEventPublisher;
+
+	@Mock
+	ViewerSnapshotService viewerSnapshotService;
+
+	@Mock
+	PostTagWriter postTagWriter;
+
 	@Test
 	@DisplayName("게시물 업로드 테스트")
 	void testUploadPost() {
@@ -104,12 +116,6 @@ class PostCreateServiceTest {
 		given(userRepository.findByNickname(nickname)).willReturn(Optional.of(user));
 		given(postRepository.save(any(Post.class))).willReturn(post);
 		given(s3Service.saveFiles(files)).willReturn(fileRequestDtos);
-		given(tagRepository.findByName(anyString())).willAnswer(invocation -> {
-			String tagName = invocation.getArgument(0);
-			return Optional.empty();
-		});
-		given(tagRepository.save(any(Tag.class))).willAnswer(invocation -> invocation.getArgument(0));
-		given(tagPostRepository.save(any(TagPost.class))).willAnswer(invocation -> invocation.getArgument(0));
 		given(photoRepository.save(any(Photo.class))).willAnswer(invocation -> invocation.getArgument(0));
 
 		// when
@@ -119,9 +125,7 @@ class PostCreateServiceTest {
 		verify(userRepository, times(1)).findByNickname(nickname);
 		verify(postRepository, times(1)).save(any(Post.class));
 		verify(s3Service, times(1)).saveFiles(files);
-		verify(tagRepository, times(2)).findByName(anyString());
-		verify(tagRepository, times(2)).save(any(Tag.class));
-		verify(tagPostRepository, times(2)).save(any(TagPost.class));
+		verify(postTagWriter, times(1)).replaceTags(post, List.of("tag1", "tag2"));
 		verify(photoRepository, times(2)).save(any(Photo.class));
 	}
 
@@ -169,12 +173,6 @@ class PostCreateServiceTest {
 		Photo photo2 = new Photo(post, fileRequestDto2);
 
 		given(postRepository.findById(postId)).willReturn(Optional.of(post));
-		given(tagRepository.findByName(anyString())).willAnswer(invocation -> {
-			String tagName = invocation.getArgument(0);
-			log.info(tagName);
-			return Optional.empty();
-		});
-		given(tagRepository.save(any(Tag.class))).willAnswer(invocation -> invocation.getArgument(0));
 		given(photoRepository.findByPhotoUrlIn(anyList())).willReturn(List.of(photo1, photo2));
 
 		given(s3Service.saveFiles(files)).willReturn(fileRequestDtos);
@@ -184,10 +182,8 @@ class PostCreateServiceTest {
 
 		// then
 		verify(postRepository, times(1)).findById(postId);
-		verify(tagPostRepository, times(1)).deleteAllByPostId(postId);
-		verify(tagRepository, times(2)).findByName(anyString());
-		verify(tagRepository, times(2)).save(any(Tag.class));
-		verify(tagPostRepository, times(2)).save(any(TagPost.class));
+		verify(tagPostRepository, never()).deleteAllByPostId(postId);
+		verify(postTagWriter, times(1)).replaceTags(post, List.of("tag1", "tag2"));
 		verify(s3Service, times(1)).saveFiles(files);
 		verify(photoRepository, times(2)).save(any(Photo.class));
 		verify(photoRepository, times(2)).delete(any(Photo.class));
@@ -393,7 +389,7 @@ class PostCreateServiceTest {
 		Post followPost = Post.builder().user(writer).postContent("").tempSave(false).boundary(Boundary.FOLLOW).build();
 
 		when(postRepository.findPostAndUser(anyLong())).thenReturn(Optional.of(followPost));
-		when(followRepository.existsByFollowerNicknameAndFollowing(eq(user.getNickname()), any(User.class)))
+		when(followGraph.canView(eq(user.getNickname()), any(Post.class)))
 			.thenReturn(false);
 
 		//when
@@ -414,7 +410,7 @@ class PostCreateServiceTest {
 		Post followPost = Post.builder().user(writer).postContent("").tempSave(false).boundary(boundary).build();
 
 		when(postRepository.findPostAndUser(anyLong())).thenReturn(Optional.of(followPost));
-		lenient().when(followRepository.existsByFollowerNicknameAndFollowing(eq(user.getNickname()), any(User.class)))
+		lenient().when(followGraph.canView(eq(user.getNickname()), any(Post.class)))
 			.thenReturn(true);
 
 		//when
@@ -433,7 +429,7 @@ class PostCreateServiceTest {
 		Post followPost = Post.builder().user(writer).postContent("").tempSave(false).boundary(boundary).build();
 
 		when(postRepository.findPostAndUser(anyLong())).thenReturn(Optional.of(followPost));
-		lenient().when(followRepository.existsByFollowerNicknameAndFollowing(eq(writer.getNickname()), any(User.class)))
+		lenient().when(followGraph.canView(eq(writer.getNickname()), any(Post.class)))
 			.thenReturn(true);
 
 		//when
@@ -469,13 +465,15 @@ class PostCreateServiceTest {
 		Post post = Post.builder().user(writer).postContent("").tempSave(false).boundary(boundary).build();
 
 		when(postRepository.findPostAndUser(anyLong())).thenReturn(Optional.of(post));
-		lenient().when(followRepository.existsByFollowerNicknameAndFollowing(eq(writer.getNickname()), any(User.class)))
+		lenient().when(followGraph.canView(eq(writer.getNickname()), any(Post.class)))
 			.thenReturn(true);
 
 		//when
 		postService.sharePost(1L, writer.getNickname());
 
 		//then
-		assertThat(post.getSharing()).isEqualTo(1);
+		ArgumentCaptor<PostCountEventDto> eventCaptor = ArgumentCaptor.forClass(PostCountEventDto.class);
+		verify(applicationEventPublisher).publishEvent(eventCaptor.capture());
+		assertThat(eventCaptor.getValue()).extracting("postId", "shareDelta").containsExactly(1L, 1L);
 	}
 }
\ No newline at end of file
@@ -10,6 +10,7 @@ import java.util.stream.Collectors;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -29,10 +30,10 @@ import com.backend.naildp.entity.Photo;
 import com.backend.naildp.entity.Post;
 import com.backend.naildp.entity.PostLike;
 import com.backend.naildp.entity.User;
-import com.backend.naildp.repository.ArchivePostRepository;
 import com.backend.naildp.repository.FollowRepository;
 import com.backend.naildp.repository.PostLikeRepository;
 import com.backend.naildp.repository.PostRepository;
+import com.backend.naildp.service.post.PostCardAssembler;
 import com.backend.naildp.service.post.PostInfoService;
 
 @ExtendWith(MockitoExtension.class)
@@ -45,15 +46,15 @@ class PostInfoServiceUnitTest {
 	@Mock
 	PostRepository postRepository;
 
-	@Mock
-	ArchivePostRepository archivePostRepository;
-
 	@Mock
 	PostLikeRepository postLikeRepository;
 
 	@Mock
 	FollowRepository followRepository;
 
+	@Mock
+	PostCardAssembler postCardAssembler;
+
 	@Mock
 	AuditingHandler auditingHandler;
 
@@ -74,20 +75,19 @@ class PostInfoServiceUnitTest {
 		List<User> followingUsers = new ArrayList<>();
 		List<PostLike> postLikes = createPostLikes(postCnt);
 		Slice<PostLike> postLikeSlice = (SliceImpl<PostLike>)new SliceImpl<>(postLikes, pageRequest, false);
-		List<ArchivePost> archivePosts = savePostsInArchive(postLikeSlice.map(PostLike::getPost));
 
 		when(followRepository.findFollowingUserByFollowerNickname(eq(nickname))).thenReturn(followingUsers);
 		when(postLikeRepository.findPostLikesByFollowing(eq(nickname), anyList(), any(PageRequest.class)))
 			.thenReturn(postLikeSlice);
-		when(archivePostRepository.findAllByArchiveUserNickname(eq(nickname))).thenReturn(archivePosts);
 
 		//when
-		PostSummaryResponse response = postInfoService.findLikedPost(nickname, pageSize, -1);
-		Slice<HomePostResponse> postSummaryList = (Slice<HomePostResponse>)response.getPostSummaryList();
+		postInfoService.findLikedPost(nickname, pageSize, -1);
 
 		//then
-		assertThat(postSummaryList.hasNext()).isFalse();
-		assertThat(postSummaryList).extracting("like").containsOnly(true);
+		ArgumentCaptor<Slice<Post>> likedPostCaptor = ArgumentCaptor.forClass(Slice.class);
+		verify(postCardAssembler).createLikedSummary(likedPostCaptor.capture(), eq(nickname));
+		assertThat(likedPostCaptor.getValue().hasNext()).isFalse();
+		assertThat(likedPostCaptor.getValue()).hasSize(postCnt);
 
 		verify(postLikeRepository).findPostLikesByFollowing(eq(nickname), anyList(), any(PageRequest.class));
 		verify(postLikeRepository, never()).findPostLikesByIdAndFollowing(anyString(), anyLong(), anyList(),
@@ -17,6 +17,7 @@ import org.springframework.transaction.annotation.Transactional;
 import com.backend.naildp.common.Boundary;
 import com.backend.naildp.common.UserRole;
 import com.backend.naildp.dto.post.FileRequestDto;
+import com.backend.naildp.dto.post.PostCountEventDto;
 import com.backend.naildp.dto.postLike.PostLikeCountResponse;
 import com.backend.naildp.entity.Photo;
 import com.backend.naildp.entity.Post;
@@ -25,6 +26,7 @@ import com.backend.naildp.entity.User;
 import com.backend.naildp.repository.PostLikeRepository;
 import com.backend.naildp.repository.PostRepository;
 import com.backend.naildp.repository.UserRepository;
+import com.backend.naildp.service.post.PostCounterService;
 
 import jakarta.persistence.EntityManager;
 
@@ -42,6 +44,8 @@ class PostLikeServiceTest {
 	@Autowired
 	PostLikeService postLikeService;
 	@Autowired
+	PostCounterService postCounterService;
+	@Autowired
 	EntityManager em;
 
 	@BeforeEach
@@ -161,6 +165,10 @@ class PostLikeServiceTest {
 			em.persist(new PostLike(normalUser, post));
 		}
 		em.flush();
+		for (int i = 0; i < 10; i++) {
+			postCounterService.record(PostCountEventDto.like(post.getId()));
+		}
+		postCounterService.flush();
 		em.clear();
 
 		//when
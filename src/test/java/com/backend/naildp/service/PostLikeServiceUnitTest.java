@@ -11,9 +11,13 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import com.backend.naildp.common.Boundary;
 import com.backend.naildp.common.UserRole;
+import com.backend.naildp.dto.post.PostCountEventDto;
+import com.backend.naildp.dto.post.PostLikeRankEventDto;
 import com.backend.naildp.dto.postLike.PostLikeCountResponse;
 import com.backend.naildp.entity.Post;
 import com.backend.naildp.entity.PostLike;
@@ -45,6 +49,9 @@ class PostLikeServiceUnitTest {
 	@Mock
 	NotificationManager notificationManager;
 
+	@Mock
+	ApplicationEventPublisher applicationEventPublisher;
+
 	@Test
 	@DisplayName("게시물 Id 로 좋아요 저장 테스트")
 	void savePostLike() {
@@ -70,6 +77,8 @@ class PostLikeServiceUnitTest {
 		verify(userRepository).findUserByNickname(nickname);
 		verify(postRepository).findPostAndUser(postId);
 		verify(postLikeRepository).save(any(PostLike.class));
+		verify(applicationEventPublisher).publishEvent(any(PostCountEventDto.class));
+		verify(applicationEventPublisher).publishEvent(any(PostLikeRankEventDto.class));
 	}
 
 	@Test
@@ -143,8 +152,7 @@ class PostLikeServiceUnitTest {
 		String postWriterNickname = "writer";
 		User postWriter = createUser(postWriterNickname);
 		Post followPost = createPost(postWriter, Boundary.FOLLOW);
-		PostLike postLike = new PostLike(postWriter, followPost);
-		followPost.addPostLike(postLike);
+		ReflectionTestUtils.setField(followPost, "likeCount", 1L);
 
 		when(postRepository.findPostAndUser(anyLong())).thenReturn(Optional.of(followPost));
 		doNothing().when(postAccessValidator).isAvailablePost(eq(followPost), eq(postWriterNickname));
@@ -163,10 +171,7 @@ class PostLikeServiceUnitTest {
 		User user = createUser("nickname");
 		Post publicPost = createPost(user, Boundary.ALL);
 		long likeCnt = 30;
-		for (long i = 0; i < likeCnt; i++) {
-			PostLike postLike = new PostLike(user, publicPost);
-			publicPost.addPostLike(postLike);
-		}
+		ReflectionTestUtils.setField(publicPost, "likeCount", likeCnt);
 
 		when(postRepository.findPostAndUser(anyLong())).thenReturn(Optional.of(publicPost));
 
@@ -184,10 +189,7 @@ class PostLikeServiceUnitTest {
 		User user = createUser("nickname");
 		Post postOpenedForFollower = createPost(user, Boundary.FOLLOW);
 		long likeCnt = 30;
-		for (long i = 0; i < likeCnt; i++) {
-			PostLike postLike = new PostLike(user, postOpenedForFollower);
-			postOpenedForFollower.addPostLike(postLike);
-		}
+		ReflectionTestUtils.setField(postOpenedForFollower, "likeCount", likeCnt);
 
 		when(postRepository.findPostAndUser(anyLong())).thenReturn(Optional.of(postOpenedForFollower));
 		doNothing().when(postAccessValidator).isAvailablePost(eq(postOpenedForFollower), eq(user.getNickname()));
@@ -13,14 +13,18 @@ import org.junit.jupiter.params.provider.EnumSource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.backend.naildp.common.Boundary;
 import com.backend.naildp.common.ProfileType;
 import com.backend.naildp.common.UserRole;
 import com.backend.naildp.dto.auth.LoginRequestDto;
+import com.backend.naildp.dto.follow.FollowEventDto;
 import com.backend.naildp.dto.post.FileRequestDto;
 import com.backend.naildp.dto.post.PostBoundaryRequest;
+import com.backend.naildp.dto.post.PostCountEventDto;
 import com.backend.naildp.dto.post.PostInfoResponse;
 import com.backend.naildp.entity.Follow;
 import com.backend.naildp.entity.Photo;
@@ -35,12 +39,14 @@ import com.backend.naildp.exception.CustomException;
 import com.backend.naildp.repository.FollowRepository;
 import com.backend.naildp.repository.PostRepository;
 import com.backend.naildp.repository.UserRepository;
+import com.backend.naildp.service.post.PostCounterService;
 
 import jakarta.persistence.EntityManager;
 
 @ActiveProfiles(profiles = {"test", "secret"})
 @SpringBootTest
 @Transactional
+@RecordApplicationEvents
 public class PostServiceTest {
 
 	@Autowired
@@ -52,7 +58,13 @@ public class PostServiceTest {
 	@Autowired
 	FollowRepository followRepository;
 	@Autowired
+	FollowGraph followGraph;
+	@Autowired
+	PostCounterService postCounterService;
+	@Autowired
 	EntityManager em;
+	@Autowired
+	ApplicationEvents applicationEvents;
 
 	@BeforeEach
 	void setup() {
@@ -102,6 +114,7 @@ public class PostServiceTest {
 		User user = userRepository.findByNickname("user").orElseThrow();
 		User writer = userRepository.findByNickname("writer").orElseThrow();
 		em.persist(new Follow(user, writer));
+		followGraph.evict(new FollowEventDto(user.getNickname(), writer.getNickname(), true));
 		Post post = getFirstPostByNicknameAndBoundary(writer.getNickname(), boundary);
 
 		//when
@@ -126,6 +139,10 @@ public class PostServiceTest {
 		PostLike postLike = new PostLike(user, publicPost);
 		publicPost.addPostLike(postLike);
 		em.persist(postLike);
+		em.flush();
+		postCounterService.record(PostCountEventDto.like(publicPost.getId()));
+		postCounterService.flush();
+		em.clear();
 
 		//when
 		PostInfoResponse postInfoResponse = postService.postInfo(user.getNickname(), publicPost.getId());
@@ -237,14 +254,12 @@ public class PostServiceTest {
 		postRepository.saveAndFlush(post);
 
 		//when
-		Long sharedPostId = postService.sharePost(post.getId(), writer.getNickname());
-		em.flush();
-		em.clear();
-
-		Post findPost = postRepository.findById(post.getId()).orElseThrow();
+		postService.sharePost(post.getId(), writer.getNickname());
 
 		//then
-		assertThat(findPost.getSharing()).isEqualTo(1);
+		assertThat(applicationEvents.stream(PostCountEventDto.class))
+			.extracting("postId", "shareDelta")
+			.containsExactly(tuple(post.getId(), 1L));
 	}
 
 	private User createTestMember(String email, String nickname, String phoneNumber, Long socialId) {
@@ -0,0 +1,67 @@
+package com.backend.naildp.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.backend.naildp.dto.search.RelatedTagResponse;
+
+class RelatedTagIndexTest {
+
+	RelatedTagIndex relatedTagIndex;
+
+	@BeforeEach
+	void setup() {
+		relatedTagIndex = new RelatedTagIndex();
+
+		Map<String, Long> postCounts = new HashMap<>();
+		postCounts.put("가리비네일", 3L);
+		postCounts.put("네일", 10L);
+		postCounts.put("젤네일아트", 2L);
+		postCounts.put("글리터", 1L);
+		relatedTagIndex.replaceAll(postCounts, Map.of("네일", "nail.jpg", "글리터", "glitter.mp4"));
+	}
+
+	@DisplayName("키워드를 포함하는 태그를 짧은 이름, 키워드로 시작하는 이름 순으로 조회한다.")
+	@Test
+	void searchContainingKeyword() {
+		//when
+		List<RelatedTagResponse> responses = relatedTagIndex.search(List.of("네일"), 10);
+
+		//then
+		assertThat(responses).extracting(RelatedTagResponse::getTagName)
+			.containsExactly("네일", "가리비네일", "젤네일아트");
+		assertThat(responses).extracting(RelatedTagResponse::getTagImageUrl)
+			.containsExactly("nail.jpg", "default.jpg", "default.jpg");
+	}
+
+	@DisplayName("여러 키워드 중 하나라도 포함하는 태그를 개수 제한만큼 조회한다.")
+	@Test
+	void searchAnyKeywordWithLimit() {
+		//when
+		List<RelatedTagResponse> responses = relatedTagIndex.search(List.of("리", "아트"), 2);
+
+		//then
+		assertThat(responses).extracting(RelatedTagResponse::getTagName).containsExactly("글리터", "가리비네일");
+		assertThat(responses.get(0).isVideo()).isTrue();
+	}
+
+	@DisplayName("게시물이 없어진 태그는 인덱스에서 제거된다.")
+	@Test
+	void removeTagWithoutPosts() {
+		//when
+		relatedTagIndex.put("가리비네일", 0L, null);
+		relatedTagIndex.put("손톱", 1L, "nail.jpg");
+
+		//then
+		assertThat(relatedTagIndex.search(List.of("가리비"), 10)).isEmpty();
+		assertThat(relatedTagIndex.search(List.of("손"), 10)).extracting(RelatedTagResponse::getTagName)
+			.containsExactly("손톱");
+	}
+}
@@ -12,12 +12,14 @@ import org.springframework.transaction.annotation.Transactional;
 
 import com.backend.naildp.common.Boundary;
 import com.backend.naildp.common.UserRole;
+import com.backend.naildp.dto.follow.FollowEventDto;
 import com.backend.naildp.dto.userInfo.UserInfoResponseDto;
 import com.backend.naildp.entity.Archive;
 import com.backend.naildp.entity.ArchivePost;
 import com.backend.naildp.entity.Follow;
 import com.backend.naildp.entity.Post;
 import com.backend.naildp.entity.User;
+import com.backend.naildp.entity.UserStats;
 import com.backend.naildp.exception.CustomException;
 import com.backend.naildp.exception.ErrorCode;
 import com.backend.naildp.repository.ArchivePostRepository;
@@ -25,6 +27,7 @@ import com.backend.naildp.repository.ArchiveRepository;
 import com.backend.naildp.repository.FollowRepository;
 import com.backend.naildp.repository.PostRepository;
 import com.backend.naildp.repository.UserRepository;
+import com.backend.naildp.repository.UserStatsRepository;
 
 @SpringBootTest
 @Transactional
@@ -42,12 +45,18 @@ class UserInfoServiceTest {
 	@Autowired
 	private FollowRepository followRepository;
 
+	@Autowired
+	private FollowGraph followGraph;
+
 	@Autowired
 	private PostRepository postRepository;
 
 	@Autowired
 	private ArchiveRepository archiveRepository;
 
+	@Autowired
+	private UserStatsRepository userStatsRepository;
+
 	private User myUser;
 	private User otherUser;
 	private Post post;
@@ -73,6 +82,8 @@ class UserInfoServiceTest {
 	void getOtherUserInfo_Success() {
 		//given
 		followRepository.save(new Follow(myUser, otherUser));
+		followGraph.evict(new FollowEventDto(myUser.getNickname(), otherUser.getNickname(), true));
+		userStatsRepository.refreshByIds(userStatsRepository.findAll().stream().map(UserStats::getId).toList());
 
 		//when
 		UserInfoResponseDto response = userInfoService.getOtherUserInfo(myUser.getNickname(), otherUser.getNickname());
@@ -106,6 +117,7 @@ class UserInfoServiceTest {
 	@DisplayName("다른 사용자 정보 가져오기 - 팔로우 아닌 경우")
 	void getOtherUserInfo_NoFollowers() {
 		followRepository.deleteAll();
+		userStatsRepository.refreshByIds(userStatsRepository.findAll().stream().map(UserStats::getId).toList());
 		// when
 		UserInfoResponseDto response = userInfoService.getOtherUserInfo(myUser.getNickname(), otherUser.getNickname());
 
@@ -129,6 +141,7 @@ class UserInfoServiceTest {
 			.role(UserRole.USER)
 			.build();
 		userRepository.save(user);
+		userStatsRepository.save(new UserStats(user));
 		return user;
 	}
 
@@ -4,7 +4,6 @@ import static org.assertj.core.api.Assertions.*;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.BDDMockito.*;
 
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
@@ -16,6 +15,8 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.web.multipart.MultipartFile;
 
 import com.backend.naildp.common.Boundary;
@@ -30,10 +31,10 @@ import com.backend.naildp.entity.Follow;
 import com.backend.naildp.entity.Post;
 import com.backend.naildp.entity.Profile;
 import com.backend.naildp.entity.User;
+import com.backend.naildp.entity.UserStats;
 import com.backend.naildp.entity.UsersProfile;
 import com.backend.naildp.exception.CustomException;
 import com.backend.naildp.repository.ArchivePostRepository;
-import com.backend.naildp.repository.FollowRepository;
 import com.backend.naildp.repository.PostRepository;
 import com.backend.naildp.repository.ProfileRepository;
 import com.backend.naildp.repository.UserRepository;
@@ -49,13 +50,17 @@ class UserInfoServiceUnitTest {
 	@Mock
 	private ArchivePostRepository archivePostRepository;
 	@Mock
-	private FollowRepository followRepository;
+	private FollowGraph followGraph;
 	@InjectMocks
 	private UserInfoService userInfoService;
 	@Mock
 	private UsersProfileRepository usersProfileRepository;
 	@Mock
 	S3Service s3Service;
+	@Mock
+	ApplicationEventPublisher applicationEventPublisher;
+	@Mock
+	UserStatsService userStatsService;
 
 	private User user1;
 	private User user2;
@@ -105,20 +110,19 @@ class UserInfoServiceUnitTest {
 		Follow follow = new Follow(user1, user2);
 	}
 
-	@DisplayName("사용자 정보 조회 - 저장한 포스트의 공개범위가 전체일 떄")
+	@DisplayName("사용자 정보 조회 - 게시물, 저장, 팔로워, 팔로잉 수는 사용자 집계에서 조회")
 	@Test
-	void testGetUserInfo_PostBoundaryAll() {
+	void testGetUserInfo_UserStats() {
 		// Given
-		archivePost1 = new ArchivePost(archive1, post2);
-		followerCount = 0;
+		UserStats userStats = new UserStats(user1);
+		ReflectionTestUtils.setField(userStats, "postCount", 1L);
+		ReflectionTestUtils.setField(userStats, "savedPostCount", 3L);
+		ReflectionTestUtils.setField(userStats, "visibleSavedPostCount", 2L);
+		ReflectionTestUtils.setField(userStats, "followerCount", 4L);
+		ReflectionTestUtils.setField(userStats, "followingCount", 5L);
 
 		given(userRepository.findByNickname("alswl")).willReturn(Optional.of(user1));
-		given(archivePostRepository.findAllArchivePostsByUserNicknameAndTempSaveIsFalse("alswl")).willReturn(
-			List.of(archivePost1));
-		given(followRepository.findFollowingNicknamesByUserNickname("alswl")).willReturn(new ArrayList<>());
-		given(profileRepository.findProfileByProfileUrl(user1.getNickname())).willReturn(Optional.of(profile1));
-		given(postRepository.countPostsByUserAndTempSaveIsFalse(user1)).willReturn(1);
-		given(followRepository.countFollowersByUserNickname("alswl")).willReturn(followerCount);
+		given(userStatsService.findStats(user1)).willReturn(userStats);
 
 		// When
 		UserInfoResponseDto userInfoResponseDto = userInfoService.getUserInfo("alswl");
@@ -128,78 +132,27 @@ class UserInfoServiceUnitTest {
 		assertThat(userInfoResponseDto.getPoint()).isEqualTo(1000L);
 		assertThat(userInfoResponseDto.getProfileUrl()).isEqualTo("alswl.profileUrl.jpg");
 		assertThat(userInfoResponseDto.getPostsCount()).isEqualTo(1);
-		assertThat(userInfoResponseDto.getSaveCount()).isEqualTo(1);
-		assertThat(userInfoResponseDto.getFollowerCount()).isEqualTo(followerCount);
-	}
-
-	@DisplayName("사용자 정보 조회 - 저장한 포스트의 공개범위가 팔로워일 때_notFollowing")
-	@Test
-	void testGetUserInfo_PostBoundaryFollow1() {
-		// Given
-		post2 = new Post(user2, "jw postContent", 0L, Boundary.FOLLOW, false);
-		archivePost1 = new ArchivePost(archive1, post2);
-
-		given(userRepository.findByNickname("alswl")).willReturn(Optional.of(user1));
-		given(archivePostRepository.findAllArchivePostsByUserNicknameAndTempSaveIsFalse("alswl")).willReturn(
-			List.of(archivePost1));
-		given(followRepository.findFollowingNicknamesByUserNickname("alswl")).willReturn(new ArrayList<>());
-		given(profileRepository.findProfileByProfileUrl(user1.getNickname())).willReturn(Optional.of(profile1));
-		given(postRepository.countPostsByUserAndTempSaveIsFalse(user1)).willReturn(1);
-		given(followRepository.countFollowersByUserNickname("alswl")).willReturn(followerCount);
-
-		// When
-		UserInfoResponseDto userInfoResponseDto = userInfoService.getUserInfo("alswl");
-
-		// Then
-		assertThat(userInfoResponseDto.getSaveCount()).isEqualTo(0);
-	}
-
-	@DisplayName("사용자 정보 조회 - 저장한 포스트의 공개범위가 팔로워일 때_Following")
-	@Test
-	void testGetUserInfo_PostBoundaryFollow2() {
-		// Given
-		post2 = new Post(user2, "jw postContent", 0L, Boundary.FOLLOW, false);
-		Post post4 = new Post(user2, "jw postContent", 0L, Boundary.FOLLOW, false);
-		archivePost1 = new ArchivePost(archive1, post2);
-		archivePost2 = new ArchivePost(archive1, post4);
-
-		given(userRepository.findByNickname("alswl")).willReturn(Optional.of(user1));
-		given(archivePostRepository.findAllArchivePostsByUserNicknameAndTempSaveIsFalse("alswl")).willReturn(
-			List.of(archivePost1, archivePost2));
-		given(followRepository.findFollowingNicknamesByUserNickname("alswl")).willReturn(
-			new ArrayList<>(List.of(user2.getNickname(), "user3")));
-		given(profileRepository.findProfileByProfileUrl(user1.getNickname())).willReturn(Optional.of(profile1));
-		given(postRepository.countPostsByUserAndTempSaveIsFalse(user1)).willReturn(1);
-		given(followRepository.countFollowersByUserNickname("alswl")).willReturn(followerCount);
-
-		// When
-		UserInfoResponseDto userInfoResponseDto = userInfoService.getUserInfo("alswl");
-
-		// Then
 		assertThat(userInfoResponseDto.getSaveCount()).isEqualTo(2);
+		assertThat(userInfoResponseDto.getFollowerCount()).isEqualTo(4);
+		assertThat(userInfoResponseDto.getFollowingCount()).isEqualTo(5);
+		verify(archivePostRepository, never()).findAllArchivePostsByUserNicknameAndTempSaveIsFalse(anyString());
 	}
 
-	@DisplayName("사용자 정보 조회 - 저장한 포스트의 공개범위가 비공개일 때")
+	@DisplayName("사용자 정보 조회 - 사용자 집계가 없으면 0 으로 조회")
 	@Test
-	void testGetUserInfo_PostBoundaryNone() {
+	void testGetUserInfo_NoUserStats() {
 		// Given
-		post2 = new Post(user2, "jw postContent", 0L, Boundary.NONE, false);
-		archivePost1 = new ArchivePost(archive1, post2);
-		followerCount = 1;
 		given(userRepository.findByNickname("alswl")).willReturn(Optional.of(user1));
-		given(archivePostRepository.findAllArchivePostsByUserNicknameAndTempSaveIsFalse("alswl")).willReturn(
-			List.of(archivePost1));
-		given(followRepository.findFollowingNicknamesByUserNickname("alswl")).willReturn(
-			new ArrayList<>(List.of(user2.getNickname())));
-		given(profileRepository.findProfileByProfileUrl(user1.getNickname())).willReturn(Optional.of(profile1));
-		given(postRepository.countPostsByUserAndTempSaveIsFalse(user1)).willReturn(1);
-		given(followRepository.countFollowersByUserNickname("alswl")).willReturn(followerCount);
+		given(userStatsService.findStats(user1)).willReturn(new UserStats(user1));
 
 		// When
 		UserInfoResponseDto userInfoResponseDto = userInfoService.getUserInfo("alswl");
 
 		// Then
+		assertThat(userInfoResponseDto.getPostsCount()).isEqualTo(0);
 		assertThat(userInfoResponseDto.getSaveCount()).isEqualTo(0);
+		assertThat(userInfoResponseDto.getFollowerCount()).isEqualTo(0);
+		assertThat(userInfoResponseDto.getFollowingCount()).isEqualTo(0);
 	}
 
 	@Test
@@ -0,0 +1,84 @@
+package com.backend.naildp.service;
+
+import static org.mockito.BDDMockito.*;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+
+import com.backend.naildp.repository.NicknameGramRepository;
+import com.backend.naildp.repository.UserStatsRepository;
+
+@ExtendWith(MockitoExtension.class)
+class UserStatsServiceTest {
+
+	@InjectMocks
+	UserStatsService userStatsService;
+
+	@Mock
+	UserStatsRepository userStatsRepository;
+
+	@Mock
+	NicknameGramRepository nicknameGramRepository;
+
+	@Mock
+	SchedulerLock schedulerLock;
+
+	@DisplayName("보정 락을 얻은 서버만 사용자 id 구간별로 집계를 다시 계산한다.")
+	@Test
+	void reconcileWithLock() {
+		//given
+		UUID first = new UUID(0L, 1L);
+		UUID second = new UUID(0L, 2L);
+		given(schedulerLock.tryLock(eq(UserStatsService.RECONCILE_JOB), any())).willReturn(true);
+		given(userStatsRepository.findUsersWithoutStats(any(PageRequest.class))).willReturn(List.of());
+		given(nicknameGramRepository.findUsersWithoutGrams(any(PageRequest.class))).willReturn(List.of());
+		given(userStatsRepository.findIdsAfter(eq(new UUID(0L, 0L)), any(PageRequest.class)))
+			.willReturn(List.of(first));
+		given(userStatsRepository.findIdsAfter(eq(first), any(PageRequest.class))).willReturn(List.of(second));
+		given(userStatsRepository.findIdsAfter(eq(second), any(PageRequest.class))).willReturn(List.of());
+
+		//when
+		userStatsService.reconcile();
+
+		//then
+		verify(userStatsRepository).refreshByIds(List.of(first));
+		verify(userStatsRepository).refreshByIds(List.of(second));
+	}
+
+	@DisplayName("다른 서버가 보정 중이면 보정하지 않는다.")
+	@Test
+	void skipReconcileWithoutLock() {
+		//given
+		given(schedulerLock.tryLock(eq(UserStatsService.RECONCILE_JOB), any())).willReturn(false);
+
+		//when
+		userStatsService.reconcile();
+
+		//then
+		verifyNoInteractions(userStatsRepository, nicknameGramRepository);
+	}
+
+	@DisplayName("서버 시작 시에는 집계 행이 없는 사용자만 채우고 전체 재계산은 하지 않는다.")
+	@Test
+	void backfillOnlyMissingRows() {
+		//given
+		given(schedulerLock.tryLock(eq(UserStatsService.BACKFILL_JOB), any())).willReturn(true);
+		given(userStatsRepository.findUsersWithoutStats(any(PageRequest.class))).willReturn(List.of());
+		given(nicknameGramRepository.findUsersWithoutGrams(any(PageRequest.class))).willReturn(List.of());
+
+		//when
+		userStatsService.backfill();
+
+		//then
+		verify(userStatsRepository, never()).findIdsAfter(any(), any());
+		verify(userStatsRepository, never()).refreshByIds(any());
+	}
+}
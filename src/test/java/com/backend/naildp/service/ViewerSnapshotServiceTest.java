@@ -0,0 +1,50 @@
+package com.backend.naildp.service;
+
+import static org.mockito.BDDMockito.*;
+
+import java.time.Instant;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.TaskScheduler;
+
+import com.backend.naildp.dto.home.ViewerSnapshot;
+import com.backend.naildp.dto.home.ViewerSnapshotEvictEventDto;
+import com.backend.naildp.repository.PostRepository;
+
+@ExtendWith(MockitoExtension.class)
+class ViewerSnapshotServiceTest {
+
+	@InjectMocks
+	ViewerSnapshotService viewerSnapshotService;
+
+	@Mock
+	RedisTemplate<String, ViewerSnapshot> viewerSnapshotRedisTemplate;
+
+	@Mock
+	PostRepository postRepository;
+
+	@Mock
+	TaskScheduler taskScheduler;
+
+	@DisplayName("스냅샷을 바로 삭제하고, 삭제 전에 읽은 조회가 다시 저장한 스냅샷을 지우도록 한 번 더 삭제한다.")
+	@Test
+	void evictTwice() {
+		//when
+		viewerSnapshotService.evict(new ViewerSnapshotEvictEventDto("jjw"));
+
+		//then
+		verify(viewerSnapshotRedisTemplate).delete("viewer_snapshot:jjw");
+
+		ArgumentCaptor<Runnable> captor = ArgumentCaptor.forClass(Runnable.class);
+		verify(taskScheduler).schedule(captor.capture(), any(Instant.class));
+		captor.getValue().run();
+		verify(viewerSnapshotRedisTemplate, times(2)).delete("viewer_snapshot:jjw");
+	}
+}
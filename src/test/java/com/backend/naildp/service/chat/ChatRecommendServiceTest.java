@@ -0,0 +1,167 @@
+package com.backend.naildp.service.chat;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+
+import com.backend.naildp.common.KeysetCursor;
+import com.backend.naildp.dto.chat.ChatRecommendSummaryResponse;
+import com.backend.naildp.dto.follow.FollowEventDto;
+import com.backend.naildp.dto.search.SearchUserResponse;
+import com.backend.naildp.entity.Follow;
+import com.backend.naildp.exception.CustomException;
+import com.backend.naildp.repository.FollowRepository;
+import com.backend.naildp.repository.UserRepository;
+
+@ExtendWith(MockitoExtension.class)
+class ChatRecommendServiceTest {
+
+	@InjectMocks
+	ChatRecommendService chatRecommendService;
+
+	@Mock
+	RedisTemplate<String, String> redisTemplate;
+
+	@Mock
+	ZSetOperations<String, String> zSetOperations;
+
+	@Mock
+	UserRepository userRepository;
+
+	@Mock
+	FollowRepository followRepository;
+
+	@DisplayName("커서 사용자 다음 순서부터 조회하고, 나를 팔로우하는 사용자는 isFollowing 이 true 이다.")
+	@Test
+	void findRecommendUsersAfterCursor() {
+		//given
+		Set<TypedTuple<String>> tuples = new LinkedHashSet<>();
+		tuples.add(new DefaultTypedTuple<>("follower", 3_000_000d));
+		tuples.add(new DefaultTypedTuple<>("friendOfFriend", 3_999_998d));
+
+		given(redisTemplate.hasKey("chat_recommend:me:ready")).willReturn(true);
+		given(redisTemplate.opsForZSet()).willReturn(zSetOperations);
+		given(zSetOperations.rank("chat_recommend:me", "following")).willReturn(1L);
+		given(zSetOperations.rangeWithScores("chat_recommend:me", 2, 3)).willReturn(tuples);
+		given(userRepository.findUserSummaries(any())).willReturn(List.of(
+			new SearchUserResponse("friendOfFriend", "", 1L, 0L, 2L, false),
+			new SearchUserResponse("follower", "", 3L, 0L, 1L, false)));
+
+		//when
+		ChatRecommendSummaryResponse response = chatRecommendService.findRecommendUsers("me", "following", null, 2);
+
+		//then
+		assertThat(response.getContents()).extracting(SearchUserResponse::getNickname)
+			.containsExactly("follower", "friendOfFriend");
+		assertThat(response.getContents()).extracting(SearchUserResponse::isFollowing).containsExactly(true, false);
+		assertThat(response.getCursorId()).isEqualTo("friendOfFriend");
+		assertThat(KeysetCursor.decode(response.getCursor())).isEqualTo(KeysetCursor.of(3_999_998L, "friendOfFriend"));
+	}
+
+	@DisplayName("추천 목록에 없는 커서로 조회하면 빈 목록을 반환한다.")
+	@Test
+	void findRecommendUsersWithUnknownCursor() {
+		//given
+		given(redisTemplate.hasKey("chat_recommend:me:ready")).willReturn(true);
+		given(redisTemplate.opsForZSet()).willReturn(zSetOperations);
+		given(zSetOperations.rank("chat_recommend:me", "unknown")).willReturn(null);
+
+		//when
+		ChatRecommendSummaryResponse response = chatRecommendService.findRecommendUsers("me", "unknown", null, 20);
+
+		//then
+		assertThat(response.getContents()).isEmpty();
+		verify(userRepository, never()).findUserSummaries(any());
+	}
+
+	@DisplayName("커서 사용자가 추천 목록에서 빠져도 커서의 점수, 닉네임 다음 순서부터 조회한다.")
+	@Test
+	void findRecommendUsersAfterRemovedCursor() {
+		//given
+		String cursor = KeysetCursor.of(2_000_000L, "gone").encode();
+		Set<TypedTuple<String>> tuples = new LinkedHashSet<>();
+		tuples.add(new DefaultTypedTuple<>("zeta", 2_000_000d));
+
+		given(redisTemplate.hasKey("chat_recommend:me:ready")).willReturn(true);
+		given(redisTemplate.opsForZSet()).willReturn(zSetOperations);
+		given(zSetOperations.score("chat_recommend:me", "gone")).willReturn(null);
+		given(zSetOperations.count("chat_recommend:me", Double.NEGATIVE_INFINITY, 1_999_999d)).willReturn(3L);
+		given(zSetOperations.rangeByScore("chat_recommend:me", 2_000_000d, 2_000_000d))
+			.willReturn(new LinkedHashSet<>(List.of("alpha", "zeta")));
+		given(zSetOperations.rangeWithScores("chat_recommend:me", 4, 23)).willReturn(tuples);
+		given(userRepository.findUserSummaries(any())).willReturn(List.of(
+			new SearchUserResponse("zeta", "", 1L, 0L, 2L, false)));
+
+		//when
+		ChatRecommendSummaryResponse response = chatRecommendService.findRecommendUsers("me", "gone", cursor, 20);
+
+		//then
+		assertThat(response.getContents()).extracting(SearchUserResponse::getNickname).containsExactly("zeta");
+	}
+
+	@DisplayName("조회 개수가 1 보다 작으면 예외가 발생하고, 최대 개수보다 크면 최대 개수만 조회한다.")
+	@Test
+	void findRecommendUsersWithInvalidSize() {
+		//given
+		given(redisTemplate.hasKey("chat_recommend:me:ready")).willReturn(true);
+		given(redisTemplate.opsForZSet()).willReturn(zSetOperations);
+
+		//when
+		chatRecommendService.findRecommendUsers("me", null, null, 1_000);
+
+		//then
+		assertThatThrownBy(() -> chatRecommendService.findRecommendUsers("me", null, null, 0))
+			.isInstanceOf(CustomException.class);
+		verify(zSetOperations).rangeWithScores("chat_recommend:me", 0, ChatRecommendService.MAX_PAGE_SIZE - 1);
+	}
+
+	@DisplayName("맞팔이 되면 두 사용자의 추천 목록에서 서로 맞팔 순위로 올라간다.")
+	@Test
+	void applyMutualFollow() {
+		//given
+		given(followRepository.findFollowByFollowerNicknameAndFollowingNickname("target", "me"))
+			.willReturn(Optional.of(mock(Follow.class)));
+		given(redisTemplate.hasKey(anyString())).willReturn(true);
+		given(redisTemplate.opsForZSet()).willReturn(zSetOperations);
+
+		//when
+		chatRecommendService.applyFollow(new FollowEventDto("me", "target", true));
+
+		//then
+		verify(zSetOperations).add("chat_recommend:me", "target", 1_000_000d);
+		verify(zSetOperations).add("chat_recommend:target", "me", 1_000_000d);
+	}
+
+	@DisplayName("언팔로우하면 계산된 내 목록에서 상대를 빼고, 계산되지 않은 상대 목록은 만들지 않는다.")
+	@Test
+	void applyUnfollow() {
+		//given
+		given(followRepository.findFollowByFollowerNicknameAndFollowingNickname("target", "me"))
+			.willReturn(Optional.empty());
+		given(redisTemplate.hasKey("chat_recommend:me:ready")).willReturn(true);
+		given(redisTemplate.hasKey("chat_recommend:target:ready")).willReturn(false);
+		given(redisTemplate.opsForZSet()).willReturn(zSetOperations);
+
+		//when
+		chatRecommendService.applyFollow(new FollowEventDto("me", "target", false));
+
+		//then
+		verify(zSetOperations).remove("chat_recommend:me", "target");
+		verify(zSetOperations, never()).add(eq("chat_recommend:target"), anyString(), anyDouble());
+	}
+}
@@ -0,0 +1,134 @@
+package com.backend.naildp.service.chat;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+
+import com.backend.naildp.dto.chat.ChatMessageDto;
+import com.backend.naildp.dto.chat.ChatRouteMessageDto;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+@ExtendWith(MockitoExtension.class)
+class ChatRouterTest {
+
+	@InjectMocks
+	ChatRouter chatRouter;
+
+	@Mock
+	ChatSubscriptionRegistry chatSubscriptionRegistry;
+
+	@Mock
+	SimpMessageSendingOperations template;
+
+	@Mock
+	RedisTemplate<String, String> redisTemplate;
+
+	@Mock
+	RedisMessageListenerContainer redisMessageListenerContainer;
+
+	@Spy
+	ObjectMapper objectMapper = new ObjectMapper();
+
+	@DisplayName("이 노드에서만 구독 중인 목적지는 Redis 를 거치지 않고 로컬 브로커로 보낸다.")
+	@Test
+	void sendToLocalNode() {
+		//given
+		ChatMessageDto chatMessageDto = createMessage("room");
+		given(chatSubscriptionRegistry.getNodeId()).willReturn("node-a");
+		given(chatSubscriptionRegistry.findNodes(List.of("/sub/chat/room"))).willReturn(List.of(Set.of("node-a")));
+
+		//when
+		chatRouter.send("/sub/chat/room", chatMessageDto);
+
+		//then
+		verify(template).convertAndSend("/sub/chat/room", chatMessageDto);
+		verifyNoInteractions(redisTemplate);
+	}
+
+	@DisplayName("다른 노드로 가는 메시지는 노드마다 한 번만 묶어서 발행하고, 구독자가 없는 목적지는 보내지 않는다.")
+	@Test
+	void publishOncePerRemoteNode() throws Exception {
+		//given
+		Map<String, Object> payloads = new LinkedHashMap<>();
+		payloads.put("/sub/chat/list/updates/a", createMessage("a"));
+		payloads.put("/sub/chat/list/updates/b", createMessage("b"));
+		payloads.put("/sub/chat/list/updates/c", createMessage("c"));
+		given(chatSubscriptionRegistry.getNodeId()).willReturn("node-a");
+		given(chatSubscriptionRegistry.findNodes(List.copyOf(payloads.keySet())))
+			.willReturn(List.of(Set.of("node-b"), Set.of("node-b"), Set.of()));
+		given(redisTemplate.convertAndSend(eq("chat_node:node-b"), anyString())).willReturn(1L);
+
+		//when
+		chatRouter.sendAll(payloads);
+
+		//then
+		ArgumentCaptor<String> captor = ArgumentCaptor.forClass(String.class);
+		verify(redisTemplate, times(1)).convertAndSend(eq("chat_node:node-b"), captor.capture());
+		JsonNode published = objectMapper.readTree(captor.getValue());
+		assertThat(published).hasSize(2);
+		assertThat(published.get(0).get("destination").asText()).isEqualTo("/sub/chat/list/updates/a");
+		assertThat(published.get(1).get("payload").get("chatRoomId").asText()).isEqualTo("b");
+		verifyNoInteractions(template);
+		verify(chatSubscriptionRegistry, never()).removeNode(any(), any());
+	}
+
+	@DisplayName("채널을 듣는 노드가 없으면 종료된 노드로 보고 구독 목록에서 지운다.")
+	@Test
+	void removeDeadNode() {
+		//given
+		given(chatSubscriptionRegistry.getNodeId()).willReturn("node-a");
+		given(chatSubscriptionRegistry.findNodes(List.of("/sub/chat/room"))).willReturn(List.of(Set.of("node-c")));
+		given(redisTemplate.convertAndSend(eq("chat_node:node-c"), anyString())).willReturn(0L);
+
+		//when
+		chatRouter.send("/sub/chat/room", createMessage("room"));
+
+		//then
+		verify(chatSubscriptionRegistry).removeNode("node-c", List.of("/sub/chat/room"));
+	}
+
+	@DisplayName("다른 노드가 발행한 메시지를 받으면 로컬 브로커로 브로드캐스트한다.")
+	@Test
+	void broadcastRoutedMessage() throws Exception {
+		//given
+		JsonNode payload = objectMapper.valueToTree(createMessage("room"));
+		String body = objectMapper.writeValueAsString(List.of(new ChatRouteMessageDto("/sub/chat/room", payload)));
+		DefaultMessage message = new DefaultMessage("chat_node:node-a".getBytes(StandardCharsets.UTF_8),
+			body.getBytes(StandardCharsets.UTF_8));
+
+		//when
+		chatRouter.onMessage(message, null);
+
+		//then
+		verify(template).convertAndSend("/sub/chat/room", payload);
+	}
+
+	private ChatMessageDto createMessage(String chatRoomId) {
+		return ChatMessageDto.builder()
+			.chatRoomId(chatRoomId)
+			.sender("sender")
+			.content("content")
+			.messageType("CHAT")
+			.seq(1L)
+			.build();
+	}
+}
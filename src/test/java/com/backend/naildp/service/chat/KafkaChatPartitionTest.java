@@ -0,0 +1,145 @@
+package com.backend.naildp.service.chat;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.common.utils.Utils;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.listener.ConcurrentMessageListenerContainer;
+import org.springframework.kafka.listener.MessageListener;
+import org.springframework.kafka.test.EmbeddedKafkaBroker;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.kafka.test.utils.ContainerTestUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.backend.naildp.config.chat.KafkaConsumerConfig;
+import com.backend.naildp.config.chat.KafkaProducerConfig;
+import com.backend.naildp.dto.chat.ChatMessageDto;
+
+@EmbeddedKafka(partitions = KafkaChatPartitionTest.PARTITIONS, topics = "chatting")
+class KafkaChatPartitionTest {
+
+	static final int PARTITIONS = 4;
+	static final int ROOMS_PER_PARTITION = 2;
+	static final int MESSAGES_PER_ROOM = 50;
+	static final long HANDLE_MILLIS = 10;
+
+	@DisplayName("채팅방 ID 를 키로 보내면 컨슈머 스레드를 늘려도 채팅방별 순서가 유지된다.")
+	@Test
+	void roomKeyedPartitionScaling(EmbeddedKafkaBroker broker) throws Exception {
+		//given
+		List<String> chatRoomIds = chatRoomIdsSpreadOverPartitions();
+		KafkaTemplate<String, ChatMessageDto> kafkaTemplate = kafkaTemplate(broker);
+		KafkaProducerService kafkaProducerService = new KafkaProducerService(kafkaTemplate, null, null);
+
+		for (int seq = 1; seq <= MESSAGES_PER_ROOM; seq++) {
+			for (String chatRoomId : chatRoomIds) {
+				kafkaProducerService.send(ChatMessageDto.builder()
+					.chatRoomId(chatRoomId)
+					.sender("sender")
+					.content("message " + seq)
+					.messageType("CHAT")
+					.seq((long)seq)
+					.build());
+			}
+		}
+		kafkaTemplate.flush();
+
+		//when
+		ConsumeResult single = consume(broker, "single-thread-group", 1);
+		ConsumeResult multi = consume(broker, "multi-thread-group", PARTITIONS);
+
+		//then
+		assertThat(single.threads).hasSize(1);
+		assertThat(multi.threads).hasSize(PARTITIONS);
+		for (String chatRoomId : chatRoomIds) {
+			assertThat(single.seqsByRoom.get(chatRoomId)).hasSize(MESSAGES_PER_ROOM).isSorted();
+			assertThat(multi.seqsByRoom.get(chatRoomId)).hasSize(MESSAGES_PER_ROOM).isSorted();
+		}
+	}
+
+	private ConsumeResult consume(EmbeddedKafkaBroker broker, String groupId, int concurrency) throws Exception {
+		KafkaConsumerConfig kafkaConsumerConfig = new KafkaConsumerConfig();
+		ReflectionTestUtils.setField(kafkaConsumerConfig, "bootstrapAddress", broker.getBrokersAsString());
+		ReflectionTestUtils.setField(kafkaConsumerConfig, "groupId", groupId);
+		ReflectionTestUtils.setField(kafkaConsumerConfig, "chattingConcurrency", concurrency);
+
+		ConcurrentKafkaListenerContainerFactory<String, ChatMessageDto> factory =
+			kafkaConsumerConfig.kafkaListenerContainerFactory();
+		// 미리 보낸 메시지를 처음부터 읽는다.
+		((DefaultKafkaConsumerFactory<String, ChatMessageDto>)factory.getConsumerFactory())
+			.updateConfigs(Map.of(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest"));
+
+		int total = PARTITIONS * ROOMS_PER_PARTITION * MESSAGES_PER_ROOM;
+		CountDownLatch latch = new CountDownLatch(total);
+		ConsumeResult result = new ConsumeResult();
+
+		ConcurrentMessageListenerContainer<String, ChatMessageDto> container = factory.createContainer("chatting");
+		container.getContainerProperties().setMessageListener((MessageListener<String, ChatMessageDto>)record -> {
+			// 웹소켓 전송 시간을 흉내낸다.
+			sleep();
+			result.threads.add(Thread.currentThread().getName());
+			result.seqsByRoom.computeIfAbsent(record.key(), key -> Collections.synchronizedList(new ArrayList<>()))
+				.add(record.value().getSeq());
+			latch.countDown();
+		});
+
+		container.start();
+		try {
+			ContainerTestUtils.waitForAssignment(container, PARTITIONS);
+			assertThat(latch.await(30, TimeUnit.SECONDS)).isTrue();
+		} finally {
+			container.stop();
+		}
+		return result;
+	}
+
+	private KafkaTemplate<String, ChatMessageDto> kafkaTemplate(EmbeddedKafkaBroker broker) {
+		KafkaProducerConfig kafkaProducerConfig = new KafkaProducerConfig();
+		ReflectionTestUtils.setField(kafkaProducerConfig, "bootstrapAddress", broker.getBrokersAsString());
+		return kafkaProducerConfig.kafkaTemplate();
+	}
+
+	// 기본 파티셔너와 같은 해시로 파티션마다 같은 수의 채팅방을 고른다.
+	private List<String> chatRoomIdsSpreadOverPartitions() {
+		Map<Integer, Integer> roomCounts = new HashMap<>();
+		List<String> chatRoomIds = new ArrayList<>();
+		while (chatRoomIds.size() < PARTITIONS * ROOMS_PER_PARTITION) {
+			String chatRoomId = UUID.randomUUID().toString();
+			int partition = Utils.toPositive(Utils.murmur2(chatRoomId.getBytes(StandardCharsets.UTF_8))) % PARTITIONS;
+			if (roomCounts.merge(partition, 1, Integer::sum) <= ROOMS_PER_PARTITION) {
+				chatRoomIds.add(chatRoomId);
+			}
+		}
+		return chatRoomIds;
+	}
+
+	private void sleep() {
+		try {
+			Thread.sleep(HANDLE_MILLIS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private static class ConsumeResult {
+		private final Set<String> threads = ConcurrentHashMap.newKeySet();
+		private final Map<String, List<Long>> seqsByRoom = new ConcurrentHashMap<>();
+	}
+}
@@ -0,0 +1,84 @@
+package com.backend.naildp.service.chat;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+@ActiveProfiles(profiles = {"test", "secret"})
+@SpringBootTest
+class MessageStatusServiceTest {
+
+	@Autowired
+	MessageStatusService messageStatusService;
+	@Autowired
+	RedisTemplate<String, Object> chatRedisTemplate;
+
+	String chatRoomId = UUID.randomUUID().toString();
+
+	@AfterEach
+	void cleanup() {
+		chatRedisTemplate.delete(List.of("message_seq:" + chatRoomId, "read_seq:" + chatRoomId));
+	}
+
+	@DisplayName("마지막으로 읽은 순번은 커질 때만 갱신된다.")
+	@Test
+	void markReadOnlyMovesForward() {
+		//when
+		messageStatusService.markRead(chatRoomId, List.of("a", "b"), 5L);
+		messageStatusService.markRead(chatRoomId, List.of("a"), 3L);
+		messageStatusService.markRead(chatRoomId, List.of("b"), 7L);
+
+		//then
+		assertThat(messageStatusService.getLastReadSeq(chatRoomId, "a")).isEqualTo(5L);
+		assertThat(messageStatusService.getLastReadSeq(chatRoomId, "b")).isEqualTo(7L);
+		assertThat(messageStatusService.getLastReadSeq(chatRoomId, "c")).isZero();
+	}
+
+	@DisplayName("모두 읽음 처리하면 채팅방의 현재 순번까지 읽는다.")
+	@Test
+	void markAllReadUpToCurrentSeq() {
+		//given
+		messageStatusService.nextSeq(chatRoomId);
+		messageStatusService.nextSeq(chatRoomId);
+		messageStatusService.nextSeq(chatRoomId);
+		messageStatusService.markRead(chatRoomId, List.of("b"), 5L);
+
+		//when
+		messageStatusService.markAllRead(chatRoomId, "a");
+		messageStatusService.markAllRead(chatRoomId, "b");
+
+		//then
+		assertThat(messageStatusService.getLastReadSeq(chatRoomId, "a")).isEqualTo(3L);
+		assertThat(messageStatusService.getLastReadSeq(chatRoomId, "b")).isEqualTo(5L);
+	}
+
+	@DisplayName("메시지별 읽지 않은 사용자 수는 마지막으로 읽은 순번이 메시지 순번보다 작은 참여자 수다.")
+	@Test
+	void countUnreadUsersBySeq() {
+		//given
+		messageStatusService.markRead(chatRoomId, List.of("a", "b"), 2L);
+		messageStatusService.markRead(chatRoomId, List.of("c"), 5L);
+
+		//when
+		Map<Long, Long> unreadUserCounts = messageStatusService.getUnreadUserCounts(chatRoomId,
+			List.of("a", "b", "c", "d"), List.of(1L, 2L, 3L, 5L, 6L));
+
+		//then
+		assertThat(unreadUserCounts).containsExactlyInAnyOrderEntriesOf(Map.of(
+			1L, 1L,
+			2L, 1L,
+			3L, 3L,
+			5L, 3L,
+			6L, 4L));
+	}
+}
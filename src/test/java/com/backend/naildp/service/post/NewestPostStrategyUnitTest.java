@@ -0,0 +1,103 @@
+package com.backend.naildp.service.post;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.backend.naildp.common.Boundary;
+import com.backend.naildp.entity.Photo;
+import com.backend.naildp.entity.Post;
+import com.backend.naildp.repository.PostRepository;
+
+@ExtendWith(MockitoExtension.class)
+class NewestPostStrategyUnitTest {
+
+	@InjectMocks
+	NewestPostStrategy newestPostStrategy;
+
+	@Mock
+	PostRepository postRepository;
+
+	@Mock
+	PostTimelineService postTimelineService;
+
+	@Mock
+	PostCardAssembler postCardAssembler;
+
+	@Captor
+	ArgumentCaptor<Slice<Post>> postSliceCaptor;
+
+	@DisplayName("타임라인에서 조회할 수 없는 게시물은 제외하고 다음 타임라인 구간을 읽는다.")
+	@Test
+	void skipInvisiblePostsInTimeline() {
+		//given
+		int size = 1;
+		Post newest = createPost(30L);
+		Post older = createPost(10L);
+
+		given(postTimelineService.findPostIds(null, null, size + 1)).willReturn(List.of(30L, 20L));
+		given(postRepository.findVisiblePostsByIds(List.of(30L, 20L), null)).willReturn(List.of(newest));
+		given(postTimelineService.findPostIds(null, 20L, size + 1)).willReturn(List.of(10L, 5L));
+		given(postRepository.findVisiblePostsByIds(List.of(10L, 5L), null)).willReturn(List.of(older));
+
+		//when
+		newestPostStrategy.homePosts(size, null, null);
+
+		//then
+		verify(postCardAssembler).createSummary(postSliceCaptor.capture(), isNull());
+		Slice<Post> postSlice = postSliceCaptor.getValue();
+		assertThat(postSlice.getContent()).extracting("id").containsExactly(30L);
+		assertThat(postSlice.hasNext()).isTrue();
+		verify(postRepository, never()).findNewestPostSlice(any(), any(), any(Pageable.class));
+	}
+
+	@DisplayName("타임라인이 소진되면 마지막 게시물 이후를 DB 에서 조회한다.")
+	@Test
+	void fallbackToDatabaseWhenTimelineExhausted() {
+		//given
+		int size = 2;
+		String username = "jjw";
+		Post timelinePost = createPost(30L);
+		Post databasePost = createPost(3L);
+
+		given(postTimelineService.findPostIds(username, null, size + 1)).willReturn(List.of(30L));
+		given(postRepository.findVisiblePostsByIds(List.of(30L), username)).willReturn(List.of(timelinePost));
+		given(postRepository.findNewestPostSlice(eq(username), eq(30L), any(Pageable.class)))
+			.willReturn(new SliceImpl<>(List.of(databasePost)));
+
+		//when
+		newestPostStrategy.homePosts(size, null, username);
+
+		//then
+		verify(postCardAssembler).createSummary(postSliceCaptor.capture(), eq(username));
+		Slice<Post> postSlice = postSliceCaptor.getValue();
+		assertThat(postSlice.getContent()).extracting("id").containsExactly(30L, 3L);
+		assertThat(postSlice.hasNext()).isFalse();
+	}
+
+	private Post createPost(Long postId) {
+		Post post = Post.builder()
+			.postContent("")
+			.sharing(0L)
+			.boundary(Boundary.ALL)
+			.tempSave(false)
+			.build();
+		post.addPhoto(new Photo(post, "url.jpg", "name"));
+		ReflectionTestUtils.setField(post, "id", postId);
+		return post;
+	}
+}
@@ -0,0 +1,116 @@
+package com.backend.naildp.service.post;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.backend.naildp.common.Boundary;
+import com.backend.naildp.dto.home.HomePostResponse;
+import com.backend.naildp.dto.home.PostSummaryResponse;
+import com.backend.naildp.dto.home.ViewerSnapshot;
+import com.backend.naildp.entity.Photo;
+import com.backend.naildp.entity.Post;
+import com.backend.naildp.repository.PhotoRepository;
+import com.backend.naildp.service.ViewerSnapshotService;
+
+@ExtendWith(MockitoExtension.class)
+class PostCardAssemblerTest {
+
+	@InjectMocks
+	PostCardAssembler postCardAssembler;
+
+	@Mock
+	PhotoRepository photoRepository;
+
+	@Mock
+	ViewerSnapshotService viewerSnapshotService;
+
+	@DisplayName("대표 사진은 한 번에 조회하고 좋아요, 저장 여부는 스냅샷으로 채운다.")
+	@Test
+	void assemblePostCards() {
+		//given
+		String username = "jjw";
+		Post first = createPost(10L);
+		Post second = createPost(7L);
+		Photo firstCover = createPhoto(first, 100L, "first.jpg");
+		Slice<Post> postSlice = new SliceImpl<>(List.of(first, second), PageRequest.of(0, 2), true);
+
+		given(photoRepository.findCoverPhotosByPostIds(List.of(10L, 7L))).willReturn(List.of(firstCover));
+		given(viewerSnapshotService.findSnapshot(username))
+			.willReturn(ViewerSnapshot.of(List.of(7L), List.of(10L)));
+
+		//when
+		PostSummaryResponse response = postCardAssembler.createSummary(postSlice, username);
+		Slice<HomePostResponse> postCards = (Slice<HomePostResponse>)response.getPostSummaryList();
+
+		//then
+		assertThat(response.getCursorId()).isEqualTo(7L);
+		assertThat(postCards.hasNext()).isTrue();
+		assertThat(postCards).extracting("postId", "photoId", "photoUrl", "like", "saved")
+			.containsExactly(
+				tuple(10L, 100L, "first.jpg", false, true),
+				tuple(7L, null, null, true, false));
+		verify(photoRepository, times(1)).findCoverPhotosByPostIds(anyCollection());
+	}
+
+	@DisplayName("좋아요한 게시물 목록은 모두 좋아요 상태로 변환한다.")
+	@Test
+	void likedPostCards() {
+		//given
+		String username = "jjw";
+		Post post = createPost(3L);
+		Slice<Post> postSlice = new SliceImpl<>(List.of(post), PageRequest.of(0, 1), false);
+
+		given(photoRepository.findCoverPhotosByPostIds(List.of(3L)))
+			.willReturn(List.of(createPhoto(post, 30L, "cover.jpg")));
+		given(viewerSnapshotService.findSnapshot(username)).willReturn(ViewerSnapshot.empty());
+
+		//when
+		PostSummaryResponse response = postCardAssembler.createLikedSummary(postSlice, username);
+		Slice<HomePostResponse> postCards = (Slice<HomePostResponse>)response.getPostSummaryList();
+
+		//then
+		assertThat(postCards).extracting("like").containsOnly(true);
+		assertThat(postCards).extracting("saved").containsOnly(false);
+	}
+
+	@DisplayName("게시물이 없으면 조회 없이 빈 응답을 반환한다.")
+	@Test
+	void emptyPostCards() {
+		//when
+		PostSummaryResponse response = postCardAssembler.createSummary(new SliceImpl<>(List.of()), "jjw");
+
+		//then
+		assertThat(response.getCursorId()).isEqualTo(-1L);
+		verifyNoInteractions(photoRepository, viewerSnapshotService);
+	}
+
+	private Post createPost(Long postId) {
+		Post post = Post.builder()
+			.postContent("")
+			.sharing(0L)
+			.boundary(Boundary.ALL)
+			.tempSave(false)
+			.build();
+		ReflectionTestUtils.setField(post, "id", postId);
+		return post;
+	}
+
+	private Photo createPhoto(Post post, Long photoId, String url) {
+		Photo photo = new Photo(post, url, "name");
+		ReflectionTestUtils.setField(photo, "id", photoId);
+		return photo;
+	}
+}
@@ -0,0 +1,157 @@
+package com.backend.naildp.service.post;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+
+import com.backend.naildp.dto.post.PostCountEventDto;
+import com.backend.naildp.dto.post.PostLikeCountEventDto;
+import com.backend.naildp.service.SchedulerLock;
+
+@ExtendWith(MockitoExtension.class)
+class PostCounterServiceTest {
+
+	@InjectMocks
+	PostCounterService postCounterService;
+
+	@Mock
+	JdbcTemplate jdbcTemplate;
+
+	@Mock
+	SchedulerLock schedulerLock;
+
+	@Mock
+	ApplicationEventPublisher applicationEventPublisher;
+
+	@Mock
+	PreparedStatement preparedStatement;
+
+	@Captor
+	ArgumentCaptor<PostLikeCountEventDto> likeCountEventCaptor;
+
+	@Captor
+	ArgumentCaptor<Collection<Object>> batchArgsCaptor;
+
+	@Captor
+	ArgumentCaptor<ParameterizedPreparedStatementSetter<Object>> setterCaptor;
+
+	@DisplayName("같은 게시물의 변경은 합쳐서 한 번의 batch update 로 반영한다.")
+	@Test
+	void flushMergedDeltas() throws SQLException {
+		//given
+		postCounterService.record(PostCountEventDto.like(5L));
+		postCounterService.record(PostCountEventDto.like(5L));
+		postCounterService.record(PostCountEventDto.comment(5L));
+		postCounterService.record(PostCountEventDto.share(5L));
+		postCounterService.record(PostCountEventDto.share(5L));
+
+		//when
+		postCounterService.flush();
+
+		//then
+		verify(jdbcTemplate).batchUpdate(anyString(), batchArgsCaptor.capture(), eq(1), setterCaptor.capture());
+		Collection<Object> batchArgs = batchArgsCaptor.getValue();
+		assertThat(batchArgs).hasSize(1);
+
+		// 좋아요, 댓글 수는 다시 세고 공유 수만 변경량을 더한다.
+		setterCaptor.getValue().setValues(preparedStatement, batchArgs.iterator().next());
+		verify(preparedStatement).setLong(1, 2L);
+		verify(preparedStatement).setLong(2, 5L);
+	}
+
+	@DisplayName("좋아요 수가 반영된 게시물만 검색 인덱스 갱신 이벤트로 발행한다.")
+	@Test
+	void publishLikedPostIds() {
+		//given
+		postCounterService.record(PostCountEventDto.like(1L));
+		postCounterService.record(PostCountEventDto.comment(2L));
+
+		//when
+		postCounterService.flush();
+
+		//then
+		verify(applicationEventPublisher).publishEvent(likeCountEventCaptor.capture());
+		assertThat(likeCountEventCaptor.getValue().getPostIds()).isEqualTo(List.of(1L));
+	}
+
+	@DisplayName("변경량이 상쇄된 게시물은 반영하지 않는다.")
+	@Test
+	void skipCancelledDeltas() {
+		//given
+		postCounterService.record(PostCountEventDto.like(1L));
+		postCounterService.record(PostCountEventDto.unlike(1L));
+
+		//when
+		postCounterService.flush();
+
+		//then
+		verifyNoInteractions(jdbcTemplate, applicationEventPublisher);
+	}
+
+	@DisplayName("반영에 실패한 변경량은 다음 주기에 다시 반영한다.")
+	@Test
+	void retryFailedFlush() {
+		//given
+		postCounterService.record(PostCountEventDto.like(1L));
+		given(jdbcTemplate.batchUpdate(anyString(), anyCollection(), anyInt(),
+			any(ParameterizedPreparedStatementSetter.class)))
+			.willThrow(new QueryTimeoutException("timeout"))
+			.willReturn(new int[][] {{1}});
+
+		//when
+		postCounterService.flush();
+		postCounterService.flush();
+		postCounterService.flush();
+
+		//then
+		verify(jdbcTemplate, times(2)).batchUpdate(anyString(), anyCollection(), anyInt(),
+			any(ParameterizedPreparedStatementSetter.class));
+		verify(applicationEventPublisher, times(1)).publishEvent(any(PostLikeCountEventDto.class));
+	}
+
+	@DisplayName("보정 락을 얻은 서버만 게시물 id 구간별로 카운터를 다시 센다.")
+	@Test
+	void reconcileWithLock() {
+		//given
+		given(schedulerLock.tryLock(eq(PostCounterService.RECONCILE_JOB), any())).willReturn(true);
+		given(jdbcTemplate.queryForObject(anyString(), eq(Long.class))).willReturn(2500L);
+
+		//when
+		postCounterService.reconcile();
+
+		//then
+		verify(jdbcTemplate).update(anyString(), eq(0L), eq(1000L));
+		verify(jdbcTemplate).update(anyString(), eq(1000L), eq(2000L));
+		verify(jdbcTemplate).update(anyString(), eq(2000L), eq(3000L));
+	}
+
+	@DisplayName("다른 서버가 보정 중이면 보정하지 않는다.")
+	@Test
+	void skipReconcileWithoutLock() {
+		//given
+		given(schedulerLock.tryLock(eq(PostCounterService.RECONCILE_JOB), any())).willReturn(false);
+
+		//when
+		postCounterService.reconcile();
+
+		//then
+		verifyNoInteractions(jdbcTemplate);
+	}
+}
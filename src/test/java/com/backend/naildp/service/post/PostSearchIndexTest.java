@@ -0,0 +1,140 @@
+package com.backend.naildp.service.post;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.backend.naildp.common.Boundary;
+import com.backend.naildp.entity.Post;
+
+class PostSearchIndexTest {
+
+	PostSearchIndex postSearchIndex;
+
+	@BeforeEach
+	void setup() throws IOException {
+		postSearchIndex = new PostSearchIndex();
+		postSearchIndex.open();
+
+		postSearchIndex.indexAll(List.of(
+			createPost(1L, "오늘의 가리비네일 완성", 3L, Boundary.ALL),
+			createPost(2L, "Glitter 네일 아트", 10L, Boundary.ALL),
+			createPost(3L, "팔로워에게만 보이는 가리비 네일", 5L, Boundary.FOLLOW),
+			createPost(4L, "비공개 가리비네일", 100L, Boundary.NONE),
+			createPost(5L, "태그로만 찾는 게시물", 1L, Boundary.ALL)
+		), Map.of(2L, List.of("글리터"), 5L, List.of("가리비네일")));
+	}
+
+	@AfterEach
+	void tearDown() throws IOException {
+		postSearchIndex.close();
+	}
+
+	@DisplayName("본문에 키워드가 포함되거나 태그 이름이 같은 게시물을 좋아요 수 순서로 조회한다.")
+	@Test
+	void searchByContentAndTag() {
+		//when
+		List<Long> postIds = postSearchIndex.search(List.of("가리비네일"), false, null, 10);
+
+		//then
+		assertThat(postIds).containsExactly(1L, 5L);
+	}
+
+	@DisplayName("한 글자, 대소문자가 다른 키워드도 부분 일치로 검색한다.")
+	@Test
+	void searchBySingleCharacterAndCaseInsensitiveKeyword() {
+		//when
+		List<Long> singleCharacter = postSearchIndex.search(List.of("빛"), false, null, 10);
+		List<Long> upperCase = postSearchIndex.search(List.of("GLITTER"), false, null, 10);
+		List<Long> nail = postSearchIndex.search(List.of("네"), false, null, 10);
+
+		//then
+		assertThat(singleCharacter).isEmpty();
+		assertThat(upperCase).containsExactly(2L);
+		assertThat(nail).containsExactly(2L, 3L, 1L);
+	}
+
+	@DisplayName("여러 키워드는 모두 포함하는 게시물만 조회하고, 비로그인 사용자는 전체 공개 게시물만 조회한다.")
+	@Test
+	void searchByKeywordsAndBoundary() {
+		//when
+		List<Long> bothKeywords = postSearchIndex.search(List.of("가리비", "네일"), false, null, 10);
+		List<Long> publicOnly = postSearchIndex.search(List.of("가리비", "네일"), true, null, 10);
+
+		//then
+		assertThat(bothKeywords).containsExactly(3L, 1L);
+		assertThat(publicOnly).containsExactly(1L);
+	}
+
+	@DisplayName("커서 게시물 다음 순서부터 조회한다.")
+	@Test
+	void searchAfterCursor() {
+		//when
+		List<Long> firstPage = postSearchIndex.search(List.of(), false, null, 2);
+		List<Long> secondPage = postSearchIndex.search(List.of(), false, firstPage.get(1), 2);
+		List<Long> lastPage = postSearchIndex.search(List.of(), false, secondPage.get(1), 2);
+
+		//then
+		assertThat(firstPage).containsExactly(2L, 3L);
+		assertThat(secondPage).containsExactly(1L, 5L);
+		assertThat(lastPage).isEmpty();
+	}
+
+	@DisplayName("삭제되거나 비공개로 바뀐 게시물은 검색되지 않는다.")
+	@Test
+	void removeDeletedAndClosedPost() {
+		//given
+		Post closedPost = createPost(1L, "오늘의 가리비네일 완성", 3L, Boundary.NONE);
+
+		//when
+		postSearchIndex.index(closedPost, List.of());
+		postSearchIndex.delete(5L);
+
+		//then
+		assertThat(postSearchIndex.search(List.of("가리비네일"), false, null, 10)).isEmpty();
+		assertThat(postSearchIndex.search(List.of(), false, 5L, 10)).isEmpty();
+	}
+
+	@DisplayName("좋아요 수가 갱신되면 갱신된 좋아요 수 순서로 정렬하고 커서도 갱신된 값으로 이어서 조회한다.")
+	@Test
+	void updateLikeCounts() {
+		//when
+		postSearchIndex.updateLikeCounts(Map.of(5L, 50L, 2L, 0L));
+		List<Long> firstPage = postSearchIndex.search(List.of(), false, null, 2);
+		List<Long> secondPage = postSearchIndex.search(List.of(), false, firstPage.get(1), 2);
+
+		//then
+		assertThat(firstPage).containsExactly(5L, 3L);
+		assertThat(secondPage).containsExactly(1L, 2L);
+	}
+
+	@DisplayName("전체 색인이 끝나면 이번 색인에 포함되지 않은 게시물을 지운다.")
+	@Test
+	void deleteMissingPostsOnRebuild() {
+		//given
+		long generation = postSearchIndex.beginRebuild();
+
+		//when
+		postSearchIndex.indexAll(List.of(createPost(1L, "오늘의 가리비네일 완성", 3L, Boundary.ALL)), Map.of());
+		postSearchIndex.finishRebuild(generation);
+
+		//then
+		assertThat(postSearchIndex.isReady()).isTrue();
+		assertThat(postSearchIndex.search(List.of(), false, null, 10)).containsExactly(1L);
+	}
+
+	private Post createPost(Long id, String content, Long likeCount, Boundary boundary) {
+		Post post = Post.builder().postContent(content).boundary(boundary).tempSave(false).build();
+		ReflectionTestUtils.setField(post, "id", id);
+		ReflectionTestUtils.setField(post, "likeCount", likeCount);
+		return post;
+	}
+}
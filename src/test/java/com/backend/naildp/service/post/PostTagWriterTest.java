@@ -0,0 +1,134 @@
+package com.backend.naildp.service.post;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import com.backend.naildp.common.Boundary;
+import com.backend.naildp.common.UserRole;
+import com.backend.naildp.config.JpaAuditingConfiguration;
+import com.backend.naildp.entity.Post;
+import com.backend.naildp.entity.Tag;
+import com.backend.naildp.entity.TagPost;
+import com.backend.naildp.entity.User;
+import com.backend.naildp.repository.TagPostRepository;
+import com.backend.naildp.repository.TagRepository;
+
+import jakarta.persistence.EntityManager;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({JpaAuditingConfiguration.class, TagDictionary.class, PostTagWriter.class})
+class PostTagWriterTest {
+
+	@Autowired
+	PostTagWriter postTagWriter;
+
+	@Autowired
+	TagRepository tagRepository;
+
+	@Autowired
+	TagPostRepository tagPostRepository;
+
+	@Autowired
+	EntityManager em;
+
+	Post post;
+
+	@BeforeEach
+	void setup() {
+		User user = User.builder()
+			.nickname("writer")
+			.phoneNumber("pn")
+			.agreement(true)
+			.thumbnailUrl("")
+			.role(UserRole.USER)
+			.build();
+		em.persist(user);
+
+		post = Post.builder().user(user).postContent("").boundary(Boundary.ALL).tempSave(false).build();
+		em.persist(post);
+		em.persist(new Tag("existing"));
+		em.flush();
+	}
+
+	@DisplayName("없는 태그는 만들고 있는 태그는 그대로 사용해 게시물에 연결한다.")
+	@Test
+	void replaceTagsWithNewAndExistingTags() {
+		//when
+		postTagWriter.replaceTags(post, List.of("existing", "new"));
+		em.clear();
+
+		//then
+		assertThat(tagRepository.findAll()).extracting(Tag::getName).containsExactlyInAnyOrder("existing", "new");
+		assertThat(findTagNames()).containsExactlyInAnyOrder("existing", "new");
+	}
+
+	@DisplayName("수정 시 빠진 태그 연결만 지우고 추가된 태그만 연결한다.")
+	@Test
+	void replaceTagsOnlyWithChanges() {
+		//given
+		postTagWriter.replaceTags(post, List.of("existing", "removed"));
+		em.clear();
+		Long keptTagPostId = findTagPost("existing").getId();
+
+		//when
+		postTagWriter.replaceTags(post, List.of("existing", "added"));
+		em.clear();
+
+		//then
+		assertThat(findTagNames()).containsExactlyInAnyOrder("existing", "added");
+		assertThat(findTagPost("existing").getId()).isEqualTo(keptTagPostId);
+	}
+
+	@DisplayName("빈 태그 목록이면 게시물의 태그 연결을 모두 지운다.")
+	@Test
+	void replaceTagsWithEmptyTags() {
+		//given
+		postTagWriter.replaceTags(post, List.of("existing"));
+
+		//when
+		postTagWriter.replaceTags(post, List.of());
+		em.clear();
+
+		//then
+		assertThat(findTagNames()).isEmpty();
+	}
+
+	@DisplayName("대소문자만 다른 태그가 이미 있으면 새로 만들지 않고 기존 태그에 연결한다.")
+	@Test
+	void replaceTagsWithMixedCaseDuplicate() {
+		//given
+		em.persist(new Tag("Nail"));
+		em.flush();
+
+		//when
+		postTagWriter.replaceTags(post, List.of("nail", "NAIL"));
+		em.clear();
+
+		//then
+		assertThat(tagRepository.findAll()).extracting(Tag::getName).containsExactlyInAnyOrder("existing", "Nail");
+		assertThat(findTagNames()).containsExactly("Nail");
+	}
+
+	private List<String> findTagNames() {
+		return tagPostRepository.findTagPostAndTagByPost(em.find(Post.class, post.getId())).stream()
+			.map(tagPost -> tagPost.getTag().getName())
+			.toList();
+	}
+
+	private TagPost findTagPost(String tagName) {
+		return tagPostRepository.findTagPostAndTagByPost(em.find(Post.class, post.getId())).stream()
+			.filter(tagPost -> tagPost.getTag().getName().equals(tagName))
+			.findFirst()
+			.orElseThrow();
+	}
+}
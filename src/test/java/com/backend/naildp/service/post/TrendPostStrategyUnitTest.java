@@ -0,0 +1,106 @@
+package com.backend.naildp.service.post;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.backend.naildp.common.Boundary;
+import com.backend.naildp.entity.Photo;
+import com.backend.naildp.entity.Post;
+import com.backend.naildp.repository.PostRepository;
+
+@ExtendWith(MockitoExtension.class)
+class TrendPostStrategyUnitTest {
+
+	@InjectMocks
+	TrendPostStrategy trendPostStrategy;
+
+	@Mock
+	PostRepository postRepository;
+
+	@Mock
+	PostLikeRankingService postLikeRankingService;
+
+	@Mock
+	PostCardAssembler postCardAssembler;
+
+	@Captor
+	ArgumentCaptor<Slice<Post>> postSliceCaptor;
+
+	@DisplayName("랭킹 게시물을 먼저 조회하고 부족한 만큼 랭킹에 없는 최신 게시물로 채운다.")
+	@Test
+	void rankedPostsFollowedByNewestPosts() {
+		//given
+		int size = 3;
+		Post first = createPost(10L);
+		Post second = createPost(7L);
+		Post newest = createPost(12L);
+		Post older = createPost(5L);
+
+		given(postLikeRankingService.findStartIndexAfter(null)).willReturn(0L);
+		given(postLikeRankingService.findPostIds(0L, size + 1)).willReturn(List.of(10L, 7L));
+		given(postRepository.findVisiblePostsByIds(List.of(10L, 7L), null)).willReturn(List.of(first, second));
+		given(postRepository.findNewestPostSlice(eq(null), eq(null), any(Pageable.class)))
+			.willReturn(new SliceImpl<>(List.of(newest, first, older)));
+		given(postLikeRankingService.filterUnranked(List.of(12L, 10L, 5L))).willReturn(List.of(12L, 5L));
+
+		//when
+		trendPostStrategy.homePosts(size, null, null);
+
+		//then
+		verify(postCardAssembler).createSummary(postSliceCaptor.capture(), isNull());
+		Slice<Post> postSlice = postSliceCaptor.getValue();
+		assertThat(postSlice.getContent()).extracting("id").containsExactly(10L, 7L, 12L);
+		assertThat(postSlice.hasNext()).isTrue();
+	}
+
+	@DisplayName("cursor 게시물이 랭킹에 없으면 최신 게시물 구간에서 이어서 조회한다.")
+	@Test
+	void cursorOutOfRankingReadsNewestPosts() {
+		//given
+		int size = 2;
+		Long cursorPostId = 12L;
+		Post post = createPost(5L);
+
+		given(postLikeRankingService.isRanked(cursorPostId)).willReturn(false);
+		given(postRepository.findNewestPostSlice(eq(null), eq(cursorPostId), any(Pageable.class)))
+			.willReturn(new SliceImpl<>(List.of(post)));
+		given(postLikeRankingService.filterUnranked(List.of(5L))).willReturn(List.of(5L));
+
+		//when
+		trendPostStrategy.homePosts(size, cursorPostId, null);
+
+		//then
+		verify(postCardAssembler).createSummary(postSliceCaptor.capture(), isNull());
+		Slice<Post> postSlice = postSliceCaptor.getValue();
+		assertThat(postSlice.getContent()).extracting("id").containsExactly(5L);
+		assertThat(postSlice.hasNext()).isFalse();
+		verify(postLikeRankingService, never()).findPostIds(anyLong(), anyInt());
+	}
+
+	private Post createPost(Long postId) {
+		Post post = Post.builder()
+			.postContent("")
+			.sharing(0L)
+			.boundary(Boundary.ALL)
+			.tempSave(false)
+			.build();
+		post.addPhoto(new Photo(post, "url.jpg", "name"));
+		ReflectionTestUtils.setField(post, "id", postId);
+		return post;
+	}
+}